@@ -27,9 +27,13 @@ import org.apache.ignite.internal.benchmarks.jmh.runner.JmhIdeBenchmarkRunner;
 import org.apache.ignite.internal.direct.DirectMessageReader;
 import org.apache.ignite.internal.direct.DirectMessageWriter;
 import org.apache.ignite.internal.managers.communication.IgniteMessageFactoryImpl;
+import org.apache.ignite.internal.managers.communication.MessagePool;
+import org.apache.ignite.internal.managers.communication.PooledMessageSerializer;
 import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
+import org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridDhtAtomicDeferredUpdateResponse;
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionsFullMessage;
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GroupPartitionIdPair;
+import org.apache.ignite.internal.util.GridLongList;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.plugin.extensions.communication.Message;
 import org.apache.ignite.plugin.extensions.communication.MessageFactory;
@@ -48,7 +52,7 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.apache.ignite.marshaller.Marshallers.jdk;
 import static org.openjdk.jmh.annotations.Mode.Throughput;
 
-/** Benchmarks the {@link DirectMessageReader} compressed-field hot path. */
+/** Benchmarks the {@link DirectMessageReader} compressed-field and pooled message hot paths. */
 @State(Scope.Thread)
 @BenchmarkMode(Throughput)
 @Warmup(iterations = 5, time = 3, timeUnit = SECONDS)
@@ -65,6 +69,12 @@ public class JmhDirectMessageReaderBenchmark {
     /** Fully serialized compressed message, as received from the network. */
     private ByteBuffer buf;
 
+    /** Fully serialized pooled message. */
+    private ByteBuffer pooledBuf;
+
+    /** */
+    private MessagePool<GridDhtAtomicDeferredUpdateResponse> pool;
+
     /** */
     public static void main(String[] args) throws Exception {
         JmhIdeBenchmarkRunner.create()
@@ -104,6 +114,26 @@ public class JmhDirectMessageReaderBenchmark {
             throw new IllegalStateException("Message does not fit into the buffer.");
 
         buf.flip();
+
+        GridLongList futIds = new GridLongList(entries);
+
+        for (int i = 0; i < entries; i++)
+            futIds.add(i);
+
+        GridDhtAtomicDeferredUpdateResponse res = new GridDhtAtomicDeferredUpdateResponse(1, futIds);
+
+        pool = ((PooledMessageSerializer<GridDhtAtomicDeferredUpdateResponse>)msgFactory.serializer(res.directType()))
+            .pool();
+
+        pooledBuf = ByteBuffer.allocate(64 * 1024);
+
+        writer.reset();
+        writer.setBuffer(pooledBuf);
+
+        if (!writer.writeMessage(res, false))
+            throw new IllegalStateException("Message does not fit into the buffer.");
+
+        pooledBuf.flip();
     }
 
     /** Exchange-style compressed message deserialization. */
@@ -120,6 +150,23 @@ public class JmhDirectMessageReaderBenchmark {
         return msg;
     }
 
+    /** Atomic update acknowledgement deserialization reusing the pooled message and its future IDs list. */
+    @Benchmark
+    public Message pooledMessage() {
+        pooledBuf.rewind();
+
+        reader.setBuffer(pooledBuf);
+
+        GridDhtAtomicDeferredUpdateResponse msg = reader.readMessage(false);
+
+        reader.reset();
+
+        // Handler completes.
+        pool.release(msg);
+
+        return msg;
+    }
+
     /** */
     private static MessageFactory msgFactory() {
         return new IgniteMessageFactoryImpl(new MessageFactoryProvider[]{
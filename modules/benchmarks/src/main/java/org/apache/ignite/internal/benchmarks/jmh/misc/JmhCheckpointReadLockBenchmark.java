@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmarks.jmh.misc;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.benchmarks.jmh.runner.JmhIdeBenchmarkRunner;
+import org.apache.ignite.internal.util.ReentrantReadWriteLockWithTracking;
+import org.apache.ignite.internal.util.StripedReadWriteLockWithTracking;
+import org.apache.ignite.internal.util.TrackingReadWriteLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the checkpoint read lock acquisition and release, the way
+ * {@code CheckpointReadWriteLock#readLock()} and {@code CheckpointReadWriteLock#readUnlock()} do it.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 3)
+public class JmhCheckpointReadLockBenchmark {
+    /** Lock implementation. */
+    @Param({"reentrant", "striped"})
+    private String lockType;
+
+    /** Number of tokens consumed under the lock, emulates a short page update. */
+    @Param({"0", "50"})
+    private int work;
+
+    /** Checkpoint lock. */
+    private TrackingReadWriteLock lock;
+
+    /**
+     * Setup.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        lock = "striped".equals(lockType)
+            ? new StripedReadWriteLockWithTracking(2 * Runtime.getRuntime().availableProcessors())
+            : new ReentrantReadWriteLockWithTracking();
+    }
+
+    /**
+     * Benchmark of the checkpoint read lock and unlock.
+     */
+    @Benchmark
+    public void checkpointReadLockUnlock() {
+        if (lock.isWriteLockedByCurrentThread())
+            return;
+
+        lock.readLock().lock();
+
+        try {
+            Blackhole.consumeCPU(work);
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Runs the benchmark with 1 to 128 threads.
+     *
+     * @param args Args.
+     * @throws Exception Exception.
+     */
+    public static void main(String[] args) throws Exception {
+        for (int threads = 1; threads <= 128; threads *= 2) {
+            JmhIdeBenchmarkRunner.create()
+                .benchmarks(JmhCheckpointReadLockBenchmark.class.getSimpleName())
+                .threads(threads)
+                .run();
+        }
+    }
+}
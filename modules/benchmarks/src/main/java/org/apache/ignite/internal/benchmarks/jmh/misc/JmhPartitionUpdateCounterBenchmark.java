@@ -52,6 +52,9 @@ public class JmhPartitionUpdateCounterBenchmark {
     /** Max delta for next counter value. */
     private static final int COUNTER_MAX_DELTA = 50;
 
+    /** Number of gaps of the serialized counter. */
+    private static final int SERIALIZED_GAPS_CNT = 1_000;
+
     /** Testing gaps buffer. */
     private final long[][] gapsBuf = new long[GAPS_BUFFER_SIZE][];
 
@@ -64,6 +67,12 @@ public class JmhPartitionUpdateCounterBenchmark {
     /** Partition update counter. */
     private final PartitionUpdateCounterTrackingImpl partCntr = new PartitionUpdateCounterTrackingImpl(null);
 
+    /** Partition update counter with gaps to serialize. */
+    private final PartitionUpdateCounterTrackingImpl gapsCntr = new PartitionUpdateCounterTrackingImpl(null);
+
+    /** Serialized gaps. */
+    private byte[] gapsBytes;
+
     /**
      * Setup.
      */
@@ -80,6 +89,13 @@ public class JmhPartitionUpdateCounterBenchmark {
         }
 
         partCntr.reset();
+
+        gapsCntr.reset();
+
+        for (int i = 1; i <= SERIALIZED_GAPS_CNT; i++)
+            gapsCntr.update(i * 2L * COUNTER_MAX_DELTA, 1 + rnd.nextInt(COUNTER_MAX_DELTA));
+
+        gapsBytes = gapsCntr.getBytes();
     }
 
     /**
@@ -94,6 +110,30 @@ public class JmhPartitionUpdateCounterBenchmark {
         gapsBuf[nextIdx][0] = reservedCntr.getAndAdd(gapsBuf[nextIdx][1]);
     }
 
+    /**
+     * Serialize gaps of partition update counter.
+     *
+     * @return Serialized gaps.
+     */
+    @Benchmark
+    public byte[] serializeGaps() {
+        return gapsCntr.getBytes();
+    }
+
+    /**
+     * Deserialize gaps of partition update counter.
+     *
+     * @return Partition update counter.
+     */
+    @Benchmark
+    public PartitionUpdateCounterTrackingImpl deserializeGaps() {
+        PartitionUpdateCounterTrackingImpl cntr = new PartitionUpdateCounterTrackingImpl(null);
+
+        cntr.init(0, gapsBytes);
+
+        return cntr;
+    }
+
     /**
      *
      * @param args Args.
@@ -170,6 +170,12 @@ public class MessageSerializerGenerator {
             fields.add("private final ClassLoader clsLdr;");
         }
 
+        if (pooledMessage()) {
+            String clsName = type.getSimpleName().toString();
+
+            fields.add("private final MessagePool<" + clsName + "> pool = new MessagePool<>(" + clsName + "::new);");
+        }
+
         try (Writer writer = new StringWriter()) {
             writeClassHeader(writer, env.getElementUtils().getPackageOf(type).toString(), serClsName);
 
@@ -177,6 +183,8 @@ public class MessageSerializerGenerator {
 
             writeConstructor(writer, serClsName);
 
+            writePoolGetter(writer);
+
             // Write #writeTo method.
             for (String w: write)
                 writer.write(w + NL);
@@ -226,6 +234,35 @@ public class MessageSerializerGenerator {
         --indent;
     }
 
+    /** Writes the getter of the pool of reused messages. */
+    private void writePoolGetter(Writer writer) throws IOException {
+        if (!pooledMessage())
+            return;
+
+        ++indent;
+
+        if (marshallableMessage())
+            writer.write(NL);
+
+        writer.write(identedLine(METHOD_JAVADOC));
+        writer.write(NL);
+        writer.write(identedLine("@Override public MessagePool<" + type.getSimpleName() + "> pool() {"));
+        writer.write(NL);
+
+        ++indent;
+
+        writer.write(identedLine("return pool;"));
+
+        --indent;
+
+        writer.write(NL);
+        writer.write(identedLine("}"));
+        writer.write(NL);
+        writer.write(NL);
+
+        --indent;
+    }
+
     /** Generates code for {@code writeTo} and {@code readFrom}. */
     private void generateMethods(List<VariableElement> fields) throws Exception {
         start(write, true);
@@ -688,8 +725,12 @@ public class MessageSerializerGenerator {
             else if (assignableFrom(type, type("org.apache.ignite.internal.processors.cache.CacheObject")))
                 returnFalseIfReadFailed(field, "reader.readCacheObject");
 
-            else if (assignableFrom(type, type("org.apache.ignite.internal.util.GridLongList")))
-                returnFalseIfReadFailed(field, "reader.readGridLongList");
+            else if (assignableFrom(type, type("org.apache.ignite.internal.util.GridLongList"))) {
+                if (pooledMessage())
+                    returnFalseIfReadFailed(field, "reader.readGridLongList", fieldAccessor(field));
+                else
+                    returnFalseIfReadFailed(field, "reader.readGridLongList");
+            }
 
             else if (assignableFrom(type, type("org.apache.ignite.lang.IgniteProductVersion")))
                 returnFalseIfReadFailed(field, "reader.readIgniteProductVersion");
@@ -913,6 +954,18 @@ public class MessageSerializerGenerator {
         indent--;
     }
 
+    /**
+     * @param field Field.
+     * @return Expression accessing the field of the message being read.
+     */
+    private String fieldAccessor(VariableElement field) {
+        if (type.equals(field.getEnclosingElement()))
+            return line("msg.%s", field.getSimpleName().toString());
+
+        // Field has to be requested from a super class object.
+        return line("((%s)msg).%s", field.getEnclosingElement().getSimpleName(), field.getSimpleName().toString());
+    }
+
     /**
      * Generate code of reading single field:
      *
@@ -1052,7 +1105,13 @@ public class MessageSerializerGenerator {
         if (marshallableMessage())
             imports.add("org.apache.ignite.marshaller.Marshaller");
 
-        imports.add("org.apache.ignite.plugin.extensions.communication.MessageSerializer");
+        if (pooledMessage()) {
+            imports.add("org.apache.ignite.internal.managers.communication.MessagePool");
+            imports.add("org.apache.ignite.internal.managers.communication.PooledMessageSerializer");
+        }
+        else
+            imports.add("org.apache.ignite.plugin.extensions.communication.MessageSerializer");
+
         imports.add("org.apache.ignite.plugin.extensions.communication.MessageWriter");
         imports.add("org.apache.ignite.plugin.extensions.communication.MessageReader");
 
@@ -1063,7 +1122,14 @@ public class MessageSerializerGenerator {
         writer.write(CLS_JAVADOC);
         writer.write(NL);
 
-        writer.write("public class " + serClsName + " implements MessageSerializer<" + type.getSimpleName() + "> {" + NL);
+        String serItf = pooledMessage() ? "PooledMessageSerializer" : "MessageSerializer";
+
+        writer.write("public class " + serClsName + " implements " + serItf + "<" + type.getSimpleName() + "> {" + NL);
+    }
+
+    /** @return {@code True} if instances of the message are reused. */
+    private boolean pooledMessage() {
+        return type.getAnnotation(Pooled.class) != null;
     }
 
     /** */
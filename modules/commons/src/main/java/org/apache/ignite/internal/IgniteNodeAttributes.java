@@ -195,6 +195,9 @@ public final class IgniteNodeAttributes {
     /** Data center ID. */
     public static final String ATTR_DATA_CENTER_ID = ATTR_PREFIX + ".datacenter.id";
 
+    /** Signatures of the supported codecs of the compressed message fields. */
+    public static final String ATTR_COMPRESSED_MSG_CODECS = ATTR_PREFIX + ".compressed.msg.codecs";
+
     /**
      * Enforces singleton.
      */
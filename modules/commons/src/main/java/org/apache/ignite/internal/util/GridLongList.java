@@ -204,6 +204,20 @@ public class GridLongList implements Externalizable {
         return false;
     }
 
+    /**
+     * Replaces the content of this list with the first {@code size} elements of the given array without copying it.
+     *
+     * @param arr Array.
+     * @param size Size.
+     */
+    public void reset(long[] arr, int size) {
+        assert size >= 0 && size <= arr.length;
+
+        this.arr = arr;
+
+        idx = size;
+    }
+
     /**
      * @param size New size.
      * @param last If {@code true} the last elements will be removed, otherwise the first.
@@ -20,7 +20,9 @@ package org.apache.ignite.internal.processors.compress;
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import com.github.luben.zstd.Zstd;
 import net.jpountz.lz4.LZ4Compressor;
 import net.jpountz.lz4.LZ4Factory;
@@ -30,6 +32,7 @@ import org.apache.ignite.IgniteException;
 import org.apache.ignite.configuration.DiskPageCompression;
 import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.ThreadLocalDirectByteBuffer;
+import org.apache.ignite.internal.managers.communication.CompressedMessageCodecs;
 import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
 import org.apache.ignite.internal.util.GridUnsafe;
@@ -38,7 +41,10 @@ import org.xerial.snappy.Snappy;
 
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.WRITE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_COMPRESSED_MESSAGE_ZSTD_DICTIONARY;
+import static org.apache.ignite.IgniteSystemProperties.getString;
 import static org.apache.ignite.configuration.DataStorageConfiguration.MAX_PAGE_SIZE;
+import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_COMPRESSED_MSG_CODECS;
 import static org.apache.ignite.internal.util.GridUnsafe.NATIVE_BYTE_ORDER;
 
 /**
@@ -57,6 +63,37 @@ public class CompressionProcessorImpl extends CompressionProcessor {
         super(ctx);
     }
 
+    /** {@inheritDoc} */
+    @Override public void start() throws IgniteCheckedException {
+        super.start();
+
+        CompressedMessageCodecs codecs = ctx.io().compressedMessageCodecs();
+
+        int netLvl = ctx.config().getNetworkCompressionLevel();
+
+        codecs.register(new Lz4CompressedMessageCodec());
+        codecs.register(new ZstdCompressedMessageCodec(null, netLvl));
+
+        String dictPath = getString(IGNITE_COMPRESSED_MESSAGE_ZSTD_DICTIONARY);
+
+        if (dictPath != null) {
+            byte[] dict;
+
+            try {
+                dict = Files.readAllBytes(Paths.get(dictPath));
+            }
+            catch (IOException e) {
+                throw new IgniteCheckedException("Failed to read compressed message dictionary: " + dictPath, e);
+            }
+
+            // Not closed on stop: the communication may still decompress the received messages.
+            codecs.register(new ZstdCompressedMessageCodec(dict, netLvl));
+        }
+
+        // Lets the other nodes know the codecs they can use with this node.
+        ctx.addNodeAttribute(ATTR_COMPRESSED_MSG_CODECS, codecs.signatures());
+    }
+
     /** {@inheritDoc} */
     @Override public void checkPageCompressionSupported() throws IgniteCheckedException {
         // No-op.
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.compress;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.internal.managers.communication.CompressedMessageCodec;
+
+/**
+ * Codec compressing the whole payload of a compressed message to a single frame, which is split into chunks.
+ */
+abstract class FrameCompressedMessageCodec implements CompressedMessageCodec {
+    /** {@inheritDoc} */
+    @Override public List<byte[]> compress(ByteBuffer buf, int lvl) {
+        int len = buf.remaining();
+
+        byte[] src;
+        int off;
+
+        if (buf.hasArray()) {
+            src = buf.array();
+            off = buf.arrayOffset() + buf.position();
+
+            buf.position(buf.limit());
+        }
+        else {
+            src = new byte[len];
+            off = 0;
+
+            buf.get(src);
+        }
+
+        byte[] dst = new byte[maxCompressedLength(len)];
+
+        int size = compress(src, off, len, dst);
+
+        return CompressedMessageCodec.split(dst, size);
+    }
+
+    /** {@inheritDoc} */
+    @Override public byte[] decompress(List<byte[]> chunks, int dataSize) {
+        byte[] src = CompressedMessageCodec.join(chunks);
+
+        // Don't allocate the buffer for a corrupted size header.
+        if (!validDataSize(src, dataSize)) {
+            throw new IgniteException("Invalid compressed message data size [codec=" + type() + ", dataSize=" +
+                dataSize + ", compressedBytes=" + src.length + ']');
+        }
+
+        byte[] data = new byte[dataSize];
+
+        int size = decompress(src, data);
+
+        if (size != dataSize) {
+            throw new IgniteException("Compressed stream is truncated [codec=" + type() + ", expected=" + dataSize +
+                ", decompressed=" + size + ']');
+        }
+
+        return data;
+    }
+
+    /**
+     * @param len Data length.
+     * @return Maximum length of the compressed data.
+     */
+    protected abstract int maxCompressedLength(int len);
+
+    /**
+     * @param src Source.
+     * @param off Source offset.
+     * @param len Source length.
+     * @param dst Destination of {@link #maxCompressedLength(int)} length.
+     * @return Compressed data length.
+     */
+    protected abstract int compress(byte[] src, int off, int len, byte[] dst);
+
+    /**
+     * @param src Compressed data.
+     * @param dataSize Data size.
+     * @return {@code True} if the data size is consistent with the compressed data.
+     */
+    protected abstract boolean validDataSize(byte[] src, int dataSize);
+
+    /**
+     * @param src Compressed data.
+     * @param dst Destination of the data size length.
+     * @return Data length.
+     */
+    protected abstract int decompress(byte[] src, byte[] dst);
+}
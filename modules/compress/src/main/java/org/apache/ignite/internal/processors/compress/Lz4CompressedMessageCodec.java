@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.compress;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.internal.managers.communication.CompressedMessageCodecType;
+
+/**
+ * LZ4 codec of the compressed messages. The fast compressor is used regardless of the network compression level.
+ */
+public class Lz4CompressedMessageCodec extends FrameCompressedMessageCodec {
+    /** Maximum expansion ratio of LZ4 block, a larger ratio indicates a corrupted size header. */
+    private static final int MAX_EXPANSION_RATIO = 255;
+
+    /** */
+    private static final LZ4Compressor compressor = CompressionProcessorImpl.Lz4.fastCompressor;
+
+    /** */
+    private static final LZ4SafeDecompressor decompressor = CompressionProcessorImpl.Lz4.factory.safeDecompressor();
+
+    /** {@inheritDoc} */
+    @Override public CompressedMessageCodecType type() {
+        return CompressedMessageCodecType.LZ4;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected int maxCompressedLength(int len) {
+        return compressor.maxCompressedLength(len);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected int compress(byte[] src, int off, int len, byte[] dst) {
+        return compressor.compress(src, off, len, dst, 0, dst.length);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected boolean validDataSize(byte[] src, int dataSize) {
+        return dataSize <= (long)src.length * MAX_EXPANSION_RATIO;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected int decompress(byte[] src, byte[] dst) {
+        try {
+            return decompressor.decompress(src, 0, src.length, dst, 0, dst.length);
+        }
+        catch (LZ4Exception e) {
+            throw new IgniteException("Failed to decompress message [codec=" + type() + ", dataSize=" + dst.length +
+                ']', e);
+        }
+    }
+}
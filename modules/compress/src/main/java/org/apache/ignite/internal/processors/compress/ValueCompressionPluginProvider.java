@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.compress;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import org.apache.ignite.cluster.ClusterNode;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.cache.transform.CacheObjectTransformerProcessor;
+import org.apache.ignite.internal.util.typedef.internal.A;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.plugin.CachePluginContext;
+import org.apache.ignite.plugin.CachePluginProvider;
+import org.apache.ignite.plugin.ExtensionRegistry;
+import org.apache.ignite.plugin.IgnitePlugin;
+import org.apache.ignite.plugin.PluginConfiguration;
+import org.apache.ignite.plugin.PluginContext;
+import org.apache.ignite.plugin.PluginProvider;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.internal.processors.compress.CompressionProcessor.ZSTD_DEFAULT_LEVEL;
+import static org.apache.ignite.internal.processors.compress.CompressionProcessor.ZSTD_MAX_LEVEL;
+import static org.apache.ignite.internal.processors.compress.CompressionProcessor.ZSTD_MIN_LEVEL;
+
+/**
+ * Plugin provider that enables per-cache compression of cache values with zstd dictionaries.
+ * Must be configured equally on all nodes of the cluster.
+ *
+ * @see ValueCompressionProcessor
+ */
+public class ValueCompressionPluginProvider implements PluginProvider<PluginConfiguration> {
+    /** Default minimal size of value to compress. */
+    public static final int DFLT_THRESHOLD = 64;
+
+    /** Default dictionary size. */
+    public static final int DFLT_DICT_SIZE = 16 * 1024;
+
+    /** Default total size of samples to train dictionary. */
+    public static final int DFLT_SAMPLE_SIZE = 1024 * 1024;
+
+    /** Names of caches to compress values of, {@code null} means all caches. */
+    private @Nullable Set<String> caches;
+
+    /** Minimal size of value to compress. */
+    private int threshold = DFLT_THRESHOLD;
+
+    /** Compression level. */
+    private int lvl = ZSTD_DEFAULT_LEVEL;
+
+    /** Dictionary size. */
+    private int dictSize = DFLT_DICT_SIZE;
+
+    /** Total size of samples to train dictionary. */
+    private int sampleSize = DFLT_SAMPLE_SIZE;
+
+    /**
+     * @param caches Names of caches to compress values of. If empty, values of all caches are compressed.
+     * @return {@code this} for chaining.
+     */
+    public ValueCompressionPluginProvider setCaches(String... caches) {
+        this.caches = caches.length == 0 ? null : new HashSet<>(Arrays.asList(caches));
+
+        return this;
+    }
+
+    /**
+     * @param cacheName Cache name.
+     * @return {@code True} if values of the cache should be compressed.
+     */
+    public boolean compressed(String cacheName) {
+        return caches == null || caches.contains(cacheName);
+    }
+
+    /**
+     * @return Minimal size of value to compress.
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * @param threshold Minimal size of value to compress.
+     * @return {@code this} for chaining.
+     */
+    public ValueCompressionPluginProvider setThreshold(int threshold) {
+        A.ensure(threshold > 0, "threshold > 0");
+
+        this.threshold = threshold;
+
+        return this;
+    }
+
+    /**
+     * @return Compression level.
+     */
+    public int getCompressionLevel() {
+        return lvl;
+    }
+
+    /**
+     * @param lvl Compression level.
+     * @return {@code this} for chaining.
+     */
+    public ValueCompressionPluginProvider setCompressionLevel(int lvl) {
+        A.ensure(lvl >= ZSTD_MIN_LEVEL && lvl <= ZSTD_MAX_LEVEL,
+            "Compression level for ZSTD must be between " + ZSTD_MIN_LEVEL + " and " + ZSTD_MAX_LEVEL);
+
+        this.lvl = lvl;
+
+        return this;
+    }
+
+    /**
+     * @return Dictionary size.
+     */
+    public int getDictionarySize() {
+        return dictSize;
+    }
+
+    /**
+     * @param dictSize Dictionary size.
+     * @return {@code this} for chaining.
+     */
+    public ValueCompressionPluginProvider setDictionarySize(int dictSize) {
+        A.ensure(dictSize > 0, "dictSize > 0");
+
+        this.dictSize = dictSize;
+
+        return this;
+    }
+
+    /**
+     * @return Total size of samples to train dictionary.
+     */
+    public int getSampleSize() {
+        return sampleSize;
+    }
+
+    /**
+     * @param sampleSize Total size of samples to train dictionary. Recommended to be about 100 times greater than
+     * the dictionary size.
+     * @return {@code this} for chaining.
+     */
+    public ValueCompressionPluginProvider setSampleSize(int sampleSize) {
+        A.ensure(sampleSize > 0, "sampleSize > 0");
+
+        this.sampleSize = sampleSize;
+
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String name() {
+        return "Value Compression";
+    }
+
+    /** {@inheritDoc} */
+    @Override public String version() {
+        return "";
+    }
+
+    /** {@inheritDoc} */
+    @Override public String copyright() {
+        return "Copyright(C) Apache Software Foundation";
+    }
+
+    /** {@inheritDoc} */
+    @Override public <T extends IgnitePlugin> T plugin() {
+        return (T)new ValueCompressionPlugin();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void initExtensions(PluginContext ctx, ExtensionRegistry registry) {
+        // No-op.
+    }
+
+    /** {@inheritDoc} */
+    @Override public @Nullable <T> T createComponent(PluginContext ctx, Class<T> cls) {
+        if (CacheObjectTransformerProcessor.class.equals(cls))
+            return (T)new ValueCompressionProcessor(((IgniteEx)ctx.grid()).context(), this);
+
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override public CachePluginProvider createCacheProvider(CachePluginContext ctx) {
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void start(PluginContext ctx) {
+        // No-op.
+    }
+
+    /** {@inheritDoc} */
+    @Override public void stop(boolean cancel) {
+        // No-op.
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onIgniteStart() {
+        // No-op.
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onIgniteStop(boolean cancel) {
+        // No-op.
+    }
+
+    /** {@inheritDoc} */
+    @Override public @Nullable Serializable provideDiscoveryData(UUID nodeId) {
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void receiveDiscoveryData(UUID nodeId, Serializable data) {
+        // No-op.
+    }
+
+    /** {@inheritDoc} */
+    @Override public void validateNewNode(ClusterNode node) {
+        // No-op.
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(ValueCompressionPluginProvider.class, this);
+    }
+
+    /** Value compression plugin. */
+    public static class ValueCompressionPlugin implements IgnitePlugin {
+        // No-op.
+    }
+}
@@ -0,0 +1,400 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.compress;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdDictTrainer;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.internal.GridKernalContext;
+import org.apache.ignite.internal.cache.transform.CacheObjectTransformerProcessor;
+import org.apache.ignite.internal.processors.GridProcessorAdapter;
+import org.apache.ignite.internal.processors.metastorage.DistributedMetaStorage;
+import org.apache.ignite.internal.processors.metastorage.DistributedMetastorageLifecycleListener;
+import org.apache.ignite.internal.processors.metastorage.ReadableDistributedMetaStorage;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.thread.IgniteThread;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.internal.binary.GridBinaryMarshaller.TRANSFORMED;
+import static org.apache.ignite.internal.processors.metastorage.DistributedMetaStorage.IGNITE_INTERNAL_KEY_PREFIX;
+
+/**
+ * Compresses cache values with zstd using dictionaries trained from sampled values of each cache.
+ * <p>
+ * Until the dictionary of a cache is trained, values are compressed without a dictionary. Once enough samples are
+ * collected, the dictionary is trained and published to the distributed metastorage with the next version. The
+ * published dictionary is activated for compression only after every node has received it, so each node is able to
+ * restore any value it gets. Each compressed value refers to the cache and the dictionary version, so values
+ * compressed with previous versions stay readable. Values are restored lazily, on the first access to the value bytes.
+ * <p>
+ * Compressed value format: {@code TRANSFORMED | cacheId | dictionary version | original length | zstd frame}.
+ * Version {@code 0} means that value is compressed without a dictionary.
+ */
+public class ValueCompressionProcessor extends GridProcessorAdapter implements CacheObjectTransformerProcessor {
+    /** Dictionary key prefix in the distributed metastorage. */
+    public static final String DICT_KEY_PREFIX = IGNITE_INTERNAL_KEY_PREFIX + "value.compression.dict.";
+
+    /** Prefix of the active dictionary version key in the distributed metastorage. */
+    public static final String ACTIVE_KEY_PREFIX = IGNITE_INTERNAL_KEY_PREFIX + "value.compression.active.";
+
+    /** Header size: transformed flag, cache id, dictionary version and original length. */
+    public static final int HEADER_SIZE = 1 + 3 * Integer.BYTES;
+
+    /** Configuration. */
+    private final ValueCompressionPluginProvider cfg;
+
+    /** Dictionaries by cache id and version. */
+    private final Map<Long, Dictionary> dicts = new ConcurrentHashMap<>();
+
+    /** Compression state of caches. */
+    private final Map<Integer, CacheCompression> caches = new ConcurrentHashMap<>();
+
+    /** Metastorage to read dictionaries. */
+    private volatile ReadableDistributedMetaStorage roMetastorage;
+
+    /** Metastorage to publish trained dictionaries. */
+    private volatile DistributedMetaStorage metastorage;
+
+    /**
+     * @param ctx Kernal context.
+     * @param cfg Configuration.
+     */
+    public ValueCompressionProcessor(GridKernalContext ctx, ValueCompressionPluginProvider cfg) {
+        super(ctx);
+
+        this.cfg = cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void start() throws IgniteCheckedException {
+        ctx.internalSubscriptionProcessor().registerDistributedMetastorageListener(
+            new DistributedMetastorageLifecycleListener() {
+                /** {@inheritDoc} */
+                @Override public void onReadyForRead(ReadableDistributedMetaStorage ms) {
+                    roMetastorage = ms;
+
+                    try {
+                        ms.iterate(DICT_KEY_PREFIX, (key, val) -> onDictionary(key, (byte[])val));
+                        ms.iterate(ACTIVE_KEY_PREFIX, (key, val) -> onActivate(key, (Integer)val));
+                    }
+                    catch (IgniteCheckedException e) {
+                        throw new IgniteException(e);
+                    }
+
+                    ms.listen(key -> key.startsWith(DICT_KEY_PREFIX),
+                        (key, oldVal, newVal) -> onDictionary(key, (byte[])newVal));
+                    ms.listen(key -> key.startsWith(ACTIVE_KEY_PREFIX),
+                        (key, oldVal, newVal) -> onActivate(key, (Integer)newVal));
+                }
+
+                /** {@inheritDoc} */
+                @Override public void onReadyForWrite(DistributedMetaStorage ms) {
+                    metastorage = ms;
+                }
+            });
+    }
+
+    /** {@inheritDoc} */
+    @Override public void stop(boolean cancel) {
+        for (Dictionary dict : dicts.values())
+            dict.close();
+
+        dicts.clear();
+    }
+
+    /** {@inheritDoc} */
+    @Override public @Nullable ByteBuffer transform(ByteBuffer original) {
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override public @Nullable ByteBuffer transform(@Nullable String cacheName, ByteBuffer original) {
+        int len = original.remaining();
+
+        if (cacheName == null || len < cfg.getThreshold() || !cfg.compressed(cacheName) || CU.isSystemCache(cacheName))
+            return null;
+
+        int cacheId = CU.cacheId(cacheName);
+
+        CacheCompression cacheComp = caches.computeIfAbsent(cacheId, CacheCompression::new);
+
+        byte[] src;
+        int srcOff;
+
+        if (original.hasArray()) {
+            src = original.array();
+            srcOff = original.arrayOffset() + original.position();
+        }
+        else {
+            src = new byte[len];
+            srcOff = 0;
+
+            original.duplicate().get(src);
+        }
+
+        Dictionary dict = cacheComp.dict;
+
+        if (dict == null)
+            cacheComp.sample(src, srcOff, len);
+
+        byte[] dst = new byte[HEADER_SIZE + (int)Zstd.compressBound(len)];
+
+        long size = dict == null
+            ? Zstd.compressByteArray(dst, HEADER_SIZE, dst.length - HEADER_SIZE, src, srcOff, len, cfg.getCompressionLevel())
+            : Zstd.compressFastDict(dst, HEADER_SIZE, src, srcOff, len, dict.compress);
+
+        if (Zstd.isError(size) || HEADER_SIZE + size >= len)
+            return null; // Compression is not profitable.
+
+        // Transformed buffer must wrap the whole array.
+        ByteBuffer res = ByteBuffer.wrap(Arrays.copyOf(dst, HEADER_SIZE + (int)size));
+
+        res.put(TRANSFORMED);
+        res.putInt(cacheId);
+        res.putInt(dict == null ? 0 : dict.ver);
+        res.putInt(len);
+
+        res.position(0);
+
+        return res;
+    }
+
+    /** {@inheritDoc} */
+    @Override public ByteBuffer restore(ByteBuffer transformed) {
+        int cacheId = transformed.getInt();
+        int ver = transformed.getInt();
+        int len = transformed.getInt();
+
+        byte[] src = transformed.array();
+        int srcOff = transformed.arrayOffset() + transformed.position();
+        int srcLen = transformed.remaining();
+
+        byte[] dst = new byte[len];
+
+        long size = ver == 0
+            ? Zstd.decompressByteArray(dst, 0, len, src, srcOff, srcLen)
+            : Zstd.decompressFastDict(dst, 0, src, srcOff, srcLen, dictionary(cacheId, ver).decompress);
+
+        if (Zstd.isError(size) || size != len) {
+            throw new IgniteException("Failed to decompress value [cacheId=" + cacheId + ", dictVer=" + ver +
+                ", err=" + (Zstd.isError(size) ? Zstd.getErrorName(size) : "unexpected size " + size) + ']');
+        }
+
+        return ByteBuffer.wrap(dst);
+    }
+
+    /**
+     * @param cacheId Cache id.
+     * @param ver Dictionary version.
+     * @return Dictionary.
+     */
+    private Dictionary dictionary(int cacheId, int ver) {
+        Dictionary dict = dicts.get(key(cacheId, ver));
+
+        if (dict != null)
+            return dict;
+
+        // Dictionary is published before any value is compressed with it, so it can be read directly.
+        try {
+            ReadableDistributedMetaStorage ms = roMetastorage;
+
+            String key = DICT_KEY_PREFIX + cacheId + '.' + ver;
+
+            byte[] data = ms == null ? null : ms.read(key);
+
+            if (data == null)
+                throw new IgniteException("Compression dictionary not found [cacheId=" + cacheId + ", ver=" + ver + ']');
+
+            return onDictionary(key, data);
+        }
+        catch (IgniteCheckedException e) {
+            throw new IgniteException(e);
+        }
+    }
+
+    /**
+     * Registers dictionary read from the metastorage.
+     *
+     * @param key Metastorage key.
+     * @param data Dictionary.
+     * @return Registered dictionary.
+     */
+    private Dictionary onDictionary(String key, byte[] data) {
+        String[] parts = key.substring(DICT_KEY_PREFIX.length()).split("\\.");
+
+        int cacheId = Integer.parseInt(parts[0]);
+        int ver = Integer.parseInt(parts[1]);
+
+        Dictionary dict = dicts.computeIfAbsent(key(cacheId, ver),
+            k -> new Dictionary(ver, data, cfg.getCompressionLevel()));
+
+        if (log.isInfoEnabled())
+            log.info("Value compression dictionary registered [cacheId=" + cacheId + ", ver=" + ver + ']');
+
+        return dict;
+    }
+
+    /**
+     * Starts compression with the dictionary that is already registered on every node.
+     *
+     * @param key Metastorage key.
+     * @param ver Dictionary version.
+     */
+    private void onActivate(String key, Integer ver) {
+        int cacheId = Integer.parseInt(key.substring(ACTIVE_KEY_PREFIX.length()));
+
+        Dictionary dict = dictionary(cacheId, ver);
+
+        CacheCompression cacheComp = caches.computeIfAbsent(cacheId, CacheCompression::new);
+
+        synchronized (cacheComp) {
+            if (cacheComp.dict == null || cacheComp.dict.ver < ver) {
+                cacheComp.dict = dict;
+                cacheComp.trainer = null;
+            }
+        }
+    }
+
+    /**
+     * @param cacheId Cache id.
+     * @param ver Dictionary version.
+     * @return Dictionary key.
+     */
+    private static long key(int cacheId, int ver) {
+        return ((long)cacheId << 32) | (ver & 0xFFFFFFFFL);
+    }
+
+    /** Compression state of a cache. */
+    private class CacheCompression {
+        /** Cache id. */
+        private final int cacheId;
+
+        /** Current dictionary. */
+        private volatile Dictionary dict;
+
+        /** Samples collector, {@code null} when sampling is finished. */
+        private ZstdDictTrainer trainer;
+
+        /** Training started flag. */
+        private final AtomicBoolean training = new AtomicBoolean();
+
+        /**
+         * @param cacheId Cache id.
+         */
+        CacheCompression(int cacheId) {
+            this.cacheId = cacheId;
+
+            trainer = new ZstdDictTrainer(cfg.getSampleSize(), cfg.getDictionarySize());
+        }
+
+        /**
+         * Collects sample for the dictionary training.
+         *
+         * @param src Source array.
+         * @param off Value offset.
+         * @param len Value length.
+         */
+        void sample(byte[] src, int off, int len) {
+            ZstdDictTrainer trainer0;
+
+            synchronized (this) {
+                trainer0 = trainer;
+            }
+
+            if (trainer0 == null || metastorage == null)
+                return;
+
+            if (trainer0.addSample(Arrays.copyOfRange(src, off, off + len)) || !training.compareAndSet(false, true))
+                return;
+
+            new IgniteThread(ctx.igniteInstanceName(), "value-compression-dict-trainer", () -> train(trainer0)).start();
+        }
+
+        /**
+         * Trains dictionary and publishes it to the metastorage.
+         *
+         * @param trainer0 Samples collector.
+         */
+        private void train(ZstdDictTrainer trainer0) {
+            try {
+                byte[] data = trainer0.trainSamples();
+
+                Dictionary cur = dict;
+
+                int ver = cur == null ? 1 : cur.ver + 1;
+
+                // Dictionary trained on other node might be published concurrently. The first one wins.
+                if (!metastorage.compareAndSet(DICT_KEY_PREFIX + cacheId + '.' + ver, null, (Serializable)data))
+                    return;
+
+                // Update is completed when all nodes received it, so the dictionary can be used from now on.
+                metastorage.compareAndSet(ACTIVE_KEY_PREFIX + cacheId, cur == null ? null : cur.ver, ver);
+            }
+            catch (Exception e) {
+                U.error(log, "Failed to train value compression dictionary [cacheId=" + cacheId + ']', e);
+
+                synchronized (this) {
+                    if (trainer == trainer0)
+                        trainer = new ZstdDictTrainer(cfg.getSampleSize(), cfg.getDictionarySize());
+                }
+
+                training.set(false);
+            }
+        }
+    }
+
+    /** Digested dictionary. */
+    private static class Dictionary {
+        /** Version. */
+        private final int ver;
+
+        /** Compression dictionary. */
+        private final ZstdDictCompress compress;
+
+        /** Decompression dictionary. */
+        private final ZstdDictDecompress decompress;
+
+        /**
+         * @param ver Version.
+         * @param data Dictionary.
+         * @param lvl Compression level.
+         */
+        Dictionary(int ver, byte[] data, int lvl) {
+            this.ver = ver;
+
+            compress = new ZstdDictCompress(data, lvl);
+            decompress = new ZstdDictDecompress(data);
+        }
+
+        /** Releases native resources. */
+        void close() {
+            compress.close();
+            decompress.close();
+        }
+    }
+}
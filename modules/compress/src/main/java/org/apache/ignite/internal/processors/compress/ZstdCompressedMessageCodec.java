@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.compress;
+
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.internal.managers.communication.CompressedMessageCodecType;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.internal.processors.compress.CompressionProcessor.ZSTD_DEFAULT_LEVEL;
+
+/**
+ * Zstd codec of the compressed messages, optionally with a shared dictionary. Network compression levels from
+ * {@link Deflater#BEST_SPEED} to {@link Deflater#BEST_COMPRESSION} are used as zstd levels, other levels are replaced
+ * with the default zstd level.
+ */
+public class ZstdCompressedMessageCodec extends FrameCompressedMessageCodec implements AutoCloseable {
+    /** Compression level. */
+    private final int lvl;
+
+    /** Dictionary for compression. */
+    @Nullable private final ZstdDictCompress dictCompress;
+
+    /** Dictionary for decompression. */
+    @Nullable private final ZstdDictDecompress dictDecompress;
+
+    /** Signature. */
+    private final String sig;
+
+    /**
+     * @param dict Dictionary.
+     * @param netLvl Network compression level.
+     */
+    public ZstdCompressedMessageCodec(@Nullable byte[] dict, int netLvl) {
+        lvl = netLvl >= Deflater.BEST_SPEED && netLvl <= Deflater.BEST_COMPRESSION ? netLvl : ZSTD_DEFAULT_LEVEL;
+
+        if (dict == null) {
+            dictCompress = null;
+            dictDecompress = null;
+
+            sig = type().name();
+        }
+        else {
+            dictCompress = new ZstdDictCompress(dict, lvl);
+            dictDecompress = new ZstdDictDecompress(dict);
+
+            CRC32 crc = new CRC32();
+
+            crc.update(dict);
+
+            sig = type().name() + ':' + Long.toHexString(crc.getValue()) + ':' + dict.length;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public CompressedMessageCodecType type() {
+        return dictCompress == null ? CompressedMessageCodecType.ZSTD : CompressedMessageCodecType.ZSTD_DICT;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String signature() {
+        return sig;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected int maxCompressedLength(int len) {
+        return (int)Zstd.compressBound(len);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected int compress(byte[] src, int off, int len, byte[] dst) {
+        long size = dictCompress == null
+            ? Zstd.compressByteArray(dst, 0, dst.length, src, off, len, lvl)
+            : Zstd.compressFastDict(dst, 0, src, off, len, dictCompress);
+
+        if (Zstd.isError(size)) {
+            throw new IgniteException("Failed to compress message [codec=" + type() + ", err=" +
+                Zstd.getErrorName(size) + ']');
+        }
+
+        return (int)size;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected boolean validDataSize(byte[] src, int dataSize) {
+        return Zstd.getFrameContentSize(src) == dataSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected int decompress(byte[] src, byte[] dst) {
+        long size = dictDecompress == null
+            ? Zstd.decompressByteArray(dst, 0, dst.length, src, 0, src.length)
+            : Zstd.decompressFastDict(dst, 0, src, 0, src.length, dictDecompress);
+
+        if (Zstd.isError(size)) {
+            throw new IgniteException("Failed to decompress message [codec=" + type() + ", dataSize=" + dst.length +
+                ", err=" + Zstd.getErrorName(size) + ']');
+        }
+
+        return (int)size;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void close() {
+        if (dictCompress != null)
+            dictCompress.close();
+
+        if (dictDecompress != null)
+            dictDecompress.close();
+    }
+}
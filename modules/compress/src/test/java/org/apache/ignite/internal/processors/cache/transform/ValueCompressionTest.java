@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.transform;
+
+import java.nio.ByteBuffer;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.binary.BinaryObjectImpl;
+import org.apache.ignite.internal.processors.compress.ValueCompressionPluginProvider;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.binary.GridBinaryMarshaller.TRANSFORMED;
+import static org.apache.ignite.internal.processors.cache.GridCacheUtils.cacheId;
+import static org.apache.ignite.internal.processors.compress.ValueCompressionProcessor.ACTIVE_KEY_PREFIX;
+import static org.apache.ignite.internal.processors.compress.ValueCompressionProcessor.HEADER_SIZE;
+import static org.apache.ignite.testframework.GridTestUtils.waitForCondition;
+
+/** */
+public class ValueCompressionTest extends GridCommonAbstractTest {
+    /** */
+    private static final String COMPRESSED = "compressed";
+
+    /** */
+    private static final int KEYS_CNT = 2_000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setPluginProviders(new ValueCompressionPluginProvider()
+                .setCaches(COMPRESSED)
+                .setDictionarySize(4 * 1024)
+                .setSampleSize(128 * 1024))
+            .setCacheConfiguration(
+                new CacheConfiguration<>(COMPRESSED).setBackups(1),
+                new CacheConfiguration<>(DEFAULT_CACHE_NAME));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+    }
+
+    /** */
+    @Test
+    public void testDictionaryCompression() throws Exception {
+        IgniteEx ign = startGrids(2);
+
+        IgniteCache<Integer, BinaryObject> cache = ign.cache(COMPRESSED).withKeepBinary();
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            cache.put(i, account(ign, i));
+
+        assertTrue(waitForCondition(() -> {
+            try {
+                return ign.context().distributedMetastorage().read(ACTIVE_KEY_PREFIX + cacheId(COMPRESSED)) != null;
+            }
+            catch (Exception e) {
+                return false;
+            }
+        }, getTestTimeout()));
+
+        for (int i = KEYS_CNT; i < 2 * KEYS_CNT; i++)
+            cache.put(i, account(ign, i));
+
+        for (IgniteEx node : new IgniteEx[] {ign, grid(1)}) {
+            IgniteCache<Integer, BinaryObject> c = node.cache(COMPRESSED).withKeepBinary();
+
+            for (int i = 0; i < 2 * KEYS_CNT; i++)
+                assertEquals(description(i), c.get(i).field("description"));
+        }
+
+        BinaryObjectImpl val = (BinaryObjectImpl)account(ign, KEYS_CNT);
+
+        ByteBuffer plain = ByteBuffer.wrap(val.bytes(), val.start(), val.length());
+
+        ByteBuffer withDict = ign.context().transformer().transform(COMPRESSED, plain.duplicate());
+
+        assertNotNull(withDict);
+        assertEquals(TRANSFORMED, withDict.get(0));
+        assertEquals(1, withDict.getInt(1 + Integer.BYTES));
+        assertTrue(withDict.remaining() - HEADER_SIZE < val.length() / 2);
+
+        assertNull(ign.context().transformer().transform(DEFAULT_CACHE_NAME, plain.duplicate()));
+    }
+
+    /** */
+    private static BinaryObject account(IgniteEx ign, int i) {
+        return ign.binary().builder("Account")
+            .setField("id", i)
+            .setField("description", description(i))
+            .build();
+    }
+
+    /** */
+    private static String description(int i) {
+        return "{\"id\": " + i + ", \"type\": \"savings\", \"currency\": \"USD\", \"status\": \"active\", " +
+            "\"owner\": {\"name\": \"John Doe " + i % 100 + "\", \"country\": \"United States\", " +
+            "\"segment\": \"retail\"}, \"limits\": {\"daily\": 1000, \"monthly\": 30000}, \"tags\": [\"primary\", " +
+            "\"verified\", \"region-" + i % 7 + "\"]}";
+    }
+}
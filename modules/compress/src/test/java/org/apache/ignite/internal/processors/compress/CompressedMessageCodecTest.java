@@ -0,0 +1,240 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.compress;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.Deflater;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.managers.communication.CompressedMessageCodec;
+import org.apache.ignite.internal.managers.communication.CompressedMessageCodecType;
+import org.apache.ignite.internal.managers.communication.CompressedMessageCodecs;
+import org.apache.ignite.internal.processors.metric.MetricRegistryImpl;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.metric.MetricRegistry;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_COMPRESSED_MESSAGE_CODECS;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_COMPRESSED_MESSAGE_ZSTD_DICTIONARY;
+import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_COMPRESSED_MSG_CODECS;
+import static org.apache.ignite.internal.managers.communication.CompressedMessageCodecs.COMPRESSION_METRICS;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
+
+/**
+ * Checks the codecs of the compressed message fields.
+ */
+public class CompressedMessageCodecTest extends GridCommonAbstractTest {
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /** */
+    @Test
+    public void testLz4() {
+        checkCodec(new Lz4CompressedMessageCodec());
+    }
+
+    /** */
+    @Test
+    public void testZstd() {
+        checkCodec(new ZstdCompressedMessageCodec(null, Deflater.BEST_SPEED));
+    }
+
+    /** */
+    @Test
+    public void testZstdDictionary() {
+        byte[] dict = dictionary();
+
+        try (ZstdCompressedMessageCodec codec = new ZstdCompressedMessageCodec(dict, Deflater.BEST_SPEED);
+             ZstdCompressedMessageCodec other = new ZstdCompressedMessageCodec(Arrays.copyOf(dict, dict.length - 1),
+                 Deflater.BEST_SPEED)) {
+            assertEquals(CompressedMessageCodecType.ZSTD_DICT, codec.type());
+            assertFalse(codec.signature().equals(other.signature()));
+
+            checkCodec(codec);
+        }
+    }
+
+    /**
+     * Checks that partition maps are compressed with the codec configured for the message type.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_COMPRESSED_MESSAGE_CODECS, value = "LZ4,GridDhtPartitionsFullMessage=ZSTD")
+    public void testCodecOfMessageType() throws Exception {
+        startGrids(2);
+
+        createCache();
+
+        assertTrue(counter(grid(0), CompressedMessageCodecType.ZSTD, "CompressedCount") > 0);
+        assertTrue(counter(grid(1), CompressedMessageCodecType.ZSTD, "DecompressedCount") > 0);
+
+        assertTrue(counter(grid(1), CompressedMessageCodecType.LZ4, "CompressedCount") > 0);
+        assertTrue(counter(grid(0), CompressedMessageCodecType.LZ4, "DecompressedCount") > 0);
+
+        assertEquals(0, counter(grid(0), CompressedMessageCodecType.DEFLATE, "CompressedCount"));
+        assertEquals(0, counter(grid(1), CompressedMessageCodecType.DEFLATE, "CompressedCount"));
+
+        MetricRegistry mreg = grid(1).context().metric().registry(metricName(COMPRESSION_METRICS,
+            CompressedMessageCodecType.LZ4.name()));
+
+        assertTrue(mreg.<LongMetric>findMetric("UncompressedBytes").value() >
+            mreg.<LongMetric>findMetric("CompressedBytes").value());
+    }
+
+    /**
+     * Checks that the dictionary codec is used only by the nodes sharing the dictionary.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_COMPRESSED_MESSAGE_CODECS, value = "ZSTD_DICT")
+    public void testDictionaryNegotiation() throws Exception {
+        File dictFile = File.createTempFile("dict", ".zstd");
+
+        try {
+            Files.write(dictFile.toPath(), dictionary());
+
+            System.setProperty(IGNITE_COMPRESSED_MESSAGE_ZSTD_DICTIONARY, dictFile.getAbsolutePath());
+
+            try {
+                startGrids(2);
+            }
+            finally {
+                System.clearProperty(IGNITE_COMPRESSED_MESSAGE_ZSTD_DICTIONARY);
+            }
+
+            String[] sigs = grid(0).localNode().attribute(ATTR_COMPRESSED_MSG_CODECS);
+
+            assertTrue(Arrays.toString(sigs), sigs.length == 3);
+
+            createCache();
+
+            assertTrue(counter(grid(0), CompressedMessageCodecType.ZSTD_DICT, "CompressedCount") > 0);
+            assertTrue(counter(grid(1), CompressedMessageCodecType.ZSTD_DICT, "DecompressedCount") > 0);
+
+            // The node without the dictionary makes the others fall back to zstd without the dictionary.
+            IgniteEx srv2 = startGrid(2);
+
+            long dictCnt = counter(grid(0), CompressedMessageCodecType.ZSTD_DICT, "CompressedCount");
+
+            createCache(DEFAULT_CACHE_NAME + 1);
+
+            assertEquals(dictCnt, counter(grid(0), CompressedMessageCodecType.ZSTD_DICT, "CompressedCount"));
+            assertTrue(counter(srv2, CompressedMessageCodecType.ZSTD, "DecompressedCount") > 0);
+        }
+        finally {
+            U.delete(dictFile);
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testInvalidConfiguration() throws Exception {
+        IgniteEx srv = startGrid(0);
+
+        GridTestUtils.assertThrows(log, () -> new CompressedMessageCodecs(srv.context(), "LZ4,Msg=SNAPPY"),
+            IllegalArgumentException.class, "Unknown compressed message codec");
+    }
+
+    /** Creates a cache and waits for the exchange. */
+    private void createCache() throws Exception {
+        createCache(DEFAULT_CACHE_NAME);
+    }
+
+    /**
+     * @param name Cache name.
+     */
+    private void createCache(String name) throws Exception {
+        grid(0).createCache(new CacheConfiguration<>(name).setBackups(1));
+
+        awaitPartitionMapExchange();
+    }
+
+    /**
+     * @param ignite Node.
+     * @param type Codec.
+     * @param name Metric name.
+     * @return Counter value.
+     */
+    private static long counter(IgniteEx ignite, CompressedMessageCodecType type, String name) {
+        MetricRegistryImpl mreg = ignite.context().metric().registry(metricName(COMPRESSION_METRICS, type.name()));
+
+        LongMetric metric = mreg.findMetric(name);
+
+        return metric == null ? 0 : metric.value();
+    }
+
+    /**
+     * @param codec Codec.
+     */
+    private static void checkCodec(CompressedMessageCodec codec) {
+        Random rnd = new Random(42);
+
+        for (int size : new int[] {1, 1000, 10 * 1024, 100 * 1024 + 1}) {
+            byte[] data = new byte[size];
+
+            // Partly compressible data.
+            for (int i = 0; i < size; i++)
+                data[i] = (byte)(i % 7 == 0 ? rnd.nextInt() : i % 13);
+
+            List<byte[]> chunks = codec.compress(ByteBuffer.wrap(data), Deflater.BEST_SPEED);
+
+            for (byte[] chunk : chunks)
+                assertTrue(chunk.length <= 10 * 1024);
+
+            assertTrue(Arrays.equals(data, codec.decompress(chunks, size)));
+
+            // Corrupted size header.
+            GridTestUtils.assertThrows(null, () -> codec.decompress(chunks, size + 1), IgniteException.class, null);
+
+            if (size > 1000) {
+                GridTestUtils.assertThrows(null, () -> codec.decompress(chunks, Integer.MAX_VALUE),
+                    IgniteException.class, "Invalid compressed message data size");
+            }
+        }
+    }
+
+    /**
+     * @return Raw content dictionary.
+     */
+    private static byte[] dictionary() {
+        byte[] dict = new byte[4 * 1024];
+
+        for (int i = 0; i < dict.length; i++)
+            dict[i] = (byte)(i % 13);
+
+        return dict;
+    }
+}
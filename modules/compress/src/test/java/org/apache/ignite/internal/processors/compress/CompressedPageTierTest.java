@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.compress;
+
+import java.util.Arrays;
+import java.util.Collection;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.DiskPageCompression;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import static org.apache.ignite.configuration.DataStorageConfiguration.DFLT_DATA_REG_DEFAULT_NAME;
+import static org.apache.ignite.internal.processors.cache.persistence.DataRegionMetricsImpl.DATAREGION_METRICS_PREFIX;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
+
+/**
+ * Checks that pages replaced in the page memory are restored from the compressed page tier.
+ */
+@RunWith(Parameterized.class)
+public class CompressedPageTierTest extends GridCommonAbstractTest {
+    /** */
+    private static final long REGION_SIZE = 20L * 1024 * 1024;
+
+    /** */
+    private static final int KEYS_CNT = 20_000;
+
+    /** */
+    @Parameterized.Parameter
+    public DiskPageCompression compression;
+
+    /** */
+    @Parameterized.Parameters(name = "compression={0}")
+    public static Collection<?> parameters() {
+        return Arrays.asList(DiskPageCompression.LZ4, DiskPageCompression.ZSTD);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                    .setPersistenceEnabled(true)
+                    .setMetricsEnabled(true)
+                    .setMaxSize(REGION_SIZE)
+                    .setCompressedPageTierSize(2 * REGION_SIZE)
+                    .setCompressedPageTierCompression(compression)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        super.afterTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** */
+    @Test
+    public void testReplacedPagesRestoredFromTier() throws Exception {
+        IgniteEx ign = startGrid(0);
+
+        ign.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, String> cache = ign.getOrCreateCache(cacheConfiguration());
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            cache.put(i, value(i, 0));
+
+        forceCheckpoint();
+
+        for (int iter = 0; iter < 2; iter++) {
+            for (int i = 0; i < KEYS_CNT; i++)
+                assertEquals(value(i, 0), cache.get(i));
+        }
+
+        LongMetric hits = ign.context().metric()
+            .registry(metricName(DATAREGION_METRICS_PREFIX, DFLT_DATA_REG_DEFAULT_NAME))
+            .findMetric("CompressedPageTierHits");
+
+        assertTrue("Pages must be restored from the compressed tier", hits.value() > 0);
+
+        // Pages of destroyed cache must not be restored to the new one.
+        ign.destroyCache(DEFAULT_CACHE_NAME);
+
+        cache = ign.getOrCreateCache(cacheConfiguration());
+
+        for (int i = 0; i < KEYS_CNT; i += 2)
+            cache.put(i, value(i, 1));
+
+        forceCheckpoint();
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            assertEquals(i % 2 == 0 ? value(i, 1) : null, cache.get(i));
+    }
+
+    /** */
+    private static CacheConfiguration<Integer, String> cacheConfiguration() {
+        return new CacheConfiguration<Integer, String>(DEFAULT_CACHE_NAME)
+            .setAffinity(new RendezvousAffinityFunction(false, 32));
+    }
+
+    /**
+     * @param key Key.
+     * @param ver Value version.
+     * @return Compressible value.
+     */
+    private static String value(int key, int ver) {
+        StringBuilder sb = new StringBuilder();
+
+        for (int i = 0; i < 40; i++)
+            sb.append("key=").append(key).append(", ver=").append(ver).append(", field-").append(i).append(';');
+
+        return sb.toString();
+    }
+}
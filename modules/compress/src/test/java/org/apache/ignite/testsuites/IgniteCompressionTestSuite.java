@@ -21,6 +21,8 @@ import java.util.ArrayList;
 import java.util.List;
 import org.apache.ignite.internal.processors.cache.transform.CacheObjectCompressionConsumptionTest;
 import org.apache.ignite.internal.processors.cache.transform.CacheObjectCompressionTest;
+import org.apache.ignite.internal.processors.cache.transform.ValueCompressionTest;
+import org.apache.ignite.internal.processors.compress.CompressedMessageCodecTest;
 import org.apache.ignite.testframework.junits.DynamicSuite;
 import org.junit.runner.RunWith;
 
@@ -35,6 +37,8 @@ public class IgniteCompressionTestSuite {
 
         suite.add(CacheObjectCompressionTest.class);
         suite.add(CacheObjectCompressionConsumptionTest.class);
+        suite.add(ValueCompressionTest.class);
+        suite.add(CompressedMessageCodecTest.class);
 
         return suite;
     }
@@ -24,6 +24,7 @@ import org.apache.ignite.internal.processors.cache.persistence.db.wal.WalCompact
 import org.apache.ignite.internal.processors.cache.persistence.db.wal.WalRecoveryWithPageCompressionAndTdeTest;
 import org.apache.ignite.internal.processors.cache.persistence.db.wal.WalRecoveryWithPageCompressionTest;
 import org.apache.ignite.internal.processors.cache.persistence.snapshot.SnapshotCompressionBasicTest;
+import org.apache.ignite.internal.processors.compress.CompressedPageTierTest;
 import org.apache.ignite.internal.processors.compress.DiskPageCompressionConfigValidationTest;
 import org.apache.ignite.internal.processors.compress.DiskPageCompressionIntegrationTest;
 import org.apache.ignite.internal.processors.compress.WalPageCompressionIntegrationTest;
@@ -41,6 +42,7 @@ public class IgnitePdsCompressionTestSuite6 extends AbstractIgnitePdsCompression
 
         suite.add(DiskPageCompressionIntegrationTest.class);
         suite.add(DiskPageCompressionConfigValidationTest.class);
+        suite.add(CompressedPageTierTest.class);
 
         suite.add(WalPageCompressionIntegrationTest.class);
         suite.add(WalRecoveryWithPageCompressionTest.class);
@@ -60,6 +60,7 @@ import static org.apache.ignite.internal.processors.affinity.GridAffinityAssignm
 import static org.apache.ignite.internal.processors.affinity.GridAffinityAssignmentCache.DFLT_PART_DISTRIBUTION_WARN_THRESHOLD;
 import static org.apache.ignite.internal.processors.cache.CacheAffinitySharedManager.DFLT_CLIENT_CACHE_CHANGE_MESSAGE_TIMEOUT;
 import static org.apache.ignite.internal.processors.cache.CacheObjectsReleaseFuture.DFLT_IGNITE_PARTITION_RELEASE_FUTURE_WARN_LIMIT;
+import static org.apache.ignite.internal.processors.cache.CacheStoreBalancingWrapper.DFLT_CACHE_STORE_LOAD_BATCH_WINDOW;
 import static org.apache.ignite.internal.processors.cache.GridCacheAdapter.DFLT_CACHE_RETRIES_COUNT;
 import static org.apache.ignite.internal.processors.cache.GridCacheAdapter.DFLT_CACHE_START_SIZE;
 import static org.apache.ignite.internal.processors.cache.GridCacheContext.DFLT_READ_LOAD_BALANCING;
@@ -75,6 +76,8 @@ import static org.apache.ignite.internal.processors.cache.binary.CacheObjectBina
 import static org.apache.ignite.internal.processors.cache.distributed.dht.CacheDistributedGetFutureAdapter.DFLT_MAX_REMAP_CNT;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridDhtAtomicCache.DFLT_ATOMIC_DEFERRED_ACK_BUFFER_SIZE;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridDhtAtomicCache.DFLT_ATOMIC_DEFERRED_ACK_TIMEOUT;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridNearAtomicUpdateCoalescer.DFLT_ATOMIC_UPDATE_COALESCING_BATCH_SIZE;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridNearAtomicUpdateCoalescer.DFLT_ATOMIC_UPDATE_COALESCING_WINDOW;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionsExchangeFuture.DFLT_LONG_OPERATIONS_DUMP_TIMEOUT_LIMIT;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionsExchangeFuture.DFLT_PARTITION_RELEASE_FUTURE_DUMP_THRESHOLD;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPreloader.DFLT_PRELOAD_RESEND_TIMEOUT;
@@ -88,6 +91,7 @@ import static org.apache.ignite.internal.processors.cache.persistence.checkpoint
 import static org.apache.ignite.internal.processors.cache.persistence.diagnostic.pagelocktracker.PageLockTrackerFactory.DFLT_PAGE_LOCK_TRACKER_CAPACITY;
 import static org.apache.ignite.internal.processors.cache.persistence.diagnostic.pagelocktracker.PageLockTrackerFactory.HEAP_LOG;
 import static org.apache.ignite.internal.processors.cache.persistence.diagnostic.pagelocktracker.SharedPageLockTracker.DFLT_PAGE_LOCK_TRACKER_CHECK_INTERVAL;
+import static org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager.DFLT_PDS_MAX_OPEN_PAGE_STORE_FILES;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.FullPageIdTable.DFLT_LONG_LONG_HASH_MAP_LOAD_FACTOR;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.DFLT_DELAYED_REPLACED_PAGE_WRITE;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.DFLT_LOADED_PAGES_BACKWARD_SHIFT_MAP;
@@ -100,6 +104,7 @@ import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWr
 import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_WAL_MMAP;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.filehandle.FileHandleManagerImpl.DFLT_WAL_SEGMENT_SYNC_TIMEOUT;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializerFactory.LATEST_SERIALIZER_VERSION;
+import static org.apache.ignite.internal.processors.cache.store.GridCacheWriteBehindStore.DFLT_WRITE_BEHIND_STORE_LATENCY_THRESHOLD;
 import static org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager.DFLT_DEFERRED_ONE_PHASE_COMMIT_ACK_REQUEST_BUFFER_SIZE;
 import static org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager.DFLT_DEFERRED_ONE_PHASE_COMMIT_ACK_REQUEST_TIMEOUT;
 import static org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager.DFLT_DUMP_TX_COLLISIONS_INTERVAL;
@@ -107,12 +112,14 @@ import static org.apache.ignite.internal.processors.cache.transactions.IgniteTxM
 import static org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager.DFLT_SLOW_TX_WARN_TIMEOUT;
 import static org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager.DFLT_TRANSACTION_TIME_DUMP_SAMPLES_PER_SECOND_LIMIT;
 import static org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager.DFLT_TX_DEADLOCK_DETECTION_MAX_ITERS;
+import static org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager.DFLT_TX_LOCK_PIPELINING;
 import static org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager.DFLT_TX_OWNER_DUMP_REQUESTS_ALLOWED;
 import static org.apache.ignite.internal.processors.cache.transactions.TxDeadlockDetection.DFLT_TX_DEADLOCK_DETECTION_TIMEOUT;
 import static org.apache.ignite.internal.processors.cluster.ClusterProcessor.DFLT_DIAGNOSTIC_ENABLED;
 import static org.apache.ignite.internal.processors.cluster.ClusterProcessor.DFLT_UPDATE_NOTIFIER;
 import static org.apache.ignite.internal.processors.cluster.baseline.autoadjust.BaselineTopologyUpdater.DFLT_BASELINE_AUTO_ADJUST_LOG_INTERVAL;
 import static org.apache.ignite.internal.processors.datastructures.GridAtomicCacheQueueImpl.DFLT_ATOMIC_CACHE_QUERY_RETRY_TIMEOUT;
+import static org.apache.ignite.internal.processors.datastructures.GridCacheLockImpl.DFLT_REENTRANT_LOCK_LEASE_TIMEOUT;
 import static org.apache.ignite.internal.processors.diagnostic.DiagnosticProcessor.DFLT_DUMP_PAGE_LOCK_ON_FAILURE;
 import static org.apache.ignite.internal.processors.failure.FailureProcessor.DFLT_FAILURE_HANDLER_RESERVE_BUFFER_SIZE;
 import static org.apache.ignite.internal.processors.job.GridJobProcessor.DFLT_JOBS_HISTORY_SIZE;
@@ -335,6 +342,15 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         type = Long.class, defaults = "" + DFLT_EXCHANGE_MERGE_DELAY)
     public static final String IGNITE_EXCHANGE_MERGE_DELAY = "IGNITE_EXCHANGE_MERGE_DELAY";
 
+    /**
+     * If {@code true} (default), the coordinator writes partition maps and update counters of the exchange full
+     * message as changes relative to the previous full message known to the receiver.
+     */
+    @SystemProperty(value = "If true (default), the coordinator writes partition maps and update counters of the " +
+        "exchange full message as changes relative to the previous full message known to the receiver",
+        defaults = "true")
+    public static final String IGNITE_EXCHANGE_DELTA_PARTITION_MAPS = "IGNITE_EXCHANGE_DELTA_PARTITION_MAPS";
+
     /**
      * Name of the system property defining name of command line program.
      */
@@ -413,6 +429,20 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         defaults = "" + DFLT_TX_DEADLOCK_DETECTION_TIMEOUT)
     public static final String IGNITE_TX_DEADLOCK_DETECTION_TIMEOUT = "IGNITE_TX_DEADLOCK_DETECTION_TIMEOUT";
 
+    /**
+     * Enables pipelined lock acquisition of pessimistic transactions. The keys locked by an operation are grouped
+     * into one lock request per primary node. If the transaction has a timeout, the requests are sent at once,
+     * otherwise they are sent one by one in the order of the nodes.
+     * <p>
+     * Transactions locking the same keys concurrently may deadlock when the requests are sent at once, such
+     * deadlocks are resolved by the transaction timeout and reported by deadlock detection.
+     */
+    @SystemProperty(value = "Enables pipelined lock acquisition of pessimistic transactions: the keys locked by " +
+        "an operation are grouped into one lock request per primary node, the requests are sent at once " +
+        "if the transaction has a timeout or one by one in the order of the nodes otherwise",
+        defaults = "" + DFLT_TX_LOCK_PIPELINING)
+    public static final String IGNITE_TX_LOCK_PIPELINING = "IGNITE_TX_LOCK_PIPELINING";
+
     /**
      * System property to enable pending transaction tracker.
      * Affects impact of {@link IgniteSystemProperties#IGNITE_DISABLE_WAL_DURING_REBALANCING} property:
@@ -551,6 +581,49 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         defaults = "" + DFLT_ATOMIC_DEFERRED_ACK_TIMEOUT)
     public static final String IGNITE_ATOMIC_DEFERRED_ACK_TIMEOUT = "IGNITE_ATOMIC_DEFERRED_ACK_TIMEOUT";
 
+    /**
+     * Coalescing window of single-key asynchronous puts of atomic caches in microseconds. Puts issued within
+     * the window are sent as a batch update. {@code 0} disables coalescing.
+     */
+    @SystemProperty(value = "Coalescing window of single-key asynchronous puts of atomic caches in microseconds, " +
+        "0 disables coalescing", type = Integer.class, defaults = "" + DFLT_ATOMIC_UPDATE_COALESCING_WINDOW)
+    public static final String IGNITE_ATOMIC_UPDATE_COALESCING_WINDOW = "IGNITE_ATOMIC_UPDATE_COALESCING_WINDOW";
+
+    /**
+     * Maximum number of coalesced single-key asynchronous puts of atomic caches sent as one batch update.
+     */
+    @SystemProperty(value = "Maximum number of coalesced single-key asynchronous puts of atomic caches sent as " +
+        "one batch update", type = Integer.class, defaults = "" + DFLT_ATOMIC_UPDATE_COALESCING_BATCH_SIZE)
+    public static final String IGNITE_ATOMIC_UPDATE_COALESCING_BATCH_SIZE =
+        "IGNITE_ATOMIC_UPDATE_COALESCING_BATCH_SIZE";
+
+    /**
+     * Enables compact entries for atomic caches without on-heap caching. Such entries use a striped lock table
+     * of the cache instead of the lock of their own.
+     */
+    @SystemProperty("Enables compact entries which use a striped lock table instead of per-entry locks for " +
+        "atomic caches without on-heap caching")
+    public static final String IGNITE_CACHE_COMPACT_ENTRIES = "IGNITE_CACHE_COMPACT_ENTRIES";
+
+    /**
+     * Latency of a write-behind batch update of the cache store in milliseconds above which the flusher threads
+     * halve their batch sizes. {@code 0} disables the adaptation of the batch sizes.
+     */
+    @SystemProperty(value = "Latency of a write-behind batch update of the cache store in milliseconds above which " +
+        "the batch size is halved. 0 disables the adaptation of the batch size", type = Long.class,
+        defaults = "" + DFLT_WRITE_BEHIND_STORE_LATENCY_THRESHOLD)
+    public static final String IGNITE_WRITE_BEHIND_STORE_LATENCY_THRESHOLD =
+        "IGNITE_WRITE_BEHIND_STORE_LATENCY_THRESHOLD";
+
+    /**
+     * Window in microseconds during which concurrent read-through loads of different keys outside of transactions
+     * are collected and loaded from the cache store with one {@code loadAll} call. {@code 0} disables the batching.
+     */
+    @SystemProperty(value = "Window in microseconds during which concurrent read-through loads of different keys " +
+        "are collected into one cache store loadAll call. 0 disables the batching", type = Long.class,
+        defaults = "" + DFLT_CACHE_STORE_LOAD_BATCH_WINDOW)
+    public static final String IGNITE_CACHE_STORE_LOAD_BATCH_WINDOW = "IGNITE_CACHE_STORE_LOAD_BATCH_WINDOW";
+
     /**
      * Atomic cache deferred update timeout.
      */
@@ -558,6 +631,17 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         defaults = "" + DFLT_ATOMIC_CACHE_QUERY_RETRY_TIMEOUT)
     public static final String IGNITE_ATOMIC_CACHE_QUEUE_RETRY_TIMEOUT = "IGNITE_ATOMIC_CACHE_QUEUE_RETRY_TIMEOUT";
 
+    /**
+     * Lease timeout in milliseconds of non-fair failover safe {@link IgniteLock} instances. The node that released
+     * such a lock keeps owning it for up to the timeout, so the lock is re-acquired on this node without updating the
+     * global state until another node requests it. While the lock is leased, it is reported as locked on the other
+     * nodes. {@code 0} disables the leases. The property should be the same on all nodes.
+     */
+    @SystemProperty(value = "Lease timeout in milliseconds of non-fair failover safe reentrant locks: the node that " +
+        "released the lock re-acquires it locally until another node requests it. 0 disables the leases",
+        type = Long.class, defaults = "" + DFLT_REENTRANT_LOCK_LEASE_TIMEOUT)
+    public static final String IGNITE_REENTRANT_LOCK_LEASE_TIMEOUT = "IGNITE_REENTRANT_LOCK_LEASE_TIMEOUT";
+
     /**
      * One phase commit deferred ack request timeout.
      */
@@ -1150,6 +1234,15 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         defaults = "" + DFLT_PDS_MAX_CHECKPOINT_MEMORY_HISTORY_SIZE)
     public static final String IGNITE_PDS_MAX_CHECKPOINT_MEMORY_HISTORY_SIZE = "IGNITE_PDS_MAX_CHECKPOINT_MEMORY_HISTORY_SIZE";
 
+    /**
+     * Maximum number of partition and index files kept open by the node. Least recently used files are closed when
+     * the limit is exceeded and reopened on the next access. Default is {@code 0} which means unlimited.
+     */
+    @SystemProperty(value = "Maximum number of partition and index files kept open by the node. Least recently " +
+        "used files are closed when the limit is exceeded and reopened on the next access. 0 means unlimited",
+        type = Integer.class, defaults = "" + DFLT_PDS_MAX_OPEN_PAGE_STORE_FILES)
+    public static final String IGNITE_PDS_MAX_OPEN_PAGE_STORE_FILES = "IGNITE_PDS_MAX_OPEN_PAGE_STORE_FILES";
+
     /**
      * When set to {@code true}, direct IO may be enabled. Direct IO enabled only if JAR file with corresponding
      * feature is available in classpath and OS and filesystem settings allows to enable this mode.
@@ -1769,6 +1862,38 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         "TCP communication SPI exeeds provided value. Default is 0 (do not print warning)", type = Integer.class)
     public static final String IGNITE_TCP_COMM_MSG_QUEUE_WARN_SIZE = "IGNITE_TCP_COMM_MSG_QUEUE_WARN_SIZE";
 
+    /**
+     * When set to positive number TCP communication SPI serializes the queued messages of a connection to up to the
+     * given number of pooled buffers and flushes them with a single gathering socket write.
+     * Default is {@code 0} (the messages are serialized to a single buffer of the connection).
+     */
+    @SystemProperty(value = "When set to positive number TCP communication SPI serializes the queued messages of a " +
+        "connection to up to the given number of pooled buffers and flushes them with a single gathering socket " +
+        "write. Default is 0 (the messages are serialized to a single buffer of the connection)", type = Integer.class)
+    public static final String IGNITE_TCP_COMM_GATHERING_WRITE_BUFFERS = "IGNITE_TCP_COMM_GATHERING_WRITE_BUFFERS";
+
+    /**
+     * Codecs of the message fields annotated with {@code @Compress}: comma separated list of the default codec and
+     * the codecs of the particular messages given by simple class names, e.g.
+     * {@code LZ4,GridDhtPartitionsFullMessage=ZSTD_DICT}. Supported codecs are {@code DEFLATE}, {@code LZ4},
+     * {@code ZSTD} and {@code ZSTD_DICT}, the last three require {@code ignite-compress} module. A codec is used only
+     * if all the nodes support it, otherwise {@code DEFLATE} is used. Default is {@code DEFLATE}.
+     */
+    @SystemProperty(value = "Codecs of the message fields annotated with @Compress: comma separated list of the " +
+        "default codec and the codecs of the particular messages given by simple class names, e.g. " +
+        "LZ4,GridDhtPartitionsFullMessage=ZSTD_DICT. Supported codecs are DEFLATE, LZ4, ZSTD and ZSTD_DICT, the last " +
+        "three require ignite-compress module. A codec is used only if all the nodes support it, otherwise DEFLATE " +
+        "is used", type = String.class, defaults = "DEFLATE")
+    public static final String IGNITE_COMPRESSED_MESSAGE_CODECS = "IGNITE_COMPRESSED_MESSAGE_CODECS";
+
+    /**
+     * Path to the zstd dictionary used by the {@code ZSTD_DICT} codec of the compressed message fields. Nodes use
+     * the codec with each other only if all of them have the same dictionary.
+     */
+    @SystemProperty(value = "Path to the zstd dictionary used by the ZSTD_DICT codec of the compressed message " +
+        "fields. Nodes use the codec with each other only if all of them have the same dictionary", type = String.class)
+    public static final String IGNITE_COMPRESSED_MESSAGE_ZSTD_DICTIONARY = "IGNITE_COMPRESSED_MESSAGE_ZSTD_DICTIONARY";
+
     /**
      * When above zero, prints tx key collisions once per interval.
      * Each transaction besides OPTIMISTIC SERIALIZABLE capture locks on all enlisted keys, for some reasons
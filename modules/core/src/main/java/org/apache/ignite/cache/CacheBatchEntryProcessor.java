@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.cache;
+
+import java.util.List;
+import java.util.Set;
+import javax.cache.processor.EntryProcessor;
+import javax.cache.processor.EntryProcessorException;
+import javax.cache.processor.MutableEntry;
+import org.apache.ignite.IgniteCache;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Entry processor which processes all the entries of a partition at once.
+ * <p>
+ * When the processor is passed to {@link IgniteCache#invokeAll(Set, EntryProcessor, Object...)} of an
+ * {@link CacheAtomicityMode#ATOMIC} cache, the primary node calls {@link #processAll(List, Object...)} once for
+ * the entries of every partition of the request instead of calling {@link #process(MutableEntry, Object...)} for
+ * every entry. The entries are sorted by key if the keys are {@link Comparable}, the values are deserialized on
+ * the first access. The modifications made by the processor are applied as one batch update, the same way as
+ * the modifications of {@link IgniteCache#putAll(java.util.Map)}.
+ * <p>
+ * In other cases, for example for a single key or for a transactional cache, the entries are processed one by
+ * one with {@link #process(MutableEntry, Object...)}, so both methods must be consistent. The processors of all
+ * the entries of a request must be interchangeable as {@link #processAll(List, Object...)} is called on one of them.
+ */
+public interface CacheBatchEntryProcessor<K, V, T> extends CacheEntryProcessor<K, V, T> {
+    /**
+     * Processes the entries of a partition.
+     *
+     * @param entries Entries of a partition.
+     * @param args Arguments passed to the invoke method.
+     * @return Results of the processing in the order of the entries or {@code null} if there are no results.
+     * @throws EntryProcessorException If failed. None of the entries is updated then and the error is reported
+     *      for every entry.
+     */
+    @Nullable public List<T> processAll(List<MutableEntry<K, V>> entries, Object... args)
+        throws EntryProcessorException;
+}
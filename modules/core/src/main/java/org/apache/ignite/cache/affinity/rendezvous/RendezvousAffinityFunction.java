@@ -43,6 +43,7 @@ import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.A;
 import org.apache.ignite.internal.util.typedef.internal.LT;
 import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgniteBiPredicate;
 import org.apache.ignite.lang.IgniteBiTuple;
 import org.apache.ignite.resources.IgniteInstanceResource;
@@ -67,6 +68,11 @@ import org.jetbrains.annotations.Nullable;
  *      nodes that pass this filter will be selected as backup nodes. If not provided, then
  *      primary and backup nodes will be selected out of all nodes available for this cache.
  * </li>
+ * <li>
+ *      {@code incrementalAssignment} - If set to {@code true}, the assignment is calculated relative to the
+ *      previous one: only partitions that lost an owner are recalculated, and the joined nodes are placed
+ *      into the partitions where they rank high enough. The result is the same as the full calculation.
+ * </li>
  * </ul>
  * <p>
  * Cache affinity can be configured for individual caches via {@link CacheConfiguration#getAffinity()} method.
@@ -101,6 +107,13 @@ public class RendezvousAffinityFunction implements AffinityFunction, Serializabl
      *  is primary). */
     private IgniteBiPredicate<ClusterNode, List<ClusterNode>> affinityBackupFilter;
 
+    /** Incremental assignment flag. */
+    private boolean incrementalAssignment;
+
+    /** Last calculated assignment, the base of the incremental assignment. */
+    @GridToStringExclude
+    private transient volatile AssignmentState lastAssignment;
+
     /** Logger instance. */
     @LoggerResource
     private transient IgniteLogger log;
@@ -325,6 +338,37 @@ public class RendezvousAffinityFunction implements AffinityFunction, Serializabl
         return this;
     }
 
+    /**
+     * Checks flag to calculate the assignment incrementally (default is {@code false}).
+     *
+     * @return {@code True} if the assignment is calculated relative to the previous one.
+     * @see #setIncrementalAssignment(boolean)
+     */
+    public boolean isIncrementalAssignment() {
+        return incrementalAssignment;
+    }
+
+    /**
+     * Sets flag to calculate the assignment incrementally (default is {@code false}).
+     * <p>
+     * If set, the function keeps the last calculated assignment and the node hashes. On the topology change only the
+     * partitions that lost an owner are recalculated, the joined nodes are placed into the partitions where they
+     * rank among the owners, and the rest of the partitions keep their owners. This reduces the calculation from all
+     * nodes per partition to the changed nodes per partition and gives the same result as the full calculation.
+     * <p>
+     * Note that the flag is ignored and the full calculation is used for REPLICATED caches, and if
+     * {@code excludeNeighbors}, {@code backupFilter} or {@code affinityBackupFilter} is set.
+     * Hash of a node resolved by {@link #resolveNodeHash(ClusterNode)} is kept for the node ID.
+     *
+     * @param incrementalAssignment {@code True} to calculate the assignment relative to the previous one.
+     * @return {@code this} for chaining.
+     */
+    public RendezvousAffinityFunction setIncrementalAssignment(boolean incrementalAssignment) {
+        this.incrementalAssignment = incrementalAssignment;
+
+        return this;
+    }
+
     /**
      * Resolves node hash.
      *
@@ -486,7 +530,7 @@ public class RendezvousAffinityFunction implements AffinityFunction, Serializabl
 
     /** {@inheritDoc} */
     @Override public void reset() {
-        // No-op.
+        lastAssignment = null;
     }
 
     /** {@inheritDoc} */
@@ -505,22 +549,192 @@ public class RendezvousAffinityFunction implements AffinityFunction, Serializabl
 
     /** {@inheritDoc} */
     @Override public List<List<ClusterNode>> assignPartitions(AffinityFunctionContext affCtx) {
+        List<ClusterNode> nodes = affCtx.currentTopologySnapshot();
+
+        boolean incremental = incrementalAssignment && affCtx.backups() != Integer.MAX_VALUE && !exclNeighbors &&
+            backupFilter == null && affinityBackupFilter == null;
+
+        if (incremental) {
+            AssignmentState state = lastAssignment;
+
+            if (state != null && state.backups == affCtx.backups() && state.assignment.size() == parts) {
+                List<List<ClusterNode>> assignments = assignPartitionsIncrementally(state, nodes, affCtx.backups());
+
+                if (assignments != null)
+                    return assignments;
+            }
+        }
+
         List<List<ClusterNode>> assignments = new ArrayList<>(parts);
 
         Map<UUID, Collection<ClusterNode>> neighborhoodCache = exclNeighbors ?
             GridCacheUtils.neighbors(affCtx.currentTopologySnapshot()) : null;
 
-        List<ClusterNode> nodes = affCtx.currentTopologySnapshot();
-
         for (int i = 0; i < parts; i++) {
             List<ClusterNode> partAssignment = assignPartition(i, nodes, affCtx.backups(), neighborhoodCache);
 
             assignments.add(partAssignment);
         }
 
+        if (incremental) {
+            Map<UUID, Integer> nodeHashes = U.newHashMap(nodes.size());
+
+            for (ClusterNode node : nodes)
+                nodeHashes.put(node.id(), resolveNodeHash(node).hashCode());
+
+            lastAssignment = new AssignmentState(affCtx.backups(), assignments, nodeHashes);
+        }
+
+        return assignments;
+    }
+
+    /**
+     * Calculates the assignment relative to the last calculated one.
+     *
+     * @param state Last calculated assignment.
+     * @param nodes Topology.
+     * @param backups Number of backups.
+     * @return Assignment or {@code null} if the full calculation is cheaper.
+     */
+    @Nullable private List<List<ClusterNode>> assignPartitionsIncrementally(
+        AssignmentState state,
+        List<ClusterNode> nodes,
+        int backups
+    ) {
+        Map<UUID, ClusterNode> curNodes = U.newHashMap(nodes.size());
+        Map<UUID, Integer> nodeHashes = U.newHashMap(nodes.size());
+
+        List<ClusterNode> joined = new ArrayList<>();
+
+        for (ClusterNode node : nodes) {
+            Integer nodeHash = state.nodeHashes.get(node.id());
+
+            if (nodeHash == null) {
+                nodeHash = resolveNodeHash(node).hashCode();
+
+                joined.add(node);
+            }
+
+            curNodes.put(node.id(), node);
+            nodeHashes.put(node.id(), nodeHash);
+        }
+
+        // Most of the nodes are new, each partition has to be calculated over the whole topology anyway.
+        if (joined.size() * 2 > nodes.size())
+            return null;
+
+        int primaryAndBackups = Math.min(backups + 1, nodes.size());
+
+        List<List<ClusterNode>> assignments = new ArrayList<>(parts);
+
+        for (int part = 0; part < parts; part++) {
+            List<ClusterNode> prev = state.assignment.get(part);
+
+            List<ClusterNode> res = new ArrayList<>(primaryAndBackups);
+
+            for (ClusterNode node : prev) {
+                ClusterNode cur = curNodes.get(node.id());
+
+                // Owner left, the next nodes by hash are unknown.
+                if (cur == null) {
+                    res = null;
+
+                    break;
+                }
+
+                res.add(cur);
+            }
+
+            if (res == null)
+                res = firstNodesByHash(part, nodes, primaryAndBackups, nodeHashes);
+            else {
+                // The previous owners are the first nodes by hash among the previous nodes,
+                // a joined node is an owner if it is ahead of the last one.
+                for (ClusterNode node : joined)
+                    insertOwner(res, node, part, primaryAndBackups, nodeHashes);
+            }
+
+            assignments.add(res);
+        }
+
+        lastAssignment = new AssignmentState(backups, assignments, nodeHashes);
+
         return assignments;
     }
 
+    /**
+     * Returns the first nodes by hash for specified partition.
+     *
+     * @param part Partition.
+     * @param nodes Nodes.
+     * @param primaryAndBackups Number of the owners.
+     * @param nodeHashes Node hashes by node IDs.
+     * @return Assignment.
+     */
+    private static List<ClusterNode> firstNodesByHash(
+        int part,
+        List<ClusterNode> nodes,
+        int primaryAndBackups,
+        Map<UUID, Integer> nodeHashes
+    ) {
+        IgniteBiTuple<Long, ClusterNode>[] hashArr =
+            (IgniteBiTuple<Long, ClusterNode>[])new IgniteBiTuple[nodes.size()];
+
+        for (int i = 0; i < nodes.size(); i++) {
+            ClusterNode node = nodes.get(i);
+
+            hashArr[i] = F.t(hash(nodeHashes.get(node.id()), part), node);
+        }
+
+        Iterator<ClusterNode> it = new LazyLinearSortedContainer(hashArr, primaryAndBackups).iterator();
+
+        List<ClusterNode> res = new ArrayList<>(primaryAndBackups);
+
+        while (res.size() < primaryAndBackups)
+            res.add(it.next());
+
+        return res;
+    }
+
+    /**
+     * Inserts the node into the owners sorted by hash if the node is ahead of the last owner.
+     *
+     * @param owners Owners of the partition sorted by hash.
+     * @param node Node.
+     * @param part Partition.
+     * @param primaryAndBackups Number of the owners.
+     * @param nodeHashes Node hashes by node IDs.
+     */
+    private static void insertOwner(
+        List<ClusterNode> owners,
+        ClusterNode node,
+        int part,
+        int primaryAndBackups,
+        Map<UUID, Integer> nodeHashes
+    ) {
+        long hash = hash(nodeHashes.get(node.id()), part);
+
+        int idx = owners.size();
+
+        while (idx > 0) {
+            ClusterNode owner = owners.get(idx - 1);
+
+            long ownerHash = hash(nodeHashes.get(owner.id()), part);
+
+            if (ownerHash < hash || (ownerHash == hash && owner.id().compareTo(node.id()) < 0))
+                break;
+
+            idx--;
+        }
+
+        if (idx < primaryAndBackups) {
+            owners.add(idx, node);
+
+            if (owners.size() > primaryAndBackups)
+                owners.remove(owners.size() - 1);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override public void removeNode(UUID nodeId) {
         // No-op.
@@ -619,6 +833,31 @@ public class RendezvousAffinityFunction implements AffinityFunction, Serializabl
         }
     }
 
+    /**
+     * Calculated assignment with the node hashes of its topology.
+     */
+    private static class AssignmentState {
+        /** Number of backups. */
+        private final int backups;
+
+        /** Assignment. */
+        private final List<List<ClusterNode>> assignment;
+
+        /** Node hashes by node IDs. */
+        private final Map<UUID, Integer> nodeHashes;
+
+        /**
+         * @param backups Number of backups.
+         * @param assignment Assignment.
+         * @param nodeHashes Node hashes by node IDs.
+         */
+        private AssignmentState(int backups, List<List<ClusterNode>> assignment, Map<UUID, Integer> nodeHashes) {
+            this.backups = backups;
+            this.assignment = assignment;
+            this.nodeHashes = nodeHashes;
+        }
+    }
+
     /** {@inheritDoc} */
     @Override public String toString() {
         return S.toString(RendezvousAffinityFunction.class, this);
@@ -34,6 +34,9 @@ public class CollectionConfiguration implements Serializable {
     /** */
     private static final long serialVersionUID = 0L;
 
+    /** Default number of queue shards. */
+    public static final int DFLT_SHARDS = 1;
+
     /** Cache atomicity mode. */
     private CacheAtomicityMode atomicityMode = ATOMIC;
 
@@ -56,6 +59,9 @@ public class CollectionConfiguration implements Serializable {
     /** Group name. */
     private String grpName;
 
+    /** Number of queue shards. */
+    private int shards = DFLT_SHARDS;
+
     /**
      * @return {@code True} if all items within the same collection will be collocated on the same node.
      */
@@ -182,6 +188,30 @@ public class CollectionConfiguration implements Serializable {
         return this;
     }
 
+    /**
+     * @return Number of queue shards.
+     */
+    public int getShards() {
+        return shards;
+    }
+
+    /**
+     * Sets the number of shards of a queue. Each shard has a header of its own, so the shards of a queue are
+     * updated independently and spread across the partitions of the cache. Items offered by the same thread
+     * are polled in the order they were offered, otherwise the order of items is not guaranteed. Sharded
+     * queues must be unbounded. This parameter is ignored for sets.
+     * <p>
+     * Default value is {@link #DFLT_SHARDS}.
+     *
+     * @param shards Number of queue shards.
+     * @return {@code this} for chaining.
+     */
+    public CollectionConfiguration setShards(int shards) {
+        this.shards = shards;
+
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override public String toString() {
         return S.toString(CollectionConfiguration.class, this);
@@ -83,6 +83,9 @@ public final class DataRegionConfiguration implements Serializable {
     /** Default page replacement mode. */
     public static final PageReplacementMode DFLT_PAGE_REPLACEMENT_MODE = PageReplacementMode.CLOCK;
 
+    /** Default compression algorithm of the compressed page tier. */
+    public static final DiskPageCompression DFLT_COMPRESSED_PAGE_TIER_COMPRESSION = DiskPageCompression.LZ4;
+
     /** Data region name. */
     private String name = DFLT_DATA_REG_DEFAULT_NAME;
 
@@ -158,6 +161,15 @@ public final class DataRegionConfiguration implements Serializable {
     /** Change Data Capture enabled flag. */
     private boolean cdcEnabled;
 
+    /** Size of the compressed page tier in bytes, {@code 0} disables the tier. */
+    private long compressedPageTierSize;
+
+    /** Compression algorithm of the compressed page tier. */
+    private DiskPageCompression compressedPageTierCompression = DFLT_COMPRESSED_PAGE_TIER_COMPRESSION;
+
+    /** Compression level of the compressed page tier. */
+    private Integer compressedPageTierCompressionLevel;
+
     /**
      * Gets data region name.
      *
@@ -580,6 +592,80 @@ public final class DataRegionConfiguration implements Serializable {
         return cdcEnabled;
     }
 
+    /**
+     * Gets size of the compressed page tier.
+     *
+     * @return Compressed page tier size in bytes or {@code 0} if the tier is disabled.
+     * @see #setCompressedPageTierSize(long)
+     */
+    public long getCompressedPageTierSize() {
+        return compressedPageTierSize;
+    }
+
+    /**
+     * Sets size of the compressed page tier. When persistence is enabled and the data region is full, pages are
+     * replaced with pages read from disk. The compressed page tier keeps compressed copies of replaced pages in
+     * a separate off-heap area, so the next access to such a page restores it from memory instead of disk.
+     * The tier memory is allocated in addition to the {@link #setMaxSize(long) max size} of the data region.
+     * <p>
+     * Default is {@code 0}, the tier is disabled.
+     *
+     * @param compressedPageTierSize Compressed page tier size in bytes or {@code 0} to disable the tier.
+     * @return {@code this} for chaining.
+     */
+    public DataRegionConfiguration setCompressedPageTierSize(long compressedPageTierSize) {
+        this.compressedPageTierSize = compressedPageTierSize;
+
+        return this;
+    }
+
+    /**
+     * Gets compression algorithm of the compressed page tier.
+     *
+     * @return Page compression algorithm.
+     */
+    public DiskPageCompression getCompressedPageTierCompression() {
+        return compressedPageTierCompression == null ? DFLT_COMPRESSED_PAGE_TIER_COMPRESSION :
+            compressedPageTierCompression;
+    }
+
+    /**
+     * Sets compression algorithm of the compressed page tier. Algorithms other than
+     * {@link DiskPageCompression#SKIP_GARBAGE} require {@code ignite-compress} module in the classpath.
+     *
+     * @param compressedPageTierCompression Page compression algorithm.
+     * @return {@code this} for chaining.
+     */
+    public DataRegionConfiguration setCompressedPageTierCompression(DiskPageCompression compressedPageTierCompression) {
+        this.compressedPageTierCompression = compressedPageTierCompression;
+
+        return this;
+    }
+
+    /**
+     * Gets {@link #getCompressedPageTierCompression algorithm} specific compression level of the compressed page tier.
+     *
+     * @return Page compression level or {@code null} for default.
+     */
+    public Integer getCompressedPageTierCompressionLevel() {
+        return compressedPageTierCompressionLevel;
+    }
+
+    /**
+     * Sets {@link #setCompressedPageTierCompression algorithm} specific compression level of the compressed page
+     * tier.
+     *
+     * @param compressedPageTierCompressionLevel Page compression level or {@code null} to use default.
+     *      {@link DiskPageCompression#ZSTD Zstd}: from {@code -131072} to {@code 22} (default {@code 3}).
+     *      {@link DiskPageCompression#LZ4 LZ4}: from {@code 0} to {@code 17} (default {@code 0}).
+     * @return {@code this} for chaining.
+     */
+    public DataRegionConfiguration setCompressedPageTierCompressionLevel(Integer compressedPageTierCompressionLevel) {
+        this.compressedPageTierCompressionLevel = compressedPageTierCompressionLevel;
+
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override public String toString() {
         return S.toString(DataRegionConfiguration.class, this);
@@ -0,0 +1,646 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.dump;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.binary.BinaryType;
+import org.apache.ignite.cdc.TypeMapping;
+import org.apache.ignite.internal.processors.cache.StoredCacheData;
+import org.apache.ignite.internal.util.typedef.internal.A;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+import static org.apache.ignite.dump.ColumnarDumpFile.ENC_DELTA;
+import static org.apache.ignite.dump.ColumnarDumpFile.ENC_DICT;
+import static org.apache.ignite.dump.ColumnarDumpFile.ENC_PLAIN;
+import static org.apache.ignite.dump.ColumnarDumpFile.ENC_PLAIN_TAGGED;
+import static org.apache.ignite.dump.ColumnarDumpFile.ENC_RLE;
+import static org.apache.ignite.dump.ColumnarDumpFile.EOF_MARK;
+import static org.apache.ignite.dump.ColumnarDumpFile.EXT;
+import static org.apache.ignite.dump.ColumnarDumpFile.MAGIC;
+import static org.apache.ignite.dump.ColumnarDumpFile.TYPE_ANY;
+import static org.apache.ignite.dump.ColumnarDumpFile.TYPE_BOOLEAN;
+import static org.apache.ignite.dump.ColumnarDumpFile.TYPE_BYTE;
+import static org.apache.ignite.dump.ColumnarDumpFile.TYPE_BYTES;
+import static org.apache.ignite.dump.ColumnarDumpFile.TYPE_CHAR;
+import static org.apache.ignite.dump.ColumnarDumpFile.TYPE_DATE;
+import static org.apache.ignite.dump.ColumnarDumpFile.TYPE_DOUBLE;
+import static org.apache.ignite.dump.ColumnarDumpFile.TYPE_FLOAT;
+import static org.apache.ignite.dump.ColumnarDumpFile.TYPE_INT;
+import static org.apache.ignite.dump.ColumnarDumpFile.TYPE_LONG;
+import static org.apache.ignite.dump.ColumnarDumpFile.TYPE_SHORT;
+import static org.apache.ignite.dump.ColumnarDumpFile.TYPE_STRING;
+import static org.apache.ignite.dump.ColumnarDumpFile.TYPE_UUID;
+import static org.apache.ignite.dump.ColumnarDumpFile.VERSION;
+import static org.apache.ignite.dump.ColumnarDumpFile.integral;
+import static org.apache.ignite.dump.ColumnarDumpFile.matches;
+import static org.apache.ignite.dump.ColumnarDumpFile.toLong;
+import static org.apache.ignite.dump.ColumnarDumpFile.writeTagged;
+import static org.apache.ignite.dump.ColumnarDumpFile.writeTyped;
+import static org.apache.ignite.dump.ColumnarDumpFile.writeVarInt;
+import static org.apache.ignite.dump.ColumnarDumpFile.writeVarLong;
+import static org.apache.ignite.dump.ColumnarDumpFile.zigZagEncode;
+
+/**
+ * Dump consumer that exports entries into self-contained columnar files.
+ * <p>
+ * Entries are written to {@code <root>/<cache name>/<value type name>/part-<partition>[-<copy>].icol}. Values of
+ * binary types are split into columns according to {@link BinaryType} metadata received in {@link #onTypes(Iterator)},
+ * other values are stored in a single {@link #VAL_COL} column. Key, expire time and version order are stored in the
+ * {@link #KEY_COL}, {@link #EXPIRE_TIME_COL} and {@link #VER_COL} columns respectively.
+ * <p>
+ * Rows are buffered into row groups of {@link #rowGroupSize()} rows. Every column chunk of the row group is encoded with
+ * the most compact of the encodings applicable to the column type: plain, dictionary, run-length or delta.
+ * Partitions are processed independently, so export is parallelized with {@link DumpReaderConfiguration#threadCount()}.
+ *
+ * @see ColumnarDumpFile
+ */
+public class ColumnarDumpConsumer implements DumpConsumer {
+    /** Default count of rows in a row group. */
+    public static final int DFLT_ROW_GROUP_SIZE = 8192;
+
+    /** Maximum dictionary size. */
+    public static final int MAX_DICT_SIZE = 1 << 16;
+
+    /** Key column name. */
+    public static final String KEY_COL = "_key";
+
+    /** Value column name for values of non-binary types. */
+    public static final String VAL_COL = "_val";
+
+    /** Expire time column name. */
+    public static final String EXPIRE_TIME_COL = "_expireTime";
+
+    /** Version order column name. */
+    public static final String VER_COL = "_version";
+
+    /** Root directory. */
+    private final File root;
+
+    /** Count of rows in a row group. */
+    private final int rowGrpSize;
+
+    /** Binary types. */
+    private final Map<Integer, BinaryType> types = new ConcurrentHashMap<>();
+
+    /** Cache names. */
+    private final Map<Integer, String> cacheNames = new ConcurrentHashMap<>();
+
+    /**
+     * @param root Root directory to export files to.
+     */
+    public ColumnarDumpConsumer(File root) {
+        this(root, DFLT_ROW_GROUP_SIZE);
+    }
+
+    /**
+     * @param root Root directory to export files to.
+     * @param rowGrpSize Count of rows in a row group.
+     */
+    public ColumnarDumpConsumer(File root, int rowGrpSize) {
+        A.notNull(root, "root");
+        A.ensure(rowGrpSize > 0, "rowGrpSize > 0");
+
+        this.root = root;
+        this.rowGrpSize = rowGrpSize;
+    }
+
+    /** @return Count of rows in a row group. */
+    public int rowGroupSize() {
+        return rowGrpSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void start() {
+        if (!U.mkdirs(root))
+            throw new IgniteException("Failed to create export directory: " + root);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onMappings(Iterator<TypeMapping> mappings) {
+        // No-op.
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onTypes(Iterator<BinaryType> types) {
+        types.forEachRemaining(t -> this.types.put(t.typeId(), t));
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onCacheConfigs(Iterator<StoredCacheData> caches) {
+        caches.forEachRemaining(c -> cacheNames.put(c.cacheId(), c.configuration().getName()));
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onPartition(int grp, int part, Iterator<DumpEntry> data) {
+        Map<Long, TableWriter> writers = new HashMap<>();
+
+        try {
+            while (data.hasNext()) {
+                DumpEntry e = data.next();
+
+                Object val = normalize(e.value());
+
+                BinaryType type = val instanceof BinaryObject ? binaryType((BinaryObject)val) : null;
+
+                int typeId = type != null ? type.typeId() : val == null ? 0 : val.getClass().getName().hashCode();
+
+                long tblKey = ((long)e.cacheId() << 32) | (typeId & 0xFFFFFFFFL);
+
+                TableWriter w = writers.get(tblKey);
+
+                if (w == null) {
+                    w = type != null ? new TableWriter(e.cacheId(), part, type) : new TableWriter(e.cacheId(), part, val);
+
+                    writers.put(tblKey, w);
+                }
+
+                w.write(e, val);
+            }
+
+            for (TableWriter w : writers.values())
+                w.finish();
+        }
+        catch (IOException ex) {
+            throw new IgniteException("Failed to export partition [grp=" + grp + ", part=" + part + ']', ex);
+        }
+        finally {
+            for (TableWriter w : writers.values())
+                U.closeQuiet(w.out);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public void stop() {
+        // No-op.
+    }
+
+    /**
+     * @param obj Binary object.
+     * @return Binary type known from the dump metadata or from the object itself.
+     */
+    private BinaryType binaryType(BinaryObject obj) {
+        BinaryType type = obj.type();
+
+        BinaryType meta = types.get(type.typeId());
+
+        return meta != null ? meta : type;
+    }
+
+    /**
+     * @param val Value.
+     * @return Value suitable for the column.
+     */
+    private static Object normalize(Object val) {
+        if (val instanceof BinaryObject && ((BinaryObject)val).type().isEnum())
+            return ((BinaryObject)val).enumName();
+
+        if (val instanceof Enum)
+            return ((Enum<?>)val).name();
+
+        return val;
+    }
+
+    /**
+     * @param typeName Binary field type name.
+     * @return Column type.
+     */
+    private static byte columnType(String typeName) {
+        if (typeName == null)
+            return TYPE_ANY;
+
+        switch (typeName) {
+            case "boolean":
+                return TYPE_BOOLEAN;
+            case "byte":
+                return TYPE_BYTE;
+            case "short":
+                return TYPE_SHORT;
+            case "int":
+                return TYPE_INT;
+            case "long":
+                return TYPE_LONG;
+            case "char":
+                return TYPE_CHAR;
+            case "float":
+                return TYPE_FLOAT;
+            case "double":
+                return TYPE_DOUBLE;
+            case "String":
+            case "Enum":
+                return TYPE_STRING;
+            case "UUID":
+                return TYPE_UUID;
+            case "Date":
+                return TYPE_DATE;
+            case "byte[]":
+                return TYPE_BYTES;
+            default:
+                return TYPE_ANY;
+        }
+    }
+
+    /**
+     * @param name Name.
+     * @return Name that is safe to use as a file name.
+     */
+    private static String fileName(String name) {
+        return name.replaceAll("[^A-Za-z0-9._\\-]", "_");
+    }
+
+    /** Writer of a single columnar file. */
+    private class TableWriter {
+        /** Binary fields, {@code null} if values are not binary objects. */
+        private final String[] fields;
+
+        /** Column types. */
+        private final byte[] colTypes;
+
+        /** Row group buffer. */
+        private final Object[][] buf;
+
+        /** Count of buffered rows. */
+        private int rows;
+
+        /** Output. */
+        private final DataOutputStream out;
+
+        /**
+         * @param cacheId Cache id.
+         * @param part Partition.
+         * @param type Binary type of values.
+         */
+        TableWriter(int cacheId, int part, BinaryType type) throws IOException {
+            Collection<String> fieldNames = type.fieldNames();
+
+            fields = fieldNames.toArray(new String[0]);
+
+            List<String> names = new ArrayList<>(fields.length + 3);
+            colTypes = new byte[fields.length + 3];
+
+            addSystemColumns(names);
+
+            for (String f : fields) {
+                colTypes[names.size()] = columnType(type.fieldTypeName(f));
+
+                names.add(f);
+            }
+
+            buf = new Object[colTypes.length][rowGrpSize];
+            out = open(cacheId, part, type.typeName(), names);
+        }
+
+        /**
+         * @param cacheId Cache id.
+         * @param part Partition.
+         * @param val Sample value.
+         */
+        TableWriter(int cacheId, int part, Object val) throws IOException {
+            fields = null;
+
+            List<String> names = new ArrayList<>(4);
+            colTypes = new byte[4];
+
+            addSystemColumns(names);
+
+            colTypes[names.size()] = ColumnarDumpFile.typeOf(val);
+
+            names.add(VAL_COL);
+
+            buf = new Object[colTypes.length][rowGrpSize];
+            out = open(cacheId, part, val == null ? "null" : val.getClass().getName(), names);
+        }
+
+        /** @param names Column names. */
+        private void addSystemColumns(List<String> names) {
+            colTypes[names.size()] = TYPE_ANY;
+            names.add(KEY_COL);
+
+            colTypes[names.size()] = TYPE_LONG;
+            names.add(EXPIRE_TIME_COL);
+
+            colTypes[names.size()] = TYPE_LONG;
+            names.add(VER_COL);
+        }
+
+        /**
+         * Creates file and writes schema.
+         *
+         * @param cacheId Cache id.
+         * @param part Partition.
+         * @param typeName Value type name.
+         * @param names Column names.
+         * @return Output.
+         */
+        private DataOutputStream open(int cacheId, int part, String typeName, List<String> names) throws IOException {
+            String cacheName = cacheNames.get(cacheId);
+
+            File dir = new File(new File(root, fileName(cacheName == null ? String.valueOf(cacheId) : cacheName)),
+                fileName(typeName));
+
+            if (!U.mkdirs(dir))
+                throw new IOException("Failed to create directory: " + dir);
+
+            File file = null;
+
+            // Dump may contain several copies of the same partition.
+            for (int copy = 0; file == null; copy++) {
+                File f = new File(dir, "part-" + part + (copy == 0 ? "" : "-" + copy) + EXT);
+
+                try {
+                    Files.createFile(f.toPath());
+
+                    file = f;
+                }
+                catch (FileAlreadyExistsException ignored) {
+                    // Try next copy number.
+                }
+            }
+
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file.toPath())));
+
+            out.write(MAGIC);
+            out.writeByte(VERSION);
+
+            writeVarInt(out, names.size());
+
+            for (int i = 0; i < names.size(); i++) {
+                out.writeUTF(names.get(i));
+                out.writeByte(colTypes[i]);
+            }
+
+            return out;
+        }
+
+        /**
+         * @param e Dump entry.
+         * @param val Normalized value.
+         */
+        void write(DumpEntry e, Object val) throws IOException {
+            buf[0][rows] = normalize(e.key());
+            buf[1][rows] = e.expireTime();
+            buf[2][rows] = e.version() == null ? null : e.version().order();
+
+            if (fields == null)
+                buf[3][rows] = val;
+            else {
+                BinaryObject obj = (BinaryObject)val;
+
+                for (int i = 0; i < fields.length; i++)
+                    buf[3 + i][rows] = obj.hasField(fields[i]) ? normalize(obj.field(fields[i])) : null;
+            }
+
+            if (++rows == rowGrpSize)
+                flushRowGroup();
+        }
+
+        /** Flushes buffered rows and closes the file. */
+        void finish() throws IOException {
+            if (rows > 0)
+                flushRowGroup();
+
+            writeVarInt(out, EOF_MARK);
+
+            out.close();
+        }
+
+        /** */
+        private void flushRowGroup() throws IOException {
+            writeVarInt(out, rows);
+
+            for (int c = 0; c < colTypes.length; c++) {
+                writeChunk(out, colTypes[c], buf[c], rows);
+
+                Arrays.fill(buf[c], 0, rows, null);
+            }
+
+            rows = 0;
+        }
+    }
+
+    /**
+     * Writes column chunk with the most compact encoding.
+     *
+     * @param out Output.
+     * @param type Column type.
+     * @param vals Values.
+     * @param cnt Count of values.
+     */
+    static void writeChunk(DataOutputStream out, byte type, Object[] vals, int cnt) throws IOException {
+        byte[] nulls = new byte[(cnt + 7) >>> 3];
+
+        boolean typed = type != TYPE_ANY;
+
+        for (int i = 0; i < cnt; i++) {
+            if (vals[i] == null)
+                nulls[i >>> 3] |= 1 << (i & 7);
+            else if (typed && !matches(type, vals[i]))
+                typed = false;
+        }
+
+        ByteArrayOutputStream best = typed ? plain(type, vals, cnt) : plainTagged(vals, cnt);
+        byte bestEnc = typed ? ENC_PLAIN : ENC_PLAIN_TAGGED;
+
+        if (typed && integral(type)) {
+            ByteArrayOutputStream rle = rle(vals, cnt);
+
+            if (rle.size() < best.size()) {
+                best = rle;
+                bestEnc = ENC_RLE;
+            }
+
+            ByteArrayOutputStream delta = delta(vals, cnt);
+
+            if (delta.size() < best.size()) {
+                best = delta;
+                bestEnc = ENC_DELTA;
+            }
+        }
+
+        if (type != TYPE_BYTES) {
+            ByteArrayOutputStream dict = dictionary(vals, cnt, best.size());
+
+            if (dict != null && dict.size() < best.size() + nulls.length) {
+                out.writeByte(ENC_DICT);
+                writeVarInt(out, dict.size());
+                dict.writeTo(out);
+
+                return;
+            }
+        }
+
+        out.writeByte(bestEnc);
+        writeVarInt(out, nulls.length + best.size());
+        out.write(nulls);
+        best.writeTo(out);
+    }
+
+    /** */
+    private static ByteArrayOutputStream plain(byte type, Object[] vals, int cnt) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bos);
+
+        for (int i = 0; i < cnt; i++) {
+            if (vals[i] != null)
+                writeTyped(out, type, vals[i]);
+        }
+
+        return bos;
+    }
+
+    /** */
+    private static ByteArrayOutputStream plainTagged(Object[] vals, int cnt) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bos);
+
+        for (int i = 0; i < cnt; i++) {
+            if (vals[i] != null)
+                writeTagged(out, vals[i]);
+        }
+
+        return bos;
+    }
+
+    /** */
+    private static ByteArrayOutputStream rle(Object[] vals, int cnt) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bos);
+
+        long cur = 0;
+        int run = 0;
+
+        for (int i = 0; i < cnt; i++) {
+            if (vals[i] == null)
+                continue;
+
+            long v = toLong(vals[i]);
+
+            if (run > 0 && v == cur)
+                run++;
+            else {
+                if (run > 0) {
+                    writeVarLong(out, zigZagEncode(cur));
+                    writeVarInt(out, run);
+                }
+
+                cur = v;
+                run = 1;
+            }
+        }
+
+        if (run > 0) {
+            writeVarLong(out, zigZagEncode(cur));
+            writeVarInt(out, run);
+        }
+
+        return bos;
+    }
+
+    /** */
+    private static ByteArrayOutputStream delta(Object[] vals, int cnt) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bos);
+
+        long prev = 0;
+
+        for (int i = 0; i < cnt; i++) {
+            if (vals[i] == null)
+                continue;
+
+            long v = toLong(vals[i]);
+
+            writeVarLong(out, zigZagEncode(v - prev));
+
+            prev = v;
+        }
+
+        return bos;
+    }
+
+    /**
+     * @param vals Values.
+     * @param cnt Count of values.
+     * @param limit Size of the best encoding found so far.
+     * @return Dictionary encoded chunk or {@code null} if values have too many distinct values.
+     */
+    private static ByteArrayOutputStream dictionary(Object[] vals, int cnt, int limit) throws IOException {
+        Map<Object, Integer> dict = new HashMap<>();
+        int[] idxs = new int[cnt];
+
+        for (int i = 0; i < cnt; i++) {
+            Integer idx = dict.get(vals[i]);
+
+            if (idx == null) {
+                // Dictionary can't be smaller than plain encoding if most of values are distinct.
+                if (dict.size() >= MAX_DICT_SIZE || dict.size() > cnt / 2)
+                    return null;
+
+                idx = dict.size();
+
+                dict.put(vals[i], idx);
+            }
+
+            idxs[i] = idx;
+        }
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bos);
+
+        writeVarInt(out, dict.size());
+
+        Object[] ordered = new Object[dict.size()];
+
+        for (Map.Entry<Object, Integer> e : dict.entrySet())
+            ordered[e.getValue()] = e.getKey();
+
+        for (Object v : ordered)
+            writeTagged(out, v);
+
+        if (bos.size() > limit)
+            return null;
+
+        for (int i = 0; i < cnt;) {
+            int run = 1;
+
+            while (i + run < cnt && idxs[i + run] == idxs[i])
+                run++;
+
+            writeVarInt(out, idxs[i]);
+            writeVarInt(out, run);
+
+            i += run;
+        }
+
+        return bos;
+    }
+}
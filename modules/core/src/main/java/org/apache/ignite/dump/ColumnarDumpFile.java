@@ -0,0 +1,604 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.dump;
+
+import java.io.BufferedInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Columnar file produced by {@link ColumnarDumpConsumer}.
+ * <p>
+ * Every file is self-contained and holds entries of a single cache and a single value type. Layout:
+ * <pre>
+ * file      := MAGIC VERSION schema rowGroup* EOF_MARK
+ * schema    := varint(colCnt) (utf(name) byte(type))*
+ * rowGroup  := varint(rowCnt) chunk{colCnt}
+ * chunk     := byte(encoding) varint(len) nulls? payload
+ * </pre>
+ * Nulls are stored as a bitmap in front of every non-dictionary chunk, only non-null values are encoded in the payload.
+ * Supported chunk encodings are {@link #ENC_PLAIN}, {@link #ENC_PLAIN_TAGGED}, {@link #ENC_DICT}, {@link #ENC_RLE} and
+ * {@link #ENC_DELTA}.
+ *
+ * @see ColumnarDumpConsumer
+ */
+public class ColumnarDumpFile {
+    /** File extension. */
+    public static final String EXT = ".icol";
+
+    /** Magic bytes. */
+    static final byte[] MAGIC = "ICOL".getBytes(StandardCharsets.US_ASCII);
+
+    /** Format version. */
+    static final byte VERSION = 1;
+
+    /** End of row groups marker. Row group can't be empty so zero row count is used. */
+    static final int EOF_MARK = 0;
+
+    /** Values of the declared column type written one by one. */
+    public static final byte ENC_PLAIN = 0;
+
+    /** Values written with the type tag. Used for columns of unknown type or when actual values mismatch the type. */
+    public static final byte ENC_PLAIN_TAGGED = 1;
+
+    /** Dictionary of tagged distinct values followed by run-length encoded dictionary indexes. */
+    public static final byte ENC_DICT = 2;
+
+    /** Run-length encoded integral values: {@code (zigzag varint value, varint run length)*}. */
+    public static final byte ENC_RLE = 3;
+
+    /** Delta encoded integral values: first value followed by zigzag varint deltas. */
+    public static final byte ENC_DELTA = 4;
+
+    /** Column of arbitrary values. */
+    public static final byte TYPE_ANY = 0;
+
+    /** */
+    public static final byte TYPE_BOOLEAN = 1;
+
+    /** */
+    public static final byte TYPE_BYTE = 2;
+
+    /** */
+    public static final byte TYPE_SHORT = 3;
+
+    /** */
+    public static final byte TYPE_INT = 4;
+
+    /** */
+    public static final byte TYPE_LONG = 5;
+
+    /** */
+    public static final byte TYPE_CHAR = 6;
+
+    /** */
+    public static final byte TYPE_FLOAT = 7;
+
+    /** */
+    public static final byte TYPE_DOUBLE = 8;
+
+    /** */
+    public static final byte TYPE_STRING = 9;
+
+    /** */
+    public static final byte TYPE_UUID = 10;
+
+    /** */
+    public static final byte TYPE_DATE = 11;
+
+    /** */
+    public static final byte TYPE_BYTES = 12;
+
+    /** Tag of {@code null} value. */
+    private static final byte TAG_NULL = -1;
+
+    /** Column names. */
+    private final List<String> names;
+
+    /** Column types. */
+    private final byte[] types;
+
+    /** Rows. */
+    private final List<Object[]> rows;
+
+    /** Count of row groups. */
+    private final int rowGrps;
+
+    /**
+     * @param names Column names.
+     * @param types Column types.
+     * @param rows Rows.
+     * @param rowGrps Count of row groups.
+     */
+    private ColumnarDumpFile(List<String> names, byte[] types, List<Object[]> rows, int rowGrps) {
+        this.names = names;
+        this.types = types;
+        this.rows = rows;
+        this.rowGrps = rowGrps;
+    }
+
+    /** @return Column names. */
+    public List<String> columns() {
+        return names;
+    }
+
+    /**
+     * @param idx Column index.
+     * @return Column type.
+     */
+    public byte columnType(int idx) {
+        return types[idx];
+    }
+
+    /** @return Rows. Values are ordered according to {@link #columns()}. */
+    public List<Object[]> rows() {
+        return rows;
+    }
+
+    /** @return Count of row groups. */
+    public int rowGroups() {
+        return rowGrps;
+    }
+
+    /**
+     * Reads whole columnar file into memory.
+     *
+     * @param file File to read.
+     * @return Read file.
+     * @throws IOException If failed.
+     */
+    public static ColumnarDumpFile read(File file) throws IOException {
+        try (InputStream is = new BufferedInputStream(Files.newInputStream(file.toPath()))) {
+            DataInputStream in = new DataInputStream(is);
+
+            byte[] magic = new byte[MAGIC.length];
+
+            in.readFully(magic);
+
+            if (!Arrays.equals(MAGIC, magic))
+                throw new IOException("Not a columnar dump file: " + file);
+
+            byte ver = in.readByte();
+
+            if (ver != VERSION)
+                throw new IOException("Unsupported columnar dump file version [file=" + file + ", ver=" + ver + ']');
+
+            int colCnt = readVarInt(in);
+
+            List<String> names = new ArrayList<>(colCnt);
+            byte[] types = new byte[colCnt];
+
+            for (int i = 0; i < colCnt; i++) {
+                names.add(in.readUTF());
+                types[i] = in.readByte();
+            }
+
+            List<Object[]> rows = new ArrayList<>();
+            int grps = 0;
+
+            int rowCnt;
+
+            while ((rowCnt = readVarInt(in)) != EOF_MARK) {
+                Object[][] grp = new Object[rowCnt][colCnt];
+
+                for (int c = 0; c < colCnt; c++) {
+                    Object[] col = readChunk(in, types[c], rowCnt);
+
+                    for (int r = 0; r < rowCnt; r++)
+                        grp[r][c] = col[r];
+                }
+
+                Collections.addAll(rows, grp);
+
+                grps++;
+            }
+
+            return new ColumnarDumpFile(Collections.unmodifiableList(names), types, rows, grps);
+        }
+    }
+
+    /**
+     * @param in Input.
+     * @param type Column type.
+     * @param rowCnt Row count.
+     * @return Column values.
+     * @throws IOException If failed.
+     */
+    private static Object[] readChunk(DataInput in, byte type, int rowCnt) throws IOException {
+        byte enc = in.readByte();
+
+        readVarInt(in); // Chunk length, allows to skip columns.
+
+        Object[] res = new Object[rowCnt];
+
+        if (enc == ENC_DICT) {
+            Object[] dict = new Object[readVarInt(in)];
+
+            for (int i = 0; i < dict.length; i++)
+                dict[i] = readTagged(in);
+
+            for (int r = 0; r < rowCnt;) {
+                Object val = dict[readVarInt(in)];
+
+                for (int run = readVarInt(in); run > 0; run--)
+                    res[r++] = val;
+            }
+
+            return res;
+        }
+
+        byte[] nulls = new byte[(rowCnt + 7) >>> 3];
+
+        in.readFully(nulls);
+
+        int nonNull = 0;
+
+        for (int r = 0; r < rowCnt; r++) {
+            if (!isNull(nulls, r))
+                nonNull++;
+        }
+
+        Object[] vals = new Object[nonNull];
+
+        switch (enc) {
+            case ENC_PLAIN:
+                for (int i = 0; i < nonNull; i++)
+                    vals[i] = readTyped(in, type);
+
+                break;
+
+            case ENC_PLAIN_TAGGED:
+                for (int i = 0; i < nonNull; i++)
+                    vals[i] = readTagged(in);
+
+                break;
+
+            case ENC_RLE:
+                for (int i = 0; i < nonNull;) {
+                    Object val = fromLong(type, zigZagDecode(readVarLong(in)));
+
+                    for (int run = readVarInt(in); run > 0; run--)
+                        vals[i++] = val;
+                }
+
+                break;
+
+            case ENC_DELTA:
+                long prev = 0;
+
+                for (int i = 0; i < nonNull; i++) {
+                    prev += zigZagDecode(readVarLong(in));
+
+                    vals[i] = fromLong(type, prev);
+                }
+
+                break;
+
+            default:
+                throw new IOException("Unknown chunk encoding: " + enc);
+        }
+
+        for (int r = 0, i = 0; r < rowCnt; r++)
+            res[r] = isNull(nulls, r) ? null : vals[i++];
+
+        return res;
+    }
+
+    /**
+     * @param nulls Nulls bitmap.
+     * @param idx Row index.
+     * @return {@code True} if value is {@code null}.
+     */
+    static boolean isNull(byte[] nulls, int idx) {
+        return (nulls[idx >>> 3] & (1 << (idx & 7))) != 0;
+    }
+
+    /**
+     * @param type Column type.
+     * @return {@code True} if values of the type can be represented as {@code long}.
+     */
+    static boolean integral(byte type) {
+        switch (type) {
+            case TYPE_BOOLEAN:
+            case TYPE_BYTE:
+            case TYPE_SHORT:
+            case TYPE_INT:
+            case TYPE_LONG:
+            case TYPE_CHAR:
+            case TYPE_DATE:
+                return true;
+
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * @param type Column type.
+     * @param val Value.
+     * @return {@code True} if value can be written as a value of the given type.
+     */
+    static boolean matches(byte type, Object val) {
+        switch (type) {
+            case TYPE_BOOLEAN:
+                return val instanceof Boolean;
+            case TYPE_BYTE:
+                return val instanceof Byte;
+            case TYPE_SHORT:
+                return val instanceof Short;
+            case TYPE_INT:
+                return val instanceof Integer;
+            case TYPE_LONG:
+                return val instanceof Long;
+            case TYPE_CHAR:
+                return val instanceof Character;
+            case TYPE_FLOAT:
+                return val instanceof Float;
+            case TYPE_DOUBLE:
+                return val instanceof Double;
+            case TYPE_STRING:
+                return val instanceof String;
+            case TYPE_UUID:
+                return val instanceof UUID;
+            case TYPE_DATE:
+                return val != null && val.getClass() == Date.class;
+            case TYPE_BYTES:
+                return val instanceof byte[];
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * @param val Value of the integral type.
+     * @return Value as {@code long}.
+     */
+    static long toLong(Object val) {
+        if (val instanceof Boolean)
+            return (Boolean)val ? 1 : 0;
+
+        if (val instanceof Character)
+            return (Character)val;
+
+        if (val instanceof Date)
+            return ((Date)val).getTime();
+
+        return ((Number)val).longValue();
+    }
+
+    /**
+     * @param type Column type.
+     * @param val Value as {@code long}.
+     * @return Value of the column type.
+     */
+    private static Object fromLong(byte type, long val) {
+        switch (type) {
+            case TYPE_BOOLEAN:
+                return val != 0;
+            case TYPE_BYTE:
+                return (byte)val;
+            case TYPE_SHORT:
+                return (short)val;
+            case TYPE_INT:
+                return (int)val;
+            case TYPE_CHAR:
+                return (char)val;
+            case TYPE_DATE:
+                return new Date(val);
+            default:
+                return val;
+        }
+    }
+
+    /**
+     * @param val Value.
+     * @return Type of the value or {@link #TYPE_ANY} if value can't be written by {@link #writeTyped(DataOutput, byte, Object)}.
+     */
+    static byte typeOf(Object val) {
+        for (byte t = TYPE_BOOLEAN; t <= TYPE_BYTES; t++) {
+            if (matches(t, val))
+                return t;
+        }
+
+        return TYPE_ANY;
+    }
+
+    /**
+     * Writes value with the type tag. Values of unsupported types are written as strings.
+     *
+     * @param out Output.
+     * @param val Value.
+     * @throws IOException If failed.
+     */
+    static void writeTagged(DataOutput out, Object val) throws IOException {
+        if (val == null) {
+            out.writeByte(TAG_NULL);
+
+            return;
+        }
+
+        byte type = typeOf(val);
+
+        if (type == TYPE_ANY) {
+            type = TYPE_STRING;
+            val = String.valueOf(val);
+        }
+
+        out.writeByte(type);
+
+        writeTyped(out, type, val);
+    }
+
+    /**
+     * @param in Input.
+     * @return Value.
+     * @throws IOException If failed.
+     */
+    static Object readTagged(DataInput in) throws IOException {
+        byte tag = in.readByte();
+
+        return tag == TAG_NULL ? null : readTyped(in, tag);
+    }
+
+    /**
+     * @param out Output.
+     * @param type Value type.
+     * @param val Value.
+     * @throws IOException If failed.
+     */
+    static void writeTyped(DataOutput out, byte type, Object val) throws IOException {
+        switch (type) {
+            case TYPE_FLOAT:
+                out.writeFloat((Float)val);
+
+                break;
+
+            case TYPE_DOUBLE:
+                out.writeDouble((Double)val);
+
+                break;
+
+            case TYPE_STRING:
+                writeBytes(out, ((String)val).getBytes(StandardCharsets.UTF_8));
+
+                break;
+
+            case TYPE_UUID:
+                out.writeLong(((UUID)val).getMostSignificantBits());
+                out.writeLong(((UUID)val).getLeastSignificantBits());
+
+                break;
+
+            case TYPE_BYTES:
+                writeBytes(out, (byte[])val);
+
+                break;
+
+            default:
+                assert integral(type) : type;
+
+                writeVarLong(out, zigZagEncode(toLong(val)));
+        }
+    }
+
+    /**
+     * @param in Input.
+     * @param type Value type.
+     * @return Value.
+     * @throws IOException If failed.
+     */
+    private static Object readTyped(DataInput in, byte type) throws IOException {
+        switch (type) {
+            case TYPE_FLOAT:
+                return in.readFloat();
+
+            case TYPE_DOUBLE:
+                return in.readDouble();
+
+            case TYPE_STRING:
+                return new String(readBytes(in), StandardCharsets.UTF_8);
+
+            case TYPE_UUID:
+                return new UUID(in.readLong(), in.readLong());
+
+            case TYPE_BYTES:
+                return readBytes(in);
+
+            default:
+                if (!integral(type))
+                    throw new IOException("Unknown value type: " + type);
+
+                return fromLong(type, zigZagDecode(readVarLong(in)));
+        }
+    }
+
+    /** */
+    private static void writeBytes(DataOutput out, byte[] bytes) throws IOException {
+        writeVarInt(out, bytes.length);
+
+        out.write(bytes);
+    }
+
+    /** */
+    private static byte[] readBytes(DataInput in) throws IOException {
+        byte[] bytes = new byte[readVarInt(in)];
+
+        in.readFully(bytes);
+
+        return bytes;
+    }
+
+    /** */
+    static long zigZagEncode(long val) {
+        return (val << 1) ^ (val >> 63);
+    }
+
+    /** */
+    static long zigZagDecode(long val) {
+        return (val >>> 1) ^ -(val & 1);
+    }
+
+    /** */
+    static void writeVarInt(DataOutput out, int val) throws IOException {
+        writeVarLong(out, val & 0xFFFFFFFFL);
+    }
+
+    /** */
+    static int readVarInt(DataInput in) throws IOException {
+        return (int)readVarLong(in);
+    }
+
+    /** */
+    static void writeVarLong(DataOutput out, long val) throws IOException {
+        while ((val & ~0x7FL) != 0) {
+            out.writeByte((int)((val & 0x7F) | 0x80));
+
+            val >>>= 7;
+        }
+
+        out.writeByte((int)val);
+    }
+
+    /** */
+    static long readVarLong(DataInput in) throws IOException {
+        long res = 0;
+
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+
+            res |= (long)(b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0)
+                return res;
+        }
+
+        throw new IOException("Malformed varlong.");
+    }
+}
@@ -35,6 +35,18 @@ public interface CacheObjectTransformerProcessor extends GridProcessor {
      */
     public @Nullable ByteBuffer transform(ByteBuffer original);
 
+    /**
+     * Transforms the data of the cache. Allows to apply different transformations to different caches.
+     *
+     * @param cacheName Cache name or {@code null} if data is not bound to a cache.
+     * @param original Original data.
+     * @return Transformed data (started with {@link GridBinaryMarshaller#TRANSFORMED} when restorable)
+     * or {@code null} when transformation is not possible/suitable.
+     */
+    public default @Nullable ByteBuffer transform(@Nullable String cacheName, ByteBuffer original) {
+        return transform(original);
+    }
+
     /**
      * Restores the data.
      *
@@ -0,0 +1,638 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cdc;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteSystemProperties;
+import org.apache.ignite.binary.BinaryType;
+import org.apache.ignite.cdc.CdcCacheEvent;
+import org.apache.ignite.cdc.CdcConsumer;
+import org.apache.ignite.internal.IgniteInterruptedCheckedException;
+import org.apache.ignite.internal.pagemem.wal.record.CdcManagerRecord;
+import org.apache.ignite.internal.pagemem.wal.record.CdcManagerStopRecord;
+import org.apache.ignite.internal.pagemem.wal.record.DataEntry;
+import org.apache.ignite.internal.pagemem.wal.record.DataRecord;
+import org.apache.ignite.internal.pagemem.wal.record.UnwrapDataEntry;
+import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.processors.cache.CacheObjectContext;
+import org.apache.ignite.internal.processors.cache.DynamicCacheDescriptor;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.GridCacheSharedManagerAdapter;
+import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionsExchangeFuture;
+import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.PartitionsExchangeAware;
+import org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager;
+import org.apache.ignite.internal.processors.cache.persistence.IgniteCacheDatabaseSharedManager;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
+import org.apache.ignite.internal.processors.cache.persistence.filename.NodeFileTree;
+import org.apache.ignite.internal.processors.cache.persistence.wal.ByteBufferBackedDataInputImpl;
+import org.apache.ignite.internal.processors.cache.persistence.wal.SegmentEofException;
+import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
+import org.apache.ignite.internal.processors.cache.persistence.wal.io.FileInput;
+import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializer;
+import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializerFactoryImpl;
+import org.apache.ignite.internal.processors.metric.MetricRegistryImpl;
+import org.apache.ignite.internal.processors.metric.impl.AtomicLongMetric;
+import org.apache.ignite.internal.util.typedef.T2;
+import org.apache.ignite.internal.util.typedef.internal.A;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.internal.util.worker.GridWorker;
+import org.apache.ignite.lang.IgniteExperimental;
+
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.CDC_DATA_RECORD;
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.DATA_RECORD_V2;
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.SWITCH_SEGMENT_RECORD;
+import static org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordV1Serializer.HEADER_RECORD_SIZE;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
+
+/**
+ * CDC manager that captures data within Ignite node and passes it to the in-process {@link CdcConsumer} without waiting
+ * for WAL segments to be archived.
+ * <p>
+ * WAL data is collected right after it is fsynced (see {@link IgniteSystemProperties#IGNITE_WAL_SEGMENT_SYNC_TIMEOUT}),
+ * copied into a bounded lock-free queue and handled by a dedicated thread that parses data records and notifies
+ * the consumer. Every time the consumer commits events, this manager logs {@link CdcManagerRecord} with the committed
+ * state, so the {@link CdcMain} utility running in the {@link CdcMode#IGNITE_NODE_ACTIVE} mode only cleans processed
+ * segments.
+ * <p>
+ * If the consumer fails, the queue overflows or the previous node run was not finished gracefully, this manager logs
+ * {@link CdcManagerStopRecord} and stops capturing. Since then {@link CdcMain} consumes events starting from the last
+ * committed state, so no event is lost. Note, {@link CdcMain} never switches back to the
+ * {@link CdcMode#IGNITE_NODE_ACTIVE} mode.
+ * <p>
+ * Before events of a new cache or binary type are passed to the consumer, it is notified with
+ * {@link CdcConsumer#onCacheChange(Iterator)} and {@link CdcConsumer#onTypes(Iterator)} taken from the node. Type
+ * mappings and cache destroy events are not passed. Encrypted data records are not handled.
+ * <p>
+ * To enable the manager return its instance from {@link org.apache.ignite.plugin.PluginProvider#createComponent}
+ * for the {@link CdcManager} class.
+ */
+@IgniteExperimental
+public class IgniteNodeActiveCdcManager extends GridCacheSharedManagerAdapter implements CdcManager, PartitionsExchangeAware {
+    /** Default maximum size of collected but not handled WAL data. */
+    public static final long DFLT_MAX_PENDING_BYTES = 64 * U.MB;
+
+    /** Metric registry name. */
+    public static final String CDC_MANAGER_METRICS = metricName("cdc", "manager");
+
+    /** Pending bytes metric name. */
+    public static final String PENDING_BYTES = "PendingBytes";
+
+    /** Committed WAL records count metric name. */
+    public static final String COMMITTED_RECS_CNT = "CommittedRecordsCount";
+
+    /** Last event capture lag metric name. */
+    public static final String EVT_LAG = "EventLag";
+
+    /** Marker file created while manager is active. If exists on start, previous node run was not stopped gracefully. */
+    public static final String ACTIVE_MARKER_FILE_NAME = "cdc-manager-active";
+
+    /** Worker park timeout. */
+    private static final long PARK_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /** CDC consumer. */
+    private final CdcConsumer consumer;
+
+    /** Maximum size of collected but not handled WAL data. */
+    private final long maxPendingBytes;
+
+    /** Keep binary flag. */
+    private final boolean keepBinary;
+
+    /** Collected WAL data. */
+    private final Queue<Chunk> queue = new ConcurrentLinkedQueue<>();
+
+    /** Size of the collected but not handled WAL data. */
+    private final AtomicLong pendingBytes = new AtomicLong();
+
+    /** Enabled flag. Must be set before node start, otherwise {@link #afterBinaryMemoryRestore} isn't invoked. */
+    private volatile boolean enabled = true;
+
+    /** Set if {@link #maxPendingBytes} was exceeded. */
+    private volatile boolean overflow;
+
+    /** Worker. */
+    private volatile CdcWorker worker;
+
+    /** Records consumer. */
+    private WalRecordsConsumer<?, ?> recsConsumer;
+
+    /** Committed WAL records count. */
+    private AtomicLongMetric committedRecs;
+
+    /** Last event capture lag. */
+    private AtomicLongMetric evtLag;
+
+    /**
+     * @param consumer CDC consumer.
+     */
+    public IgniteNodeActiveCdcManager(CdcConsumer consumer) {
+        this(consumer, DFLT_MAX_PENDING_BYTES, true);
+    }
+
+    /**
+     * @param consumer CDC consumer.
+     * @param maxPendingBytes Maximum size of collected but not handled WAL data.
+     * @param keepBinary Keep binary flag.
+     */
+    public IgniteNodeActiveCdcManager(CdcConsumer consumer, long maxPendingBytes, boolean keepBinary) {
+        A.notNull(consumer, "consumer");
+        A.ensure(maxPendingBytes > 0, "maxPendingBytes > 0");
+
+        this.consumer = consumer;
+        this.maxPendingBytes = maxPendingBytes;
+        this.keepBinary = keepBinary;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void start0() {
+        cctx.exchange().registerExchangeAwareComponent(this);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void afterBinaryMemoryRestore(
+        IgniteCacheDatabaseSharedManager mgr,
+        GridCacheDatabaseSharedManager.RestoreBinaryState restoreState
+    ) throws IgniteCheckedException {
+        NodeFileTree ft = cctx.kernalContext().pdsFolderResolver().fileTree();
+
+        if (Files.exists(ft.cdcModeState())) {
+            enabled = false;
+
+            if (log.isInfoEnabled())
+                log.info("CDC is handled by the CdcMain utility, in-process CDC consumer will not be started.");
+
+            return;
+        }
+
+        Path marker = ft.cdcState().resolve(ACTIVE_MARKER_FILE_NAME);
+
+        if (Files.exists(marker)) {
+            U.warn(log, "Previous node run was not stopped gracefully, CDC is switched to the CdcMain utility.");
+
+            enabled = false;
+
+            cctx.wal(true).log(new CdcManagerStopRecord());
+
+            return;
+        }
+
+        try {
+            Files.createDirectories(marker.getParent());
+            Files.createFile(marker);
+        }
+        catch (IOException e) {
+            throw new IgniteCheckedException("Failed to create CDC manager marker file: " + marker, e);
+        }
+
+        MetricRegistryImpl mreg = cctx.kernalContext().metric().registry(CDC_MANAGER_METRICS);
+
+        mreg.register(PENDING_BYTES, pendingBytes::get, "Size of the collected but not handled WAL data");
+
+        committedRecs = mreg.longMetric(COMMITTED_RECS_CNT, "Count of committed WAL records");
+        evtLag = mreg.longMetric(EVT_LAG, "Lag between the last handled event write and its handling, in milliseconds");
+
+        recsConsumer = new WalRecordsConsumer<>(consumer, log);
+
+        recsConsumer.start(mreg, cctx.kernalContext().metric().registry(metricName(CDC_MANAGER_METRICS, "consumer")));
+
+        worker = new CdcWorker(marker);
+
+        // Data is collected from now on, but handled after caches are started on local join exchange.
+        U.newThread(worker).start();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onDoneAfterTopologyUnlock(GridDhtPartitionsExchangeFuture fut) {
+        if (!fut.localJoinExchange() && !fut.activateCluster())
+            return;
+
+        cctx.exchange().unregisterExchangeAwareComponent(this);
+
+        CdcWorker w = worker;
+
+        if (w != null) {
+            w.ready = true;
+
+            LockSupport.unpark(w.runner());
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean enabled() {
+        return enabled;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void collect(ByteBuffer dataBuf) {
+        if (overflow)
+            return;
+
+        int len = dataBuf.remaining();
+
+        if (pendingBytes.addAndGet(len) > maxPendingBytes) {
+            overflow = true;
+
+            LockSupport.unpark(worker.runner());
+
+            return;
+        }
+
+        byte[] data = new byte[len];
+
+        dataBuf.duplicate().get(data);
+
+        queue.offer(new Chunk(dataBuf.position(), data, dataBuf.order()));
+
+        LockSupport.unpark(worker.runner());
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void onKernalStop0(boolean cancel) {
+        CdcWorker w = worker;
+
+        if (w == null)
+            return;
+
+        try {
+            // Collect written but not yet fsynced data.
+            cctx.wal(true).flush(null, true);
+        }
+        catch (IgniteCheckedException e) {
+            U.warn(log, "Failed to flush WAL before the in-process CDC consumer stop.", e);
+        }
+
+        enabled = false;
+
+        // Handle already collected data before stop.
+        w.stopping = true;
+
+        LockSupport.unpark(w.runner());
+
+        try {
+            U.join(w);
+        }
+        catch (IgniteInterruptedCheckedException e) {
+            U.warn(log, "Interrupted while waiting for the in-process CDC consumer to stop.");
+        }
+    }
+
+    /** Collected WAL data. */
+    private static class Chunk {
+        /** Offset of the data in WAL segment. */
+        private final int off;
+
+        /** Data. */
+        private final byte[] data;
+
+        /** Byte order. */
+        private final ByteOrder order;
+
+        /** */
+        Chunk(int off, byte[] data, ByteOrder order) {
+            this.off = off;
+            this.data = data;
+            this.order = order;
+        }
+    }
+
+    /** Worker that parses collected WAL data and notifies consumer. */
+    private class CdcWorker extends GridWorker {
+        /** Marker file. */
+        private final Path marker;
+
+        /** WAL records serializer. */
+        private final RecordSerializer ser;
+
+        /** Cache object context for caches that are already stopped. */
+        private final CacheObjectContext dfltCoCtx;
+
+        /** Last committed state. */
+        private T2<WALPointer, Integer> committed;
+
+        /** Caches the consumer was notified about. */
+        private final Set<Integer> knownCaches = new HashSet<>();
+
+        /** Binary types the consumer was notified about. */
+        private final Set<Integer> knownTypes = new HashSet<>();
+
+        /** Set on node stop. */
+        private volatile boolean stopping;
+
+        /** Set when caches are started and collected data can be handled. */
+        private volatile boolean ready;
+
+        /**
+         * @param marker Marker file.
+         */
+        CdcWorker(Path marker) throws IgniteCheckedException {
+            super(cctx.igniteInstanceName(), "cdc-manager-worker", cctx.logger(IgniteNodeActiveCdcManager.class), null);
+
+            this.marker = marker;
+
+            ser = new RecordSerializerFactoryImpl(cctx)
+                .recordDeserializeFilter((type, ptr) -> type == DATA_RECORD_V2 || type == CDC_DATA_RECORD)
+                .createSerializer(cctx.wal(true).serializerVersion());
+
+            dfltCoCtx = new CacheObjectContext(cctx.kernalContext(), null, null, false, false, false, false);
+        }
+
+        /** {@inheritDoc} */
+        @Override protected void body() {
+            try {
+                while (true) {
+                    Chunk chunk = ready ? queue.poll() : null;
+
+                    if (chunk == null) {
+                        if (overflow)
+                            throw new IgniteCheckedException("Too much WAL data is collected but not handled " +
+                                "[maxPendingBytes=" + maxPendingBytes + ']');
+
+                        if (stopping || isCancelled())
+                            break;
+
+                        blockingSectionBegin();
+
+                        try {
+                            LockSupport.parkNanos(PARK_TIMEOUT_NANOS);
+                        }
+                        finally {
+                            blockingSectionEnd();
+                        }
+
+                        continue;
+                    }
+
+                    updateHeartbeat();
+
+                    handle(chunk);
+
+                    pendingBytes.addAndGet(-chunk.data.length);
+                }
+
+                recsConsumer.stop();
+
+                // Data collected before caches start is not handled, CdcMain takes it on the next node start.
+                if (queue.isEmpty())
+                    Files.deleteIfExists(marker);
+            }
+            catch (Throwable e) {
+                U.error(log, "In-process CDC consumer failed, CDC is switched to the CdcMain utility.", e);
+
+                enabled = false;
+
+                queue.clear();
+
+                try {
+                    cctx.wal(true).log(new CdcManagerStopRecord());
+                }
+                catch (IgniteCheckedException ex) {
+                    U.error(log, "Failed to log CdcManagerStopRecord. CDC might not work.", ex);
+                }
+
+                recsConsumer.stop();
+            }
+        }
+
+        /**
+         * Reads data records from chunk, notifies consumer and logs committed state.
+         *
+         * @param chunk Collected WAL data.
+         */
+        private void handle(Chunk chunk) throws IgniteCheckedException, IOException {
+            ByteBuffer buf = ByteBuffer.wrap(chunk.data).order(chunk.order);
+
+            ChunkInput in = new ChunkInput(buf, chunk.off);
+
+            // Segment header is not deserialized with the records serializer.
+            if (chunk.off == 0)
+                in.skipBytes(Math.min(HEADER_RECORD_SIZE, buf.remaining()));
+
+            List<DataRecord> recs = new ArrayList<>();
+
+            while (buf.remaining() > 1 + Long.BYTES) {
+                int recType = buf.get(buf.position()) & 0xFF;
+
+                // Zeroed tail of the segment or the segment end mark.
+                if (recType == 0 || recType == SWITCH_SEGMENT_RECORD.index() + 1)
+                    break;
+
+                long segIdx = buf.getLong(buf.position() + 1);
+
+                WALRecord rec;
+
+                try {
+                    rec = ser.readRecord(in, new WALPointer(segIdx, (int)in.position(), 0));
+                }
+                catch (SegmentEofException | EOFException e) {
+                    break;
+                }
+
+                if (rec instanceof DataRecord)
+                    recs.add((DataRecord)rec);
+            }
+
+            if (recs.isEmpty())
+                return;
+
+            updateMetadata();
+
+            RecordsIterator iter = new RecordsIterator(recs);
+
+            while (iter.hasNext()) {
+                if (recsConsumer.onRecords(iter, WalRecordsConsumer.CDC_EVENT_TRANSFORMER, null))
+                    commit(iter.state());
+            }
+        }
+
+        /** Notifies consumer about new caches and binary types. */
+        private void updateMetadata() {
+            List<BinaryType> types = new ArrayList<>();
+
+            for (BinaryType type : cctx.kernalContext().cacheObjects().metadata()) {
+                if (knownTypes.add(type.typeId()))
+                    types.add(type);
+            }
+
+            if (!types.isEmpty())
+                recsConsumer.onTypes(types.iterator());
+
+            List<CdcCacheEvent> caches = new ArrayList<>();
+
+            for (DynamicCacheDescriptor desc : cctx.cache().cacheDescriptors().values()) {
+                if (desc.cacheType().userCache() && knownCaches.add(desc.cacheId()))
+                    caches.add(desc.toStoredData(cctx.cache().splitter()));
+            }
+
+            if (!caches.isEmpty())
+                recsConsumer.onCacheEvents(caches.iterator());
+        }
+
+        /**
+         * @param state State to commit.
+         */
+        private void commit(T2<WALPointer, Integer> state) throws IgniteCheckedException {
+            if (state.equals(committed))
+                return;
+
+            cctx.wal(true).log(new CdcManagerRecord(state));
+
+            committed = state;
+
+            committedRecs.increment();
+        }
+
+        /**
+         * @param e Data entry.
+         * @return Entry that unwraps key and value.
+         */
+        private DataEntry unwrap(DataEntry e) {
+            GridCacheContext<?, ?> cacheCtx = cctx.cacheContext(e.cacheId());
+
+            return new UnwrapDataEntry(
+                e.cacheId(),
+                e.key(),
+                e.value(),
+                e.op(),
+                e.nearXidVersion(),
+                e.writeVersion(),
+                e.expireTime(),
+                e.partitionId(),
+                e.partitionCounter(),
+                cacheCtx != null ? cacheCtx.cacheObjectContext() : dfltCoCtx,
+                keepBinary,
+                e.flags());
+        }
+
+        /** Iterator over data entries of parsed records that tracks the consumed state. */
+        private class RecordsIterator implements Iterator<DataEntry> {
+            /** Records. */
+            private final List<DataRecord> recs;
+
+            /** Current record index. */
+            private int recIdx;
+
+            /** Entry index inside the current record. */
+            private int entryIdx;
+
+            /** */
+            RecordsIterator(List<DataRecord> recs) {
+                this.recs = recs;
+
+                skipEmpty();
+            }
+
+            /** @return State to restart consumption from. */
+            T2<WALPointer, Integer> state() {
+                return hasNext()
+                    ? new T2<>(recs.get(recIdx).position(), entryIdx)
+                    : new T2<>(recs.get(recs.size() - 1).position().next(), 0);
+            }
+
+            /** {@inheritDoc} */
+            @Override public boolean hasNext() {
+                return recIdx < recs.size();
+            }
+
+            /** {@inheritDoc} */
+            @Override public DataEntry next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+
+                DataRecord rec = recs.get(recIdx);
+
+                DataEntry e = unwrap(rec.get(entryIdx++));
+
+                evtLag.value(System.currentTimeMillis() - rec.timestamp());
+
+                skipEmpty();
+
+                return e;
+            }
+
+            /** Moves to the next record if entries of the current one are handled. */
+            private void skipEmpty() {
+                while (recIdx < recs.size() && entryIdx >= recs.get(recIdx).entryCount()) {
+                    recIdx++;
+                    entryIdx = 0;
+                }
+            }
+        }
+    }
+
+    /** WAL records input over collected chunk of WAL segment. */
+    private static class ChunkInput extends ByteBufferBackedDataInputImpl implements FileInput {
+        /** Offset of the chunk in WAL segment. */
+        private final int off;
+
+        /**
+         * @param buf Buffer.
+         * @param off Offset of the chunk in WAL segment.
+         */
+        ChunkInput(ByteBuffer buf, int off) {
+            buffer(buf);
+
+            this.off = off;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void ensure(int requested) throws IOException {
+            if (buffer().remaining() < requested)
+                throw new EOFException("Requested size is greater than buffer: " + requested);
+        }
+
+        /** {@inheritDoc} */
+        @Override public FileIO io() {
+            return null;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void seek(long pos) throws IOException {
+            if (pos < off || pos > off + buffer().limit())
+                throw new EOFException();
+
+            buffer().position((int)(pos - off));
+        }
+
+        /** {@inheritDoc} */
+        @Override public long position() {
+            return off + buffer().position();
+        }
+
+        /** {@inheritDoc} */
+        @Override public Crc32CheckingFileInput startRead(boolean skipCheck) {
+            return new Crc32CheckingFileInput(this, skipCheck);
+        }
+    }
+}
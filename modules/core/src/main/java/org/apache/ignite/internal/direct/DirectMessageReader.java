@@ -28,6 +28,7 @@ import org.apache.ignite.internal.direct.state.DirectMessageState;
 import org.apache.ignite.internal.direct.state.DirectMessageStateItem;
 import org.apache.ignite.internal.direct.stream.DirectByteBufferStream;
 import org.apache.ignite.internal.managers.communication.CompressedMessage;
+import org.apache.ignite.internal.managers.communication.CompressedMessageCodecs;
 import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
 import org.apache.ignite.internal.processors.cache.CacheObject;
 import org.apache.ignite.internal.processors.cache.KeyCacheObject;
@@ -64,6 +65,9 @@ public class DirectMessageReader implements MessageReader {
     /** Cache object processor. */
     private final IgniteCacheObjectProcessor cacheObjProc;
 
+    /** Codecs of {@link CompressedMessage}. */
+    private final CompressedMessageCodecs codecs;
+
     /** Buffer for reading. */
     private ByteBuffer buf;
 
@@ -84,8 +88,22 @@ public class DirectMessageReader implements MessageReader {
      * @param cacheObjProc Cache object processor.
      */
     public DirectMessageReader(final MessageFactory msgFactory, IgniteCacheObjectProcessor cacheObjProc) {
+        this(msgFactory, cacheObjProc, CompressedMessageCodecs.DFLT);
+    }
+
+    /**
+     * @param msgFactory Message factory.
+     * @param cacheObjProc Cache object processor.
+     * @param codecs Codecs of {@link CompressedMessage}.
+     */
+    public DirectMessageReader(
+        final MessageFactory msgFactory,
+        IgniteCacheObjectProcessor cacheObjProc,
+        CompressedMessageCodecs codecs
+    ) {
         this.msgFactory = msgFactory;
         this.cacheObjProc = cacheObjProc;
+        this.codecs = codecs;
 
         state = new DirectMessageState<>(StateItem.class, new IgniteOutClosure<StateItem>() {
             @Override public StateItem apply() {
@@ -396,6 +414,17 @@ public class DirectMessageReader implements MessageReader {
         return ll;
     }
 
+    /** {@inheritDoc} */
+    @Override public GridLongList readGridLongList(@Nullable GridLongList reuse) {
+        DirectByteBufferStream stream = curStream;
+
+        GridLongList ll = stream.readGridLongList(reuse);
+
+        lastRead = stream.lastFinished();
+
+        return ll;
+    }
+
     /** {@inheritDoc} */
     @Override public <T> T[] readObjectArray(MessageArrayType type) {
         DirectByteBufferStream stream = curStream;
@@ -526,11 +555,11 @@ public class DirectMessageReader implements MessageReader {
 
         // Reuse the temp reader across fields/messages instead of allocating a fresh state stack each time.
         if (tmpReader == null)
-            tmpReader = new DirectMessageReader(msgFactory, cacheObjProc);
+            tmpReader = new DirectMessageReader(msgFactory, cacheObjProc, codecs);
         else
             tmpReader.reset();
 
-        tmpReader.setBuffer(ByteBuffer.wrap(msg0.uncompressed()));
+        tmpReader.setBuffer(ByteBuffer.wrap(codecs.decompress(msg0)));
 
         T res;
 
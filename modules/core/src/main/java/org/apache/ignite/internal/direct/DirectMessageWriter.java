@@ -27,6 +27,7 @@ import org.apache.ignite.internal.direct.state.DirectMessageState;
 import org.apache.ignite.internal.direct.state.DirectMessageStateItem;
 import org.apache.ignite.internal.direct.stream.DirectByteBufferStream;
 import org.apache.ignite.internal.managers.communication.CompressedMessage;
+import org.apache.ignite.internal.managers.communication.CompressedMessageCodecs;
 import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
 import org.apache.ignite.internal.processors.cache.CacheObject;
 import org.apache.ignite.internal.processors.cache.KeyCacheObject;
@@ -64,6 +65,9 @@ public class DirectMessageWriter implements MessageWriter {
     /** Compression level. Used only for {@link CompressedMessage}. */
     private final int compressionLvl;
 
+    /** Codecs of {@link CompressedMessage}. */
+    private final CompressedMessageCodecs codecs;
+
     /** Buffer for writing. */
     private ByteBuffer buf;
 
@@ -89,8 +93,22 @@ public class DirectMessageWriter implements MessageWriter {
      * @param compressionLvl Compression level.
      */
     public DirectMessageWriter(final MessageFactory msgFactory, final int compressionLvl) {
+        this(msgFactory, compressionLvl, CompressedMessageCodecs.DFLT);
+    }
+
+    /**
+     * @param msgFactory Message factory.
+     * @param compressionLvl Compression level.
+     * @param codecs Codecs of {@link CompressedMessage}.
+     */
+    public DirectMessageWriter(
+        final MessageFactory msgFactory,
+        final int compressionLvl,
+        CompressedMessageCodecs codecs
+    ) {
         this.msgFactory = msgFactory;
         this.compressionLvl = compressionLvl;
+        this.codecs = codecs;
 
         state = new DirectMessageState<>(StateItem.class, new IgniteOutClosure<StateItem>() {
             @Override public StateItem apply() {
@@ -119,6 +137,8 @@ public class DirectMessageWriter implements MessageWriter {
 
     /** {@inheritDoc} */
     @Override public boolean writeHeader(short type) {
+        state.item().type = type;
+
         DirectByteBufferStream stream = curStream;
 
         stream.writeShort(type);
@@ -504,7 +524,7 @@ public class DirectMessageWriter implements MessageWriter {
 
             // Reuse the temp writer across fields/messages instead of allocating a fresh state stack each time.
             if (tmpWriter == null)
-                tmpWriter = new DirectMessageWriter(msgFactory, compressionLvl);
+                tmpWriter = new DirectMessageWriter(msgFactory, compressionLvl, codecs);
             else
                 tmpWriter.reset();
 
@@ -532,7 +552,7 @@ public class DirectMessageWriter implements MessageWriter {
 
             tmpBuf.flip();
 
-            stream.compressedMessage(new CompressedMessage(tmpBuf, compressionLvl));
+            stream.compressedMessage(codecs.compress(state.item().type, msgFactory, tmpBuf, compressionLvl));
             stream.serializeFinished(true);
         }
 
@@ -556,6 +576,9 @@ public class DirectMessageWriter implements MessageWriter {
         /** */
         private boolean hdrWritten;
 
+        /** Type of the message. */
+        private short type;
+
         /** */
         public StateItem(MessageFactory msgFactory) {
             stream = new DirectByteBufferStream(msgFactory);
@@ -323,6 +323,26 @@ public class DirectByteBufferStream {
     /** byte-array representation of string */
     private byte[] curStrBackingArr;
 
+    /** List reused by the long array being read, see {@link #readGridLongList(GridLongList)}. */
+    private GridLongList reuseLongList;
+
+    /** Length of the long array being read into {@link #reuseLongList}. */
+    private int reuseLongListLen;
+
+    /** Reuses the backing array of {@link #reuseLongList} if it is large enough. */
+    private final ArrayCreator<long[]> reuseLongArrCreator = new ArrayCreator<long[]>() {
+        @Override public long[] create(int len) {
+            long[] arr = reuseLongList.array();
+
+            if (arr == null || arr.length < len)
+                arr = LONG_ARR_CREATOR.create(len);
+
+            reuseLongListLen = len;
+
+            return arr;
+        }
+    };
+
     /** */
     private byte topVerState;
 
@@ -1550,6 +1570,32 @@ public class DirectByteBufferStream {
         return arr != null ? new GridLongList(arr) : null;
     }
 
+    /**
+     * @param reuse List to read the elements into, {@code null} to create a new one.
+     * @return Value. The given list if the value is not fully read yet.
+     */
+    public GridLongList readGridLongList(@Nullable GridLongList reuse) {
+        if (reuse == null)
+            return readGridLongList();
+
+        reuseLongList = reuse;
+
+        long[] arr = BIG_ENDIAN ? readArrayLE(reuseLongArrCreator, 8, 3, LONG_ARR_OFF) :
+            readArray(reuseLongArrCreator, 3, LONG_ARR_OFF);
+
+        if (!lastFinished)
+            return reuse;
+
+        reuseLongList = null;
+
+        if (arr == null)
+            return null;
+
+        reuse.reset(arr, reuseLongListLen);
+
+        return reuse;
+    }
+
     /**
      * @param reader Reader.
      * @return Message.
@@ -18,12 +18,7 @@
 package org.apache.ignite.internal.managers.communication;
 
 import java.nio.ByteBuffer;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.zip.DataFormatException;
-import java.util.zip.Deflater;
-import java.util.zip.Inflater;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.internal.util.typedef.internal.S;
 import org.apache.ignite.plugin.extensions.communication.Message;
@@ -32,24 +27,14 @@ import org.apache.ignite.plugin.extensions.communication.Message;
  * Internal message used when transmitting fields annotated with @Compress over the network.
  * <p>
  * WARNING: CompressedMessage is not intended for explicit use in messages.
+ *
+ * @see CompressedMessageCodecs
  */
 public class CompressedMessage implements Message {
     /** Chunk size. */
     static final int CHUNK_SIZE = 10 * 1024;
 
-    /**
-     * Maximum expansion ratio for raw deflate.
-     * Raw deflate cannot expand beyond roughly 1032:1; a larger ratio indicates a corrupted size header.
-     */
-    private static final int MAX_DEFLATE_EXPANSION_RATIO = 1032;
-
-    /**
-     * Fixed additive margin for the expansion ratio check.
-     * Accounts for small constant overhead in deflate so the check doesn't falsely reject valid small messages.
-     */
-    private static final int MAX_DEFLATE_BLOCK_OVERHEAD = 64;
-
-    /** Compressed data chunks: filled by {@link #compress(ByteBuffer)} on send, by the serializer on receive. */
+    /** Compressed data chunks: filled by the codec on send, by the serializer on receive. */
     List<byte[]> chunks;
 
     /** Index of the next chunk to send. */
@@ -64,8 +49,8 @@ public class CompressedMessage implements Message {
     /** Flag indicating whether this is the last chunk. */
     boolean finalChunk;
 
-    /** Compression level. */
-    private int compressionLvl;
+    /** Id of the codec. */
+    byte codec;
 
     /** Constructor. */
     public CompressedMessage() {
@@ -77,11 +62,20 @@ public class CompressedMessage implements Message {
      * @param compressionLvl Compression level.
      */
     public CompressedMessage(ByteBuffer buf, int compressionLvl) {
+        this(buf, DeflateCompressedMessageCodec.INSTANCE, compressionLvl);
+    }
+
+    /**
+     * @param buf Source buffer with serialized data.
+     * @param codec Codec.
+     * @param compressionLvl Compression level.
+     */
+    public CompressedMessage(ByteBuffer buf, CompressedMessageCodec codec, int compressionLvl) {
         dataSize = buf.remaining();
-        this.compressionLvl = compressionLvl;
+        this.codec = codec.type().id();
 
         if (dataSize > 0)
-            compress(buf);
+            chunks = codec.compress(buf, compressionLvl);
     }
 
     /** @return Raw data size. */
@@ -89,113 +83,51 @@ public class CompressedMessage implements Message {
         return dataSize;
     }
 
-    /** @return Uncompressed data. */
-    public byte[] uncompressed() {
-        assert finalChunk;
-
-        return uncompress();
-    }
-
-    /** @return Next chunk of data or null. */
-    public byte[] nextChunk() {
-        return chunkIdx < chunks.size() ? chunks.get(chunkIdx++) : null;
+    /** @return Id of the codec. */
+    public byte codec() {
+        return codec;
     }
 
-    /** @param buf Buffer. */
-    private void compress(ByteBuffer buf) {
-        Deflater deflater = new Deflater(compressionLvl, true);
-
-        try {
-            deflater.setInput(buf);
-            deflater.finish();
+    /** @return Compressed data size. */
+    public long compressedSize() {
+        long size = 0;
 
-            chunks = new ArrayList<>(dataSize / CHUNK_SIZE + 1);
-
-            // Incompressible data may expand: raw-deflate worst case below CHUNK_SIZE is one stored block (~11 bytes overhead).
-            byte[] chunk0 = new byte[dataSize >= CHUNK_SIZE ? CHUNK_SIZE : dataSize + 16];
-
-            int len = 0;
-
-            while (!deflater.finished()) {
-                len += deflater.deflate(chunk0, len, chunk0.length - len);
-
-                if (len == chunk0.length && !deflater.finished()) {
-                    chunks.add(chunk0);
-
-                    chunk0 = new byte[CHUNK_SIZE];
-                    len = 0;
-                }
-            }
-
-            if (len > 0)
-                chunks.add(len == chunk0.length ? chunk0 : Arrays.copyOf(chunk0, len));
-        }
-        finally {
-            deflater.end();
+        if (chunks != null) {
+            for (int i = 0; i < chunks.size(); i++)
+                size += chunks.get(i).length;
         }
+
+        return size;
     }
 
     /** @return Uncompressed data. */
-    private byte[] uncompress() {
-        if (chunks == null)
-            throw new IgniteException("Compressed stream is truncated [expected=" + dataSize + ", inflated=0]");
-
-        long compressedTotal = 0;
-
-        for (int i = 0; i < chunks.size(); i++)
-            compressedTotal += chunks.get(i).length;
-
-        // Maximum expansion ratio check to detect corrupted size headers.
-        if (dataSize > compressedTotal * MAX_DEFLATE_EXPANSION_RATIO + MAX_DEFLATE_BLOCK_OVERHEAD) {
-            throw new IgniteException("Invalid compressed message data size [dataSize=" + dataSize +
-                ", compressedBytes=" + compressedTotal + ']');
-        }
-
-        byte[] data = new byte[dataSize];
-
-        Inflater inflater = new Inflater(true);
-
-        try {
-            int off = 0;
-            int i = 0;
-
-            for (; i < chunks.size() && off < dataSize; i++) {
-                inflater.setInput(chunks.get(i));
-
-                int n;
-
-                while (off < dataSize && (n = inflater.inflate(data, off, dataSize - off)) > 0)
-                    off += n;
-            }
-
-            if (off != dataSize)
-                throw new IgniteException("Compressed stream is truncated [expected=" + dataSize + ", inflated=" + off + ']');
-
-            // Any extra inflatable byte means the size header is understated.
-            byte[] probe = new byte[1];
+    public byte[] uncompressed() {
+        return uncompressed(CompressedMessageCodecs.DFLT.codec(codec));
+    }
 
-            while (true) {
-                if (inflater.inflate(probe, 0, 1) > 0)
-                    throw new IgniteException("Compressed stream is longer than expected [expected=" + dataSize + ']');
+    /**
+     * @param codec Codec of the message.
+     * @return Uncompressed data.
+     */
+    public byte[] uncompressed(CompressedMessageCodec codec) {
+        assert finalChunk;
+        assert codec.type().id() == this.codec : codec;
 
-                if (inflater.finished() || i == chunks.size())
-                    break;
+        if (chunks == null)
+            throw new IgniteException("Compressed stream is truncated [expected=" + dataSize + ", inflated=0]");
 
-                inflater.setInput(chunks.get(i++));
-            }
-        }
-        catch (DataFormatException e) {
-            throw new IgniteException(e);
-        }
-        finally {
-            inflater.end();
-        }
+        byte[] data = codec.decompress(chunks, dataSize);
 
         chunks = null;
 
         return data;
     }
 
+    /** @return Next chunk of data or null. */
+    public byte[] nextChunk() {
+        return chunkIdx < chunks.size() ? chunks.get(chunkIdx++) : null;
+    }
+
     /** {@inheritDoc} */
     @Override public String toString() {
         return S.toString(CompressedMessage.class, this);
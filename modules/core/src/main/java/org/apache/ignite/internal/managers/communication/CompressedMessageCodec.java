@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.managers.communication;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.apache.ignite.internal.managers.communication.CompressedMessage.CHUNK_SIZE;
+
+/**
+ * Codec of the {@link CompressedMessage} payload. Implementations must be thread safe.
+ */
+public interface CompressedMessageCodec {
+    /**
+     * @return Codec type.
+     */
+    public CompressedMessageCodecType type();
+
+    /**
+     * Gets the signature advertised to the other nodes. Nodes use the codec with each other only if all of them
+     * advertise the same signature, so it has to change with anything making the compressed data incompatible, e.g.
+     * the dictionary.
+     *
+     * @return Signature.
+     */
+    public default String signature() {
+        return type().name();
+    }
+
+    /**
+     * @param buf Buffer with the data to compress, it is consumed.
+     * @param lvl Network compression level.
+     * @return Compressed data in chunks no longer than {@link CompressedMessage#CHUNK_SIZE}.
+     */
+    public List<byte[]> compress(ByteBuffer buf, int lvl);
+
+    /**
+     * @param chunks Compressed data chunks.
+     * @param dataSize Uncompressed data size.
+     * @return Uncompressed data.
+     */
+    public byte[] decompress(List<byte[]> chunks, int dataSize);
+
+    /**
+     * Splits compressed data into chunks.
+     *
+     * @param data Compressed data.
+     * @param len Compressed data length.
+     * @return Chunks no longer than {@link CompressedMessage#CHUNK_SIZE}.
+     */
+    public static List<byte[]> split(byte[] data, int len) {
+        List<byte[]> chunks = new ArrayList<>(len / CHUNK_SIZE + 1);
+
+        for (int off = 0; off < len; off += CHUNK_SIZE)
+            chunks.add(Arrays.copyOfRange(data, off, Math.min(len, off + CHUNK_SIZE)));
+
+        return chunks;
+    }
+
+    /**
+     * @param chunks Chunks.
+     * @return Joined chunks.
+     */
+    public static byte[] join(List<byte[]> chunks) {
+        if (chunks.size() == 1)
+            return chunks.get(0);
+
+        int len = 0;
+
+        for (int i = 0; i < chunks.size(); i++)
+            len += chunks.get(i).length;
+
+        byte[] data = new byte[len];
+
+        int off = 0;
+
+        for (int i = 0; i < chunks.size(); i++) {
+            byte[] chunk = chunks.get(i);
+
+            System.arraycopy(chunk, 0, data, off, chunk.length);
+
+            off += chunk.length;
+        }
+
+        return data;
+    }
+}
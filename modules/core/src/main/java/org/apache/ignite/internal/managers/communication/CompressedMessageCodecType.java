@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.managers.communication;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Codecs of the {@link CompressedMessage} payload. Only {@link #DEFLATE} is built in, the other codecs are provided by
+ * the {@code ignite-compress} module.
+ */
+public enum CompressedMessageCodecType {
+    /** Raw deflate. */
+    DEFLATE((byte)0),
+
+    /** LZ4 block. */
+    LZ4((byte)1),
+
+    /** Zstd frame. */
+    ZSTD((byte)2),
+
+    /** Zstd frame compressed with the shared dictionary. */
+    ZSTD_DICT((byte)3);
+
+    /** Values by ids. */
+    private static final CompressedMessageCodecType[] VALS;
+
+    static {
+        VALS = new CompressedMessageCodecType[values().length];
+
+        for (CompressedMessageCodecType type : values())
+            VALS[type.id] = type;
+    }
+
+    /** Id written to the wire. */
+    private final byte id;
+
+    /**
+     * @param id Id written to the wire.
+     */
+    CompressedMessageCodecType(byte id) {
+        this.id = id;
+    }
+
+    /**
+     * @return Id written to the wire.
+     */
+    public byte id() {
+        return id;
+    }
+
+    /**
+     * @return Codec to use if this one is not supported by all the nodes.
+     */
+    public CompressedMessageCodecType fallback() {
+        return this == ZSTD_DICT ? ZSTD : DEFLATE;
+    }
+
+    /**
+     * @param id Id written to the wire.
+     * @return Codec type or {@code null} if the id is unknown.
+     */
+    @Nullable public static CompressedMessageCodecType fromId(byte id) {
+        return id >= 0 && id < VALS.length ? VALS[id] : null;
+    }
+}
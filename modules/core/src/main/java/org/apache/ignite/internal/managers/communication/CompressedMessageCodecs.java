@@ -0,0 +1,427 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.managers.communication;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
+import org.apache.ignite.cluster.ClusterNode;
+import org.apache.ignite.internal.GridKernalContext;
+import org.apache.ignite.internal.IgniteNodeAttributes;
+import org.apache.ignite.internal.managers.discovery.DiscoCache;
+import org.apache.ignite.internal.processors.metric.MetricRegistryImpl;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.plugin.extensions.communication.Message;
+import org.apache.ignite.plugin.extensions.communication.MessageFactory;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_COMPRESSED_MSG_CODECS;
+import static org.apache.ignite.internal.managers.communication.CompressedMessageCodecType.DEFLATE;
+import static org.apache.ignite.internal.managers.communication.GridIoManager.COMM_METRICS;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
+
+/**
+ * Codecs of the {@link CompressedMessage} payload available on the node.
+ * <p>
+ * The codec of a message is chosen by the simple class name of the message owning the compressed field. A codec
+ * other than {@link CompressedMessageCodecType#DEFLATE} is used only if all the nodes of the current topology
+ * advertise the same codec signature in the {@link IgniteNodeAttributes#ATTR_COMPRESSED_MSG_CODECS} attribute,
+ * otherwise the {@link CompressedMessageCodecType#fallback() fallback} codec is used. The id of the codec is
+ * written to the wire, so the receiver doesn't depend on the topology the sender had.
+ *
+ * @see IgniteSystemProperties#IGNITE_COMPRESSED_MESSAGE_CODECS
+ */
+public class CompressedMessageCodecs {
+    /** Codecs with the built-in deflate only. Used when there is no node context. */
+    public static final CompressedMessageCodecs DFLT = new CompressedMessageCodecs();
+
+    /** Metric registry name prefix. */
+    public static final String COMPRESSION_METRICS = metricName(COMM_METRICS, "compression");
+
+    /** Kernal context. */
+    @Nullable private final GridKernalContext ctx;
+
+    /** Logger. */
+    @Nullable private final IgniteLogger log;
+
+    /** Default codec. */
+    private final CompressedMessageCodecType dfltType;
+
+    /** Codecs of the messages by simple class names. */
+    private final Map<String, CompressedMessageCodecType> msgTypes;
+
+    /** Configured codecs by message types. */
+    private final Map<Short, CompressedMessageCodecType> typesCache = new ConcurrentHashMap<>();
+
+    /** Codecs by ids. Copied on write. */
+    private volatile CompressedMessageCodec[] codecs;
+
+    /** Metrics by codec ids. Copied on write. */
+    private volatile CodecMetrics[] metrics;
+
+    /** Codecs negotiated for the current topology. */
+    private volatile Negotiation negotiation;
+
+    /** */
+    private CompressedMessageCodecs() {
+        ctx = null;
+        log = null;
+        dfltType = DEFLATE;
+        msgTypes = Collections.emptyMap();
+
+        codecs = new CompressedMessageCodec[CompressedMessageCodecType.values().length];
+        metrics = new CodecMetrics[codecs.length];
+
+        codecs[DEFLATE.id()] = DeflateCompressedMessageCodec.INSTANCE;
+    }
+
+    /**
+     * @param ctx Kernal context.
+     * @param cfg Codecs configuration, see {@link IgniteSystemProperties#IGNITE_COMPRESSED_MESSAGE_CODECS}.
+     * @throws IllegalArgumentException If the configuration is invalid.
+     */
+    public CompressedMessageCodecs(GridKernalContext ctx, @Nullable String cfg) {
+        this.ctx = ctx;
+
+        log = ctx.log(CompressedMessageCodecs.class);
+
+        CompressedMessageCodecType dfltType0 = DEFLATE;
+
+        msgTypes = new HashMap<>();
+
+        if (!F.isEmpty(cfg)) {
+            for (String entry : cfg.split(",")) {
+                entry = entry.trim();
+
+                if (entry.isEmpty())
+                    continue;
+
+                int idx = entry.indexOf('=');
+
+                if (idx < 0)
+                    dfltType0 = parseType(entry);
+                else
+                    msgTypes.put(entry.substring(0, idx).trim(), parseType(entry.substring(idx + 1)));
+            }
+        }
+
+        dfltType = dfltType0;
+
+        codecs = new CompressedMessageCodec[CompressedMessageCodecType.values().length];
+        metrics = new CodecMetrics[codecs.length];
+
+        register(DeflateCompressedMessageCodec.INSTANCE);
+    }
+
+    /**
+     * @param name Codec name.
+     * @return Codec type.
+     */
+    private static CompressedMessageCodecType parseType(String name) {
+        try {
+            return CompressedMessageCodecType.valueOf(name.trim());
+        }
+        catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown compressed message codec [name=" + name.trim() +
+                ", supported=" + Arrays.toString(CompressedMessageCodecType.values()) + ']');
+        }
+    }
+
+    /**
+     * Registers codec. Must be called before the node joins the topology.
+     *
+     * @param codec Codec.
+     */
+    public synchronized void register(CompressedMessageCodec codec) {
+        byte id = codec.type().id();
+
+        CompressedMessageCodec[] codecs0 = codecs.clone();
+        CodecMetrics[] metrics0 = metrics.clone();
+
+        codecs0[id] = codec;
+
+        if (ctx != null && metrics0[id] == null) {
+            metrics0[id] = new CodecMetrics(ctx.metric().registry(metricName(COMPRESSION_METRICS,
+                codec.type().name())));
+        }
+
+        codecs = codecs0;
+        metrics = metrics0;
+
+        negotiation = null;
+    }
+
+    /**
+     * @return Signatures of the registered codecs except the built-in one.
+     */
+    public String[] signatures() {
+        List<String> sigs = new ArrayList<>();
+
+        for (CompressedMessageCodec codec : codecs) {
+            if (codec != null && codec.type() != DEFLATE)
+                sigs.add(codec.signature());
+        }
+
+        return sigs.toArray(new String[0]);
+    }
+
+    /**
+     * @param id Codec id.
+     * @return Codec.
+     * @throws IgniteException If the codec is not available on this node.
+     */
+    public CompressedMessageCodec codec(byte id) {
+        CompressedMessageCodecType type = CompressedMessageCodecType.fromId(id);
+
+        CompressedMessageCodec codec = type == null ? null : codecs[id];
+
+        if (codec == null) {
+            throw new IgniteException("Compressed message codec is not available, make sure ignite-compress module " +
+                "is in the classpath [codec=" + (type == null ? id : type) + ']');
+        }
+
+        return codec;
+    }
+
+    /**
+     * Compresses the field of a message with the codec configured for the message type and supported by all nodes.
+     *
+     * @param msgType Direct type of the message owning the field.
+     * @param msgFactory Message factory.
+     * @param buf Serialized field.
+     * @param lvl Network compression level.
+     * @return Compressed message.
+     */
+    public CompressedMessage compress(short msgType, MessageFactory msgFactory, ByteBuffer buf, int lvl) {
+        CompressedMessageCodec codec = negotiated(configured(msgType, msgFactory));
+
+        CodecMetrics m = metrics[codec.type().id()];
+
+        if (m == null)
+            return new CompressedMessage(buf, codec, lvl);
+
+        long start = System.nanoTime();
+
+        CompressedMessage msg = new CompressedMessage(buf, codec, lvl);
+
+        m.onCompressed(msg.dataSize(), msg.compressedSize(), System.nanoTime() - start);
+
+        return msg;
+    }
+
+    /**
+     * @param msg Received message.
+     * @return Uncompressed data.
+     */
+    public byte[] decompress(CompressedMessage msg) {
+        CompressedMessageCodec codec = codec(msg.codec());
+
+        CodecMetrics m = metrics[msg.codec()];
+
+        if (m == null)
+            return msg.uncompressed(codec);
+
+        long start = System.nanoTime();
+
+        byte[] data = msg.uncompressed(codec);
+
+        m.onDecompressed(System.nanoTime() - start);
+
+        return data;
+    }
+
+    /**
+     * @param msgType Direct type of the message.
+     * @param msgFactory Message factory.
+     * @return Configured codec.
+     */
+    private CompressedMessageCodecType configured(short msgType, MessageFactory msgFactory) {
+        if (msgTypes.isEmpty())
+            return dfltType;
+
+        return typesCache.computeIfAbsent(msgType, t -> {
+            Message msg = msgFactory.create(t);
+
+            return msg == null ? dfltType : msgTypes.getOrDefault(msg.getClass().getSimpleName(), dfltType);
+        });
+    }
+
+    /**
+     * @param type Configured codec.
+     * @return Codec supported by all nodes of the current topology.
+     */
+    private CompressedMessageCodec negotiated(CompressedMessageCodecType type) {
+        if (type == DEFLATE)
+            return codecs[DEFLATE.id()];
+
+        DiscoCache discoCache = ctx == null ? null : ctx.discovery().discoCache();
+
+        // Other nodes are not known yet.
+        if (discoCache == null)
+            return codecs[DEFLATE.id()];
+
+        Negotiation n = negotiation;
+
+        if (n == null || n.discoCache != discoCache)
+            negotiation = n = negotiate(discoCache, n);
+
+        return n.codecs[type.id()];
+    }
+
+    /**
+     * @param discoCache Discovery cache.
+     * @param prev Previous negotiation.
+     * @return Codecs supported by all nodes of the topology.
+     */
+    private Negotiation negotiate(DiscoCache discoCache, @Nullable Negotiation prev) {
+        CompressedMessageCodec[] codecs0 = codecs;
+
+        CompressedMessageCodec[] res = new CompressedMessageCodec[codecs0.length];
+
+        for (CompressedMessageCodecType type : CompressedMessageCodecType.values()) {
+            CompressedMessageCodecType type0 = type;
+
+            while (type0 != DEFLATE && !supported(codecs0[type0.id()], discoCache.allNodes()))
+                type0 = type0.fallback();
+
+            res[type.id()] = codecs0[type0.id()];
+        }
+
+        Negotiation n = new Negotiation(discoCache, res);
+
+        if (log != null && log.isInfoEnabled() && (prev == null || !Arrays.equals(prev.codecs, res))) {
+            CompressedMessageCodecType used = res[dfltType.id()].type();
+
+            if (used != dfltType || !msgTypes.isEmpty()) {
+                log.info("Compressed message codecs negotiated [topVer=" + discoCache.version() +
+                    ", dflt=" + used + ", configured=" + dfltType + ", msgs=" + msgTypes + ']');
+            }
+        }
+
+        return n;
+    }
+
+    /**
+     * @param codec Local codec.
+     * @param nodes Nodes.
+     * @return {@code True} if all the nodes support the codec.
+     */
+    private static boolean supported(@Nullable CompressedMessageCodec codec, List<ClusterNode> nodes) {
+        if (codec == null)
+            return false;
+
+        String sig = codec.signature();
+
+        for (ClusterNode node : nodes) {
+            String[] sigs = node.attribute(ATTR_COMPRESSED_MSG_CODECS);
+
+            if (sigs == null || !Arrays.asList(sigs).contains(sig))
+                return false;
+        }
+
+        return true;
+    }
+
+    /** Codecs negotiated for a topology. */
+    private static class Negotiation {
+        /** Discovery cache of the topology. */
+        private final DiscoCache discoCache;
+
+        /** Codecs to use by the ids of the configured codecs. */
+        private final CompressedMessageCodec[] codecs;
+
+        /**
+         * @param discoCache Discovery cache of the topology.
+         * @param codecs Codecs to use by the ids of the configured codecs.
+         */
+        private Negotiation(DiscoCache discoCache, CompressedMessageCodec[] codecs) {
+            this.discoCache = discoCache;
+            this.codecs = codecs;
+        }
+    }
+
+    /** Metrics of a codec. */
+    private static class CodecMetrics {
+        /** */
+        private final LongAdderMetric compressed;
+
+        /** */
+        private final LongAdderMetric uncompressedBytes;
+
+        /** */
+        private final LongAdderMetric compressedBytes;
+
+        /** */
+        private final LongAdderMetric compressTime;
+
+        /** */
+        private final LongAdderMetric decompressed;
+
+        /** */
+        private final LongAdderMetric decompressTime;
+
+        /**
+         * @param mreg Metric registry.
+         */
+        private CodecMetrics(MetricRegistryImpl mreg) {
+            compressed = mreg.longAdderMetric("CompressedCount", "Number of compressed message fields.");
+            uncompressedBytes = mreg.longAdderMetric("UncompressedBytes", "Size of the compressed fields before " +
+                "compression, in bytes.");
+            compressedBytes = mreg.longAdderMetric("CompressedBytes", "Size of the compressed fields after " +
+                "compression, in bytes.");
+            compressTime = mreg.longAdderMetric("CompressTime", "Total time of compression, in nanoseconds.");
+            decompressed = mreg.longAdderMetric("DecompressedCount", "Number of decompressed message fields.");
+            decompressTime = mreg.longAdderMetric("DecompressTime", "Total time of decompression, in nanoseconds.");
+
+            mreg.register("CompressionRatio", () -> {
+                long size = compressedBytes.value();
+
+                return size == 0 ? 0 : (double)uncompressedBytes.value() / size;
+            }, "Ratio of the size before compression to the size after compression.");
+        }
+
+        /**
+         * @param dataSize Uncompressed size.
+         * @param compressedSize Compressed size.
+         * @param time Time in nanoseconds.
+         */
+        private void onCompressed(long dataSize, long compressedSize, long time) {
+            compressed.increment();
+            uncompressedBytes.add(dataSize);
+            compressedBytes.add(compressedSize);
+            compressTime.add(time);
+        }
+
+        /**
+         * @param time Time in nanoseconds.
+         */
+        private void onDecompressed(long time) {
+            decompressed.increment();
+            decompressTime.add(time);
+        }
+    }
+}
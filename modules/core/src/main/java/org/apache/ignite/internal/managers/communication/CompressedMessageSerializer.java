@@ -54,6 +54,12 @@ public class CompressedMessageSerializer implements MessageSerializer<Compressed
                         return true;
 
                 case 1:
+                    if (!writer.writeByte(msg.codec))
+                        return false;
+
+                    writer.incrementState();
+
+                case 2:
                     if (!writer.writeBoolean(msg.finalChunk))
                         return false;
 
@@ -62,7 +68,7 @@ public class CompressedMessageSerializer implements MessageSerializer<Compressed
                     if (msg.finalChunk)
                         return true;
 
-                case 2:
+                case 3:
                     if (!writer.writeByteArray(msg.chunk))
                         return false;
 
@@ -94,6 +100,17 @@ public class CompressedMessageSerializer implements MessageSerializer<Compressed
                     reader.incrementState();
 
                 case 1:
+                    msg.codec = reader.readByte();
+
+                    if (!reader.isLastRead())
+                        return false;
+
+                    if (CompressedMessageCodecType.fromId(msg.codec) == null)
+                        throw new IgniteException("Unknown compressed message codec: " + msg.codec);
+
+                    reader.incrementState();
+
+                case 2:
                     msg.finalChunk = reader.readBoolean();
 
                     if (!reader.isLastRead())
@@ -104,7 +121,7 @@ public class CompressedMessageSerializer implements MessageSerializer<Compressed
 
                     reader.incrementState();
 
-                case 2:
+                case 3:
                     msg.chunk = reader.readByteArray();
 
                     if (!reader.isLastRead())
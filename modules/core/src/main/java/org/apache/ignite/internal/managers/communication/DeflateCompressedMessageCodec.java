@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.managers.communication;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.apache.ignite.IgniteException;
+
+import static org.apache.ignite.internal.managers.communication.CompressedMessage.CHUNK_SIZE;
+
+/**
+ * Raw deflate codec, the default one.
+ */
+public class DeflateCompressedMessageCodec implements CompressedMessageCodec {
+    /** Instance. */
+    public static final DeflateCompressedMessageCodec INSTANCE = new DeflateCompressedMessageCodec();
+
+    /**
+     * Maximum expansion ratio for raw deflate.
+     * Raw deflate cannot expand beyond roughly 1032:1; a larger ratio indicates a corrupted size header.
+     */
+    private static final int MAX_DEFLATE_EXPANSION_RATIO = 1032;
+
+    /**
+     * Fixed additive margin for the expansion ratio check.
+     * Accounts for small constant overhead in deflate so the check doesn't falsely reject valid small messages.
+     */
+    private static final int MAX_DEFLATE_BLOCK_OVERHEAD = 64;
+
+    /** */
+    private DeflateCompressedMessageCodec() {
+        // No-op.
+    }
+
+    /** {@inheritDoc} */
+    @Override public CompressedMessageCodecType type() {
+        return CompressedMessageCodecType.DEFLATE;
+    }
+
+    /** {@inheritDoc} */
+    @Override public List<byte[]> compress(ByteBuffer buf, int lvl) {
+        int dataSize = buf.remaining();
+
+        Deflater deflater = new Deflater(lvl, true);
+
+        try {
+            deflater.setInput(buf);
+            deflater.finish();
+
+            List<byte[]> chunks = new ArrayList<>(dataSize / CHUNK_SIZE + 1);
+
+            // Incompressible data may expand: raw-deflate worst case below CHUNK_SIZE is one stored block (~11 bytes overhead).
+            byte[] chunk0 = new byte[dataSize >= CHUNK_SIZE ? CHUNK_SIZE : dataSize + 16];
+
+            int len = 0;
+
+            while (!deflater.finished()) {
+                len += deflater.deflate(chunk0, len, chunk0.length - len);
+
+                if (len == chunk0.length && !deflater.finished()) {
+                    chunks.add(chunk0);
+
+                    chunk0 = new byte[CHUNK_SIZE];
+                    len = 0;
+                }
+            }
+
+            if (len > 0)
+                chunks.add(len == chunk0.length ? chunk0 : Arrays.copyOf(chunk0, len));
+
+            return chunks;
+        }
+        finally {
+            deflater.end();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public byte[] decompress(List<byte[]> chunks, int dataSize) {
+        long compressedTotal = 0;
+
+        for (int i = 0; i < chunks.size(); i++)
+            compressedTotal += chunks.get(i).length;
+
+        // Maximum expansion ratio check to detect corrupted size headers.
+        if (dataSize > compressedTotal * MAX_DEFLATE_EXPANSION_RATIO + MAX_DEFLATE_BLOCK_OVERHEAD) {
+            throw new IgniteException("Invalid compressed message data size [dataSize=" + dataSize +
+                ", compressedBytes=" + compressedTotal + ']');
+        }
+
+        byte[] data = new byte[dataSize];
+
+        Inflater inflater = new Inflater(true);
+
+        try {
+            int off = 0;
+            int i = 0;
+
+            for (; i < chunks.size() && off < dataSize; i++) {
+                inflater.setInput(chunks.get(i));
+
+                int n;
+
+                while (off < dataSize && (n = inflater.inflate(data, off, dataSize - off)) > 0)
+                    off += n;
+            }
+
+            if (off != dataSize)
+                throw new IgniteException("Compressed stream is truncated [expected=" + dataSize + ", inflated=" + off + ']');
+
+            // Any extra inflatable byte means the size header is understated.
+            byte[] probe = new byte[1];
+
+            while (true) {
+                if (inflater.inflate(probe, 0, 1) > 0)
+                    throw new IgniteException("Compressed stream is longer than expected [expected=" + dataSize + ']');
+
+                if (inflater.finished() || i == chunks.size())
+                    break;
+
+                inflater.setInput(chunks.get(i++));
+            }
+        }
+        catch (DataFormatException e) {
+            throw new IgniteException(e);
+        }
+        finally {
+            inflater.end();
+        }
+
+        return data;
+    }
+}
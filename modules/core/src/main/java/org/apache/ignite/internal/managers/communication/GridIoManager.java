@@ -139,6 +139,8 @@ import org.apache.ignite.spi.communication.tcp.internal.TcpConnectionRequestDisc
 import org.apache.ignite.spi.communication.tcp.internal.TcpInverseConnectionResponseMessage;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_COMPRESSED_MESSAGE_CODECS;
+import static org.apache.ignite.IgniteSystemProperties.getString;
 import static org.apache.ignite.events.EventType.EVT_NODE_FAILED;
 import static org.apache.ignite.events.EventType.EVT_NODE_JOINED;
 import static org.apache.ignite.events.EventType.EVT_NODE_LEFT;
@@ -348,6 +350,9 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Object>>
     /** */
     private MessageFormatter formatter;
 
+    /** Codecs of the compressed message fields. */
+    private CompressedMessageCodecs compressedMsgCodecs;
+
     /** Stopping flag. */
     private volatile boolean stopping;
 
@@ -394,6 +399,15 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Object>>
         return ctx.messageFactory();
     }
 
+    /**
+     * @return Codecs of the compressed message fields.
+     */
+    public CompressedMessageCodecs compressedMessageCodecs() {
+        assert compressedMsgCodecs != null;
+
+        return compressedMsgCodecs;
+    }
+
     /**
      * @return Message writer factory.
      */
@@ -412,6 +426,13 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Object>>
 
     /** {@inheritDoc} */
     @Override public void start() throws IgniteCheckedException {
+        try {
+            compressedMsgCodecs = new CompressedMessageCodecs(ctx, getString(IGNITE_COMPRESSED_MESSAGE_CODECS));
+        }
+        catch (IllegalArgumentException e) {
+            throw new IgniteCheckedException("Invalid " + IGNITE_COMPRESSED_MESSAGE_CODECS + " system property.", e);
+        }
+
         MessageFormatter[] formatterExt = ctx.plugins().extensions(MessageFormatter.class);
 
         if (formatterExt != null && formatterExt.length > 0) {
@@ -424,11 +445,12 @@ public class GridIoManager extends GridManagerAdapter<CommunicationSpi<Object>>
         else {
             formatter = new MessageFormatter() {
                 @Override public MessageWriter writer(MessageFactory msgFactory) {
-                    return new DirectMessageWriter(msgFactory, ctx.config().getNetworkCompressionLevel());
+                    return new DirectMessageWriter(msgFactory, ctx.config().getNetworkCompressionLevel(),
+                        compressedMsgCodecs);
                 }
 
                 @Override public MessageReader reader(MessageFactory msgFactory) {
-                    return new DirectMessageReader(msgFactory, ctx.cacheObjects());
+                    return new DirectMessageReader(msgFactory, ctx.cacheObjects(), compressedMsgCodecs);
                 }
             };
         }
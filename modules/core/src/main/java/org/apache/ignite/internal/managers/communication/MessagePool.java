@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.managers.communication;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Supplier;
+import org.apache.ignite.plugin.extensions.communication.Message;
+
+/**
+ * Bounded pool of the reused instances of a message type. Messages are acquired by the message factory when they
+ * are read from the network and released once their handler completes. Neither operation allocates unless the pool
+ * is empty.
+ *
+ * @see org.apache.ignite.internal.Pooled
+ */
+public class MessagePool<M extends Message> {
+    /** Default maximum number of idle messages kept by the pool. */
+    public static final int DFLT_CAPACITY = 1024;
+
+    /** Creates new messages when the pool is empty. */
+    private final Supplier<M> factory;
+
+    /** Idle messages. */
+    private final ArrayBlockingQueue<M> idle;
+
+    /**
+     * @param factory Creates new messages when the pool is empty.
+     */
+    public MessagePool(Supplier<M> factory) {
+        this(factory, DFLT_CAPACITY);
+    }
+
+    /**
+     * @param factory Creates new messages when the pool is empty.
+     * @param cap Maximum number of idle messages kept by the pool.
+     */
+    public MessagePool(Supplier<M> factory, int cap) {
+        assert cap > 0 : cap;
+
+        this.factory = factory;
+
+        idle = new ArrayBlockingQueue<>(cap);
+    }
+
+    /**
+     * @return Idle message if any, otherwise a new one.
+     */
+    public M acquire() {
+        M msg = idle.poll();
+
+        return msg != null ? msg : factory.get();
+    }
+
+    /**
+     * Returns the message to the pool. The message is dropped if the pool is full.
+     *
+     * @param msg Message no longer referenced by its handler.
+     */
+    public void release(M msg) {
+        idle.offer(msg);
+    }
+
+    /**
+     * @return Number of idle messages.
+     */
+    public int size() {
+        return idle.size();
+    }
+}
@@ -22,6 +22,8 @@ import org.apache.ignite.IgniteException;
 import org.apache.ignite.configuration.IgniteConfiguration;
 import org.apache.ignite.internal.MarshallableMessage;
 import org.apache.ignite.internal.binary.BinaryMarshaller;
+import org.apache.ignite.internal.managers.communication.MessagePool;
+import org.apache.ignite.internal.managers.communication.PooledMessageSerializer;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.marshaller.Marshaller;
 import org.apache.ignite.marshaller.jdk.JdkMarshaller;
@@ -79,6 +81,14 @@ public abstract class AbstractMarshallableMessageFactoryProvider implements Mess
             throw new IgniteException("Failed to register message of type " + cls.getSimpleName(), e);
         }
 
+        if (serializer instanceof PooledMessageSerializer) {
+            MessagePool<T> pool = ((PooledMessageSerializer<T>)serializer).pool();
+
+            factory.register(id, pool::acquire, serializer);
+
+            return;
+        }
+
         factory.register(
             id,
             () -> {
@@ -51,6 +51,13 @@ public abstract class AbstractCacheObjectContext implements CacheObjectValueCont
         return ctx;
     }
 
+    /**
+     * @return Cache name or {@code null} if context is not bound to a cache.
+     */
+    public @Nullable String cacheName() {
+        return null;
+    }
+
     /** {@inheritDoc} */
     @Override public BinaryContext binaryContext() {
         return ctx.cacheObjects().binaryContext();
@@ -102,7 +109,7 @@ public abstract class AbstractCacheObjectContext implements CacheObjectValueCont
             return bytes;
 
         ByteBuffer src = ByteBuffer.wrap(bytes, offset, length);
-        ByteBuffer transformed = transformer.transform(src);
+        ByteBuffer transformed = transformer.transform(cacheName(), src);
 
         if (transformed != null) {
             assert transformed.remaining() > 0 : transformed.remaining();
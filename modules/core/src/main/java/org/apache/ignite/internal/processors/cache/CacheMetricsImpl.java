@@ -449,6 +449,26 @@ public class CacheMetricsImpl implements CacheMetrics {
 
         idxBuildPartitionsLeftCnt = mreg.intMetric("IndexBuildPartitionsLeftCount",
             "The number of local node partitions that remain to be processed to complete indexing.");
+
+        if (store != null) {
+            mreg.register("WriteBehindBufferSize", store::getWriteBehindBufferSize,
+                "Count of entries waiting to be flushed by the write-behind store.");
+
+            mreg.register("WriteBehindMaxFlusherBufferSize", store::getWriteBehindMaxFlusherBufferSize,
+                "Maximum count of entries waiting to be flushed by a single write-behind flusher thread.");
+
+            mreg.register("WriteBehindCurrentBatchSize", store::getWriteBehindCurrentBatchSize,
+                "Minimum of the current batch sizes of the write-behind flusher threads.");
+
+            mreg.register("WriteBehindStoreBatchCount", store::getWriteBehindStoreBatchCount,
+                "Count of batches written to the cache store by the write-behind store.");
+
+            mreg.register("WriteBehindAverageStoreBatchSize", store::getWriteBehindAverageStoreBatchSize,
+                "Average count of entries in a batch written to the cache store by the write-behind store.");
+
+            mreg.register("WriteBehindAverageStoreTime", store::getWriteBehindAverageStoreTime,
+                "Average time of a batch update of the cache store by the write-behind store in nanoseconds.");
+        }
     }
 
     /**
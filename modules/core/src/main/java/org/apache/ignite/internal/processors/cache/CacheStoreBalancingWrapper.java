@@ -24,10 +24,13 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 import javax.cache.Cache;
 import javax.cache.integration.CacheLoaderException;
 import javax.cache.integration.CacheWriterException;
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.cache.store.CacheStore;
 import org.apache.ignite.configuration.CacheConfiguration;
 import org.apache.ignite.internal.util.future.GridFutureAdapter;
@@ -38,11 +41,19 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * Cache store wrapper that ensures that there will be no more that one thread loading value from underlying store.
+ * <p>
+ * If the load batch window is set, single-key loads of different keys issued concurrently by {@link #batchLoad(Object)}
+ * are collected during the window and loaded with one {@link CacheStore#loadAll(Iterable)} call of at most
+ * {@link #loadAllThreshold()} keys. The thread that opens a batch waits for the window and loads the batch, the other
+ * threads wait for the result.
  */
 public class CacheStoreBalancingWrapper<K, V> implements CacheStore<K, V> {
     /** */
     public static final int DFLT_LOAD_ALL_THRESHOLD = CacheConfiguration.DFLT_CONCURRENT_LOAD_ALL_THRESHOLD;
 
+    /** @see IgniteSystemProperties#IGNITE_CACHE_STORE_LOAD_BATCH_WINDOW */
+    public static final long DFLT_CACHE_STORE_LOAD_BATCH_WINDOW = 0;
+
     /** Delegate store. */
     private CacheStore<K, V> delegate;
 
@@ -52,6 +63,15 @@ public class CacheStoreBalancingWrapper<K, V> implements CacheStore<K, V> {
     /** Load all threshold. */
     private int loadAllThreshold = DFLT_LOAD_ALL_THRESHOLD;
 
+    /** Load batch window in nanoseconds, {@code 0} if single-key loads are not batched. */
+    private long loadBatchWindowNanos;
+
+    /** Mutex guarding the batch being collected. */
+    private final Object batchMux = new Object();
+
+    /** Batch of single-key loads being collected. */
+    @Nullable private volatile LoadBatch curBatch;
+
     /**
      * @param delegate Delegate store.
      */
@@ -68,6 +88,17 @@ public class CacheStoreBalancingWrapper<K, V> implements CacheStore<K, V> {
         this.loadAllThreshold = loadAllThreshold;
     }
 
+    /**
+     * @param delegate Delegate store.
+     * @param loadAllThreshold Load all threshold.
+     * @param loadBatchWindowMicros Load batch window in microseconds, {@code 0} if single-key loads are not batched.
+     */
+    public CacheStoreBalancingWrapper(CacheStore<K, V> delegate, int loadAllThreshold, long loadBatchWindowMicros) {
+        this(delegate, loadAllThreshold);
+
+        loadBatchWindowNanos = TimeUnit.MICROSECONDS.toNanos(loadBatchWindowMicros);
+    }
+
     /**
      * @return Load all threshold.
      */
@@ -111,6 +142,67 @@ public class CacheStoreBalancingWrapper<K, V> implements CacheStore<K, V> {
         }
     }
 
+    /**
+     * Loads the value within a batch of concurrent single-key loads. Falls back to {@link #load(Object)} if batching
+     * is disabled.
+     *
+     * @param key Key.
+     * @return Loaded value (possibly {@code null}).
+     */
+    @Nullable public V batchLoad(K key) {
+        if (loadBatchWindowNanos == 0 || loadAllThreshold < 2)
+            return load(key);
+
+        LoadFuture fut = pendingLoads.get(key);
+
+        try {
+            if (fut != null)
+                return fut.get(key);
+
+            LoadBatch b;
+            boolean first = false;
+
+            synchronized (batchMux) {
+                b = curBatch;
+
+                if (b == null) {
+                    b = new LoadBatch();
+
+                    first = true;
+                }
+
+                LoadFuture old = pendingLoads.putIfAbsent(key, b.fut);
+
+                if (old != null)
+                    fut = old;
+                else {
+                    b.keys.add(key);
+
+                    if (b.keys.size() >= loadAllThreshold) {
+                        if (!first) {
+                            curBatch = null;
+
+                            LockSupport.unpark(b.owner);
+                        }
+                    }
+                    else if (first)
+                        curBatch = b;
+                }
+            }
+
+            if (fut != null)
+                return fut.get(key);
+
+            if (first)
+                b.load();
+
+            return b.fut.get(key);
+        }
+        catch (IgniteCheckedException e) {
+            throw new CacheLoaderException(e);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override public void loadCache(IgniteBiInClosure<K, V> clo, @Nullable Object... args) {
         delegate.loadCache(clo, args);
@@ -233,6 +325,69 @@ public class CacheStoreBalancingWrapper<K, V> implements CacheStore<K, V> {
         return S.toString(CacheStoreBalancingWrapper.class, this);
     }
 
+    /**
+     * Single-key loads collected within the load batch window.
+     */
+    private class LoadBatch {
+        /** Thread that opened the batch and loads it. */
+        private final Thread owner = Thread.currentThread();
+
+        /** Time when the batch should be loaded. */
+        private final long deadline = System.nanoTime() + loadBatchWindowNanos;
+
+        /** Keys, modified under the batch mutex while the batch is being collected. */
+        private final Collection<K> keys = new ArrayList<>();
+
+        /** Load future of the batch keys. */
+        private final LoadFuture fut = new LoadFuture();
+
+        /**
+         * Waits for the window to elapse or for the batch to fill up, then loads the batch. Must be called by
+         * the owner thread.
+         */
+        private void load() {
+            assert owner == Thread.currentThread();
+
+            boolean interrupted = false;
+
+            long rem;
+
+            while (curBatch == this && (rem = deadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(rem);
+
+                if (Thread.interrupted()) {
+                    interrupted = true;
+
+                    break;
+                }
+            }
+
+            Collection<K> keys0;
+
+            synchronized (batchMux) {
+                if (curBatch == this)
+                    curBatch = null;
+
+                keys0 = keys;
+            }
+
+            try {
+                Map<K, V> loaded = delegate.loadAll(keys0);
+
+                fut.onComplete(keys0, loaded != null ? loaded : Collections.emptyMap());
+            }
+            catch (Throwable e) {
+                fut.onError(keys0, e);
+
+                throw e;
+            }
+            finally {
+                if (interrupted)
+                    Thread.currentThread().interrupt();
+            }
+        }
+    }
+
     /**
      *
      */
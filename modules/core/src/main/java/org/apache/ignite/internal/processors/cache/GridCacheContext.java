@@ -38,6 +38,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import javax.cache.Cache;
 import javax.cache.configuration.Factory;
@@ -72,6 +73,7 @@ import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtCacheA
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtCacheEntry;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtTopologyFuture;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtTransactionalCacheAdapter;
+import org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridDhtAtomicCompactCacheEntry;
 import org.apache.ignite.internal.processors.cache.distributed.dht.colocated.GridDhtColocatedCache;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionTopology;
@@ -101,6 +103,7 @@ import org.apache.ignite.internal.processors.plugin.CachePluginManager;
 import org.apache.ignite.internal.processors.query.schema.operation.SchemaAddQueryEntityOperation;
 import org.apache.ignite.internal.processors.timeout.GridTimeoutProcessor;
 import org.apache.ignite.internal.util.F0;
+import org.apache.ignite.internal.util.GridStripedLock;
 import org.apache.ignite.internal.util.tostring.GridToStringExclude;
 import org.apache.ignite.internal.util.typedef.C1;
 import org.apache.ignite.internal.util.typedef.F;
@@ -118,6 +121,7 @@ import org.apache.ignite.session.SessionContext;
 import org.apache.ignite.session.SessionContextProvider;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CACHE_COMPACT_ENTRIES;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_DISABLE_TRIGGERING_CACHE_INTERCEPTOR_ON_CONFLICT;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_READ_LOAD_BALANCING;
 import static org.apache.ignite.cache.CacheAtomicityMode.ATOMIC;
@@ -149,6 +153,9 @@ public class GridCacheContext<K, V> implements Externalizable {
     /** Empty cache version array. */
     private static final GridCacheVersion[] EMPTY_VERSION = new GridCacheVersion[0];
 
+    /** Number of locks of the compact entries lock table per CPU. */
+    private static final int ENTRY_LOCKS_PER_CPU = 64;
+
     /** @see IgniteSystemProperties#IGNITE_READ_LOAD_BALANCING */
     public static final boolean DFLT_READ_LOAD_BALANCING = true;
 
@@ -263,6 +270,9 @@ public class GridCacheContext<K, V> implements Externalizable {
     /** */
     private boolean deferredDel;
 
+    /** Lock table of the compact entries, {@code null} if the cache uses the entries with own locks. */
+    @Nullable private GridStripedLock entryLocks;
+
     /** Whether {@link EventType#EVT_CACHE_REBALANCE_STARTED} was sent (used only for REPLICATED cache). */
     private volatile boolean rebalanceStartedEvtSent;
 
@@ -648,6 +658,28 @@ public class GridCacheContext<K, V> implements Externalizable {
 
         deferredDel = cache.isDht() || cache.isDhtAtomic() || cache.isColocated() ||
             (cache.isNear() && cache.configuration().getAtomicityMode() == ATOMIC);
+
+        // Entries of off-heap only atomic caches live for the duration of an operation.
+        if (cache.isDhtAtomic() && !config().isOnheapCacheEnabled() && userCache() &&
+            IgniteSystemProperties.getBoolean(IGNITE_CACHE_COMPACT_ENTRIES))
+            entryLocks = new GridStripedLock(ENTRY_LOCKS_PER_CPU * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @return {@code True} if the cache uses {@link GridDhtAtomicCompactCacheEntry}.
+     */
+    public boolean compactEntries() {
+        return entryLocks != null;
+    }
+
+    /**
+     * @param key Key.
+     * @return Lock of the compact entry.
+     */
+    public ReentrantLock entryLock(KeyCacheObject key) {
+        assert entryLocks != null;
+
+        return (ReentrantLock)entryLocks.getLock(key.hashCode());
     }
 
     /**
@@ -41,6 +41,7 @@ import org.apache.ignite.internal.IgniteInternalFuture;
 import org.apache.ignite.internal.cluster.ClusterTopologyCheckedException;
 import org.apache.ignite.internal.managers.communication.GridIoPolicy;
 import org.apache.ignite.internal.managers.communication.GridMessageListener;
+import org.apache.ignite.internal.managers.communication.PooledMessageSerializer;
 import org.apache.ignite.internal.managers.deployment.GridDeploymentInfo;
 import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
 import org.apache.ignite.internal.processors.cache.distributed.dht.CacheGetFuture;
@@ -92,6 +93,7 @@ import org.apache.ignite.internal.util.typedef.internal.CU;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgniteBiInClosure;
 import org.apache.ignite.lang.IgniteUuid;
+import org.apache.ignite.plugin.extensions.communication.MessageSerializer;
 import org.apache.ignite.thread.IgniteThread;
 import org.jetbrains.annotations.Nullable;
 
@@ -1026,11 +1028,15 @@ public class GridCacheIoManager extends GridCacheSharedManagerAdapter {
      * @param c Closure.
      */
     private void processMessage(UUID nodeId, GridCacheMessage msg, IgniteBiInClosure<UUID, GridCacheMessage> c) {
+        boolean processed = false;
+
         try {
             c.apply(nodeId, msg);
 
             if (log.isDebugEnabled())
                 log.debug("Finished processing cache communication message [nodeId=" + nodeId + ", msg=" + msg + ']');
+
+            processed = true;
         }
         catch (Throwable e) {
             try {
@@ -1048,9 +1054,29 @@ public class GridCacheIoManager extends GridCacheSharedManagerAdapter {
         }
         finally {
             onMessageProcessed(msg);
+
+            if (processed)
+                releasePooledMessage(nodeId, msg);
         }
     }
 
+    /**
+     * Returns the message read from the network to its pool, if its type is pooled.
+     *
+     * @param nodeId Sender node ID.
+     * @param msg Processed message.
+     */
+    private void releasePooledMessage(UUID nodeId, GridCacheMessage msg) {
+        // Local messages are not read from the network and may still be referenced by the sender.
+        if (nodeId.equals(cctx.localNodeId()) || msg.classError() != null)
+            return;
+
+        MessageSerializer<?> ser = cctx.gridIO().messageFactory().serializer(msg.directType());
+
+        if (ser instanceof PooledMessageSerializer)
+            ((PooledMessageSerializer<GridCacheMessage>)ser).pool().release(msg);
+    }
+
     /**
      * @param msg Message.
      */
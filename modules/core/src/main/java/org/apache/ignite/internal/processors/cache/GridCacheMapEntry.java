@@ -26,7 +26,6 @@ import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import javax.cache.Cache;
@@ -160,7 +159,6 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      *         <li>8 : {@link #ver}</li>
      *         <li>8 : {@link #extras}</li>
      *         <li>8 : {@link #lock}</li>
-     *         <li>8 : {@link #listenerLock}</li>
      *         <li>8 : {@link GridMetadataAwareAdapter#data}</li>
      *     </ul></li>
      *     <li>Primitive fields:<ul>
@@ -187,7 +185,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      *     </ul></li>
      * </ul>
      */
-    private static final int SIZE_OVERHEAD = 8 * 8 /* references */ + 5 /* primitives */ + 16 /* extras */
+    private static final int SIZE_OVERHEAD = 7 * 8 /* references */ + 5 /* primitives */ + 16 /* extras */
         + 16 /* version */ + 20 /* key */ + 16 /* value */;
 
     /** Static logger to avoid re-creation. Made static for test purpose. */
@@ -220,13 +218,9 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
     @GridToStringInclude
     private GridCacheEntryExtras extras;
 
-    /** */
-    @GridToStringExclude
-    private final ReentrantLock lock = new ReentrantLock();
-
-    /** Read Lock for continuous query listener */
+    /** Entry lock, may be shared with other entries of the cache. */
     @GridToStringExclude
-    private final ReadWriteLock listenerLock;
+    private final ReentrantLock lock;
 
     /**
      * Flags:
@@ -245,6 +239,19 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
     protected GridCacheMapEntry(
         GridCacheContext<?, ?> cctx,
         KeyCacheObject key
+    ) {
+        this(cctx, key, new ReentrantLock());
+    }
+
+    /**
+     * @param cctx Cache context.
+     * @param key Cache key.
+     * @param lock Entry lock.
+     */
+    protected GridCacheMapEntry(
+        GridCacheContext<?, ?> cctx,
+        KeyCacheObject key,
+        ReentrantLock lock
     ) {
         if (log == null)
             log = U.logger(cctx.kernalContext(), logRef, GridCacheMapEntry.class);
@@ -256,7 +263,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
         this.key = key;
         this.hash = key.hashCode();
         this.cctx = cctx;
-        this.listenerLock = cctx.group().listenerLock();
+        this.lock = lock;
 
         ver = cctx.shared().versions().startVersion();
     }
@@ -4215,7 +4222,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      * query notified before the next cache listener update
      */
     private void lockListenerReadLock() {
-        listenerLock.readLock().lock();
+        cctx.group().listenerLock().readLock().lock();
     }
 
     /**
@@ -4224,7 +4231,14 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      * @see #lockListenerReadLock()
      */
     private void unlockListenerReadLock() {
-        listenerLock.readLock().unlock();
+        cctx.group().listenerLock().readLock().unlock();
+    }
+
+    /**
+     * @return Entry lock.
+     */
+    ReentrantLock entryLock() {
+        return lock;
     }
 
     /** {@inheritDoc} */
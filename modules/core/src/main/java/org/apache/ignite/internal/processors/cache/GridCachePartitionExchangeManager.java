@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableSet;
@@ -47,6 +48,7 @@ import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
 import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.cache.CacheRebalanceMode;
@@ -74,6 +76,8 @@ import org.apache.ignite.internal.managers.discovery.DiscoveryLocalJoinData;
 import org.apache.ignite.internal.managers.eventstorage.DiscoveryEventListener;
 import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
 import org.apache.ignite.internal.processors.affinity.GridAffinityAssignmentCache;
+import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.CachePartitionFullCountersMap;
+import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.ExchangePartitionsState;
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.FinishPreloadingTask;
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.ForceRebalanceExchangeTask;
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionDemandMessage;
@@ -101,8 +105,10 @@ import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
 import org.apache.ignite.internal.processors.cluster.ChangeGlobalStateFinishMessage;
 import org.apache.ignite.internal.processors.cluster.ChangeGlobalStateMessage;
 import org.apache.ignite.internal.processors.metric.MetricRegistryImpl;
+import org.apache.ignite.internal.processors.metric.impl.AtomicLongMetric;
 import org.apache.ignite.internal.processors.metric.impl.BooleanMetricImpl;
 import org.apache.ignite.internal.processors.metric.impl.HistogramMetricImpl;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
 import org.apache.ignite.internal.processors.query.schema.SchemaNodeLeaveExchangeWorkerTask;
 import org.apache.ignite.internal.processors.timeout.GridTimeoutObject;
 import org.apache.ignite.internal.processors.tracing.Span;
@@ -133,13 +139,13 @@ import org.apache.ignite.internal.util.worker.queue.IgniteAsyncObjectHandler;
 import org.apache.ignite.lang.IgniteBiInClosure;
 import org.apache.ignite.lang.IgniteInClosure;
 import org.apache.ignite.lang.IgniteUuid;
-import org.apache.ignite.metric.MetricRegistry;
 import org.apache.ignite.transactions.TransactionState;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_DIAGNOSTIC_WARN_LIMIT;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_EXCHANGE_DELTA_PARTITION_MAPS;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_IO_DUMP_ON_TIMEOUT;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_PRELOAD_RESEND_TIMEOUT;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_THREAD_DUMP_ON_EXCHANGE_TIMEOUT;
@@ -157,8 +163,12 @@ import static org.apache.ignite.internal.processors.affinity.AffinityTopologyVer
 import static org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionsExchangeFuture.nextDumpTimeout;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPreloader.DFLT_PRELOAD_RESEND_TIMEOUT;
 import static org.apache.ignite.internal.processors.metric.GridMetricManager.CLUSTER_METRICS;
+import static org.apache.ignite.internal.processors.metric.GridMetricManager.PME_DELTA_FULL_MSGS;
+import static org.apache.ignite.internal.processors.metric.GridMetricManager.PME_DELTA_FULL_MSG_SIZE;
 import static org.apache.ignite.internal.processors.metric.GridMetricManager.PME_DURATION;
 import static org.apache.ignite.internal.processors.metric.GridMetricManager.PME_DURATION_HISTOGRAM;
+import static org.apache.ignite.internal.processors.metric.GridMetricManager.PME_FULL_MSGS;
+import static org.apache.ignite.internal.processors.metric.GridMetricManager.PME_FULL_MSG_SIZE;
 import static org.apache.ignite.internal.processors.metric.GridMetricManager.PME_METRICS;
 import static org.apache.ignite.internal.processors.metric.GridMetricManager.PME_OPS_BLOCKED_DURATION;
 import static org.apache.ignite.internal.processors.metric.GridMetricManager.PME_OPS_BLOCKED_DURATION_HISTOGRAM;
@@ -195,6 +205,24 @@ public class GridCachePartitionExchangeManager<K, V> extends GridCacheSharedMana
     private final int DIAGNOSTIC_WARN_LIMIT =
         IgniteSystemProperties.getInteger(IGNITE_DIAGNOSTIC_WARN_LIMIT, DFLT_DIAGNOSTIC_WARN_LIMIT);
 
+    /** Number of kept partitions states of the last full messages. */
+    private static final int PARTS_STATES_HISTORY_SIZE = 2;
+
+    /** If {@code true}, full messages are written relative to the partitions states known to the receivers. */
+    private final boolean deltaPartMaps = IgniteSystemProperties.getBoolean(IGNITE_EXCHANGE_DELTA_PARTITION_MAPS, true);
+
+    /** Partitions states of the last full messages by IDs. */
+    @GridToStringExclude
+    private final Map<IgniteUuid, ExchangePartitionsState> partsStates =
+        new LinkedHashMap<IgniteUuid, ExchangePartitionsState>() {
+            @Override protected boolean removeEldestEntry(Map.Entry<IgniteUuid, ExchangePartitionsState> eldest) {
+                return size() > PARTS_STATES_HISTORY_SIZE;
+            }
+        };
+
+    /** Partitions state of the latest full message. */
+    @Nullable private volatile ExchangePartitionsState lastPartsState;
+
     /** Atomic reference for pending partition resend timeout object. */
     private AtomicReference<ResendTimeoutObject> pendingResend = new AtomicReference<>();
 
@@ -280,6 +308,18 @@ public class GridCachePartitionExchangeManager<K, V> extends GridCacheSharedMana
     /** Metric that shows whether cluster is in fully rebalanced state. */
     private volatile BooleanMetricImpl rebalanced;
 
+    /** Number of full messages sent with complete partition maps. */
+    private volatile LongAdderMetric fullMsgs;
+
+    /** Number of full messages sent with partition maps relative to the previous ones. */
+    private volatile LongAdderMetric deltaFullMsgs;
+
+    /** Size of the last full message sent with complete partition maps. */
+    private volatile AtomicLongMetric fullMsgSize;
+
+    /** Size of the last full message sent with partition maps relative to the previous ones. */
+    private volatile AtomicLongMetric deltaFullMsgSize;
+
     /** */
     private final ReentrantLock dumpLongRunningOpsLock = new ReentrantLock();
 
@@ -487,7 +527,7 @@ public class GridCachePartitionExchangeManager<K, V> extends GridCacheSharedMana
             }
         }
 
-        MetricRegistry mreg = cctx.kernalContext().metric().registry(PME_METRICS);
+        MetricRegistryImpl mreg = cctx.kernalContext().metric().registry(PME_METRICS);
 
         mreg.register(PME_DURATION,
             () -> currentPMEDuration(false),
@@ -500,6 +540,20 @@ public class GridCachePartitionExchangeManager<K, V> extends GridCacheSharedMana
         durationHistogram = mreg.findMetric(PME_DURATION_HISTOGRAM);
         blockingDurationHistogram = mreg.findMetric(PME_OPS_BLOCKED_DURATION_HISTOGRAM);
 
+        fullMsgs = mreg.longAdderMetric(PME_FULL_MSGS,
+            "Number of full messages sent by the coordinator with complete partition maps.");
+
+        deltaFullMsgs = mreg.longAdderMetric(PME_DELTA_FULL_MSGS,
+            "Number of full messages sent by the coordinator with partition maps relative to the previous ones.");
+
+        fullMsgSize = mreg.longMetric(PME_FULL_MSG_SIZE,
+            "Number of partition states and update counters in the last full message sent with complete " +
+                "partition maps.");
+
+        deltaFullMsgSize = mreg.longMetric(PME_DELTA_FULL_MSG_SIZE,
+            "Number of partition states and update counters in the last full message sent with partition maps " +
+                "relative to the previous ones.");
+
         MetricRegistryImpl clusterReg = cctx.kernalContext().metric().registry(CLUSTER_METRICS);
 
         rebalanced = clusterReg.booleanMetric(REBALANCED,
@@ -1378,31 +1432,38 @@ public class GridCachePartitionExchangeManager<K, V> extends GridCacheSharedMana
 
         Map<Integer, Map<Integer, Long>> partsSizes = new HashMap<>();
 
-        for (CacheGroupContext grp : grps) {
-            if (exchId != null) {
-                AffinityTopologyVersion startTopVer = grp.localStartVersion();
+        List<CacheGroupContext> startedGrps = exchId == null ? new ArrayList<>(grps) : grps.stream()
+            .filter(grp -> grp.localStartVersion().compareTo(exchId.topologyVersion()) <= 0)
+            .collect(Collectors.toList());
 
-                if (startTopVer.compareTo(exchId.topologyVersion()) > 0)
-                    continue;
-            }
-
-            GridAffinityAssignmentCache affCache = grp.affinity();
+        Collection<GroupPartitionsData> grpsData;
 
-            GridDhtPartitionFullMap locMap = grp.topology().partitionMap(true);
+        try {
+            // Copies of the partition maps are collected in parallel and added to the message in the groups order.
+            grpsData = U.doInParallel(
+                U.availableThreadCount(cctx.kernalContext(), SYSTEM_POOL, 2),
+                cctx.kernalContext().pools().getSystemExecutorService(),
+                startedGrps,
+                grp -> new GroupPartitionsData(grp, exchId != null));
+        }
+        catch (IgniteCheckedException e) {
+            throw new IgniteException(e);
+        }
 
-            if (locMap != null)
-                addFullPartitionsMap(m, dupData, grp.groupId(), locMap, affCache.similarAffinityKey());
+        for (GroupPartitionsData grpData : grpsData) {
+            CacheGroupContext grp = grpData.grp;
 
-            Map<Integer, Long> partSizesMap = grp.topology().globalPartSizes();
+            if (grpData.locMap != null)
+                addFullPartitionsMap(m, dupData, grp.groupId(), grpData.locMap, grp.affinity().similarAffinityKey());
 
-            if (!partSizesMap.isEmpty())
-                partsSizes.put(grp.groupId(), partSizesMap);
+            if (!grpData.partSizes.isEmpty())
+                partsSizes.put(grp.groupId(), grpData.partSizes);
 
             if (exchId != null) {
-                m.addPartitionUpdateCounters(grp.groupId(), grp.topology().fullUpdateCounters());
+                m.addPartitionUpdateCounters(grp.groupId(), grpData.cntrs);
 
                 // Lost partitions can be skipped on node left or activation.
-                m.addLostPartitions(grp.groupId(), grp.topology().lostPartitions());
+                m.addLostPartitions(grp.groupId(), grpData.lostParts);
             }
         }
 
@@ -1431,6 +1492,39 @@ public class GridCachePartitionExchangeManager<K, V> extends GridCacheSharedMana
         return m;
     }
 
+    /**
+     * Partitions data of a cache group collected for a full message.
+     */
+    private static class GroupPartitionsData {
+        /** Cache group. */
+        private final CacheGroupContext grp;
+
+        /** Partition map. */
+        private final GridDhtPartitionFullMap locMap;
+
+        /** Partition sizes. */
+        private final Map<Integer, Long> partSizes;
+
+        /** Update counters. */
+        private final CachePartitionFullCountersMap cntrs;
+
+        /** Lost partitions. */
+        private final Set<Integer> lostParts;
+
+        /**
+         * @param grp Cache group.
+         * @param exchange {@code True} if the data is collected for an exchange.
+         */
+        private GroupPartitionsData(CacheGroupContext grp, boolean exchange) {
+            this.grp = grp;
+
+            locMap = grp.topology().partitionMap(true);
+            partSizes = grp.topology().globalPartSizes();
+            cntrs = exchange ? grp.topology().fullUpdateCounters() : null;
+            lostParts = exchange ? grp.topology().lostPartitions() : null;
+        }
+    }
+
     /**
      * @param m Message.
      * @param dupData Duplicated data map.
@@ -2742,6 +2836,65 @@ public class GridCachePartitionExchangeManager<K, V> extends GridCacheSharedMana
         return rebalanced;
     }
 
+    /**
+     * @return {@code True} if full messages are written relative to the partitions states known to the receivers.
+     * @see IgniteSystemProperties#IGNITE_EXCHANGE_DELTA_PARTITION_MAPS
+     */
+    public boolean deltaPartitionMaps() {
+        return deltaPartMaps;
+    }
+
+    /**
+     * Keeps the partitions state of a sent or received full message as a base of the next ones.
+     *
+     * @param state Partitions state.
+     */
+    public void onPartitionsState(ExchangePartitionsState state) {
+        synchronized (partsStates) {
+            partsStates.put(state.id(), state);
+
+            ExchangePartitionsState last = lastPartsState;
+
+            if (last == null || state.topologyVersion().compareTo(last.topologyVersion()) >= 0)
+                lastPartsState = state;
+        }
+    }
+
+    /**
+     * @param id State ID.
+     * @return Partitions state or {@code null} if it is not known.
+     */
+    @Nullable public ExchangePartitionsState partitionsState(IgniteUuid id) {
+        synchronized (partsStates) {
+            return partsStates.get(id);
+        }
+    }
+
+    /**
+     * @return ID of the partitions state of the latest full message.
+     */
+    @Nullable public IgniteUuid lastPartitionsStateId() {
+        ExchangePartitionsState last = lastPartsState;
+
+        return last != null ? last.id() : null;
+    }
+
+    /**
+     * Updates the full messages metrics.
+     *
+     * @param msg Sent full message.
+     */
+    public void onFullMessageSent(GridDhtPartitionsFullMessage msg) {
+        if (msg.deltaEncoded()) {
+            deltaFullMsgs.increment();
+            deltaFullMsgSize.value(msg.partitionsSize());
+        }
+        else {
+            fullMsgs.increment();
+            fullMsgSize.value(msg.partitionsSize());
+        }
+    }
+
     /**
      * Exchange task handler. All exchanges happen only by one thread and next
      * exchange will not start until previous one completes.
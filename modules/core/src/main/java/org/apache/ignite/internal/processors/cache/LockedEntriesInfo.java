@@ -123,7 +123,7 @@ public class LockedEntriesInfo {
 
             // Visibility guarantees provided by volatile lockedIdx field.
             for (int i = 0; i <= otherThreadLockedIdx; i++) {
-                if (otherThreadLocks[i] == entry)
+                if (sameLock(otherThreadLocks[i], entry))
                     return true;
             }
         }
@@ -131,6 +131,20 @@ public class LockedEntriesInfo {
         return false;
     }
 
+    /**
+     * @param e1 Entry.
+     * @param e2 Entry.
+     * @return {@code True} if the entries are guarded by the same lock, entries may share a lock of a striped lock
+     *      table, see {@link GridCacheContext#compactEntries()}.
+     */
+    private static boolean sameLock(GridCacheEntryEx e1, GridCacheEntryEx e2) {
+        if (e1 == e2)
+            return true;
+
+        return e1 instanceof GridCacheMapEntry && e2 instanceof GridCacheMapEntry &&
+            ((GridCacheMapEntry)e1).entryLock() == ((GridCacheMapEntry)e2).entryLock();
+    }
+
     /** Per-thread locked entries info. */
     private static class LockedEntries {
         /** Timestamp of lock. */
@@ -0,0 +1,335 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.cache;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Out of order updates of a partition update counter: ranges of counters sorted by their starts.
+ * <p>
+ * The ranges are kept in a ring of two primitive arrays, so tracking of the updates does not allocate memory unless
+ * the ring grows. The ranges are usually added near the ends of the ring and removed from its head when the low
+ * water mark moves, so the shift of the elements on insertion and removal goes towards the closest end of the ring.
+ * An empty ring does not hold arrays. Not thread safe.
+ */
+class PartitionUpdateCounterGaps implements Iterable<long[]> {
+    /** */
+    private static final long[] EMPTY = new long[0];
+
+    /** Initial capacity, power of 2. */
+    private static final int INIT_CAP = 8;
+
+    /** Starts of the ranges. */
+    private long[] starts = EMPTY;
+
+    /** Deltas of the ranges. */
+    private long[] deltas = EMPTY;
+
+    /** Physical index of the first range. */
+    private int head;
+
+    /** Number of the ranges. */
+    private int size;
+
+    /**
+     * @return Number of the ranges.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return {@code True} if there are no ranges.
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all the ranges and releases the memory.
+     */
+    void clear() {
+        starts = deltas = EMPTY;
+        head = size = 0;
+    }
+
+    /**
+     * @param idx Index of the range.
+     * @return Start of the range.
+     */
+    long start(int idx) {
+        assert idx >= 0 && idx < size : idx;
+
+        return starts[phys(idx)];
+    }
+
+    /**
+     * @param idx Index of the range.
+     * @return Delta of the range.
+     */
+    long delta(int idx) {
+        assert idx >= 0 && idx < size : idx;
+
+        return deltas[phys(idx)];
+    }
+
+    /**
+     * @param idx Index of the range.
+     * @param delta Delta to add to the range.
+     */
+    void addDelta(int idx, long delta) {
+        assert idx >= 0 && idx < size : idx;
+
+        deltas[phys(idx)] += delta;
+    }
+
+    /**
+     * @return End of the last range (exclusive).
+     */
+    long lastAbsolute() {
+        assert size > 0;
+
+        int p = phys(size - 1);
+
+        return starts[p] + deltas[p];
+    }
+
+    /**
+     * @param start Start of a range.
+     * @return Index of the range with the start or {@code -(insertion point) - 1} if there is no such range.
+     */
+    int indexOf(long start) {
+        int lo = 0;
+        int hi = size - 1;
+
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+
+            long midStart = starts[phys(mid)];
+
+            if (midStart < start)
+                lo = mid + 1;
+            else if (midStart > start)
+                hi = mid - 1;
+            else
+                return mid;
+        }
+
+        return -(lo + 1);
+    }
+
+    /**
+     * @param start Start of a range.
+     * @return Index of the range with the greatest start less than the given one or {@code -1} if there is no such
+     *      range.
+     */
+    int lowerIndex(long start) {
+        int idx = indexOf(start);
+
+        return (idx >= 0 ? idx : -idx - 1) - 1;
+    }
+
+    /**
+     * @param start Start of the range.
+     * @param delta Delta of the range.
+     * @return {@code False} if there is a range with the same start already.
+     */
+    boolean add(long start, long delta) {
+        int idx = indexOf(start);
+
+        if (idx >= 0)
+            return false;
+
+        insert(-idx - 1, start, delta);
+
+        return true;
+    }
+
+    /**
+     * @param idx Index of the range to remove.
+     */
+    void remove(int idx) {
+        assert idx >= 0 && idx < size : idx;
+
+        int mask = starts.length - 1;
+
+        if (idx < size - 1 - idx) {
+            for (int i = idx; i > 0; i--)
+                move(phys(i - 1), phys(i));
+
+            head = (head + 1) & mask;
+        }
+        else {
+            for (int i = idx; i < size - 1; i++)
+                move(phys(i + 1), phys(i));
+        }
+
+        if (--size == 0)
+            head = 0;
+    }
+
+    /**
+     * @return Copy of the ranges.
+     */
+    PartitionUpdateCounterGaps copy() {
+        PartitionUpdateCounterGaps copy = new PartitionUpdateCounterGaps();
+
+        if (size > 0) {
+            copy.starts = new long[starts.length];
+            copy.deltas = new long[starts.length];
+
+            copyTo(copy.starts, copy.deltas);
+
+            copy.size = size;
+        }
+
+        return copy;
+    }
+
+    /** {@inheritDoc} */
+    @Override public Iterator<long[]> iterator() {
+        return new Iterator<long[]>() {
+            /** */
+            private int idx;
+
+            /** {@inheritDoc} */
+            @Override public boolean hasNext() {
+                return idx < size;
+            }
+
+            /** {@inheritDoc} */
+            @Override public long[] next() {
+                if (idx >= size)
+                    throw new NoSuchElementException();
+
+                int p = phys(idx++);
+
+                return new long[] {starts[p], deltas[p]};
+            }
+        };
+    }
+
+    /**
+     * @param idx Index of the new range.
+     * @param start Start of the range.
+     * @param delta Delta of the range.
+     */
+    private void insert(int idx, long start, long delta) {
+        if (size == starts.length)
+            grow();
+
+        int mask = starts.length - 1;
+
+        if (idx < size - idx) {
+            head = (head - 1) & mask;
+
+            for (int i = 0; i < idx; i++)
+                move(phys(i + 1), phys(i));
+        }
+        else {
+            for (int i = size; i > idx; i--)
+                move(phys(i - 1), phys(i));
+        }
+
+        int p = phys(idx);
+
+        starts[p] = start;
+        deltas[p] = delta;
+
+        size++;
+    }
+
+    /**
+     * Doubles the capacity.
+     */
+    private void grow() {
+        int cap = Math.max(INIT_CAP, starts.length << 1);
+
+        long[] newStarts = new long[cap];
+        long[] newDeltas = new long[cap];
+
+        copyTo(newStarts, newDeltas);
+
+        starts = newStarts;
+        deltas = newDeltas;
+        head = 0;
+    }
+
+    /**
+     * Copies the ranges to the start of the arrays.
+     *
+     * @param dstStarts Starts.
+     * @param dstDeltas Deltas.
+     */
+    private void copyTo(long[] dstStarts, long[] dstDeltas) {
+        int tail = Math.min(size, starts.length - head);
+
+        System.arraycopy(starts, head, dstStarts, 0, tail);
+        System.arraycopy(deltas, head, dstDeltas, 0, tail);
+
+        System.arraycopy(starts, 0, dstStarts, tail, size - tail);
+        System.arraycopy(deltas, 0, dstDeltas, tail, size - tail);
+    }
+
+    /**
+     * @param from Physical index to move the range from.
+     * @param to Physical index to move the range to.
+     */
+    private void move(int from, int to) {
+        starts[to] = starts[from];
+        deltas[to] = deltas[from];
+    }
+
+    /**
+     * @param idx Index of the range.
+     * @return Physical index of the range.
+     */
+    private int phys(int idx) {
+        return (head + idx) & (starts.length - 1);
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+
+        PartitionUpdateCounterGaps gaps = (PartitionUpdateCounterGaps)o;
+
+        if (size != gaps.size)
+            return false;
+
+        for (int i = 0; i < size; i++) {
+            if (start(i) != gaps.start(i) || delta(i) != gaps.delta(i))
+                return false;
+        }
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int hashCode() {
+        int res = 0;
+
+        for (int i = 0; i < size; i++)
+            res = 31 * (31 * res + Long.hashCode(start(i))) + Long.hashCode(delta(i));
+
+        return res;
+    }
+}
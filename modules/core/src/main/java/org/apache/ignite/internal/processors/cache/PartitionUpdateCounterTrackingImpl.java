@@ -17,24 +17,16 @@
 
 package org.apache.ignite.internal.processors.cache;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
-import java.io.DataOutputStream;
-import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import java.util.NavigableMap;
-import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicLong;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.internal.pagemem.wal.record.RollbackRecord;
 import org.apache.ignite.internal.processors.datastreamer.DataStreamerImpl;
 import org.apache.ignite.internal.util.GridLongList;
-import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.SB;
 import org.jetbrains.annotations.Nullable;
 
@@ -60,6 +52,7 @@ import org.jetbrains.annotations.Nullable;
  *     <li>In case of rollback (manual or during tx recovery on node failure) reserved updates are also applied and
  *     logged to WAL using {@link RollbackRecord} for further recovery purposes.</li>
  * </ol>
+ * The out of order updates are kept in {@link PartitionUpdateCounterGaps} which does not allocate memory on updates.
  */
 public class PartitionUpdateCounterTrackingImpl implements PartitionUpdateCounter {
     /**
@@ -70,8 +63,14 @@ public class PartitionUpdateCounterTrackingImpl implements PartitionUpdateCounte
     /** Counter updates serialization version. */
     private static final byte VERSION = 1;
 
+    /** Serialized size of the header: version and count of the ranges. */
+    private static final int HEADER_SIZE = 1 + 4;
+
+    /** Serialized size of a range: start and delta. */
+    private static final int ITEM_SIZE = 8 + 8;
+
     /** Queue of applied out of order counter updates. */
-    protected NavigableMap<Long, Item> queue = new TreeMap<>();
+    protected PartitionUpdateCounterGaps queue = new PartitionUpdateCounterGaps();
 
     /** LWM. */
     protected final AtomicLong lwm = new AtomicLong();
@@ -121,7 +120,7 @@ public class PartitionUpdateCounterTrackingImpl implements PartitionUpdateCounte
 
     /** {@inheritDoc} */
     @Override public synchronized long highestAppliedCounter() {
-        return queue.isEmpty() ? lwm.get() : queue.lastEntry().getValue().absolute();
+        return queue.isEmpty() ? lwm.get() : queue.lastAbsolute();
     }
 
     /**
@@ -181,39 +180,46 @@ public class PartitionUpdateCounterTrackingImpl implements PartitionUpdateCounte
             long next = start + delta;
 
             // Merge with next.
-            Item nextItem = queue.remove(next);
+            int nextIdx = queue.indexOf(next);
+
+            if (nextIdx >= 0) {
+                delta += queue.delta(nextIdx);
 
-            if (nextItem != null)
-                delta += nextItem.delta;
+                queue.remove(nextIdx);
+            }
 
             // Merge with previous, possibly modifying previous.
-            Map.Entry<Long, Item> prev = queue.lowerEntry(start);
+            int prevIdx = queue.lowerIndex(start);
 
-            if (prev != null) {
-                Item prevItem = prev.getValue();
+            if (prevIdx >= 0) {
+                long prevStart = queue.start(prevIdx);
+                long prevDelta = queue.delta(prevIdx);
 
-                if (prevItem.absolute() == start) {
-                    prevItem.delta += delta;
+                if (prevStart + prevDelta == start) {
+                    queue.addDelta(prevIdx, delta);
 
                     return true;
                 }
-                else if (prevItem.within(next - 1))
+                else if (next - 1 - prevStart < prevDelta)
                     return false;
             }
 
             if (queue.size() >= MAX_MISSED_UPDATES) // Should trigger failure handler.
                 throw new IgniteException("Too many gaps [cntr=" + this + ']');
 
-            return queue.putIfAbsent(start, new Item(start, delta)) == null;
+            return queue.add(start, delta);
         }
         else { // cur == start
             long next = start + delta;
 
             // There is only one next sequential item possible, all other items will be merged.
-            Item nextItem = queue.remove(next);
+            int nextIdx = queue.indexOf(next);
+
+            if (nextIdx >= 0) {
+                next += queue.delta(nextIdx);
 
-            if (nextItem != null)
-                next += nextItem.delta;
+                queue.remove(nextIdx);
+            }
 
             boolean res = lwm.compareAndSet(cur, next);
 
@@ -237,26 +243,24 @@ public class PartitionUpdateCounterTrackingImpl implements PartitionUpdateCounte
 
     /** {@inheritDoc} */
     @Override public synchronized GridLongList finalizeUpdateCounters() {
-        Map.Entry<Long, Item> item = queue.pollFirstEntry();
-
         GridLongList gaps = null;
 
-        while (item != null) {
+        for (int i = 0; i < queue.size(); i++) {
             if (gaps == null)
-                gaps = new GridLongList((queue.size() + 1) * 2);
+                gaps = new GridLongList(queue.size() * 2);
 
             long start = lwm.get() + 1;
-            long end = item.getValue().start;
+            long end = queue.start(i);
 
             gaps.add(start);
             gaps.add(end);
 
             // Close pending ranges.
-            lwm.set(item.getValue().absolute());
-
-            item = queue.pollFirstEntry();
+            lwm.set(end + queue.delta(i));
         }
 
+        queue.clear();
+
         reservedCntr.set(get());
 
         return gaps;
@@ -288,60 +292,47 @@ public class PartitionUpdateCounterTrackingImpl implements PartitionUpdateCounte
         if (queue.isEmpty())
             return null;
 
-        try {
-            ByteArrayOutputStream bos = new ByteArrayOutputStream();
-
-            DataOutputStream dos = new DataOutputStream(bos);
+        int size = queue.size();
 
-            dos.writeByte(VERSION);
+        // Big-endian, compatible with DataOutput.
+        ByteBuffer buf = ByteBuffer.allocate(HEADER_SIZE + size * ITEM_SIZE);
 
-            int size = queue.size();
+        buf.put(VERSION);
+        buf.putInt(size);
 
-            dos.writeInt(size);
-
-            for (Item item : queue.values()) {
-                dos.writeLong(item.start);
-                dos.writeLong(item.delta);
-            }
-
-            bos.close();
-
-            return bos.toByteArray();
-        }
-        catch (IOException e) {
-            throw new IgniteException(e);
+        for (int i = 0; i < size; i++) {
+            buf.putLong(queue.start(i));
+            buf.putLong(queue.delta(i));
         }
+
+        return buf.array();
     }
 
     /**
      * @param raw Raw bytes.
      */
-    private @Nullable NavigableMap<Long, Item> fromBytes(@Nullable byte[] raw) {
-        NavigableMap<Long, Item> ret = new TreeMap<>();
+    private PartitionUpdateCounterGaps fromBytes(@Nullable byte[] raw) {
+        PartitionUpdateCounterGaps ret = new PartitionUpdateCounterGaps();
 
         if (raw == null)
             return ret;
 
-        try {
-            ByteArrayInputStream bis = new ByteArrayInputStream(raw);
+        ByteBuffer buf = ByteBuffer.wrap(raw);
 
-            DataInputStream dis = new DataInputStream(bis);
+        buf.get(); // Version.
 
-            dis.readByte(); // Version.
+        int cnt = buf.getInt(); // Holes count.
 
-            int cnt = dis.readInt(); // Holes count.
+        if (buf.remaining() < cnt * (long)ITEM_SIZE)
+            throw new IgniteException("Failed to read update counter gaps [cnt=" + cnt + ", len=" + raw.length + ']');
 
-            while (cnt-- > 0) {
-                Item item = new Item(dis.readLong(), dis.readLong());
+        while (cnt-- > 0) {
+            long start = buf.getLong();
 
-                ret.put(item.start, item);
-            }
-
-            return ret;
-        }
-        catch (IOException e) {
-            throw new IgniteException(e);
+            ret.add(start, buf.getLong());
         }
+
+        return ret;
     }
 
     /** {@inheritDoc} */
@@ -360,69 +351,6 @@ public class PartitionUpdateCounterTrackingImpl implements PartitionUpdateCounte
         initCntr = 0;
     }
 
-    /**
-     * Update counter task. Update from start value by delta value.
-     */
-    private static class Item {
-        /** */
-        private final long start;
-
-        /** */
-        private long delta;
-
-        /**
-         * @param start Start value.
-         * @param delta Delta value.
-         */
-        private Item(long start, long delta) {
-            this.start = start;
-            this.delta = delta;
-        }
-
-        /** {@inheritDoc} */
-        @Override public String toString() {
-            return "Item [" +
-                "start=" + start +
-                ", delta=" + delta +
-                ']';
-        }
-
-        /** */
-        public long start() {
-            return start;
-        }
-
-        /** */
-        public long delta() {
-            return delta;
-        }
-
-        /** */
-        public long absolute() {
-            return start + delta;
-        }
-
-        /** */
-        public boolean within(long cntr) {
-            return cntr - start < delta;
-        }
-
-        /** {@inheritDoc} */
-        @Override public boolean equals(Object o) {
-            if (this == o)
-                return true;
-            if (o == null || getClass() != o.getClass())
-                return false;
-
-            Item item = (Item)o;
-
-            if (start != item.start)
-                return false;
-
-            return delta == item.delta;
-        }
-    }
-
     /** {@inheritDoc} */
     @Override public boolean equals(Object o) {
         if (this == o)
@@ -450,7 +378,7 @@ public class PartitionUpdateCounterTrackingImpl implements PartitionUpdateCounte
 
     /** {@inheritDoc} */
     @Override public Iterator<long[]> iterator() {
-        return F.iterator(queue.values().iterator(), item -> new long[] {item.start, item.delta}, true);
+        return queue.iterator();
     }
 
     /**
@@ -461,13 +389,15 @@ public class PartitionUpdateCounterTrackingImpl implements PartitionUpdateCounte
 
         long prev = lwm.get();
 
-        for (Item item : queue.values()) {
-            if (prev + 1 == item.start)
-                missed.add(String.valueOf(item.start));
+        for (int i = 0; i < queue.size(); i++) {
+            long start = queue.start(i);
+
+            if (prev + 1 == start)
+                missed.add(String.valueOf(start));
             else
-                missed.add((prev + 1) + " - " + item.start);
+                missed.add((prev + 1) + " - " + start);
 
-            prev = item.start + item.delta;
+            prev = start + queue.delta(i);
         }
 
         return missed.toString();
@@ -539,7 +469,7 @@ public class PartitionUpdateCounterTrackingImpl implements PartitionUpdateCounte
 
         copy.lwm.set(lwm.get());
         copy.first = first;
-        copy.queue = new TreeMap<>(queue);
+        copy.queue = queue.copy();
         copy.initCntr = initCntr;
         copy.reservedCntr.set(reservedCntr.get());
 
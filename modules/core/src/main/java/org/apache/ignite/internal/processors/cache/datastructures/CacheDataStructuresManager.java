@@ -25,6 +25,7 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.Callable;
@@ -52,6 +53,7 @@ import org.apache.ignite.internal.processors.cache.GridCacheManagerAdapter;
 import org.apache.ignite.internal.processors.cache.IgniteInternalCache;
 import org.apache.ignite.internal.processors.datastructures.DataStructuresProcessor;
 import org.apache.ignite.internal.processors.datastructures.GridAtomicCacheQueueImpl;
+import org.apache.ignite.internal.processors.datastructures.GridCacheQueueAdapter;
 import org.apache.ignite.internal.processors.datastructures.GridCacheQueueHeader;
 import org.apache.ignite.internal.processors.datastructures.GridCacheQueueHeaderKey;
 import org.apache.ignite.internal.processors.datastructures.GridCacheQueueProxy;
@@ -59,6 +61,7 @@ import org.apache.ignite.internal.processors.datastructures.GridCacheSetHeader;
 import org.apache.ignite.internal.processors.datastructures.GridCacheSetHeaderKey;
 import org.apache.ignite.internal.processors.datastructures.GridCacheSetImpl;
 import org.apache.ignite.internal.processors.datastructures.GridCacheSetProxy;
+import org.apache.ignite.internal.processors.datastructures.GridCacheShardedQueueImpl;
 import org.apache.ignite.internal.processors.datastructures.GridTransactionalCacheQueueImpl;
 import org.apache.ignite.internal.processors.datastructures.SetItemKey;
 import org.apache.ignite.internal.processors.task.GridInternal;
@@ -230,6 +233,7 @@ public class CacheDataStructuresManager extends GridCacheManagerAdapter {
      * @param name Queue name.
      * @param cap Capacity.
      * @param colloc Collocated flag.
+     * @param shards Number of shards.
      * @param create Create flag.
      * @return Queue header.
      * @throws IgniteCheckedException If failed.
@@ -237,17 +241,19 @@ public class CacheDataStructuresManager extends GridCacheManagerAdapter {
     @Nullable public <T> GridCacheQueueProxy<T> queue(final String name,
         final int cap,
         boolean colloc,
+        int shards,
         final boolean create
     ) throws IgniteCheckedException {
         waitInitialization();
 
-        return queue0(name, cap, colloc, create);
+        return queue0(name, cap, colloc, shards, create);
     }
 
     /**
      * @param name Queue name.
      * @param cap Capacity.
      * @param colloc Collocated flag.
+     * @param shards Number of shards.
      * @param create Create flag.
      * @return Queue header.
      * @throws IgniteCheckedException If failed.
@@ -256,30 +262,19 @@ public class CacheDataStructuresManager extends GridCacheManagerAdapter {
     @Nullable public <T> GridCacheQueueProxy<T> queue0(final String name,
         final int cap,
         boolean colloc,
+        int shards,
         final boolean create
     ) throws IgniteCheckedException {
         cctx.gate().enter();
 
         try {
-            GridCacheQueueHeaderKey key = new GridCacheQueueHeaderKey(name);
-
-            GridCacheQueueHeader hdr;
-
-            if (create) {
-                hdr = new GridCacheQueueHeader(IgniteUuid.randomUuid(), cap, colloc, 0, 0, null);
-
-                GridCacheQueueHeader old = queueHdrView.withNoRetries().getAndPutIfAbsent(key, hdr);
-
-                if (old != null) {
-                    if (old.capacity() != cap || old.collocated() != colloc)
-                        throw new IgniteCheckedException("Failed to create queue, queue with the same name but " +
-                            "different configuration already exists [name=" + name + ']');
-
-                    hdr = old;
-                }
+            if (create && shards > 1) {
+                // Shards are created first, so a sharded queue is complete as soon as its header is visible.
+                for (int i = 0; i < shards; i++)
+                    queueHeader(GridCacheShardedQueueImpl.shardName(name, i), cap, colloc, 1, true);
             }
-            else
-                hdr = queueHdrView.get(key);
+
+            GridCacheQueueHeader hdr = queueHeader(name, cap, colloc, shards, create);
 
             if (hdr == null)
                 return null;
@@ -327,25 +322,102 @@ public class CacheDataStructuresManager extends GridCacheManagerAdapter {
                     false);
             }
 
-            GridCacheQueueProxy queue = queuesMap.get(hdr.id());
+            if (hdr.shards() == 1)
+                return queueProxy(name, hdr, null);
 
-            if (queue == null) {
-                queue = new GridCacheQueueProxy(cctx, cctx.atomic() ? new GridAtomicCacheQueueImpl<>(name, hdr, cctx) :
-                    new GridTransactionalCacheQueueImpl<>(name, hdr, cctx));
+            GridCacheQueueProxy<T> queue = queuesMap.get(hdr.id());
 
-                GridCacheQueueProxy old = queuesMap.putIfAbsent(hdr.id(), queue);
+            if (queue != null)
+                return queue;
 
-                if (old != null)
-                    queue = old;
+            List<GridCacheQueueProxy<T>> shardQueues = new ArrayList<>(hdr.shards());
+
+            for (int i = 0; i < hdr.shards(); i++) {
+                String shardName = GridCacheShardedQueueImpl.shardName(name, i);
+
+                GridCacheQueueHeader shardHdr = queueHeader(shardName, cap, colloc, 1, false);
+
+                // The queue is being removed.
+                if (shardHdr == null)
+                    return null;
+
+                shardQueues.add(queueProxy(shardName, shardHdr, null));
             }
 
-            return queue;
+            return queueProxy(name, hdr, shardQueues);
         }
         finally {
             cctx.gate().leave();
         }
     }
 
+    /**
+     * @param name Queue name.
+     * @param cap Capacity.
+     * @param colloc Collocated flag.
+     * @param shards Number of shards.
+     * @param create Create flag.
+     * @return Queue header or {@code null} if the queue does not exist.
+     * @throws IgniteCheckedException If failed.
+     */
+    @Nullable private GridCacheQueueHeader queueHeader(String name, int cap, boolean colloc, int shards, boolean create)
+        throws IgniteCheckedException {
+        GridCacheQueueHeaderKey key = new GridCacheQueueHeaderKey(name);
+
+        if (!create)
+            return queueHdrView.get(key);
+
+        GridCacheQueueHeader hdr = shards > 1 ? new GridCacheQueueHeader(IgniteUuid.randomUuid(), cap, colloc, shards) :
+            new GridCacheQueueHeader(IgniteUuid.randomUuid(), cap, colloc, 0, 0, null);
+
+        GridCacheQueueHeader old = queueHdrView.withNoRetries().getAndPutIfAbsent(key, hdr);
+
+        if (old != null) {
+            if (old.capacity() != cap || old.collocated() != colloc || old.shards() != shards)
+                throw new IgniteCheckedException("Failed to create queue, queue with the same name but " +
+                    "different configuration already exists [name=" + name + ']');
+
+            hdr = old;
+        }
+
+        return hdr;
+    }
+
+    /**
+     * @param name Queue name.
+     * @param hdr Queue header.
+     * @param shards Shards if the queue is sharded.
+     * @return Queue proxy.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> GridCacheQueueProxy<T> queueProxy(
+        String name,
+        GridCacheQueueHeader hdr,
+        @Nullable List<GridCacheQueueProxy<T>> shards
+    ) {
+        GridCacheQueueProxy<T> queue = queuesMap.get(hdr.id());
+
+        if (queue == null) {
+            GridCacheQueueAdapter<T> delegate;
+
+            if (shards != null)
+                delegate = new GridCacheShardedQueueImpl<>(name, hdr, cctx, shards);
+            else if (cctx.atomic())
+                delegate = new GridAtomicCacheQueueImpl<>(name, hdr, cctx);
+            else
+                delegate = new GridTransactionalCacheQueueImpl<>(name, hdr, cctx);
+
+            queue = new GridCacheQueueProxy<>(cctx, delegate);
+
+            GridCacheQueueProxy<T> old = queuesMap.putIfAbsent(hdr.id(), queue);
+
+            if (old != null)
+                queue = old;
+        }
+
+        return queue;
+    }
+
     /**
      * @param name Set name.
      * @param colloc Collocated flag.
@@ -22,6 +22,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
 import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
 import org.apache.ignite.internal.processors.cache.CacheLockCandidates;
 import org.apache.ignite.internal.processors.cache.CacheObject;
@@ -57,6 +58,19 @@ public class GridDistributedCacheEntry extends GridCacheMapEntry {
         super(ctx, key);
     }
 
+    /**
+     * @param ctx Cache context.
+     * @param key Cache key.
+     * @param lock Entry lock.
+     */
+    protected GridDistributedCacheEntry(
+        GridCacheContext ctx,
+        KeyCacheObject key,
+        ReentrantLock lock
+    ) {
+        super(ctx, key, lock);
+    }
+
     /**
      *
      */
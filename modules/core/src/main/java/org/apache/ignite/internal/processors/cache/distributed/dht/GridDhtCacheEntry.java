@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.cluster.ClusterNode;
 import org.apache.ignite.internal.IgniteInternalFuture;
@@ -86,7 +87,22 @@ public class GridDhtCacheEntry extends GridDistributedCacheEntry {
         AffinityTopologyVersion topVer,
         KeyCacheObject key
     ) {
-        super(ctx, key);
+        this(ctx, topVer, key, new ReentrantLock());
+    }
+
+    /**
+     * @param ctx Cache context.
+     * @param topVer Topology version at the time of creation (if negative, then latest topology is assumed).
+     * @param key Cache key.
+     * @param lock Entry lock.
+     */
+    protected GridDhtCacheEntry(
+        GridCacheContext ctx,
+        AffinityTopologyVersion topVer,
+        KeyCacheObject key,
+        ReentrantLock lock
+    ) {
+        super(ctx, key, lock);
 
         // Record this entry with partition.
         int p = cctx.affinity().partition(key);
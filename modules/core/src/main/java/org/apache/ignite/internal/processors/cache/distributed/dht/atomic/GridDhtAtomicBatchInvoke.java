@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.cache.distributed.dht.atomic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.cache.processor.EntryProcessor;
+import javax.cache.processor.MutableEntry;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.cache.CacheBatchEntryProcessor;
+import org.apache.ignite.internal.UnregisteredBinaryTypeException;
+import org.apache.ignite.internal.UnregisteredClassException;
+import org.apache.ignite.internal.processors.cache.CacheInvokeEntry;
+import org.apache.ignite.internal.processors.cache.CacheObject;
+import org.apache.ignite.internal.processors.cache.GridCacheEntryRemovedException;
+import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtCacheEntry;
+import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.thread.IgniteThread;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.internal.processors.cache.GridCacheOperation.TRANSFORM;
+
+/**
+ * Results of a {@link CacheBatchEntryProcessor} computed on the primary node for the locked entries of an update
+ * request before the entries are updated. The processor is called once per partition.
+ */
+class GridDhtAtomicBatchInvoke {
+    /** Index of the first processed entry. */
+    private final int from;
+
+    /** Old values. */
+    private final CacheObject[] oldVals;
+
+    /** Invoke entries. */
+    private final CacheInvokeEntry<Object, Object>[] invokeEntries;
+
+    /** Results of the processor. */
+    private final Object[] results;
+
+    /** Errors of the processor. */
+    private final Exception[] errs;
+
+    /** Errors of reading the old values. */
+    private final IgniteCheckedException[] readErrs;
+
+    /**
+     * @param from Index of the first processed entry.
+     * @param size Number of the entries of the request.
+     */
+    @SuppressWarnings("unchecked")
+    private GridDhtAtomicBatchInvoke(int from, int size) {
+        this.from = from;
+
+        oldVals = new CacheObject[size - from];
+        invokeEntries = new CacheInvokeEntry[size - from];
+        results = new Object[size - from];
+        errs = new Exception[size - from];
+        readErrs = new IgniteCheckedException[size - from];
+    }
+
+    /**
+     * @param req Update request.
+     * @return {@code True} if the entries of the request can be processed with one call per partition.
+     */
+    static boolean batchable(GridNearAtomicAbstractUpdateRequest req) {
+        if (req.operation() != TRANSFORM || req.size() < 2 || !F.isEmpty(req.filter()))
+            return false;
+
+        EntryProcessor<Object, Object, Object> first = req.entryProcessor(0);
+
+        if (!(first instanceof CacheBatchEntryProcessor))
+            return false;
+
+        for (int i = 1; i < req.size(); i++) {
+            EntryProcessor<Object, Object, Object> proc = req.entryProcessor(i);
+
+            if (proc == null || proc.getClass() != first.getClass())
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Reads the old values of the entries and calls the processor for every partition.
+     *
+     * @param req Update request.
+     * @param locked Locked entries.
+     * @param from Index of the first entry to process.
+     * @param ver Update version.
+     * @param taskName Task name.
+     * @return Results.
+     * @throws GridCacheEntryRemovedException Should not be thrown.
+     */
+    @SuppressWarnings("unchecked")
+    static GridDhtAtomicBatchInvoke process(
+        GridNearAtomicAbstractUpdateRequest req,
+        List<GridDhtCacheEntry> locked,
+        int from,
+        GridCacheVersion ver,
+        String taskName
+    ) throws GridCacheEntryRemovedException {
+        GridDhtAtomicBatchInvoke res = new GridDhtAtomicBatchInvoke(from, locked.size());
+
+        Map<Integer, List<Integer>> parts = new TreeMap<>();
+
+        boolean sortable = true;
+
+        Class<?> keyCls = null;
+
+        for (int i = from; i < locked.size(); i++) {
+            GridDhtCacheEntry entry = locked.get(i);
+
+            CacheObject old;
+
+            try {
+                old = entry.innerGet(
+                    ver,
+                    null,
+                    /*read through*/!req.skipReadThrough(),
+                    /*metrics*/true,
+                    /*event*/true,
+                    req.entryProcessor(i),
+                    taskName,
+                    null,
+                    req.keepBinary());
+            }
+            catch (IgniteCheckedException e) {
+                // The key is reported as failed, see GridDhtAtomicCache#updateWithBatch.
+                res.readErrs[i - from] = e;
+
+                continue;
+            }
+
+            CacheInvokeEntry<Object, Object> invokeEntry = new CacheInvokeEntry(entry.key(), old, entry.version(),
+                req.keepBinary(), entry);
+
+            res.oldVals[i - from] = old;
+            res.invokeEntries[i - from] = invokeEntry;
+
+            parts.computeIfAbsent(entry.partition(), p -> new ArrayList<>()).add(i);
+
+            if (sortable) {
+                Object key = invokeEntry.getKey();
+
+                sortable = key instanceof Comparable && (keyCls == null || keyCls == key.getClass());
+
+                keyCls = key.getClass();
+            }
+        }
+
+        for (List<Integer> idxs : parts.values()) {
+            if (sortable && idxs.size() > 1)
+                idxs.sort((i1, i2) -> ((Comparable<Object>)res.entry(i1).getKey()).compareTo(res.entry(i2).getKey()));
+
+            List<MutableEntry<Object, Object>> entries = new ArrayList<>(idxs.size());
+
+            for (Integer idx : idxs)
+                entries.add(res.entry(idx));
+
+            CacheBatchEntryProcessor<Object, Object, Object> proc =
+                (CacheBatchEntryProcessor<Object, Object, Object>)req.entryProcessor(idxs.get(0));
+
+            IgniteThread.onEntryProcessorEntered(true);
+
+            try {
+                List<Object> procRes = proc.processAll(entries, req.invokeArguments());
+
+                if (procRes != null && procRes.size() != entries.size()) {
+                    throw new IllegalStateException("Unexpected number of results of batch entry processor " +
+                        "[expected=" + entries.size() + ", actual=" + procRes.size() + ']');
+                }
+
+                if (procRes != null) {
+                    for (int i = 0; i < idxs.size(); i++)
+                        res.results[idxs.get(i) - from] = procRes.get(i);
+                }
+            }
+            catch (UnregisteredClassException | UnregisteredBinaryTypeException e) {
+                throw e;
+            }
+            catch (Exception e) {
+                for (Integer idx : idxs)
+                    res.errs[idx - from] = e;
+            }
+            finally {
+                IgniteThread.onEntryProcessorLeft();
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * @param idx Index of the entry in the request.
+     * @return Old value.
+     * @throws IgniteCheckedException If failed to read the old value.
+     */
+    @Nullable CacheObject oldValue(int idx) throws IgniteCheckedException {
+        if (readErrs[idx - from] != null)
+            throw readErrs[idx - from];
+
+        return oldVals[idx - from];
+    }
+
+    /**
+     * @param idx Index of the entry in the request.
+     * @return Invoke entry.
+     */
+    CacheInvokeEntry<Object, Object> entry(int idx) {
+        return invokeEntries[idx - from];
+    }
+
+    /**
+     * @param idx Index of the entry in the request.
+     * @return Result of the processor for the entry.
+     * @throws Exception If the processor failed.
+     */
+    @Nullable Object result(int idx) throws Exception {
+        if (errs[idx - from] != null)
+            throw errs[idx - from];
+
+        return results[idx - from];
+    }
+}
@@ -125,6 +125,8 @@ import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_ATOMIC_DEFERRED_ACK_BUFFER_SIZE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_ATOMIC_DEFERRED_ACK_TIMEOUT;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_ATOMIC_UPDATE_COALESCING_BATCH_SIZE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_ATOMIC_UPDATE_COALESCING_WINDOW;
 import static org.apache.ignite.cache.CacheWriteSynchronizationMode.FULL_ASYNC;
 import static org.apache.ignite.cache.CacheWriteSynchronizationMode.FULL_SYNC;
 import static org.apache.ignite.cache.CacheWriteSynchronizationMode.PRIMARY_SYNC;
@@ -135,6 +137,8 @@ import static org.apache.ignite.internal.processors.cache.GridCacheOperation.DEL
 import static org.apache.ignite.internal.processors.cache.GridCacheOperation.TRANSFORM;
 import static org.apache.ignite.internal.processors.cache.GridCacheOperation.UPDATE;
 import static org.apache.ignite.internal.processors.cache.GridCacheUtils.isNearEnabled;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridNearAtomicUpdateCoalescer.DFLT_ATOMIC_UPDATE_COALESCING_BATCH_SIZE;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridNearAtomicUpdateCoalescer.DFLT_ATOMIC_UPDATE_COALESCING_WINDOW;
 import static org.apache.ignite.internal.processors.dr.GridDrType.DR_BACKUP;
 import static org.apache.ignite.internal.processors.dr.GridDrType.DR_NONE;
 import static org.apache.ignite.internal.processors.dr.GridDrType.DR_PRIMARY;
@@ -183,6 +187,10 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
     /** Logger. */
     private IgniteLogger msgLog;
 
+    /** Coalescer of single-key asynchronous puts, {@code null} if coalescing is disabled. */
+    @GridToStringExclude
+    @Nullable private GridNearAtomicUpdateCoalescer<K, V> coalescer;
+
     /**
      * Empty constructor required by {@link Externalizable}.
      */
@@ -451,6 +459,25 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
 
         if (ctx.dht().near() != null)
             metrics.delegate(ctx.dht().near().metrics0());
+
+        int coalescingWindow = IgniteSystemProperties.getInteger(IGNITE_ATOMIC_UPDATE_COALESCING_WINDOW,
+            DFLT_ATOMIC_UPDATE_COALESCING_WINDOW);
+
+        // Puts are coalesced only if the per-key result does not depend on the entry.
+        if (coalescingWindow > 0 && ctx.config().getInterceptor() == null &&
+            !ctx.kernalContext().security().enabled()) {
+            coalescer = new GridNearAtomicUpdateCoalescer<>(ctx, this, coalescingWindow,
+                IgniteSystemProperties.getInteger(IGNITE_ATOMIC_UPDATE_COALESCING_BATCH_SIZE,
+                    DFLT_ATOMIC_UPDATE_COALESCING_BATCH_SIZE));
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onKernalStop() {
+        super.onKernalStop();
+
+        if (coalescer != null)
+            coalescer.stop(new NodeStoppingException("Operation has been cancelled (cache or node is stopping)."));
     }
 
     /**
@@ -650,6 +677,17 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
     /** {@inheritDoc} */
     @SuppressWarnings("unchecked")
     @Override public IgniteInternalFuture<Boolean> putAsync0(K key, V val, @Nullable CacheEntryPredicate filter) {
+        if (coalescer != null && filter == null) {
+            CacheOperationContext opCtx = ctx.operationContextPerCall();
+
+            // Only the puts with the default flags are coalesced.
+            IgniteInternalFuture<Boolean> fut = opCtx == null || opCtx == CacheOperationContext.instance() ?
+                coalescer.put(key, val) : null;
+
+            if (fut != null)
+                return fut;
+        }
+
         return update0(
             key,
             val,
@@ -2012,11 +2050,13 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
 
         GridCacheReturn retVal = null;
 
-        if (req.size() > 1 &&                    // Several keys ...
-            writeThrough() && !req.skipStore() && // and store is enabled ...
-            !ctx.store().isLocal() &&             // and this is not local store ...
-            // (conflict resolver should be used for local store)
-            !ctx.dr().receiveEnabled()            // and no DR.
+        boolean storeEnabled = writeThrough() && !req.skipStore();
+
+        if (req.size() > 1 &&                                          // Several keys ...
+            (storeEnabled ? !ctx.store().isLocal() :                   // and store is enabled and is not local store
+                // (conflict resolver should be used for local store) or ...
+                GridDhtAtomicBatchInvoke.batchable(req)) &&            // batch entry processor is used ...
+            !ctx.dr().receiveEnabled()                                 // and no DR.
             ) {
             // This method can only be used when there are no replicated entries in the batch.
             updateWithBatch(node,
@@ -2084,7 +2124,7 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
     }
 
     /**
-     * Updates locked entries using batched write-through.
+     * Updates locked entries using batched write-through or a batch entry processor.
      *
      * @param node Sender node.
      * @param hasNear {@code True} if originating node has near cache.
@@ -2147,6 +2187,9 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
 
         boolean intercept = ctx.config().getInterceptor() != null;
 
+        GridDhtAtomicBatchInvoke batchInvoke = GridDhtAtomicBatchInvoke.batchable(req) ?
+            GridDhtAtomicBatchInvoke.process(req, locked, dhtUpdRes.processedEntriesCount(), ver, taskName) : null;
+
         for (int i = dhtUpdRes.processedEntriesCount(); i < locked.size(); i++) {
             GridDhtCacheEntry entry = locked.get(i);
 
@@ -2179,7 +2222,7 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
                 if (op == TRANSFORM) {
                     EntryProcessor<Object, Object, Object> entryProc = req.entryProcessor(i);
 
-                    CacheObject old = entry.innerGet(
+                    CacheObject old = batchInvoke != null ? batchInvoke.oldValue(i) : entry.innerGet(
                         ver,
                         null,
                         /*read through*/!req.skipReadThrough(),
@@ -2193,8 +2236,8 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
                     Object oldVal = null;
                     Object updatedVal = null;
 
-                    CacheInvokeEntry<Object, Object> invokeEntry = new CacheInvokeEntry(entry.key(), old,
-                        entry.version(), req.keepBinary(), entry);
+                    CacheInvokeEntry<Object, Object> invokeEntry = batchInvoke != null ? batchInvoke.entry(i) :
+                        new CacheInvokeEntry(entry.key(), old, entry.version(), req.keepBinary(), entry);
 
                     CacheObject updated = null;
 
@@ -2208,7 +2251,8 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
                     IgniteThread.onEntryProcessorEntered(true);
 
                     try {
-                        Object computed = entryProc.process(invokeEntry, req.invokeArguments());
+                        Object computed = batchInvoke != null ? batchInvoke.result(i) :
+                            entryProc.process(invokeEntry, req.invokeArguments());
 
                         if (computed != null) {
                             computed = ctx.unwrapTemporary(computed);
@@ -2782,6 +2826,9 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
         try {
             GridCacheOperation op;
 
+            // Batch entry processors are applied with this method when write-through is disabled.
+            boolean store = writeThrough() && !req.skipStore();
+
             if (putMap != null) {
                 try {
                     Map<? extends KeyCacheObject, IgniteBiTuple<? extends CacheObject, GridCacheVersion>> view = F.viewReadOnly(putMap,
@@ -2791,7 +2838,8 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
                             }
                         });
 
-                    ctx.store().putAll(null, view);
+                    if (store)
+                        ctx.store().putAll(null, view);
                 }
                 catch (CacheStorePartialUpdateException e) {
                     storeErr = e;
@@ -2801,7 +2849,8 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
             }
             else {
                 try {
-                    ctx.store().removeAll(null, rmvKeys);
+                    if (store)
+                        ctx.store().removeAll(null, rmvKeys);
                 }
                 catch (CacheStorePartialUpdateException e) {
                     storeErr = e;
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.dht.atomic;
+
+import org.apache.ignite.IgniteSystemProperties;
+import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.KeyCacheObject;
+import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtCacheEntry;
+
+/**
+ * Entry of an atomic cache without on-heap caching.
+ * <p>
+ * Such an entry lives only for the duration of an operation, so instead of a lock of its own it uses a lock of
+ * the striped lock table of the cache. This saves the lock instance on every entry creation. Entries with keys
+ * of the same stripe exclude each other, that is safe for atomic caches because the update of several entries
+ * locks them with a timeout and retries, see {@link GridDhtAtomicCache}.
+ *
+ * @see IgniteSystemProperties#IGNITE_CACHE_COMPACT_ENTRIES
+ */
+public class GridDhtAtomicCompactCacheEntry extends GridDhtCacheEntry {
+    /**
+     * @param ctx Cache context.
+     * @param topVer Topology version at the time of creation (if negative, then latest topology is assumed).
+     * @param key Cache key.
+     */
+    public GridDhtAtomicCompactCacheEntry(
+        GridCacheContext ctx,
+        AffinityTopologyVersion topVer,
+        KeyCacheObject key
+    ) {
+        super(ctx, topVer, key, ctx.entryLock(key));
+    }
+}
@@ -0,0 +1,336 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.dht.atomic;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.processors.cache.CachePartialUpdateCheckedException;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.util.future.GridFutureAdapter;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.internal.util.worker.GridWorker;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Coalesces concurrent single-key asynchronous puts of an atomic cache into batch updates.
+ * <p>
+ * The puts issued within the coalescing window are collected in a batch which is sent with a single
+ * {@link GridNearAtomicUpdateFuture}, the future maps the batch to the primary nodes, so the keys heading to the same
+ * primary are sent within one {@link GridNearAtomicFullUpdateRequest}. The future of each put is completed from
+ * the result of the batch, a put fails only if its key is reported as failed by the batch.
+ * <p>
+ * A batch is flushed when the window elapses, when it reaches the maximum size or when a key that is already in
+ * the batch is put again. Batches are sent in the order they are collected, so the puts of the same key are applied
+ * in the order they are issued.
+ */
+public class GridNearAtomicUpdateCoalescer<K, V> {
+    /** @see IgniteSystemProperties#IGNITE_ATOMIC_UPDATE_COALESCING_WINDOW */
+    public static final int DFLT_ATOMIC_UPDATE_COALESCING_WINDOW = 0;
+
+    /** @see IgniteSystemProperties#IGNITE_ATOMIC_UPDATE_COALESCING_BATCH_SIZE */
+    public static final int DFLT_ATOMIC_UPDATE_COALESCING_BATCH_SIZE = 512;
+
+    /** Cache context. */
+    private final GridCacheContext<K, V> ctx;
+
+    /** Cache. */
+    private final GridDhtAtomicCache<K, V> cache;
+
+    /** Coalescing window in nanoseconds. */
+    private final long windowNanos;
+
+    /** Maximum number of keys in a batch. */
+    private final int maxBatchSize;
+
+    /** Logger. */
+    private final IgniteLogger log;
+
+    /** Mutex which orders the batch submission. */
+    private final Object flushMux = new Object();
+
+    /** Batch being collected. */
+    @Nullable private volatile Batch batch;
+
+    /** Flusher, started on the first put. Guarded by {@code this}. */
+    @Nullable private Flusher flusher;
+
+    /** Stopped flag. Guarded by {@code this}. */
+    private boolean stopped;
+
+    /**
+     * @param ctx Cache context.
+     * @param cache Cache.
+     * @param windowMicros Coalescing window in microseconds.
+     * @param maxBatchSize Maximum number of keys in a batch.
+     */
+    GridNearAtomicUpdateCoalescer(GridCacheContext<K, V> ctx, GridDhtAtomicCache<K, V> cache, long windowMicros,
+        int maxBatchSize) {
+        assert windowMicros > 0 : windowMicros;
+        assert maxBatchSize > 1 : maxBatchSize;
+
+        this.ctx = ctx;
+        this.cache = cache;
+        this.maxBatchSize = maxBatchSize;
+
+        windowNanos = TimeUnit.MICROSECONDS.toNanos(windowMicros);
+        log = ctx.logger(GridNearAtomicUpdateCoalescer.class);
+    }
+
+    /**
+     * Adds the put to the current batch. Must be called with the default operation context, the batch is sent with
+     * the default flags.
+     *
+     * @param key Key.
+     * @param val Value.
+     * @return Put future or {@code null} if the coalescer is stopped and the put should be performed directly.
+     */
+    @Nullable IgniteInternalFuture<Boolean> put(K key, V val) {
+        while (true) {
+            Batch b;
+            GridFutureAdapter<Boolean> fut;
+
+            synchronized (this) {
+                if (stopped)
+                    return null;
+
+                b = batch;
+
+                if (b == null) {
+                    batch = b = new Batch(System.nanoTime() + windowNanos);
+
+                    if (flusher == null) {
+                        flusher = new Flusher();
+
+                        U.newThread(flusher).start();
+                    }
+                    else
+                        notifyAll();
+                }
+
+                fut = b.add(key, val);
+
+                if (fut != null && b.size() < maxBatchSize)
+                    return fut;
+            }
+
+            // The batch is full or already contains the key.
+            flush(b);
+
+            if (fut != null)
+                return fut;
+        }
+    }
+
+    /**
+     * Sends the batch if it is still being collected.
+     *
+     * @param b Batch.
+     */
+    private void flush(Batch b) {
+        synchronized (flushMux) {
+            synchronized (this) {
+                if (batch != b)
+                    return;
+
+                batch = null;
+            }
+
+            b.submit();
+        }
+    }
+
+    /**
+     * Stops the coalescer and fails the puts that are not sent yet.
+     *
+     * @param err Error.
+     */
+    void stop(IgniteCheckedException err) {
+        Flusher f;
+        Batch b;
+
+        synchronized (this) {
+            stopped = true;
+
+            f = flusher;
+            b = batch;
+
+            batch = null;
+        }
+
+        if (f != null) {
+            U.cancel(f);
+            U.join(f, log);
+        }
+
+        if (b != null)
+            b.onDone(err);
+    }
+
+    /**
+     * Puts collected within the coalescing window.
+     */
+    private class Batch {
+        /** Time when the batch should be sent. */
+        private final long deadline;
+
+        /** Keys and values in the order of the puts. */
+        private final Map<K, V> vals = new LinkedHashMap<>();
+
+        /** Put futures in the order of the puts. */
+        private final List<GridFutureAdapter<Boolean>> futs = new ArrayList<>();
+
+        /**
+         * @param deadline Time when the batch should be sent.
+         */
+        private Batch(long deadline) {
+            this.deadline = deadline;
+        }
+
+        /**
+         * @param key Key.
+         * @param val Value.
+         * @return Put future or {@code null} if the batch already contains the key.
+         */
+        @Nullable private GridFutureAdapter<Boolean> add(K key, V val) {
+            if (vals.putIfAbsent(key, val) != null)
+                return null;
+
+            GridFutureAdapter<Boolean> fut = new GridFutureAdapter<>();
+
+            futs.add(fut);
+
+            return fut;
+        }
+
+        /**
+         * @return Number of keys.
+         */
+        private int size() {
+            return futs.size();
+        }
+
+        /**
+         * Sends the batch.
+         */
+        private void submit() {
+            if (log.isDebugEnabled())
+                log.debug("Sending coalesced puts [cache=" + ctx.name() + ", size=" + size() + ']');
+
+            IgniteInternalFuture<?> fut;
+
+            try {
+                fut = cache.putAllAsync0(vals);
+            }
+            catch (Throwable e) {
+                onDone(e);
+
+                if (e instanceof Error)
+                    throw e;
+
+                return;
+            }
+
+            fut.listen(f -> onDone(f.error()));
+        }
+
+        /**
+         * Completes the put futures.
+         *
+         * @param err Batch error.
+         */
+        private void onDone(@Nullable Throwable err) {
+            Collection<Object> failedKeys = err instanceof CachePartialUpdateCheckedException ?
+                ((CachePartialUpdateCheckedException)err).failedKeys() : null;
+
+            int i = 0;
+
+            for (K key : vals.keySet()) {
+                GridFutureAdapter<Boolean> fut = futs.get(i++);
+
+                if (err == null || failedKeys != null && !failedKeys.contains(key))
+                    fut.onDone(true);
+                else if (failedKeys != null) {
+                    CachePartialUpdateCheckedException keyErr =
+                        new CachePartialUpdateCheckedException("Failed to update keys (retry update if possible).");
+
+                    keyErr.add(Collections.singleton(key), err,
+                        ((CachePartialUpdateCheckedException)err).topologyVersion());
+
+                    fut.onDone(keyErr);
+                }
+                else
+                    fut.onDone(err);
+            }
+        }
+    }
+
+    /**
+     * Sends the batches when the coalescing window elapses.
+     */
+    private class Flusher extends GridWorker {
+        /** */
+        private Flusher() {
+            super(ctx.igniteInstanceName(), "atomic-update-coalescer-" + ctx.name(),
+                ctx.logger(GridNearAtomicUpdateCoalescer.class), ctx.kernalContext().workersRegistry());
+        }
+
+        /** {@inheritDoc} */
+        @Override protected void body() throws InterruptedException {
+            while (!isCancelled()) {
+                Batch b;
+
+                synchronized (GridNearAtomicUpdateCoalescer.this) {
+                    while ((b = batch) == null) {
+                        blockingSectionBegin();
+
+                        try {
+                            GridNearAtomicUpdateCoalescer.this.wait();
+                        }
+                        finally {
+                            blockingSectionEnd();
+                        }
+                    }
+                }
+
+                long rem;
+
+                // The batch may be flushed by a put when it is full.
+                while (batch == b && (rem = b.deadline - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(rem);
+
+                    if (Thread.interrupted())
+                        throw new InterruptedException();
+                }
+
+                flush(b);
+
+                updateHeartbeat();
+            }
+        }
+    }
+}
@@ -61,6 +61,7 @@ import org.apache.ignite.internal.processors.cache.distributed.near.GridNearLock
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxLocal;
 import org.apache.ignite.internal.processors.cache.transactions.IgniteTxEntry;
 import org.apache.ignite.internal.processors.cache.transactions.IgniteTxKey;
+import org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager;
 import org.apache.ignite.internal.processors.cache.transactions.TxDeadlock;
 import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
 import org.apache.ignite.internal.processors.timeout.GridTimeoutObjectAdapter;
@@ -1008,6 +1009,9 @@ public final class GridDhtColocatedLockFuture extends GridCacheCompoundIdentityF
                 map = updated;
             }
 
+            if (pipelining())
+                GridNearLockMapping.mergeByNode(mappings, sendAhead());
+
             if (isDone()) {
                 if (log.isDebugEnabled())
                     log.debug("Abandoning (re)map because future is done: " + this);
@@ -1202,6 +1206,29 @@ public final class GridDhtColocatedLockFuture extends GridCacheCompoundIdentityF
      * @throws IgniteCheckedException If mapping can not be completed.
      */
     private void proceedMapping0()
+        throws IgniteCheckedException {
+        int sent = 0;
+
+        for (GridNearLockRequest req; (req = proceedMapping1()) != null; ) {
+            sent++;
+
+            // The first request of a client may remap the transaction, that changes the subsequent requests.
+            if (!sendAhead() || req.firstClientRequest())
+                break;
+        }
+
+        if (sent > 0 && tx != null)
+            tx.onLockRequestsSent(sent);
+    }
+
+    /**
+     * Processes the next near lock mapping.
+     *
+     * @return Request sent to a remote primary node or {@code null} if there are no more mappings or the keys are
+     *      locked locally.
+     * @throws IgniteCheckedException If mapping can not be completed.
+     */
+    @Nullable private GridNearLockRequest proceedMapping1()
         throws IgniteCheckedException {
         GridNearLockMapping map;
 
@@ -1209,7 +1236,7 @@ public final class GridDhtColocatedLockFuture extends GridCacheCompoundIdentityF
         if (isDone()) {
             clear();
 
-            return;
+            return null;
         }
 
         // Fail fast if the transaction is timed out.
@@ -1218,7 +1245,7 @@ public final class GridDhtColocatedLockFuture extends GridCacheCompoundIdentityF
 
             clear();
 
-            return;
+            return null;
         }
 
         synchronized (this) {
@@ -1227,7 +1254,7 @@ public final class GridDhtColocatedLockFuture extends GridCacheCompoundIdentityF
 
         // If there are no more mappings to process or prepare has timed out, complete the future.
         if (map == null)
-            return;
+            return null;
 
         final GridNearLockRequest req = map.request();
         final Collection<KeyCacheObject> mappedKeys = map.distributedKeys();
@@ -1256,7 +1283,27 @@ public final class GridDhtColocatedLockFuture extends GridCacheCompoundIdentityF
 
                 fut.onResult(ex);
             }
+
+            return req;
         }
+
+        return null;
+    }
+
+    /**
+     * @return {@code True} if the keys are locked node by node in the order of the nodes.
+     * @see IgniteTxManager#lockPipelining()
+     */
+    private boolean pipelining() {
+        return inTx() && cctx.tm().lockPipelining();
+    }
+
+    /**
+     * @return {@code True} if the lock requests to remote nodes are sent without waiting for the responses.
+     * @see IgniteTxManager#lockPipelining()
+     */
+    private boolean sendAhead() {
+        return pipelining() && tx.timeout() > 0;
     }
 
     /**
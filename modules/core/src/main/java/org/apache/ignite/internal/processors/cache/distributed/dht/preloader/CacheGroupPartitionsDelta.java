@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.dht.preloader;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import org.apache.ignite.internal.Order;
+import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState;
+import org.apache.ignite.internal.util.GridPartitionStateMap;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.plugin.extensions.communication.Message;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Changes of the partition map and the update counters of a cache group relative to the partitions state of
+ * a previous full message, see {@link ExchangePartitionsState}.
+ */
+public class CacheGroupPartitionsDelta implements Message {
+    /** Partition maps of the added and changed nodes. Maps of the changed nodes hold the changed states only. */
+    @Order(0)
+    GridDhtPartitionFullMap parts;
+
+    /** Partitions removed from the maps of the changed nodes. */
+    @Order(1)
+    @Nullable Map<UUID, int[]> rmvParts;
+
+    /** Nodes which partition maps are removed. */
+    @Order(2)
+    @Nullable Collection<UUID> rmvNodes;
+
+    /** Partitions with the changed update counters, {@code null} if there are no update counters. */
+    @Order(3)
+    @Nullable int[] cntrParts;
+
+    /** Changed initial update counters. */
+    @Order(4)
+    @Nullable long[] initUpdCntrs;
+
+    /** Changed update counters. */
+    @Order(5)
+    @Nullable long[] updCntrs;
+
+    /**
+     * Empty constructor.
+     */
+    public CacheGroupPartitionsDelta() {
+        // No-op.
+    }
+
+    /**
+     * @param base Base partition map.
+     * @param baseCntrs Base update counters.
+     * @param map Partition map.
+     * @param cntrs Update counters.
+     * @return Delta or {@code null} if the group cannot be written relative to the base.
+     */
+    @Nullable public static CacheGroupPartitionsDelta create(
+        GridDhtPartitionFullMap base,
+        @Nullable CachePartitionFullCountersMap baseCntrs,
+        GridDhtPartitionFullMap map,
+        @Nullable CachePartitionFullCountersMap cntrs
+    ) {
+        if (cntrs != null && (baseCntrs == null || baseCntrs.updateCounters().length != cntrs.updateCounters().length))
+            return null;
+
+        CacheGroupPartitionsDelta delta = new CacheGroupPartitionsDelta();
+
+        delta.parts = new GridDhtPartitionFullMap(map.nodeId(), map.nodeOrder(), map.updateSequence());
+
+        for (Map.Entry<UUID, GridDhtPartitionMap> e : map.entrySet()) {
+            GridDhtPartitionMap partMap = e.getValue();
+            GridDhtPartitionMap basePartMap = base.get(e.getKey());
+
+            if (basePartMap == null) {
+                delta.parts.put(e.getKey(), partMap);
+
+                continue;
+            }
+
+            boolean sameStates = partMap.map().equals(basePartMap.map());
+
+            if (sameStates && partMap.updateSequence() == basePartMap.updateSequence() &&
+                Objects.equals(partMap.topologyVersion(), basePartMap.topologyVersion()))
+                continue;
+
+            GridPartitionStateMap changed = new GridPartitionStateMap();
+
+            if (!sameStates) {
+                for (Map.Entry<Integer, GridDhtPartitionState> state : partMap.entrySet()) {
+                    if (basePartMap.get(state.getKey()) != state.getValue())
+                        changed.put(state.getKey(), state.getValue());
+                }
+
+                int[] rmv = new int[basePartMap.size()];
+                int rmvCnt = 0;
+
+                for (Integer p : basePartMap.keySet()) {
+                    if (!partMap.containsKey(p))
+                        rmv[rmvCnt++] = p;
+                }
+
+                if (rmvCnt > 0) {
+                    if (delta.rmvParts == null)
+                        delta.rmvParts = new HashMap<>();
+
+                    delta.rmvParts.put(e.getKey(), Arrays.copyOf(rmv, rmvCnt));
+                }
+            }
+
+            delta.parts.put(e.getKey(), new GridDhtPartitionMap(partMap.nodeId(), partMap.updateSequence(),
+                partMap.topologyVersion(), changed, false));
+        }
+
+        for (UUID nodeId : base.keySet()) {
+            if (!map.containsKey(nodeId)) {
+                if (delta.rmvNodes == null)
+                    delta.rmvNodes = new ArrayList<>();
+
+                delta.rmvNodes.add(nodeId);
+            }
+        }
+
+        if (cntrs != null) {
+            long[] initUpdCntrs = cntrs.initialUpdateCounters();
+            long[] updCntrs = cntrs.updateCounters();
+
+            int[] cntrParts = new int[updCntrs.length];
+            int cnt = 0;
+
+            for (int p = 0; p < updCntrs.length; p++) {
+                if (initUpdCntrs[p] != baseCntrs.initialUpdateCounters()[p] || updCntrs[p] != baseCntrs.updateCounters()[p])
+                    cntrParts[cnt++] = p;
+            }
+
+            delta.cntrParts = Arrays.copyOf(cntrParts, cnt);
+            delta.initUpdCntrs = new long[cnt];
+            delta.updCntrs = new long[cnt];
+
+            for (int i = 0; i < cnt; i++) {
+                delta.initUpdCntrs[i] = initUpdCntrs[cntrParts[i]];
+                delta.updCntrs[i] = updCntrs[cntrParts[i]];
+            }
+        }
+
+        return delta;
+    }
+
+    /**
+     * @param base Base partition map.
+     * @return Partition map.
+     */
+    public GridDhtPartitionFullMap partitionMap(GridDhtPartitionFullMap base) {
+        GridDhtPartitionFullMap res = new GridDhtPartitionFullMap(parts.nodeId(), parts.nodeOrder(), parts.updateSequence());
+
+        Collection<UUID> rmvNodes0 = rmvNodes == null ? null : new HashSet<>(rmvNodes);
+
+        for (Map.Entry<UUID, GridDhtPartitionMap> e : base.entrySet()) {
+            if (rmvNodes0 != null && rmvNodes0.contains(e.getKey()))
+                continue;
+
+            GridDhtPartitionMap basePartMap = e.getValue();
+            GridDhtPartitionMap partMap = parts.get(e.getKey());
+
+            if (partMap == null) {
+                res.put(e.getKey(), new GridDhtPartitionMap(basePartMap.nodeId(), basePartMap.updateSequence(),
+                    basePartMap.topologyVersion(), basePartMap.map(), false));
+
+                continue;
+            }
+
+            GridPartitionStateMap states = new GridPartitionStateMap(basePartMap.map(), false);
+
+            int[] rmv = rmvParts == null ? null : rmvParts.get(e.getKey());
+
+            if (rmv != null) {
+                for (int p : rmv)
+                    states.remove(p);
+            }
+
+            states.putAll(partMap.map());
+
+            res.put(e.getKey(), new GridDhtPartitionMap(partMap.nodeId(), partMap.updateSequence(),
+                partMap.topologyVersion(), states, false));
+        }
+
+        for (Map.Entry<UUID, GridDhtPartitionMap> e : parts.entrySet()) {
+            if (!base.containsKey(e.getKey()))
+                res.put(e.getKey(), e.getValue());
+        }
+
+        return res;
+    }
+
+    /**
+     * @param base Base update counters.
+     * @return Update counters or {@code null} if there are no update counters.
+     */
+    @Nullable public CachePartitionFullCountersMap updateCounters(@Nullable CachePartitionFullCountersMap base) {
+        if (cntrParts == null)
+            return null;
+
+        assert base != null;
+
+        CachePartitionFullCountersMap res = new CachePartitionFullCountersMap(base);
+
+        for (int i = 0; i < cntrParts.length; i++) {
+            res.initialUpdateCounter(cntrParts[i], initUpdCntrs[i]);
+            res.updateCounter(cntrParts[i], updCntrs[i]);
+        }
+
+        return res;
+    }
+
+    /**
+     * @return Number of written partition states, removed partitions and update counters.
+     */
+    public int size() {
+        int size = cntrParts == null ? 0 : cntrParts.length;
+
+        for (GridDhtPartitionMap partMap : parts.values())
+            size += partMap.size();
+
+        if (rmvParts != null) {
+            for (int[] rmv : rmvParts.values())
+                size += rmv.length;
+        }
+
+        return size;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(CacheGroupPartitionsDelta.class, this, "size", size());
+    }
+}
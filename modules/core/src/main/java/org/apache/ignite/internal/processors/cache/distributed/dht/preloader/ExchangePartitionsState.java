@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.dht.preloader;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.lang.IgniteUuid;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Partition maps and update counters of an exchange full message. Kept by the coordinator and the other nodes
+ * as the base of the next full messages, which hold the changes relative to the state known to the receiver only.
+ */
+public class ExchangePartitionsState {
+    /** State ID. */
+    private final IgniteUuid id;
+
+    /** Topology version. */
+    private final AffinityTopologyVersion topVer;
+
+    /** Partition maps. */
+    @GridToStringExclude
+    private final Map<Integer, GridDhtPartitionFullMap> parts;
+
+    /** Update counters. */
+    @GridToStringExclude
+    private final Map<Integer, CachePartitionFullCountersMap> cntrs;
+
+    /**
+     * @param id State ID.
+     * @param topVer Topology version.
+     * @param parts Partition maps, copied.
+     * @param cntrs Update counters, copied.
+     */
+    public ExchangePartitionsState(
+        IgniteUuid id,
+        AffinityTopologyVersion topVer,
+        Map<Integer, GridDhtPartitionFullMap> parts,
+        Map<Integer, CachePartitionFullCountersMap> cntrs
+    ) {
+        this.id = id;
+        this.topVer = topVer;
+
+        this.parts = new HashMap<>(parts.size());
+
+        for (Map.Entry<Integer, GridDhtPartitionFullMap> e : parts.entrySet()) {
+            GridDhtPartitionFullMap map = e.getValue();
+
+            this.parts.put(e.getKey(),
+                new GridDhtPartitionFullMap(map.nodeId(), map.nodeOrder(), map.updateSequence(), map, false));
+        }
+
+        this.cntrs = new HashMap<>(cntrs.size());
+
+        for (Map.Entry<Integer, CachePartitionFullCountersMap> e : cntrs.entrySet())
+            this.cntrs.put(e.getKey(), new CachePartitionFullCountersMap(e.getValue()));
+    }
+
+    /**
+     * @return State ID.
+     */
+    public IgniteUuid id() {
+        return id;
+    }
+
+    /**
+     * @return Topology version.
+     */
+    public AffinityTopologyVersion topologyVersion() {
+        return topVer;
+    }
+
+    /**
+     * @param grpId Cache group ID.
+     * @return Partition map.
+     */
+    @Nullable public GridDhtPartitionFullMap partitions(int grpId) {
+        return parts.get(grpId);
+    }
+
+    /**
+     * @param grpId Cache group ID.
+     * @return Update counters.
+     */
+    @Nullable public CachePartitionFullCountersMap updateCounters(int grpId) {
+        return cntrs.get(grpId);
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(ExchangePartitionsState.class, this, "grps", parts.size());
+    }
+}
@@ -127,6 +127,7 @@ import org.apache.ignite.internal.util.typedef.internal.S;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgniteInClosure;
 import org.apache.ignite.lang.IgniteRunnable;
+import org.apache.ignite.lang.IgniteUuid;
 import org.jetbrains.annotations.Nullable;
 
 import static java.util.Collections.emptySet;
@@ -2105,6 +2106,9 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
 
         msg.exchangeStartTime(startTime);
 
+        if (cctx.exchange().deltaPartitionMaps())
+            msg.partitionsStateId(cctx.exchange().lastPartitionsStateId());
+
         if (log.isTraceEnabled())
             log.trace("Sending local partitions [nodeId=" + node.id() + ", exchId=" + exchId + ", msg=" + msg + ']');
 
@@ -2168,6 +2172,12 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
                 ", exchId=" + exchId + ", msg=" + fullMsg + ']');
         }
 
+        if (cctx.exchange().deltaPartitionMaps() && fullMsg.partitionsStateId() == null)
+            cctx.exchange().onPartitionsState(fullMsg.partitionsState(IgniteUuid.randomUuid()));
+
+        // Full messages written relative to the partitions states known to the nodes.
+        Map<IgniteUuid, GridDhtPartitionsFullMessage> deltaMsgs = new HashMap<>();
+
         // Find any single message with affinity request. This request exists only for newly joined nodes.
         Optional<GridDhtPartitionsSingleMessage> singleMsgWithAffReq = nodes.stream()
             .flatMap(node -> Optional.ofNullable(msgs.get(node.id()))
@@ -2193,7 +2203,7 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
             .map(node -> {
                 // No joined nodes, just send a regular full message.
                 if (fullMsgWithAff == null)
-                    return new T2<>(node, fullMsg);
+                    return new T2<>(node, deltaEncoded(fullMsg, node, deltaMsgs));
 
                 return new T2<>(
                     node,
@@ -2201,7 +2211,7 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
                     Optional.ofNullable(msgs.get(node.id()))
                         .filter(singleMsg -> singleMsg.cacheGroupsAffinityRequest() != null)
                         .map(singleMsg -> fullMsgWithAff)
-                        .orElse(fullMsg)
+                        .orElseGet(() -> deltaEncoded(fullMsg, node, deltaMsgs))
                 );
             })
             .map(nodeAndMsg -> {
@@ -2231,6 +2241,8 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
 
                 try {
                     cctx.io().send(node, fullMsgToSend, SYSTEM_POOL);
+
+                    cctx.exchange().onFullMessageSent(fullMsgToSend);
                 }
                 catch (ClusterTopologyCheckedException e) {
                     if (log.isDebugEnabled())
@@ -2242,6 +2254,31 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
             });
     }
 
+    /**
+     * @param fullMsg Full message.
+     * @param node Target node.
+     * @param deltaMsgs Full messages written relative to the partitions states known to the nodes, by state IDs.
+     * @return Full message written relative to the partitions state known to the node if possible.
+     */
+    private GridDhtPartitionsFullMessage deltaEncoded(
+        GridDhtPartitionsFullMessage fullMsg,
+        ClusterNode node,
+        Map<IgniteUuid, GridDhtPartitionsFullMessage> deltaMsgs
+    ) {
+        GridDhtPartitionsSingleMessage singleMsg = msgs.get(node.id());
+
+        IgniteUuid baseId = singleMsg != null ? singleMsg.partitionsStateId() : null;
+
+        if (baseId == null || fullMsg.partitionsStateId() == null)
+            return fullMsg;
+
+        return deltaMsgs.computeIfAbsent(baseId, id -> {
+            ExchangePartitionsState base = cctx.exchange().partitionsState(id);
+
+            return base != null ? fullMsg.deltaCopy(base) : fullMsg;
+        });
+    }
+
     /**
      * @param oldestNode Oldest node. Target node to send message to.
      */
@@ -3664,15 +3701,23 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
             }
 
             if (!exchCtx.mergeExchanges() && !crd.equals(events().discoveryCache().serverNodes().get(0))) {
-                for (CacheGroupContext grp : cctx.cache().cacheGroups()) {
-                    // It is possible affinity is not initialized.
-                    // For example, dynamic cache start failed.
-                    if (grp.affinity().lastVersion().topologyVersion() > 0)
-                        grp.topology().beforeExchange(this, !centralizedAff && !forceAffReassignment, false);
-                    else
-                        assert exchangeLocE != null :
-                            "Affinity is not calculated for the cache group [groupName=" + grp.name() + "]";
-                }
+                doInParallel(
+                    U.availableThreadCount(cctx.kernalContext(), GridIoPolicy.SYSTEM_POOL, 2),
+                    cctx.kernalContext().pools().getSystemExecutorService(),
+                    cctx.cache().cacheGroups(),
+                    grp -> {
+                        // It is possible affinity is not initialized.
+                        // For example, dynamic cache start failed.
+                        if (grp.affinity().lastVersion().topologyVersion() > 0)
+                            grp.topology().beforeExchange(this, !centralizedAff && !forceAffReassignment, false);
+                        else
+                            assert exchangeLocE != null :
+                                "Affinity is not calculated for the cache group [groupName=" + grp.name() + "]";
+
+                        return null;
+                    });
+
+                timeBag.finishGlobalStage("Before exchange (crd)");
             }
 
             if (exchCtx.mergeExchanges()) {
@@ -3737,11 +3782,9 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
             if (exchCtx.mergeExchanges()) {
                 synchronized (mux) {
                     if (mergedJoinExchMsgs != null) {
-                        for (Map.Entry<UUID, GridDhtPartitionsSingleMessage> e : mergedJoinExchMsgs.entrySet()) {
-                            msgs.put(e.getKey(), e.getValue());
+                        msgs.putAll(mergedJoinExchMsgs);
 
-                            updatePartitionSingleMap(e.getValue());
-                        }
+                        updatePartitionSingleMaps(mergedJoinExchMsgs.values());
                     }
                 }
 
@@ -3777,18 +3820,31 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
 
             timeBag.finishGlobalStage("Affinity recalculation (crd)");
 
+            collectUpdateCounters(parallelismLvl);
+
+            timeBag.finishGlobalStage("Collect update counters");
+
             Map<Integer, CacheGroupAffinityMessage> joinedNodeAff = new ConcurrentHashMap<>(cctx.cache().cacheGroups().size());
 
+            List<GridDhtPartitionsSingleMessage> affReqMsgs = msgs.values().stream()
+                .filter(msg -> msg.cacheGroupsAffinityRequest() != null)
+                .collect(Collectors.toList());
+
             doInParallel(
                 parallelismLvl,
                 cctx.kernalContext().pools().getSystemExecutorService(),
-                msgs.values(),
+                affReqMsgs,
                 msg -> {
                     if (!enterBusy())
                         return null;
 
                     try {
-                        processSingleMessageOnCrdFinish(msg, joinedNodeAff);
+                        CacheGroupAffinityMessage.createAffinityMessages(
+                            cctx,
+                            exchCtx.events().topologyVersion(),
+                            msg.cacheGroupsAffinityRequest(),
+                            joinedNodeAff
+                        );
                     }
                     finally {
                         leaveBusy();
@@ -3798,7 +3854,7 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
                 }
             );
 
-            timeBag.finishGlobalStage("Collect update counters and create affinity messages");
+            timeBag.finishGlobalStage("Create affinity messages");
 
             if (firstDiscoEvt.type() == EVT_DISCOVERY_CUSTOM_EVT) {
                 assert firstDiscoEvt instanceof DiscoveryCustomEvent;
@@ -3843,8 +3899,15 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
                 timeBag.finishGlobalStage("Ideal affinity diff calculation (enforced)");
             }
 
-            for (CacheGroupContext grpCtx : cctx.cache().cacheGroups())
-                grpCtx.topology().applyUpdateCounters();
+            doInParallel(
+                parallelismLvl,
+                cctx.kernalContext().pools().getSystemExecutorService(),
+                cctx.cache().cacheGroups(),
+                grpCtx -> {
+                    grpCtx.topology().applyUpdateCounters();
+
+                    return null;
+                });
 
             timeBag.finishGlobalStage("Apply update counters");
 
@@ -3857,6 +3920,8 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
 
             GridDhtPartitionsFullMessage msg = createPartitionsMessage();
 
+            timeBag.finishGlobalStage("Full message creation");
+
             if (!cctx.affinity().rebalanceRequired() && !deactivateCluster())
                 msg.rebalanced(true);
 
@@ -3994,25 +4059,44 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
     }
 
     /**
-     * @param msg Single message to process.
-     * @param messageAccumulator Message to store message which need to be sent after.
+     * Merges update counters of the received single messages. Cache groups are processed in parallel, the counters
+     * of a group are merged in the order of the messages.
+     *
+     * @param parallelismLvl Parallelism level.
+     * @throws IgniteCheckedException If failed.
      */
-    private void processSingleMessageOnCrdFinish(
-        GridDhtPartitionsSingleMessage msg,
-        Map<Integer, CacheGroupAffinityMessage> messageAccumulator
-    ) {
-        F.emptyIfNull(msg.partitionUpdateCounters()).forEach((grpId, updCntrs) ->
-            partitionTopology(grpId).collectUpdateCounters(updCntrs));
+    private void collectUpdateCounters(int parallelismLvl) throws IgniteCheckedException {
+        Map<Integer, List<CachePartitionPartialCountersMap>> grpCntrs = new LinkedHashMap<>();
 
-        Collection<Integer> affReq = msg.cacheGroupsAffinityRequest();
+        for (GridDhtPartitionsSingleMessage msg : msgs.values()) {
+            F.emptyIfNull(msg.partitionUpdateCounters()).forEach((grpId, updCntrs) ->
+                grpCntrs.computeIfAbsent(grpId, k -> new ArrayList<>()).add(updCntrs));
+        }
 
-        if (affReq != null)
-            CacheGroupAffinityMessage.createAffinityMessages(
-                cctx,
-                exchCtx.events().topologyVersion(),
-                affReq,
-                messageAccumulator
-            );
+        doInParallel(
+            parallelismLvl,
+            cctx.kernalContext().pools().getSystemExecutorService(),
+            grpCntrs.entrySet(),
+            e -> {
+                if (!enterBusy())
+                    return null;
+
+                try {
+                    GridDhtPartitionTopology top = partitionTopology(e.getKey());
+
+                    for (CachePartitionPartialCountersMap updCntrs : e.getValue())
+                        top.collectUpdateCounters(updCntrs);
+
+                    timeBag.finishLocalStage("Collect update counters [grpId=" + e.getKey() +
+                        ", msgs=" + e.getValue().size() + "]");
+                }
+                finally {
+                    leaveBusy();
+                }
+
+                return null;
+            }
+        );
     }
 
     /**
@@ -4273,6 +4357,8 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
         try {
             cctx.io().send(node, fullMsg, SYSTEM_POOL);
 
+            cctx.exchange().onFullMessageSent(fullMsg);
+
             if (log.isTraceEnabled()) {
                 log.trace("Full message was sent to node: " +
                     node +
@@ -4711,6 +4797,37 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
         msg.partitions().forEach((grpId, partMap) -> partitionTopology(grpId).update(exchId, partMap, false));
     }
 
+    /**
+     * Updates partition map in all caches. Cache groups are updated in parallel, the partition maps of a group are
+     * applied in the order of the messages.
+     *
+     * @param singleMsgs Partitions single messages.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void updatePartitionSingleMaps(Collection<GridDhtPartitionsSingleMessage> singleMsgs)
+        throws IgniteCheckedException {
+        Map<Integer, List<GridDhtPartitionMap>> grpMaps = new LinkedHashMap<>();
+
+        for (GridDhtPartitionsSingleMessage msg : singleMsgs) {
+            msg.partitions().forEach((grpId, partMap) ->
+                grpMaps.computeIfAbsent(grpId, k -> new ArrayList<>()).add(partMap));
+        }
+
+        doInParallel(
+            U.availableThreadCount(cctx.kernalContext(), GridIoPolicy.SYSTEM_POOL, 2),
+            cctx.kernalContext().pools().getSystemExecutorService(),
+            grpMaps.entrySet(),
+            e -> {
+                GridDhtPartitionTopology top = partitionTopology(e.getKey());
+
+                for (GridDhtPartitionMap partMap : e.getValue())
+                    top.update(exchId, partMap, false);
+
+                return null;
+            }
+        );
+    }
+
     /**
      * Cache change failure message callback, processed from the discovery thread.
      *
@@ -5173,6 +5290,8 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
             if (log.isInfoEnabled())
                 log.info("New coordinator restore state finished [ver=" + initialVersion() + ']');
 
+            List<GridDhtPartitionsSingleMessage> srvMsgs = new ArrayList<>(newCrdFut.messages().size());
+
             for (Map.Entry<ClusterNode, GridDhtPartitionsSingleMessage> e : newCrdFut.messages().entrySet()) {
                 GridDhtPartitionsSingleMessage msg = e.getValue();
 
@@ -5182,9 +5301,16 @@ public class GridDhtPartitionsExchangeFuture extends GridDhtTopologyFutureAdapte
                     if (dynamicCacheStartExchange() && msg.getError() != null)
                         exchangeGlobalExceptions.put(e.getKey().id(), msg.getError());
 
-                    updatePartitionSingleMap(msg);
+                    srvMsgs.add(msg);
                 }
             }
+
+            try {
+                updatePartitionSingleMaps(srvMsgs);
+            }
+            catch (IgniteCheckedException e) {
+                throw new IgniteException(e);
+            }
         }
 
         allRcvd = true;
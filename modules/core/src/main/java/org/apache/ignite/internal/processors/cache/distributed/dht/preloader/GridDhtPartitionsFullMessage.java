@@ -33,6 +33,7 @@ import org.apache.ignite.internal.managers.communication.ErrorMessage;
 import org.apache.ignite.internal.managers.discovery.GridDiscoveryManager;
 import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
 import org.apache.ignite.internal.processors.cache.CacheAffinityChangeMessage;
+import org.apache.ignite.internal.processors.cache.GridCachePartitionExchangeManager;
 import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState;
 import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
@@ -40,6 +41,7 @@ import org.apache.ignite.internal.util.tostring.GridToStringExclude;
 import org.apache.ignite.internal.util.tostring.GridToStringInclude;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.lang.IgniteUuid;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -125,6 +127,23 @@ public class GridDhtPartitionsFullMessage extends GridDhtPartitionsAbstractMessa
     @GridToStringExclude
     Map<Integer, int[]> lostParts;
 
+    /** ID of the partitions state of this message, {@code null} if the state is not kept as a base of the next ones. */
+    @Order(13)
+    @Nullable IgniteUuid partsStateId;
+
+    /** ID of the base partitions state of {@link #partsDeltas}. */
+    @Order(14)
+    @Nullable IgniteUuid basePartsStateId;
+
+    /** Partition maps and update counters written relative to the base partitions state. */
+    @Order(15)
+    @GridToStringExclude
+    @Nullable Map<Integer, CacheGroupPartitionsDelta> partsDeltas;
+
+    /** Number of written partition states and update counters, calculated lazily. */
+    @GridToStringExclude
+    private int partsSize = -1;
+
     /**
      * Empty constructor.
      */
@@ -174,6 +193,10 @@ public class GridDhtPartitionsFullMessage extends GridDhtPartitionsAbstractMessa
         cp.idealAffDiff = idealAffDiff;
         cp.flags = flags;
         cp.lostParts = lostParts;
+        cp.partsStateId = partsStateId;
+        cp.basePartsStateId = basePartsStateId;
+        cp.partsDeltas = partsDeltas;
+        cp.partsSize = partsSize;
     }
 
     /**
@@ -387,6 +410,140 @@ public class GridDhtPartitionsFullMessage extends GridDhtPartitionsAbstractMessa
         flags = rebalanced ? (byte)(flags | REBALANCED_FLAG_MASK) : (byte)(flags & ~REBALANCED_FLAG_MASK);
     }
 
+    /**
+     * @return ID of the partitions state of this message.
+     */
+    @Nullable public IgniteUuid partitionsStateId() {
+        return partsStateId;
+    }
+
+    /**
+     * @return {@code True} if partition maps of some groups are written relative to a previous partitions state.
+     */
+    public boolean deltaEncoded() {
+        return basePartsStateId != null;
+    }
+
+    /**
+     * Assigns the ID to the partitions state of this message.
+     *
+     * @param id State ID.
+     * @return Partitions state to keep as a base of the next messages.
+     */
+    public ExchangePartitionsState partitionsState(IgniteUuid id) {
+        assert partsStateId == null && !deltaEncoded() : this;
+
+        partsStateId = id;
+
+        return partitionsState();
+    }
+
+    /**
+     * @return Partitions state of this message. Groups with duplicated data are skipped as they are never written
+     *      relative to a previous state.
+     */
+    private ExchangePartitionsState partitionsState() {
+        Map<Integer, GridDhtPartitionFullMap> parts0 = new HashMap<>(partitions());
+
+        if (dupPartsData != null)
+            parts0.keySet().removeAll(dupPartsData.keySet());
+
+        Map<Integer, CachePartitionFullCountersMap> cntrs0;
+
+        if (partCntrs == null)
+            cntrs0 = Collections.emptyMap();
+        else {
+            synchronized (partCntrs) {
+                cntrs0 = new HashMap<>(partCntrs);
+            }
+        }
+
+        return new ExchangePartitionsState(partsStateId, topVer, parts0, cntrs0);
+    }
+
+    /**
+     * Creates a copy of the message which holds the changes of the partition maps and update counters relative to
+     * the given partitions state for the groups known to the state and complete ones for the rest.
+     *
+     * @param base Base partitions state.
+     * @return Message copy.
+     */
+    public GridDhtPartitionsFullMessage deltaCopy(ExchangePartitionsState base) {
+        assert partsStateId != null && !deltaEncoded() : this;
+
+        Map<Integer, CacheGroupPartitionsDelta> deltas = new HashMap<>();
+        Map<Integer, GridDhtPartitionFullMap> fullParts = new HashMap<>();
+
+        for (Map.Entry<Integer, GridDhtPartitionFullMap> e : partitions().entrySet()) {
+            int grpId = e.getKey();
+
+            GridDhtPartitionFullMap baseMap = base.partitions(grpId);
+
+            CacheGroupPartitionsDelta delta = null;
+
+            if (baseMap != null && (dupPartsData == null || !dupPartsData.containsKey(grpId))) {
+                delta = CacheGroupPartitionsDelta.create(baseMap, base.updateCounters(grpId), e.getValue(),
+                    partCntrs == null ? null : partitionUpdateCounters(grpId));
+            }
+
+            if (delta != null)
+                deltas.put(grpId, delta);
+            else
+                fullParts.put(grpId, e.getValue());
+        }
+
+        GridDhtPartitionsFullMessage cp = copy();
+
+        cp.locParts = copyPartitionsMap(fullParts);
+        cp.basePartsStateId = base.id();
+        cp.partsDeltas = deltas;
+        cp.partsSize = -1;
+
+        if (partCntrs != null) {
+            synchronized (partCntrs) {
+                cp.partCntrs = new HashMap<>(partCntrs);
+            }
+
+            cp.partCntrs.keySet().removeAll(deltas.keySet());
+        }
+
+        return cp;
+    }
+
+    /**
+     * @return Number of written partition states and update counters.
+     */
+    public int partitionsSize() {
+        if (partsSize < 0) {
+            int size = 0;
+
+            Map<Integer, GridDhtPartitionFullMap> parts0 = deltaEncoded() ? locParts : parts;
+
+            if (parts0 != null) {
+                for (GridDhtPartitionFullMap map : parts0.values()) {
+                    for (GridDhtPartitionMap partMap : map.values())
+                        size += partMap.size();
+                }
+            }
+
+            if (partCntrs != null) {
+                synchronized (partCntrs) {
+                    for (CachePartitionFullCountersMap cntrs : partCntrs.values())
+                        size += cntrs.updateCounters().length;
+                }
+            }
+
+            if (partsDeltas != null) {
+                for (CacheGroupPartitionsDelta delta : partsDeltas.values())
+                    size += delta.size();
+            }
+
+            partsSize = size;
+        }
+
+        return partsSize;
+    }
+
     /** {@inheritDoc} */
     @Override public void prepareMarshal(GridCacheSharedContext<?, ?> ctx) throws IgniteCheckedException {
         super.prepareMarshal(ctx);
@@ -415,8 +572,14 @@ public class GridDhtPartitionsFullMessage extends GridDhtPartitionsAbstractMessa
     @Override public void finishUnmarshal(GridCacheSharedContext<?, ?> ctx, ClassLoader ldr) throws IgniteCheckedException {
         super.finishUnmarshal(ctx, ldr);
 
-        if (locParts != null && parts == null) {
-            parts = copyPartitionsMap(locParts);
+        if (parts == null && (locParts != null || partsDeltas != null)) {
+            parts = locParts != null ? copyPartitionsMap(locParts) : new HashMap<>();
+
+            if (partsDeltas != null) {
+                locParts = locParts != null ? new HashMap<>(locParts) : new HashMap<>();
+
+                applyDeltas(ctx.exchange());
+            }
 
             if (dupPartsData != null) {
                 for (Map.Entry<Integer, Integer> e : dupPartsData.entrySet()) {
@@ -447,6 +610,9 @@ public class GridDhtPartitionsFullMessage extends GridDhtPartitionsAbstractMessa
         if (parts == null)
             parts = new HashMap<>();
 
+        if (partsStateId != null)
+            ctx.exchange().onPartitionsState(partitionsState());
+
         errs = errMsgs == null ? null : F.viewReadOnly(errMsgs, e -> e.error());
     }
 
@@ -496,6 +662,52 @@ public class GridDhtPartitionsFullMessage extends GridDhtPartitionsAbstractMessa
         partCntrs = null;
     }
 
+    /**
+     * Restores partition maps and update counters written relative to the base partitions state.
+     *
+     * @param exchMgr Exchange manager.
+     * @throws IgniteCheckedException If the base state is not known.
+     */
+    private void applyDeltas(GridCachePartitionExchangeManager<?, ?> exchMgr) throws IgniteCheckedException {
+        ExchangePartitionsState base = exchMgr.partitionsState(basePartsStateId);
+
+        if (base == null) {
+            throw new IgniteCheckedException("Failed to restore partition maps of the full message, base partitions " +
+                "state is not found [baseStateId=" + basePartsStateId + ", topVer=" + topVer + ']');
+        }
+
+        if (partCntrs == null)
+            partCntrs = new HashMap<>();
+
+        for (Map.Entry<Integer, CacheGroupPartitionsDelta> e : partsDeltas.entrySet()) {
+            int grpId = e.getKey();
+
+            GridDhtPartitionFullMap baseMap = base.partitions(grpId);
+
+            if (baseMap == null) {
+                throw new IgniteCheckedException("Failed to restore partition maps of the full message, base " +
+                    "partitions state has no cache group [baseStateId=" + basePartsStateId + ", grpId=" + grpId + ']');
+            }
+
+            GridDhtPartitionFullMap map = e.getValue().partitionMap(baseMap);
+
+            parts.put(grpId, map);
+
+            // Keeps the message complete as it may be sent again to a node which does not know the base state.
+            locParts.put(grpId, new GridDhtPartitionFullMap(map.nodeId(), map.nodeOrder(), map.updateSequence(), map,
+                false));
+
+            CachePartitionFullCountersMap cntrs = e.getValue().updateCounters(base.updateCounters(grpId));
+
+            if (cntrs != null)
+                partCntrs.put(grpId, cntrs);
+        }
+
+        basePartsStateId = null;
+        partsDeltas = null;
+        partsSize = -1;
+    }
+
     /** */
     private Map<Integer, GridDhtPartitionFullMap> copyPartitionsMap(Map<Integer, GridDhtPartitionFullMap> src) {
         Map<Integer, GridDhtPartitionFullMap> map = new HashMap<>(src.size());
@@ -31,6 +31,7 @@ import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
 import org.apache.ignite.internal.util.tostring.GridToStringInclude;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.lang.IgniteUuid;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -91,6 +92,10 @@ public class GridDhtPartitionsSingleMessage extends GridDhtPartitionsAbstractMes
     @Order(9)
     GridDhtPartitionsFullMessage finishMsg;
 
+    /** ID of the partitions state of the latest full message known to the sender. */
+    @Order(10)
+    @Nullable IgniteUuid partsStateId;
+
     /**
      * Empty constructor.
      */
@@ -126,6 +131,20 @@ public class GridDhtPartitionsSingleMessage extends GridDhtPartitionsAbstractMes
         return finishMsg;
     }
 
+    /**
+     * @param partsStateId ID of the partitions state of the latest full message known to the sender.
+     */
+    public void partitionsStateId(@Nullable IgniteUuid partsStateId) {
+        this.partsStateId = partsStateId;
+    }
+
+    /**
+     * @return ID of the partitions state of the latest full message known to the sender.
+     */
+    @Nullable public IgniteUuid partitionsStateId() {
+        return partsStateId;
+    }
+
     /**
      * @param grpsAffReq Cache groups to get affinity for (affinity is requested when node joins cluster).
      */
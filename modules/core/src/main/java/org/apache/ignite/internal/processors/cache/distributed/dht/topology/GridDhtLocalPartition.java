@@ -53,6 +53,7 @@ import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
 import org.apache.ignite.internal.processors.cache.KeyCacheObject;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtCacheEntry;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridReservable;
+import org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridDhtAtomicCompactCacheEntry;
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPreloader;
 import org.apache.ignite.internal.processors.cache.extras.GridCacheObsoleteEntryExtras;
 import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
@@ -93,7 +94,8 @@ import static org.apache.ignite.internal.util.lang.ClusterNodeFunc.nodeIds;
  */
 public class GridDhtLocalPartition extends GridCacheConcurrentMapImpl implements Comparable<GridDhtLocalPartition>, GridReservable {
     /** */
-    private static final GridCacheMapEntryFactory ENTRY_FACTORY = GridDhtCacheEntry::new;
+    private static final GridCacheMapEntryFactory ENTRY_FACTORY = (ctx, topVer, key) -> ctx.compactEntries() ?
+        new GridDhtAtomicCompactCacheEntry(ctx, topVer, key) : new GridDhtCacheEntry(ctx, topVer, key);
 
     /** @see IgniteSystemProperties#IGNITE_ATOMIC_CACHE_DELETE_HISTORY_SIZE */
     public static final int DFLT_ATOMIC_CACHE_DELETE_HISTORY_SIZE = 200_000;
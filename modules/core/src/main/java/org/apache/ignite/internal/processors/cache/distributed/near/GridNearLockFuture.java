@@ -54,6 +54,7 @@ import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtTopolo
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtTransactionalCacheAdapter;
 import org.apache.ignite.internal.processors.cache.transactions.IgniteTxEntry;
 import org.apache.ignite.internal.processors.cache.transactions.IgniteTxKey;
+import org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager;
 import org.apache.ignite.internal.processors.cache.transactions.TxDeadlock;
 import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
 import org.apache.ignite.internal.processors.timeout.GridTimeoutObjectAdapter;
@@ -991,6 +992,9 @@ public final class GridNearLockFuture extends GridCacheCompoundIdentityFuture<Bo
                     map = updated;
                 }
 
+                if (pipelining())
+                    GridNearLockMapping.mergeByNode(mappings, sendAhead());
+
                 if (isDone()) {
                     if (log.isDebugEnabled())
                         log.debug("Abandoning (re)map because future is done: " + this);
@@ -1201,6 +1205,29 @@ public final class GridNearLockFuture extends GridCacheCompoundIdentityFuture<Bo
      * @throws IgniteCheckedException If mapping can not be completed.
      */
     private void proceedMapping0()
+        throws IgniteCheckedException {
+        int sent = 0;
+
+        for (GridNearLockRequest req; (req = proceedMapping1()) != null; ) {
+            sent++;
+
+            // The first request of a client may remap the transaction, that changes the subsequent requests.
+            if (!sendAhead() || req.firstClientRequest())
+                break;
+        }
+
+        if (sent > 0 && tx != null)
+            tx.onLockRequestsSent(sent);
+    }
+
+    /**
+     * Processes the next near lock mapping.
+     *
+     * @return Request sent to a remote primary node or {@code null} if there are no more mappings or the keys are
+     *      locked locally.
+     * @throws IgniteCheckedException If mapping can not be completed.
+     */
+    @Nullable private GridNearLockRequest proceedMapping1()
         throws IgniteCheckedException {
         GridNearLockMapping map;
 
@@ -1210,7 +1237,7 @@ public final class GridNearLockFuture extends GridCacheCompoundIdentityFuture<Bo
 
         // If there are no more mappings to process, complete the future.
         if (map == null)
-            return;
+            return null;
 
         final GridNearLockRequest req = map.request();
         final Collection<KeyCacheObject> mappedKeys = map.distributedKeys();
@@ -1372,7 +1399,27 @@ public final class GridNearLockFuture extends GridCacheCompoundIdentityFuture<Bo
             catch (ClusterTopologyCheckedException ex) {
                 fut.onResult(ex);
             }
+
+            return req;
         }
+
+        return null;
+    }
+
+    /**
+     * @return {@code True} if the keys are locked node by node in the order of the nodes.
+     * @see IgniteTxManager#lockPipelining()
+     */
+    private boolean pipelining() {
+        return inTx() && cctx.tm().lockPipelining();
+    }
+
+    /**
+     * @return {@code True} if the lock requests to remote nodes are sent without waiting for the responses.
+     * @see IgniteTxManager#lockPipelining()
+     */
+    private boolean sendAhead() {
+        return pipelining() && tx.timeout() > 0;
     }
 
     /**
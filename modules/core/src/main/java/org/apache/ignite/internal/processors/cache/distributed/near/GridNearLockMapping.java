@@ -19,8 +19,14 @@ package org.apache.ignite.internal.processors.cache.distributed.near;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import org.apache.ignite.cluster.ClusterNode;
 import org.apache.ignite.internal.processors.cache.KeyCacheObject;
+import org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager;
 import org.apache.ignite.internal.util.tostring.GridToStringExclude;
 import org.apache.ignite.internal.util.tostring.GridToStringInclude;
 import org.apache.ignite.internal.util.typedef.internal.S;
@@ -111,6 +117,39 @@ public class GridNearLockMapping {
         this.distributedKeys = distributedKeys;
     }
 
+    /**
+     * Merges the mappings of the same node keeping the order of the keys and sorts the merged mappings by the node
+     * order, so the locks of all the operations are acquired node by node in the same order.
+     *
+     * @param mappings Mappings of continuous groups of keys, without requests.
+     * @param locFirst Whether the mapping of the local node goes first. The local keys are locked before the remote
+     *      requests are sent, so the mapping of the local node never waits for remote responses.
+     * @see IgniteTxManager#lockPipelining()
+     */
+    public static void mergeByNode(Collection<GridNearLockMapping> mappings, boolean locFirst) {
+        if (mappings.size() < 2)
+            return;
+
+        Map<UUID, GridNearLockMapping> merged = new LinkedHashMap<>();
+
+        for (GridNearLockMapping mapping : mappings) {
+            assert mapping.req == null : mapping;
+
+            GridNearLockMapping nodeMapping = merged.putIfAbsent(mapping.node.id(), mapping);
+
+            if (nodeMapping != null)
+                nodeMapping.mappedKeys.addAll(mapping.mappedKeys);
+        }
+
+        List<GridNearLockMapping> res = new ArrayList<>(merged.values());
+
+        res.sort(Comparator.comparing((GridNearLockMapping m) -> !locFirst || !m.node.isLocal())
+            .thenComparingLong(m -> m.node.order()));
+
+        mappings.clear();
+        mappings.addAll(res);
+    }
+
     /** {@inheritDoc} */
     @Override public String toString() {
         return S.toString(GridNearLockMapping.class, this);
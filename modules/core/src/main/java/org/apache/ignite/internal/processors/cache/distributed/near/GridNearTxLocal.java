@@ -31,6 +31,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import javax.cache.Cache;
@@ -213,6 +214,12 @@ public class GridNearTxLocal extends GridDhtTxLocalAdapter implements GridTimeou
     /** Stores commit or rollback step duration, or <code>0</code> if it has not finished yet. */
     private final AtomicLong commitOrRollbackTime = new AtomicLong(0);
 
+    /** Number of lock requests sent to remote primary nodes. */
+    private final AtomicInteger lockReqCnt = new AtomicInteger();
+
+    /** Number of network round trips spent on acquiring locks on remote primary nodes. */
+    private final AtomicInteger lockRoundTrips = new AtomicInteger();
+
     /** */
     @GridToStringExclude
     private final IgniteTxManager.TxDumpsThrottling txDumpsThrottling;
@@ -3614,6 +3621,25 @@ public class GridNearTxLocal extends GridDhtTxLocalAdapter implements GridTimeou
         return true;
     }
 
+    /**
+     * Records lock requests sent to remote primary nodes at once, that is one network round trip.
+     *
+     * @param cnt Number of requests.
+     */
+    public void onLockRequestsSent(int cnt) {
+        assert cnt > 0 : cnt;
+
+        lockReqCnt.addAndGet(cnt);
+        lockRoundTrips.incrementAndGet();
+    }
+
+    /**
+     * @return Number of network round trips spent on acquiring locks on remote primary nodes.
+     */
+    public int lockRoundTrips() {
+        return lockRoundTrips.get();
+    }
+
     /**
      * Returns current amount of time that transaction has spent on system activities (acquiring locks, commiting,
      * rolling back, etc.)
@@ -3647,7 +3673,7 @@ public class GridNearTxLocal extends GridDhtTxLocalAdapter implements GridTimeou
             // In some cases totalTimeMillis can be less than systemTimeMillis, as they are calculated with different precision.
             long userTimeMillis = Math.max(totalTimeMillis - sysTimeMillis, 0);
 
-            cctx.txMetrics().onNearTxComplete(sysTimeMillis, userTimeMillis);
+            cctx.txMetrics().onNearTxComplete(sysTimeMillis, userTimeMillis, lockRoundTrips.get());
 
             boolean willBeSkipped = txDumpsThrottling == null || txDumpsThrottling.skipCurrent();
 
@@ -3723,6 +3749,10 @@ public class GridNearTxLocal extends GridDhtTxLocalAdapter implements GridTimeou
         }
 
         warning
+            .a(", lockRequests=")
+            .a(lockReqCnt.get())
+            .a(", lockRoundTrips=")
+            .a(lockRoundTrips.get())
             .a(", tx=")
             .a(this)
             .a("]");
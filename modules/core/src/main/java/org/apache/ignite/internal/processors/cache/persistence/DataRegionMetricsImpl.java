@@ -132,6 +132,9 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
     /** */
     private final LongAdderMetric pageReplaceTime;
 
+    /** */
+    private final LongAdderMetric compressedPageTierHits;
+
     /** */
     private final AtomicLongMetric offHeapSize;
 
@@ -264,6 +267,9 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
         pageReplaceTime = mreg.longAdderMetric("PagesReplaceTime",
             "Total pages replace time in nanoseconds since last restart.");
 
+        compressedPageTierHits = mreg.longAdderMetric("CompressedPageTierHits",
+            "Number of pages restored from the compressed page tier instead of the disk from last restart.");
+
         offHeapSize = mreg.longMetric("OffHeapSize",
             "Offheap size in bytes.");
 
@@ -565,6 +571,14 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
         }
     }
 
+    /**
+     * Updates number of pages restored from the compressed page tier.
+     */
+    public void onCompressedPageTierHit() {
+        if (metricsEnabled)
+            compressedPageTierHits.increment();
+    }
+
     /**
      * Updates page written.
      */
@@ -813,6 +827,7 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
         writtenPages.reset();
         replacedPages.reset();
         pageReplaceTime.reset();
+        compressedPageTierHits.reset();
         offHeapSize.reset();
         checkpointBufSize.reset();
         allocRate.reset();
@@ -210,6 +210,11 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
     @SystemProperty(value = "Enables log checkpoint read lock holders")
     public static final String IGNITE_PDS_LOG_CP_READ_LOCK_HOLDERS = "IGNITE_PDS_LOG_CP_READ_LOCK_HOLDERS";
 
+    /** Use the striped checkpoint lock. */
+    @SystemProperty(value = "Enables the checkpoint lock with striped reader indicator which scales better on " +
+        "many cores at the cost of the checkpoint write lock acquisition time")
+    public static final String IGNITE_PDS_STRIPED_CHECKPOINT_LOCK = "IGNITE_PDS_STRIPED_CHECKPOINT_LOCK";
+
     /** {@link DataRegionConfiguration} name reserved for meta store. */
     public static final String METASTORE_DATA_REGION_NAME = "metastoreMemPlc";
 
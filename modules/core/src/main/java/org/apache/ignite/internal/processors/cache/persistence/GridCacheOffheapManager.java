@@ -438,10 +438,10 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
                         if (grp.sharedGroup()) {
                             long initCntrPageId = io.getCountersPageId(partMetaPageAddr);
 
-                            Map<Integer, Long> newSizes = store.cacheSizes();
-                            Map<Integer, Long> prevSizes = readSharedGroupCacheSizes(pageMem, grpId, initCntrPageId);
+                            byte[] newSizes =
+                                PagePartitionCountersIO.VERSIONS.latest().serializeCacheSizes(store.cacheSizes());
 
-                            if (prevSizes != null && prevSizes.equals(newSizes))
+                            if (sharedGroupCacheSizesEqual(pageMem, grpId, initCntrPageId, newSizes))
                                 cntrsPageId = initCntrPageId; // Preventing modification of sizes pages for store
                             else {
                                 cntrsPageId = writeSharedGroupCacheSizes(pageMem, grpId, initCntrPageId,
@@ -702,6 +702,62 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
         return cacheSizes;
     }
 
+    /**
+     * Compares the stored cache sizes of a shared group with the serialized ones without reading them to a map.
+     *
+     * @param pageMem Page memory.
+     * @param grpId Cache group ID.
+     * @param cntrsPageId Counters page ID, if zero is provided that means no counters page exist.
+     * @param data Serialized cache sizes, see {@link PagePartitionCountersIO#serializeCacheSizes(Map)}.
+     * @return {@code True} if the stored cache sizes are equal to the serialized ones.
+     * @throws IgniteCheckedException If page memory operation failed.
+     */
+    private static boolean sharedGroupCacheSizesEqual(PageSupport pageMem, int grpId, long cntrsPageId,
+        byte[] data) throws IgniteCheckedException {
+        if (cntrsPageId == 0L)
+            return false;
+
+        int items = data.length / PagePartitionCountersIO.ITEM_SIZE;
+        int cmp = 0;
+
+        long nextId = cntrsPageId;
+
+        while (true) {
+            long curId = nextId;
+            long curPage = pageMem.acquirePage(grpId, curId);
+
+            try {
+                long curAddr = pageMem.readLock(grpId, curId, curPage);
+
+                assert curAddr != 0;
+
+                try {
+                    PagePartitionCountersIO cntrsIO = PageIO.getPageIO(curAddr);
+
+                    int pageItems = cntrsIO.compareCacheSizes(curAddr, data, cmp);
+
+                    if (pageItems < 0)
+                        return false;
+
+                    cmp += pageItems;
+
+                    if (cmp == items)
+                        return true;
+
+                    nextId = cntrsIO.getNextCountersPageId(curAddr);
+
+                    assert nextId != 0;
+                }
+                finally {
+                    pageMem.readUnlock(grpId, curId, curPage);
+                }
+            }
+            finally {
+                pageMem.releasePage(grpId, curId, curPage);
+            }
+        }
+    }
+
     /**
      * Saves cache sizes for all caches in shared group. Unconditionally marks pages as dirty.
      *
@@ -715,12 +771,27 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
      */
     public static long writeSharedGroupCacheSizes(PageMemory pageMem, int grpId,
         long cntrsPageId, int partId, Map<Integer, Long> sizes) throws IgniteCheckedException {
-        byte[] data = PagePartitionCountersIO.VERSIONS.latest().serializeCacheSizes(sizes);
+        return writeSharedGroupCacheSizes(pageMem, grpId, cntrsPageId, partId,
+            PagePartitionCountersIO.VERSIONS.latest().serializeCacheSizes(sizes));
+    }
 
+    /**
+     * Saves cache sizes for all caches in shared group. Unconditionally marks pages as dirty.
+     *
+     * @param pageMem page memory to perform operations on pages.
+     * @param grpId Cache group ID.
+     * @param cntrsPageId Counters page ID, if zero is provided that means no counters page exist.
+     * @param partId Partition ID.
+     * @param data Serialized cache sizes, see {@link PagePartitionCountersIO#serializeCacheSizes(Map)}.
+     * @return new counter page Id. Same as {@code cntrsPageId} or new value if cache size pages were initialized.
+     * @throws IgniteCheckedException if page memory operation failed.
+     */
+    private static long writeSharedGroupCacheSizes(PageMemory pageMem, int grpId,
+        long cntrsPageId, int partId, byte[] data) throws IgniteCheckedException {
         int items = data.length / PagePartitionCountersIO.ITEM_SIZE;
         boolean init = cntrsPageId == 0;
 
-        if (init && !sizes.isEmpty())
+        if (init && items > 0)
             cntrsPageId = pageMem.allocatePage(grpId, partId, PageIdAllocator.FLAG_AUX);
 
         long nextId = cntrsPageId;
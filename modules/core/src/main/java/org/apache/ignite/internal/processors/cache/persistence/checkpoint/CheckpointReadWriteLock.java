@@ -23,9 +23,12 @@ import org.apache.ignite.IgniteException;
 import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager;
 import org.apache.ignite.internal.util.ReentrantReadWriteLockWithTracking;
+import org.apache.ignite.internal.util.StripedReadWriteLockWithTracking;
+import org.apache.ignite.internal.util.TrackingReadWriteLock;
 
 import static org.apache.ignite.IgniteSystemProperties.getBoolean;
 import static org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager.IGNITE_PDS_LOG_CP_READ_LOCK_HOLDERS;
+import static org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager.IGNITE_PDS_STRIPED_CHECKPOINT_LOCK;
 
 /**
  * Wrapper of the classic read write lock with checkpoint features.
@@ -43,15 +46,24 @@ public class CheckpointReadWriteLock {
      */
     static final String CHECKPOINT_RUNNER_THREAD_PREFIX = "checkpoint-runner";
 
+    /** Read lock hold time threshold to log the holders after. */
+    private static final long READ_LOCK_HOLD_THRESHOLD = 5_000;
+
     /** Checkpont lock. */
-    private final ReentrantReadWriteLockWithTracking checkpointLock;
+    private final TrackingReadWriteLock checkpointLock;
 
     /**
      * @param logger Logger.
      */
     CheckpointReadWriteLock(Function<Class<?>, IgniteLogger> logger) {
-        if (getBoolean(IGNITE_PDS_LOG_CP_READ_LOCK_HOLDERS))
-            checkpointLock = new ReentrantReadWriteLockWithTracking(logger.apply(getClass()), 5_000);
+        IgniteLogger log = getBoolean(IGNITE_PDS_LOG_CP_READ_LOCK_HOLDERS) ? logger.apply(getClass()) : null;
+
+        if (getBoolean(IGNITE_PDS_STRIPED_CHECKPOINT_LOCK)) {
+            checkpointLock = new StripedReadWriteLockWithTracking(
+                2 * Runtime.getRuntime().availableProcessors(), log, READ_LOCK_HOLD_THRESHOLD);
+        }
+        else if (log != null)
+            checkpointLock = new ReentrantReadWriteLockWithTracking(log, READ_LOCK_HOLD_THRESHOLD);
         else
             checkpointLock = new ReentrantReadWriteLockWithTracking();
     }
@@ -63,7 +75,7 @@ public class CheckpointReadWriteLock {
      * @throws IgniteException If failed.
      */
     public void readLock() {
-        if (checkpointLock.writeLock().isHeldByCurrentThread())
+        if (checkpointLock.isWriteLockedByCurrentThread())
             return;
 
         checkpointLock.readLock().lock();
@@ -79,7 +91,7 @@ public class CheckpointReadWriteLock {
      * @throws IgniteException If failed.
      */
     public boolean tryReadLock(long timeout, TimeUnit unit) throws InterruptedException {
-        if (checkpointLock.writeLock().isHeldByCurrentThread())
+        if (checkpointLock.isWriteLockedByCurrentThread())
             return true;
 
         boolean res = checkpointLock.readLock().tryLock(timeout, unit);
@@ -106,7 +118,7 @@ public class CheckpointReadWriteLock {
      * Releases the checkpoint read lock.
      */
     public void readUnlock() {
-        if (checkpointLock.writeLock().isHeldByCurrentThread())
+        if (checkpointLock.isWriteLockedByCurrentThread())
             return;
 
         checkpointLock.readLock().unlock();
@@ -126,7 +138,7 @@ public class CheckpointReadWriteLock {
      * @return {@code true} if current thread hold the write lock.
      */
     public boolean isWriteLockHeldByCurrentThread() {
-        return checkpointLock.writeLock().isHeldByCurrentThread();
+        return checkpointLock.isWriteLockedByCurrentThread();
     }
 
     /**
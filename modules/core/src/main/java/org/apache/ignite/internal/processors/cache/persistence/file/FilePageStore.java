@@ -33,6 +33,7 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.LongConsumer;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
+import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.internal.pagemem.PageIdUtils;
 import org.apache.ignite.internal.pagemem.store.PageStore;
@@ -44,6 +45,7 @@ import org.apache.ignite.internal.processors.cache.persistence.wal.crc.FastCrc;
 import org.apache.ignite.internal.processors.cache.persistence.wal.crc.IgniteDataIntegrityViolationException;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgniteOutClosure;
+import org.jetbrains.annotations.Nullable;
 
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.READ;
@@ -123,6 +125,12 @@ public class FilePageStore implements PageStore {
     /** */
     private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
+    /** Pool of open files, {@code null} if the file is kept open until the store is stopped. */
+    @Nullable private volatile FilePageStorePool filePool;
+
+    /** Accessed since the last pass of the pool over the open files. */
+    private volatile boolean accessed;
+
     /**
      * @param type Type of stored pages.
      * @param pathProvider Store path.
@@ -147,6 +155,17 @@ public class FilePageStore implements PageStore {
         this.allocatedTracker = allocatedTracker;
     }
 
+    /**
+     * Sets the pool to bound the number of open files with. Must be called before the store is initialized.
+     *
+     * @param filePool Pool of open files.
+     */
+    void filePool(@Nullable FilePageStorePool filePool) {
+        assert !inited;
+
+        this.filePool = filePool;
+    }
+
     /** {@inheritDoc} */
     @Override public void addWriteListener(PageWriteListener lsnr) {
         lsnrs.add(lsnr);
@@ -170,9 +189,14 @@ public class FilePageStore implements PageStore {
     /** {@inheritDoc} */
     @Override public long size() {
         try {
-            FileIO io = fileIO;
+            FileIO io = lockFileIO();
 
-            return io == null ? 0 : io.size();
+            try {
+                return io == null ? 0 : io.size();
+            }
+            finally {
+                unlockFileIO();
+            }
         }
         catch (IOException e) {
             throw new IgniteException(e);
@@ -350,11 +374,16 @@ public class FilePageStore implements PageStore {
                 return;
             }
 
+            FileIO fileIO = fileIO();
+
             fileIO.force();
 
             fileIO.close();
 
-            fileIO = null;
+            this.fileIO = null;
+
+            if (filePool != null)
+                filePool.onClose(this);
 
             if (delete) {
                 Files.delete(pathProvider.apply());
@@ -398,11 +427,16 @@ public class FilePageStore implements PageStore {
         try {
             this.tag = tag;
 
+            FileIO fileIO = fileIO();
+
             fileIO.clear();
 
             fileIO.close();
 
-            fileIO = null;
+            this.fileIO = null;
+
+            if (filePool != null)
+                filePool.onClose(this);
 
             Files.delete(filePath);
 
@@ -439,7 +473,7 @@ public class FilePageStore implements PageStore {
         try {
             // Since we always have a meta-page in the store, never revert allocated counter to a value smaller than page.
             if (inited) {
-                long newSize = Math.max(pageSize, fileIO.size() - headerSize());
+                long newSize = Math.max(pageSize, fileIO().size() - headerSize());
 
                 // In the case of compressed pages we can miss the tail of the page.
                 if (newSize % pageSize != 0)
@@ -475,7 +509,7 @@ public class FilePageStore implements PageStore {
 
         if (compressedSize < 0 || compressedSize > pageSize) {
             throw new IgniteDataIntegrityViolationException("Failed to read page (CRC validation failed) " +
-                "[id=" + U.hexLong(pageId) + ", file=" + getFileAbsolutePath() + ", fileSize=" + fileIO.size() +
+                "[id=" + U.hexLong(pageId) + ", file=" + getFileAbsolutePath() + ", fileSize=" + size() +
                 ", page=" + U.toHexString(pageBuf) + "]");
         }
 
@@ -530,7 +564,7 @@ public class FilePageStore implements PageStore {
                 if ((savedCrc32 ^ curCrc32) != 0)
                     throw new IgniteDataIntegrityViolationException("Failed to read page (CRC validation failed) " +
                         "[id=" + U.hexLong(pageId) + ", off=" + (off - pageSize) +
-                        ", file=" + getFileAbsolutePath() + ", fileSize=" + fileIO.size() +
+                        ", file=" + getFileAbsolutePath() + ", fileSize=" + size() +
                         ", savedCrc=" + U.hexInt(savedCrc32) + ", curCrc=" + U.hexInt(curCrc32) +
                         ", page=" + U.toHexString(pageBuf) +
                         "]");
@@ -611,6 +645,9 @@ public class FilePageStore implements PageStore {
                         // Order is important, update of total allocated pages must be called after allocated update
                         // and setting inited to true, because it affects pages() returned value.
                         allocatedTracker.accept(pages());
+
+                        if (filePool != null)
+                            filePool.onOpen(this);
                     }
                     catch (IOException e) {
                         err = new StorageException(
@@ -706,7 +743,15 @@ public class FilePageStore implements PageStore {
         boolean interrupted = false;
 
         while (true) {
-            FileIO fileIO = this.fileIO;
+            FileIO fileIO;
+
+            try {
+                fileIO = fileIO();
+            }
+            catch (IOException e) {
+                throw new StorageException("Failed to write page [file=" + getFileAbsolutePath()
+                    + ", pageId=" + pageId + ", tag=" + tag + "]", e);
+            }
 
             try {
                 lock.readLock().lock();
@@ -815,7 +860,7 @@ public class FilePageStore implements PageStore {
         try {
             init();
 
-            FileIO fileIO = this.fileIO;
+            FileIO fileIO = fileIO();
 
             if (fileIO != null)
                 fileIO.force();
@@ -875,6 +920,133 @@ public class FilePageStore implements PageStore {
         return (int)(allocated.get() / pageSize);
     }
 
+    /**
+     * Returns the file IO, reopening the file if it was closed by the pool of open files.
+     *
+     * @return File IO or {@code null} if the store is not initialized.
+     * @throws IOException If failed to reopen the file.
+     */
+    @Nullable protected FileIO fileIO() throws IOException {
+        FileIO fileIO = this.fileIO;
+
+        FilePageStorePool filePool = this.filePool;
+
+        if (filePool == null)
+            return fileIO;
+
+        accessed = true;
+
+        if (fileIO != null || !inited)
+            return fileIO;
+
+        lock.writeLock().lock();
+
+        try {
+            fileIO = this.fileIO;
+
+            if (fileIO != null || !inited)
+                return fileIO;
+
+            boolean interrupted = false;
+
+            while (true) {
+                try {
+                    // The file was validated on initialization, no need to check it again.
+                    this.fileIO = fileIO = ioFactory.create(pathProvider.apply().toFile(), CREATE, READ, WRITE);
+
+                    if (interrupted)
+                        Thread.currentThread().interrupt();
+
+                    break;
+                }
+                catch (ClosedByInterruptException e) {
+                    interrupted = true;
+
+                    Thread.interrupted();
+                }
+            }
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+
+        filePool.onOpen(this);
+
+        return fileIO;
+    }
+
+    /**
+     * Returns the file IO which is not closed by the pool of open files until {@link #unlockFileIO()} is called.
+     * Must be used for the operations on the native file descriptor which are not guarded by the store lock.
+     *
+     * @return File IO or {@code null} if the store is not initialized.
+     * @throws IOException If failed to reopen the file.
+     */
+    @Nullable protected FileIO lockFileIO() throws IOException {
+        if (filePool == null)
+            return fileIO;
+
+        while (true) {
+            FileIO fileIO = fileIO();
+
+            lock.readLock().lock();
+
+            if (fileIO == this.fileIO)
+                return fileIO;
+
+            // Parked concurrently.
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Releases the file IO returned by {@link #lockFileIO()}.
+     */
+    protected void unlockFileIO() {
+        if (filePool != null)
+            lock.readLock().unlock();
+    }
+
+    /**
+     * Closes the file if the store was not accessed since the last call and is not used by a concurrent operation.
+     * The file is reopened on the next access.
+     *
+     * @param log Logger.
+     * @return {@code True} if the file was closed.
+     */
+    boolean park(IgniteLogger log) {
+        if (accessed) {
+            accessed = false;
+
+            return false;
+        }
+
+        if (!lock.writeLock().tryLock())
+            return false;
+
+        try {
+            FileIO fileIO = this.fileIO;
+
+            if (fileIO == null || !inited)
+                return false;
+
+            // Written data stays in the OS page cache, fsync of the reopened file flushes it to the device.
+            this.fileIO = null;
+
+            fileIO.close();
+
+            return true;
+        }
+        catch (IOException e) {
+            U.warn(log, "Failed to close page store file [file=" + getFileAbsolutePath() + ']', e);
+
+            return true;
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
     /**
      * @param destBuf Destination buffer.
      * @param position Position.
@@ -886,7 +1058,7 @@ public class FilePageStore implements PageStore {
         int bufPos = destBuf.position();
 
         while (true) {
-            FileIO fileIO = this.fileIO;
+            FileIO fileIO = fileIO();
 
             if (fileIO == null)
                 throw new IOException("FileIO has stopped");
@@ -912,6 +1084,13 @@ public class FilePageStore implements PageStore {
 
                 reinit(fileIO);
             }
+            catch (IOException e) {
+                // File was parked by the pool of open files during the read, some IO implementations wrap the error.
+                if (filePool == null || fileIO == this.fileIO)
+                    throw e;
+
+                destBuf.position(bufPos);
+            }
         }
     }
 }
@@ -84,6 +84,8 @@ import org.jetbrains.annotations.Nullable;
 import static java.nio.file.Files.delete;
 import static java.nio.file.Files.newDirectoryStream;
 import static java.util.Objects.requireNonNull;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PDS_MAX_OPEN_PAGE_STORE_FILES;
+import static org.apache.ignite.IgniteSystemProperties.getInteger;
 import static org.apache.ignite.internal.pagemem.PageIdAllocator.INDEX_PARTITION;
 import static org.apache.ignite.internal.pagemem.PageIdAllocator.MAX_PARTITION_ID;
 import static org.apache.ignite.internal.processors.cache.persistence.filename.NodeFileTree.TMP_SUFFIX;
@@ -101,6 +103,9 @@ public class FilePageStoreManager extends GridCacheSharedManagerAdapter implemen
     /** Unique name for corrupted data files maintenance task. */
     public static final String CORRUPTED_DATA_FILES_MNTC_TASK_NAME = "corrupted-cache-data-files-task";
 
+    /** Default maximum number of open page store files, {@code 0} means unlimited. */
+    public static final int DFLT_PDS_MAX_OPEN_PAGE_STORE_FILES = 0;
+
     /** Page manager. */
     private final PageReadWriteManager pmPageMgr;
 
@@ -134,6 +139,9 @@ public class FilePageStoreManager extends GridCacheSharedManagerAdapter implemen
     /** Node file tree. */
     private NodeFileTree ft;
 
+    /** Pool of open page store files, {@code null} if the number of open files is not limited. */
+    @Nullable private final FilePageStorePool filePool;
+
     /** */
     private final Set<Integer> grpsWithoutIdx = Collections.newSetFromMap(new ConcurrentHashMap<Integer, Boolean>());
 
@@ -161,6 +169,10 @@ public class FilePageStoreManager extends GridCacheSharedManagerAdapter implemen
         pageStoreV1FileIoFactory = pageStoreFileIoFactory = dsCfg.getFileIOFactory();
 
         pmPageMgr = new PageReadWriteManagerImpl(ctx, this, FilePageStoreManager.class.getSimpleName());
+
+        int maxOpenFiles = getInteger(IGNITE_PDS_MAX_OPEN_PAGE_STORE_FILES, DFLT_PDS_MAX_OPEN_PAGE_STORE_FILES);
+
+        filePool = maxOpenFiles > 0 ? new FilePageStorePool(maxOpenFiles, ctx.log(FilePageStorePool.class)) : null;
     }
 
     /** {@inheritDoc} */
@@ -483,6 +495,13 @@ public class FilePageStoreManager extends GridCacheSharedManagerAdapter implemen
         );
     }
 
+    /**
+     * @return Pool of open page store files, {@code null} if the number of open files is not limited.
+     */
+    @Nullable public FilePageStorePool filePool() {
+        return filePool;
+    }
+
     /**
      * @param grpId Cache group id.
      * @param encrypted {@code true} if cache group encryption enabled.
@@ -596,7 +615,7 @@ public class FilePageStoreManager extends GridCacheSharedManagerAdapter implemen
             FileVersionCheckingFactory pageStoreFactory = getPageStoreFactory(
                 cft.groupId(),
                 !cft.metastore() && cft.config().isEncryptionEnabled()
-            );
+            ).filePool(filePool);
 
             PageMetrics pageMetrics = dataRegion.metrics().cacheGrpPageMetrics(cft.groupId());
 
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.file;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Bounds the number of page store files kept open by the node.
+ * <p>
+ * Every page store initialized with the pool registers itself once its file is opened. When the number of open
+ * files exceeds the limit, the least recently used files are closed (parked). A parked store keeps its state and
+ * reopens the file transparently on the next access. The LRU order is approximated with the CLOCK algorithm:
+ * a store accessed since the last pass gets a second chance instead of being parked.
+ */
+public class FilePageStorePool {
+    /** Maximum number of open files. */
+    private final int maxOpenFiles;
+
+    /** Logger. */
+    @GridToStringExclude
+    private final IgniteLogger log;
+
+    /** Stores with open files, the oldest first. */
+    @GridToStringExclude
+    private final Deque<FilePageStore> open = new ArrayDeque<>();
+
+    /** Number of files closed by the pool. */
+    private long parked;
+
+    /**
+     * @param maxOpenFiles Maximum number of open files.
+     * @param log Logger.
+     */
+    public FilePageStorePool(int maxOpenFiles, IgniteLogger log) {
+        assert maxOpenFiles > 0 : maxOpenFiles;
+
+        this.maxOpenFiles = maxOpenFiles;
+        this.log = log;
+    }
+
+    /**
+     * Registers the store which opened its file and parks the least recently used stores if the limit is exceeded.
+     *
+     * @param store Page store.
+     */
+    void onOpen(FilePageStore store) {
+        synchronized (this) {
+            open.addLast(store);
+
+            // Stores that are locked by an IO operation or accessed recently are moved to the tail,
+            // so each of them is inspected at most twice.
+            for (int i = 2 * open.size(); i > 0 && open.size() > maxOpenFiles; i--) {
+                FilePageStore victim = open.pollFirst();
+
+                if (victim != store && victim.park(log))
+                    parked++;
+                else
+                    open.addLast(victim);
+            }
+        }
+
+        if (log.isDebugEnabled())
+            log.debug("Page store file opened [file=" + store.getFileAbsolutePath() + ", pool=" + this + ']');
+    }
+
+    /**
+     * Unregisters the store which closed its file.
+     *
+     * @param store Page store.
+     */
+    synchronized void onClose(FilePageStore store) {
+        open.remove(store);
+    }
+
+    /**
+     * @return Number of open files.
+     */
+    public synchronized int openFiles() {
+        return open.size();
+    }
+
+    /**
+     * @return Number of files closed by the pool.
+     */
+    public synchronized long parkedFiles() {
+        return parked;
+    }
+
+    /**
+     * @return Maximum number of open files.
+     */
+    public int maxOpenFiles() {
+        return maxOpenFiles;
+    }
+
+    /** {@inheritDoc} */
+    @Override public synchronized String toString() {
+        return S.toString(FilePageStorePool.class, this, "openFiles", open.size());
+    }
+}
@@ -16,8 +16,10 @@
 */
 package org.apache.ignite.internal.processors.cache.persistence.file;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.function.LongConsumer;
+import org.apache.ignite.IgniteException;
 import org.apache.ignite.lang.IgniteOutClosure;
 
 /**
@@ -57,14 +59,29 @@ public class FilePageStoreV2 extends FilePageStore {
 
     /** {@inheritDoc} */
     @Override public int getBlockSize() {
-        return fileIO.getFileSystemBlockSize();
+        try {
+            return fileIO().getFileSystemBlockSize();
+        }
+        catch (IOException e) {
+            throw new IgniteException(e);
+        }
     }
 
     /** {@inheritDoc} */
     @Override public long getSparseSize() {
-        FileIO io = fileIO;
+        try {
+            FileIO io = lockFileIO();
 
-        return io == null ? 0 : fileIO.getSparseSize();
+            try {
+                return io == null ? 0 : io.getSparseSize();
+            }
+            finally {
+                unlockFileIO();
+            }
+        }
+        catch (IOException e) {
+            throw new IgniteException(e);
+        }
     }
 
     /** {@inheritDoc} */
@@ -73,6 +90,18 @@ public class FilePageStoreV2 extends FilePageStore {
 
         long off = pageOffset(pageId);
 
-        fileIO.punchHole(off + usefulBytes, pageSize - usefulBytes);
+        try {
+            FileIO io = lockFileIO();
+
+            try {
+                io.punchHole(off + usefulBytes, pageSize - usefulBytes);
+            }
+            finally {
+                unlockFileIO();
+            }
+        }
+        catch (IOException e) {
+            throw new IgniteException(e);
+        }
     }
 }
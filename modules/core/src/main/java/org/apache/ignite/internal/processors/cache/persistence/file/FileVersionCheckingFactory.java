@@ -28,6 +28,7 @@ import java.util.function.LongConsumer;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.internal.pagemem.store.PageStore;
 import org.apache.ignite.lang.IgniteOutClosure;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Checks version in files if it's present on the disk, creates store with latest version otherwise.
@@ -51,6 +52,9 @@ public class FileVersionCheckingFactory {
     /** Memory configuration. */
     private final IntSupplier pageSize;
 
+    /** Pool of open files for the created stores. */
+    @Nullable private FilePageStorePool filePool;
+
     /**
      * @param fileIOFactory File IO factory.
      * @param fileIOFactoryStoreV1 File IO factory for V1 page store and for version checking.
@@ -66,6 +70,16 @@ public class FileVersionCheckingFactory {
         this.pageSize = pageSize;
     }
 
+    /**
+     * @param filePool Pool of open files for the created stores, {@code null} to keep the files open.
+     * @return {@code this} for chaining.
+     */
+    public FileVersionCheckingFactory filePool(@Nullable FilePageStorePool filePool) {
+        this.filePool = filePool;
+
+        return this;
+    }
+
     /**
      * Creates instance of PageStore based on given file.
      *
@@ -152,18 +166,28 @@ public class FileVersionCheckingFactory {
         int ver,
         LongConsumer allocatedTracker
     ) {
+        FilePageStore store;
+
         switch (ver) {
             case FilePageStore.VERSION:
-                return new FilePageStore(type, pathProvider, fileIOFactoryStoreV1, pageSize, allocatedTracker);
+                store = new FilePageStore(type, pathProvider, fileIOFactoryStoreV1, pageSize, allocatedTracker);
+
+                break;
 
             case FilePageStoreV2.VERSION:
-                return new FilePageStoreV2(type, pathProvider, fileIOFactory, pageSize, allocatedTracker);
+                store = new FilePageStoreV2(type, pathProvider, fileIOFactory, pageSize, allocatedTracker);
+
+                break;
 
             default:
                 throw new IllegalArgumentException(
                     "Unknown version of file page store: " + ver + " for file [" + pathProvider.apply().toAbsolutePath() + "]"
                 );
         }
+
+        store.filePool(filePool);
+
+        return store;
     }
 
     /**
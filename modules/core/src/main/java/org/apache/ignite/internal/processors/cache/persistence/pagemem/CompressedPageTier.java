@@ -0,0 +1,333 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.configuration.DiskPageCompression;
+import org.apache.ignite.internal.ThreadLocalDirectByteBuffer;
+import org.apache.ignite.internal.pagemem.FullPageId;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
+import org.apache.ignite.internal.processors.compress.CompressionProcessor;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+import static org.apache.ignite.internal.util.GridUnsafe.NATIVE_BYTE_ORDER;
+
+/**
+ * Off-heap tier of compressed copies of pages replaced in the page memory.
+ * <p>
+ * When a clean page is replaced, its compressed copy is appended to a ring buffer. When the ring buffer is full,
+ * the oldest records are overwritten, so the tier works as a FIFO victim cache of the page memory. A page fault
+ * takes the page from the tier, if present, instead of reading it from the page store. The record is removed from
+ * the tier once taken, since the page may be changed in the page memory afterwards.
+ * <p>
+ * Record format: {@code group id | effective page id | partition generation | data size | compressed page}.
+ * Records are aligned to 8 bytes.
+ */
+public class CompressedPageTier {
+    /** Record header size. */
+    private static final int HDR_SIZE = 4 + 8 + 4 + 4;
+
+    /** Page size. */
+    private final int pageSize;
+
+    /** Compression processor. */
+    @GridToStringExclude
+    private final CompressionProcessor compressProc;
+
+    /** Compression algorithm. */
+    private final DiskPageCompression compression;
+
+    /** Compression level. */
+    private final int compressLvl;
+
+    /** Buffer to compress the copy of page, so the page memory stays untouched. */
+    @GridToStringExclude
+    private final ThreadLocalDirectByteBuffer pageBuf;
+
+    /** Ring buffer capacity. */
+    private final long capacity;
+
+    /** Ring buffer address. */
+    private final long base;
+
+    /** Lock. */
+    @GridToStringExclude
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Offsets of the live records. */
+    @GridToStringExclude
+    private final Map<FullPageId, Long> records = new HashMap<>();
+
+    /** Offset to write the next record to. */
+    private long head;
+
+    /** Offset of the oldest record that is not overwritten yet. */
+    private long tail;
+
+    /** End of the records written before the ring buffer wrapped around. */
+    private long end;
+
+    /** Closed flag. */
+    private boolean closed;
+
+    /**
+     * @param capacity Ring buffer capacity.
+     * @param pageSize Page size.
+     * @param compressProc Compression processor.
+     * @param compression Compression algorithm.
+     * @param compressLvl Compression level.
+     */
+    public CompressedPageTier(
+        long capacity,
+        int pageSize,
+        CompressionProcessor compressProc,
+        DiskPageCompression compression,
+        int compressLvl
+    ) {
+        assert compression != DiskPageCompression.DISABLED;
+        assert capacity >= pageSize + HDR_SIZE : capacity;
+
+        this.capacity = capacity & ~7L;
+        this.pageSize = pageSize;
+        this.compressProc = compressProc;
+        this.compression = compression;
+        this.compressLvl = compressLvl;
+
+        pageBuf = new ThreadLocalDirectByteBuffer(pageSize, NATIVE_BYTE_ORDER);
+
+        base = GridUnsafe.allocateMemory(this.capacity);
+    }
+
+    /**
+     * Stores compressed copy of the page. Page is not stored if it is not compressible.
+     *
+     * @param fullId Full page ID.
+     * @param partGen Partition generation.
+     * @param pageAddr Page address.
+     * @throws IgniteCheckedException If failed.
+     */
+    public void put(FullPageId fullId, int partGen, long pageAddr) throws IgniteCheckedException {
+        if (PageIO.getType(pageAddr) == 0)
+            return;
+
+        ByteBuffer page = pageBuf.get();
+
+        GridUnsafe.copyMemory(pageAddr, GridUnsafe.bufferAddress(page), pageSize);
+
+        ByteBuffer compressed = compressProc.compressPage(page, pageSize, 1, compression, compressLvl);
+
+        int size = compressed.limit();
+
+        if (compressed == page || size >= pageSize)
+            return;
+
+        long recSize = (HDR_SIZE + size + 7) & ~7L;
+
+        lock.lock();
+
+        try {
+            if (closed)
+                return;
+
+            long pos = allocate(recSize);
+
+            long addr = base + pos;
+
+            GridUnsafe.putInt(addr, fullId.groupId());
+            GridUnsafe.putLong(addr + 4, fullId.effectivePageId());
+            GridUnsafe.putInt(addr + 12, partGen);
+            GridUnsafe.putInt(addr + 16, size);
+
+            GridUnsafe.copyMemory(GridUnsafe.bufferAddress(compressed), addr + HDR_SIZE, size);
+
+            records.put(fullId, pos);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes the page from the tier.
+     *
+     * @param fullId Full page ID.
+     * @param partGen Actual partition generation.
+     * @param buf Destination page buffer.
+     * @return {@code True} if the page was found and restored to the buffer.
+     * @throws IgniteCheckedException If failed.
+     */
+    public boolean take(FullPageId fullId, int partGen, ByteBuffer buf) throws IgniteCheckedException {
+        assert buf.isDirect() && buf.capacity() >= pageSize;
+
+        lock.lock();
+
+        try {
+            Long pos = closed ? null : records.remove(fullId);
+
+            if (pos == null)
+                return false;
+
+            long addr = base + pos;
+
+            // Partition was invalidated since the page was stored.
+            if (GridUnsafe.getInt(addr + 12) != partGen)
+                return false;
+
+            GridUnsafe.copyMemory(addr + HDR_SIZE, GridUnsafe.bufferAddress(buf), GridUnsafe.getInt(addr + 16));
+        }
+        finally {
+            lock.unlock();
+        }
+
+        compressProc.decompressPage(buf, pageSize);
+
+        buf.clear();
+
+        return true;
+    }
+
+    /**
+     * Removes the page from the tier.
+     *
+     * @param fullId Full page ID.
+     */
+    public void remove(FullPageId fullId) {
+        lock.lock();
+
+        try {
+            records.remove(fullId);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all pages of the cache group.
+     *
+     * @param grpId Cache group ID.
+     */
+    public void removeGroup(int grpId) {
+        lock.lock();
+
+        try {
+            records.keySet().removeIf(fullId -> fullId.groupId() == grpId);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Number of pages in the tier.
+     */
+    public int pages() {
+        lock.lock();
+
+        try {
+            return records.size();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Ring buffer capacity.
+     */
+    public long capacity() {
+        return capacity;
+    }
+
+    /** Releases the memory. */
+    public void close() {
+        lock.lock();
+
+        try {
+            if (closed)
+                return;
+
+            closed = true;
+
+            records.clear();
+
+            GridUnsafe.freeMemory(base);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Allocates space for the record, overwriting the oldest records if needed.
+     *
+     * @param recSize Record size.
+     * @return Record offset.
+     */
+    private long allocate(long recSize) {
+        assert lock.isHeldByCurrentThread();
+
+        // Records in [tail, end) are written before the last wrap around, records in [0, head) are written after.
+        if (head + recSize > capacity) {
+            evict(end);
+
+            end = head;
+            head = 0;
+            tail = 0;
+        }
+
+        evict(Math.min(head + recSize, end));
+
+        long pos = head;
+
+        head += recSize;
+
+        if (tail >= end)
+            tail = end = head;
+
+        return pos;
+    }
+
+    /**
+     * Overwrites the oldest records.
+     *
+     * @param limit Offset to overwrite records up to.
+     */
+    private void evict(long limit) {
+        while (tail < limit) {
+            long addr = base + tail;
+
+            FullPageId fullId = new FullPageId(GridUnsafe.getLong(addr + 4), GridUnsafe.getInt(addr));
+
+            records.remove(fullId, tail);
+
+            tail += (HDR_SIZE + GridUnsafe.getInt(addr + 16) + 7) & ~7L;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(CompressedPageTier.class, this, "pages", records.size());
+    }
+}
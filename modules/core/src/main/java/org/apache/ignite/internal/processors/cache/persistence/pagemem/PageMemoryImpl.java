@@ -38,6 +38,7 @@ import org.apache.ignite.IgniteException;
 import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DiskPageCompression;
 import org.apache.ignite.events.EventType;
 import org.apache.ignite.events.PageReplacementStartedEvent;
 import org.apache.ignite.failure.FailureContext;
@@ -100,6 +101,7 @@ import static org.apache.ignite.IgniteSystemProperties.IGNITE_LOADED_PAGES_BACKW
 import static org.apache.ignite.IgniteSystemProperties.getBoolean;
 import static org.apache.ignite.internal.pagemem.FullPageId.NULL_PAGE;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PagePool.SEGMENT_INDEX_MASK;
+import static org.apache.ignite.internal.processors.compress.CompressionProcessor.getCompressionLevel;
 import static org.apache.ignite.internal.util.GridUnsafe.wrapPointer;
 
 /**
@@ -260,6 +262,9 @@ public class PageMemoryImpl implements PageMemoryEx {
     /** Data region configuration. */
     private final DataRegionConfiguration dataRegionCfg;
 
+    /** Tier of compressed copies of replaced pages, {@code null} if disabled. */
+    @Nullable private volatile CompressedPageTier compressedTier;
+
     /**
      * {@code False} if memory was not started or already stopped and is not supposed for any usage.
      */
@@ -410,6 +415,8 @@ public class PageMemoryImpl implements PageMemoryEx {
 
             initWriteThrottle();
 
+            initCompressedTier();
+
             this.segments = segments;
 
             if (log.isInfoEnabled()) {
@@ -418,11 +425,49 @@ public class PageMemoryImpl implements PageMemoryEx {
                     ", tableSize=" + U.readableSize(totalTblSize, false) +
                     ", replacementSize=" + U.readableSize(totalReplSize, false) +
                     ", checkpointBuffer=" + U.readableSize(checkpointBuf, false) +
+                    ", compressedPageTier=" + U.readableSize(dataRegionCfg.getCompressedPageTierSize(), false) +
                     ']');
             }
         }
     }
 
+    /**
+     * Creates the compressed page tier if it is enabled for the data region.
+     */
+    private void initCompressedTier() {
+        long size = dataRegionCfg.getCompressedPageTierSize();
+
+        if (size <= 0)
+            return;
+
+        DiskPageCompression compression = dataRegionCfg.getCompressedPageTierCompression();
+
+        if (compression == DiskPageCompression.DISABLED)
+            return;
+
+        if (size < sysPageSize)
+            throw new IgniteException("Compressed page tier size must be greater than page size [size=" + size + ']');
+
+        CompressionProcessor compressProc = ctx.kernalContext().compress();
+
+        try {
+            if (compression != DiskPageCompression.SKIP_GARBAGE)
+                compressProc.checkPageCompressionSupported();
+        }
+        catch (IgniteCheckedException e) {
+            throw new IgniteException("Failed to create compressed page tier [region=" + dataRegionCfg.getName() +
+                ", compression=" + compression + ']', e);
+        }
+
+        compressedTier = new CompressedPageTier(
+            size,
+            pageSize(),
+            compressProc,
+            compression,
+            getCompressionLevel(dataRegionCfg.getCompressedPageTierCompressionLevel(), compression)
+        );
+    }
+
     /**
      * Resolves instance of {@link PagesWriteThrottlePolicy} according to chosen throttle policy.
      */
@@ -466,6 +511,14 @@ public class PageMemoryImpl implements PageMemoryEx {
                     seg.close();
             }
 
+            CompressedPageTier compressedTier = this.compressedTier;
+
+            if (compressedTier != null) {
+                compressedTier.close();
+
+                this.compressedTier = null;
+            }
+
             started = false;
 
             directMemoryProvider.shutdown(deallocate);
@@ -775,6 +828,7 @@ public class PageMemoryImpl implements PageMemoryEx {
 
         long lockedPageAbsPtr = -1;
         boolean readPageFromStore = false;
+        int partGen = 0;
 
         try {
             // Double-check.
@@ -831,8 +885,15 @@ public class PageMemoryImpl implements PageMemoryEx {
                         delayedPageReplacementTracker.waitUnlock(fullId);
 
                     readPageFromStore = true;
+
+                    partGen = seg.partGeneration(grpId, partId);
                 }
                 else {
+                    CompressedPageTier compressedTier = this.compressedTier;
+
+                    if (compressedTier != null)
+                        compressedTier.remove(fullId);
+
                     GridUnsafe.zeroMemory(absPtr + PAGE_OVERHEAD, pageSize());
 
                     // Must init page ID in order to ensure RWLock tag consistency.
@@ -914,13 +975,24 @@ public class PageMemoryImpl implements PageMemoryEx {
                 long startReadTs = System.nanoTime();
 
                 try {
-                    pmPageMgr.read(grpId, pageId, buf, false);
+                    CompressedPageTier compressedTier = this.compressedTier;
 
-                    statHolder.trackPhysicalAndLogicalRead(pageAddr);
+                    if (compressedTier != null && compressedTier.take(fullId, partGen, buf)) {
+                        statHolder.trackLogicalRead(pageAddr);
 
-                    actualPageId = PageIO.getPageId(buf);
+                        actualPageId = PageIO.getPageId(buf);
 
-                    dataRegionMetrics.onPageRead(System.nanoTime() - startReadTs);
+                        dataRegionMetrics.onCompressedPageTierHit();
+                    }
+                    else {
+                        pmPageMgr.read(grpId, pageId, buf, false);
+
+                        statHolder.trackPhysicalAndLogicalRead(pageAddr);
+
+                        actualPageId = PageIO.getPageId(buf);
+
+                        dataRegionMetrics.onPageRead(System.nanoTime() - startReadTs);
+                    }
 
                     if (PageIO.isIndexPage(PageIO.getType(buf)))
                         dataRegionMetrics.cacheGrpPageMetrics(grpId).indexPages().increment();
@@ -1469,6 +1541,12 @@ public class PageMemoryImpl implements PageMemoryEx {
                 seg.writeLock().unlock();
             }
         }
+
+        CompressedPageTier compressedTier = this.compressedTier;
+
+        // Partition generations are reset, so the pages of the group can't be validated anymore.
+        if (compressedTier != null)
+            compressedTier.removeGroup(grpId);
     }
 
     /** {@inheritDoc} */
@@ -2208,6 +2286,17 @@ public class PageMemoryImpl implements PageMemoryEx {
                 checkpointPages.markAsSaved(fullPageId);
             }
 
+            CompressedPageTier compressedTier = PageMemoryImpl.this.compressedTier;
+
+            // Page is in sync with the page store now, so its copy can be used instead of reading from the store.
+            if (compressedTier != null && realPageSize(fullPageId.groupId()) == pageSize()) {
+                compressedTier.put(
+                    fullPageId,
+                    partGeneration(fullPageId.groupId(), PageIdUtils.partId(fullPageId.pageId())),
+                    absPtr + PAGE_OVERHEAD
+                );
+            }
+
             loadedPages.remove(fullPageId.groupId(), fullPageId.effectivePageId());
 
             if (PageIO.isIndexPage(PageIO.getType(absPtr + PAGE_OVERHEAD))) {
@@ -18,6 +18,7 @@
 
 package org.apache.ignite.internal.processors.cache.persistence.tree.io;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import org.apache.ignite.IgniteCheckedException;
@@ -68,16 +69,26 @@ public class PagePartitionCountersIO extends PageIO {
     }
 
     /**
+     * Serializes the cache sizes ordered by cache ID, so equal maps have equal serialized forms.
+     *
      * @param cacheSizes Cache sizes: cache Id in shared group mapped to its size. Not null.
      * @return Serialized cache sizes or 0-byte length array if map was empty.
      */
     public byte[] serializeCacheSizes(Map<Integer, Long> cacheSizes) {
-        byte[] data = new byte[cacheSizes.size() * ITEM_SIZE];
+        int[] cacheIds = new int[cacheSizes.size()];
+        int idx = 0;
+
+        for (Integer cacheId : cacheSizes.keySet())
+            cacheIds[idx++] = cacheId;
+
+        Arrays.sort(cacheIds);
+
+        byte[] data = new byte[cacheIds.length * ITEM_SIZE];
         long off = GridUnsafe.BYTE_ARR_OFF;
 
-        for (Map.Entry<Integer, Long> entry : cacheSizes.entrySet()) {
-            GridUnsafe.putInt(data, off, entry.getKey()); off += CACHE_ID_SIZE;
-            GridUnsafe.putLong(data, off, entry.getValue()); off += CACHE_SIZE_SIZE;
+        for (int cacheId : cacheIds) {
+            GridUnsafe.putInt(data, off, cacheId); off += CACHE_ID_SIZE;
+            GridUnsafe.putLong(data, off, cacheSizes.get(cacheId)); off += CACHE_SIZE_SIZE;
         }
 
         return data;
@@ -170,6 +181,38 @@ public class PagePartitionCountersIO extends PageIO {
         return getLastFlag(pageAddr);
     }
 
+    /**
+     * Compares the cache sizes stored in the page with the serialized ones without deserialization.
+     *
+     * @param pageAddr Page address.
+     * @param cacheSizes Serialized cache size items (pairs of cache ID and its size).
+     * @param itemsOff Index of the first serialized item to compare with the page.
+     * @return Number of the items stored in the page if they are equal to the serialized ones or {@code -1} otherwise.
+     */
+    public int compareCacheSizes(long pageAddr, byte[] cacheSizes, int itemsOff) {
+        assert cacheSizes.length % ITEM_SIZE == 0 : cacheSizes.length;
+
+        int cnt = getCount(pageAddr);
+        int items = (cacheSizes.length / ITEM_SIZE) - itemsOff;
+
+        if (cnt > items || getLastFlag(pageAddr) != (cnt == items))
+            return -1;
+
+        long arrOff = GridUnsafe.BYTE_ARR_OFF + (long)itemsOff * ITEM_SIZE;
+        int off = ITEMS_OFF;
+
+        for (int i = 0; i < cnt; i++) {
+            if (PageUtils.getInt(pageAddr, off) != GridUnsafe.getInt(cacheSizes, arrOff) ||
+                PageUtils.getLong(pageAddr, off + CACHE_ID_SIZE) != GridUnsafe.getLong(cacheSizes, arrOff + CACHE_ID_SIZE))
+                return -1;
+
+            off += ITEM_SIZE;
+            arrOff += ITEM_SIZE;
+        }
+
+        return cnt;
+    }
+
     /**
      * @param pageAddr Page address.
      */
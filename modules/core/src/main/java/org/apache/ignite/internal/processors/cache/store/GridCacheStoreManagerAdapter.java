@@ -33,6 +33,7 @@ import javax.cache.integration.CacheLoaderException;
 import javax.cache.integration.CacheWriterException;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.cache.store.CacheStore;
 import org.apache.ignite.cache.store.CacheStoreSession;
 import org.apache.ignite.cache.store.CacheStoreSessionListener;
@@ -77,6 +78,9 @@ import org.apache.ignite.transactions.TransactionState;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CACHE_STORE_LOAD_BATCH_WINDOW;
+import static org.apache.ignite.internal.processors.cache.CacheStoreBalancingWrapper.DFLT_CACHE_STORE_LOAD_BATCH_WINDOW;
+
 /**
  * Store manager.
  */
@@ -133,7 +137,8 @@ public abstract class GridCacheStoreManagerAdapter extends GridCacheManagerAdapt
         store = cacheStoreWrapper(ctx, cfgStore, cfg);
 
         singleThreadGate = store == null ? null : new CacheStoreBalancingWrapper<>(store,
-            cfg.getStoreConcurrentLoadAllThreshold());
+            cfg.getStoreConcurrentLoadAllThreshold(),
+            IgniteSystemProperties.getLong(IGNITE_CACHE_STORE_LOAD_BATCH_WINDOW, DFLT_CACHE_STORE_LOAD_BATCH_WINDOW));
 
         ThreadLocal<SessionData> sesHolder0 = null;
 
@@ -329,7 +334,8 @@ public abstract class GridCacheStoreManagerAdapter extends GridCacheManagerAdapt
             long start = perfStatEnabled ? System.nanoTime() : 0;
 
             try {
-                val = singleThreadGate.load(storeKey);
+                // Loads of different transactions are not batched as they may use different store sessions.
+                val = tx == null ? singleThreadGate.batchLoad(storeKey) : singleThreadGate.load(storeKey);
 
                 threwEx = false;
             }
@@ -29,6 +29,7 @@ import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.LockSupport;
@@ -37,6 +38,7 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 import javax.cache.integration.CacheWriterException;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.cache.store.CacheStore;
 import org.apache.ignite.configuration.CacheConfiguration;
 import org.apache.ignite.internal.IgniteInterruptedCheckedException;
@@ -54,6 +56,7 @@ import org.jetbrains.annotations.Nullable;
 import org.jsr166.ConcurrentLinkedHashMap;
 
 import static javax.cache.Cache.Entry;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_WRITE_BEHIND_STORE_LATENCY_THRESHOLD;
 import static org.apache.ignite.internal.util.tostring.GridToStringBuilder.includeSensitive;
 
 /**
@@ -72,6 +75,16 @@ import static org.apache.ignite.internal.util.tostring.GridToStringBuilder.inclu
  * Since write operations to the cache store are deferred, transaction support is lost; no
  * transaction objects are passed to the underlying store.
  * <p/>
+ * Keys are sharded between the flusher threads by hash, every flusher keeps pending operations of its keys in its
+ * own buffer and is the only thread that writes these keys to the store, so the updates of a key are written in
+ * the order they are made. With write coalescing enabled the buffer is a map and repeated updates of a key are
+ * merged into one store operation, otherwise the buffer is a queue and every update is written.
+ * <p/>
+ * A flusher may adapt the size of its batches to the latency of the store: if a batch takes longer than
+ * {@link IgniteSystemProperties#IGNITE_WRITE_BEHIND_STORE_LATENCY_THRESHOLD} or fails, the batch size is halved,
+ * while fast full batches grow it back to the configured batch size. Writers are throttled when the buffer of
+ * a flusher exceeds its share of the critical size, so a slow store does not exhaust the heap.
+ * <p/>
  * {@link GridCacheWriteBehindStore} doesn't support concurrent modifications of the same key.
  */
 public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, LifecycleAware {
@@ -84,6 +97,12 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
     /** Default concurrency level of write cache. */
     public static final int DFLT_CONCUR_LVL = 64;
 
+    /** @see IgniteSystemProperties#IGNITE_WRITE_BEHIND_STORE_LATENCY_THRESHOLD */
+    public static final long DFLT_WRITE_BEHIND_STORE_LATENCY_THRESHOLD = 0;
+
+    /** Divisor of the maximum batch size which gives the step of the batch size growth. */
+    private static final int BATCH_SIZE_GROWTH_DIVISOR = 16;
+
     /** Write cache initial capacity. */
     private int initCap = DFLT_INITIAL_CAPACITY;
 
@@ -117,9 +136,6 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
     /** Underlying store. */
     private final CacheStore<K, V> store;
 
-    /** Write cache. */
-    private ConcurrentLinkedHashMap<K, StatefulValue<K, V>> writeCache;
-
     /** Flusher threads. */
     private Flusher[] flushThreads;
 
@@ -138,18 +154,24 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
     /** Variable for counting key-value pairs that are in {@link ValueStatus#RETRY} state. */
     private AtomicInteger retryEntriesCnt = new AtomicInteger();
 
+    /** Store latency above which the batches are shrunk, in nanoseconds. {@code 0} disables the adaptation. */
+    private long storeLatencyThreshold;
+
+    /** Number of batches written to the underlying store. */
+    private final LongAdder storeBatchCnt = new LongAdder();
+
+    /** Number of entries in the batches written to the underlying store. */
+    private final LongAdder storeBatchEntriesCnt = new LongAdder();
+
+    /** Total time of the underlying store updates in nanoseconds. */
+    private final LongAdder storeTimeTotal = new LongAdder();
+
     /** Log. */
     private final IgniteLogger log;
 
     /** Store manager. */
     private final CacheStoreManager storeMgr;
 
-    /** Flush lock. */
-    private final Lock flushLock = new ReentrantLock();
-
-    /** Condition to determine records available for flush. */
-    private Condition canFlush = flushLock.newCondition();
-
     /**
      * Creates a write-behind cache store for the given store.
      *
@@ -299,16 +321,88 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
      * @return Total count of entries in cache store internal buffer.
      */
     public int getWriteBehindBufferSize() {
-        if (writeCoalescing)
-            return writeCache.sizex();
-        else {
-            int size = 0;
+        Flusher[] flushers = flushThreads;
 
-            for (Flusher f : flushThreads)
-                size += f.size();
+        if (flushers == null)
+            return 0;
 
-            return size;
-        }
+        int size = 0;
+
+        for (Flusher f : flushers)
+            size += f.size();
+
+        return size;
+    }
+
+    /**
+     * Gets the maximum count of entries waiting for the flush in the buffer of a single flusher thread. The value
+     * close to the critical size of a flusher indicates that the writers are throttled.
+     *
+     * @return Maximum count of entries in a flusher buffer.
+     */
+    public int getWriteBehindMaxFlusherBufferSize() {
+        Flusher[] flushers = flushThreads;
+
+        if (flushers == null)
+            return 0;
+
+        int size = 0;
+
+        for (Flusher f : flushers)
+            size = Math.max(size, f.size());
+
+        return size;
+    }
+
+    /**
+     * Gets the current batch size of the flusher threads. Differs from {@link #getWriteBehindStoreBatchSize()} when
+     * the batches are shrunk because of the store latency.
+     *
+     * @return Minimum of the current batch sizes of the flusher threads.
+     */
+    public int getWriteBehindCurrentBatchSize() {
+        Flusher[] flushers = flushThreads;
+
+        if (flushers == null)
+            return batchSize;
+
+        int size = batchSize;
+
+        for (Flusher f : flushers)
+            size = Math.min(size, f.curBatchSize);
+
+        return size;
+    }
+
+    /**
+     * Gets count of batches written to or removed from the underlying store.
+     *
+     * @return Count of store batches.
+     */
+    public long getWriteBehindStoreBatchCount() {
+        return storeBatchCnt.sum();
+    }
+
+    /**
+     * Gets average count of entries in the batches written to or removed from the underlying store.
+     *
+     * @return Average batch size.
+     */
+    public double getWriteBehindAverageStoreBatchSize() {
+        long cnt = storeBatchCnt.sum();
+
+        return cnt == 0 ? 0 : (double)storeBatchEntriesCnt.sum() / cnt;
+    }
+
+    /**
+     * Gets average time of a batch update of the underlying store.
+     *
+     * @return Average store time in nanoseconds.
+     */
+    public long getWriteBehindAverageStoreTime() {
+        long cnt = storeBatchCnt.sum();
+
+        return cnt == 0 ? 0 : storeTimeTotal.sum() / cnt;
     }
 
     /**
@@ -334,10 +428,10 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
             if (cacheCriticalSize == 0)
                 cacheCriticalSize = CacheConfiguration.DFLT_WRITE_BEHIND_CRITICAL_SIZE;
 
-            flushThreads = new GridCacheWriteBehindStore.Flusher[flushThreadCnt];
+            storeLatencyThreshold = TimeUnit.MILLISECONDS.toNanos(IgniteSystemProperties.getLong(
+                IGNITE_WRITE_BEHIND_STORE_LATENCY_THRESHOLD, DFLT_WRITE_BEHIND_STORE_LATENCY_THRESHOLD));
 
-            if (writeCoalescing)
-                writeCache = new ConcurrentLinkedHashMap<>(initCap, 0.75f, concurLvl);
+            flushThreads = new GridCacheWriteBehindStore.Flusher[flushThreadCnt];
 
             for (int i = 0; i < flushThreads.length; i++) {
                 flushThreads[i] = new Flusher(igniteInstanceName, "flusher-" + i, log);
@@ -387,10 +481,8 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
             if (log.isDebugEnabled())
                 log.debug("Stopping write-behind store for cache '" + cacheName + '\'');
 
-            for (Flusher f : flushThreads) {
-                if (!f.isEmpty())
-                    f.wakeUp();
-            }
+            for (Flusher f : flushThreads)
+                f.wakeUp();
 
             boolean graceful = true;
 
@@ -431,10 +523,7 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
         for (K key : keys) {
             StatefulValue<K, V> statefulVal;
 
-            if (writeCoalescing)
-                statefulVal = writeCache.get(key);
-            else
-                statefulVal = flusher(key).flusherWriteMap.get(key);
+            statefulVal = flusher(key).writeMap().get(key);
 
             if (statefulVal != null) {
                 statefulVal.readLock().lock();
@@ -491,10 +580,7 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
 
         StatefulValue<K, V> statefulVal;
 
-        if (writeCoalescing)
-            statefulVal = writeCache.get(key);
-        else
-            statefulVal = flusher(key).flusherWriteMap.get(key);
+        statefulVal = flusher(key).writeMap().get(key);
 
         if (statefulVal != null) {
             statefulVal.readLock().lock();
@@ -601,28 +687,30 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
         throws IgniteInterruptedCheckedException {
         StatefulValue<K, V> newVal = new StatefulValue<>(val, operation);
 
+        Flusher f = flusher(key);
+
         if (writeCoalescing)
-            putToWriteCache(key, newVal);
+            putToWriteCache(f, key, newVal);
         else
-            flusher(key).putToFlusherWriteCache(key, newVal);
+            f.putToFlusherWriteCache(key, newVal);
     }
 
     /**
-     * Performs flush-consistent writeCache update for the given key.
+     * Performs flush-consistent update of the coalescing write cache of the flusher for the given key.
      *
+     * @param f Flusher of the key.
      * @param key Key for which update is performed.
      * @param newVal stateful value to put
-     * @throws IgniteInterruptedCheckedException If interrupted while waiting for value to be flushed.
      */
     private void putToWriteCache(
+        Flusher f,
         K key,
-        StatefulValue<K, V> newVal)
-        throws IgniteInterruptedCheckedException {
+        StatefulValue<K, V> newVal) {
         StatefulValue<K, V> prev;
 
         assert writeCoalescing : "Unexpected write coalescing.";
 
-        while ((prev = writeCache.putIfAbsent(key, newVal)) != null) {
+        while ((prev = f.writeCache.putIfAbsent(key, newVal)) != null) {
             prev.writeLock().lock();
 
             try {
@@ -654,13 +742,13 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
         }
 
         // Now check the map size
-        int cacheSize = getWriteBehindBufferSize();
+        int cacheSize = f.writeCache.sizex();
 
-        if (cacheSize > cacheCriticalSize)
+        if (cacheSize > f.flusherCacheCriticalSize)
             // Perform single store update in the same thread.
-            flushSingleValue();
-        else if (cacheMaxSize > 0 && cacheSize > cacheMaxSize)
-            wakeUp();
+            flushSingleValue(f);
+        else if (f.flusherCacheMaxSize > 0 && cacheSize > f.flusherCacheMaxSize)
+            f.wakeUp();
     }
 
     /**
@@ -690,17 +778,19 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
     }
 
     /**
-     * Flushes one upcoming value to the underlying store. Called from
-     * {@link #updateCache(Object, Entry, StoreOperation)} method in case when current map size exceeds
-     * critical size.
+     * Flushes one upcoming value of the flusher to the underlying store. Called from
+     * {@link #updateCache(Object, Entry, StoreOperation)} method in case when current map size of the flusher
+     * exceeds critical size.
+     *
+     * @param f Flusher.
      */
-    private void flushSingleValue() {
+    private void flushSingleValue(Flusher f) {
         cacheOverflowCntr.incrementAndGet();
 
         try {
             Map<K, StatefulValue<K, V>> batch;
 
-            for (Map.Entry<K, StatefulValue<K, V>> e : writeCache.entrySet()) {
+            for (Map.Entry<K, StatefulValue<K, V>> e : f.writeCache.entrySet()) {
                 StatefulValue<K, V> val = e.getValue();
 
                 val.writeLock().lock();
@@ -726,7 +816,7 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
                 }
 
                 if (!batch.isEmpty()) {
-                    applyBatch(batch, false, null);
+                    applyBatch(batch, false, f);
 
                     cacheTotalOverflowCntr.incrementAndGet();
 
@@ -744,7 +834,7 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
      *
      * @param valMap Batch map.
      * @param initSes {@code True} if need to initialize session.
-     * @param flusher Flusher, assotiated with all keys in batch (have sense in write coalescing = false mode)
+     * @param flusher Flusher, assotiated with all keys in batch.
      * @return {@code True} if batch was successfully applied, {@code False} otherwise.
      */
     private boolean applyBatch(Map<K, StatefulValue<K, V>> valMap, boolean initSes, Flusher flusher) {
@@ -794,7 +884,7 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
                         else {
                             val.status(ValueStatus.FLUSHED);
 
-                            StatefulValue<K, V> prev = writeCache.remove(e.getKey());
+                            StatefulValue<K, V> prev = flusher.writeCache.remove(e.getKey());
 
                             // Additional check to ensure consistency.
                             assert prev == val : "Map value for key " + e.getKey() + " was updated during flush";
@@ -805,10 +895,8 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
                     else {
                         val.status(ValueStatus.FLUSHED);
 
-                        Flusher f = flusher(e.getKey());
-
                         // Can remove using equal because if map contains another similar value it has different state.
-                        f.flusherWriteMap.remove(e.getKey(), e.getValue());
+                        flusher.flusherWriteMap.remove(e.getKey(), e.getValue());
 
                         val.signalFlushed();
                     }
@@ -857,7 +945,7 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
      * @param operation Status indicating operation that should be performed.
      * @param vals Key-Value map.
      * @param initSes {@code True} if need to initialize session.
-     * @param flusher Flusher, assotiated with vals keys (in writeCoalescing=false mode)
+     * @param flusher Flusher, assotiated with vals keys.
      * @return {@code true} if value may be deleted from the write cache,
      *         {@code false} otherwise
      */
@@ -879,6 +967,8 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
 
             boolean threwEx = true;
 
+            long start = System.nanoTime();
+
             try {
                 switch (operation) {
                     case PUT:
@@ -900,6 +990,10 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
                 return true;
             }
             finally {
+                storeBatchCnt.increment();
+                storeBatchEntriesCnt.add(vals.size());
+                storeTimeTotal.add(System.nanoTime() - start);
+
                 if (initSes && storeMgr != null)
                     storeMgr.writeBehindSessionEnd(threwEx);
             }
@@ -907,12 +1001,7 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
         catch (Exception e) {
             LT.warn(log, e, "Unable to update underlying store: " + store, false, false);
 
-            boolean overflow;
-
-            if (writeCoalescing)
-                overflow = writeCache.sizex() > cacheCriticalSize || stopping.get();
-            else
-                overflow = flusher.isOverflowed() || stopping.get();
+            boolean overflow = flusher.isOverflowed() || stopping.get();
 
             if (overflow) {
                 for (Map.Entry<K, Entry<? extends K, ? extends V>> entry : vals.entrySet()) {
@@ -932,32 +1021,27 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
     }
 
     /**
-     * Wakes up flushing threads if map size exceeded maximum value or in case of shutdown.
-     */
-    private void wakeUp() {
-        flushLock.lock();
-
-        try {
-            canFlush.signalAll();
-        }
-        finally {
-            flushLock.unlock();
-        }
-    }
-
-    /**
-     * Thread that performs time/size-based flushing of written values to the underlying storage.
+     * Thread that performs time/size-based flushing of written values of its keys to the underlying storage.
      */
     private class Flusher extends GridWorker {
-        /** Queue to flush. */
+        /** Queue to flush (in writeCoalescing=false mode). */
         private final FastSizeDeque<IgniteBiTuple<K, StatefulValue<K, V>>> queue;
 
-        /** Flusher write map. */
+        /** Flusher write map (in writeCoalescing=false mode). */
         private final ConcurrentHashMap<K, StatefulValue<K, V>> flusherWriteMap;
 
+        /** Write cache (in writeCoalescing=true mode). */
+        private final ConcurrentLinkedHashMap<K, StatefulValue<K, V>> writeCache;
+
         /** Critical size of flusher local queue. */
         private final int flusherCacheCriticalSize;
 
+        /** Size of flusher local queue that triggers the flush, {@code 0} if flush is performed on timeout only. */
+        private final int flusherCacheMaxSize;
+
+        /** Current batch size, adapted to the latency of the underlying store. Changed by the flusher thread only. */
+        private volatile int curBatchSize = batchSize;
+
         /** Flusher parked flag. */
         private volatile boolean parked;
 
@@ -983,16 +1067,28 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
 
             assert flusherCacheCriticalSize > batchSize;
 
+            flusherCacheMaxSize = cacheMaxSize > 0 ? Math.max(1, cacheMaxSize / flushThreadCnt) : 0;
+
             if (writeCoalescing) {
                 queue = null;
                 flusherWriteMap = null;
+                writeCache = new ConcurrentLinkedHashMap<>(Math.max(16, initCap / flushThreadCnt), 0.75f,
+                    concurLvl);
             }
             else {
                 queue = new FastSizeDeque<>(new ConcurrentLinkedDeque<>());
                 flusherWriteMap = new ConcurrentHashMap<>(initCap, 0.75f, concurLvl);
+                writeCache = null;
             }
         }
 
+        /**
+         * @return Map of the pending values of the flusher keys.
+         */
+        private Map<K, StatefulValue<K, V>> writeMap() {
+            return writeCoalescing ? writeCache : flusherWriteMap;
+        }
+
         /** Start flusher thread */
         protected void start() {
             thread = U.newThread(this);
@@ -1055,10 +1151,7 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
          *         {@code False} otherwise.
          */
         public boolean isOverflowed() {
-            if (writeCoalescing)
-                return writeCache.sizex() > cacheCriticalSize;
-            else
-                return queue.sizex() > flusherCacheCriticalSize;
+            return size() > flusherCacheCriticalSize;
         }
 
         /**
@@ -1103,21 +1196,24 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
          * @throws InterruptedException If awaiting was interrupted.
          */
         private void awaitOperationsAvailableCoalescing() throws InterruptedException {
-            flushLock.lock();
+            parked = true;
 
             try {
                 do {
-                    if (writeCache.sizex() <= cacheMaxSize || cacheMaxSize == 0) {
+                    if (writeCache.sizex() <= flusherCacheMaxSize || flusherCacheMaxSize == 0) {
                         if (cacheFlushFreq > 0)
-                            canFlush.await(cacheFlushFreq, TimeUnit.MILLISECONDS);
+                            LockSupport.parkNanos(cacheFlushFreqNanos);
                         else
-                            canFlush.await();
+                            LockSupport.park();
+
+                        if (Thread.interrupted())
+                            throw new InterruptedException();
                     }
                 }
                 while (writeCache.sizex() == 0 && !stopping.get());
             }
             finally {
-                flushLock.unlock();
+                parked = false;
             }
         }
 
@@ -1172,14 +1268,15 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
         private void flushCacheCoalescing() {
             StoreOperation prevOperation = null;
 
-            Map<K, StatefulValue<K, V>> pending = U.newLinkedHashMap(batchSize);
+            Map<K, StatefulValue<K, V>> pending = U.newLinkedHashMap(curBatchSize);
             Iterator<Map.Entry<K, StatefulValue<K, V>>> it = writeCache.entrySet().iterator();
 
             while (it.hasNext()) {
                 Map.Entry<K, StatefulValue<K, V>> e = it.next();
                 StatefulValue<K, V> val = e.getValue();
 
-                if (!val.writeLock().tryLock()) // TODO: stripe write maps to avoid lock contention.
+                if (!val.writeLock().tryLock())
+                    // The value is being updated, it will be flushed on the next iteration.
                     continue;
 
                 try {
@@ -1192,9 +1289,9 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
 
                             val.writeLock().unlock();
 
-                            applyBatch(pending, true, null);
+                            applyBatch(pending);
 
-                            pending = U.newLinkedHashMap(batchSize);
+                            pending = U.newLinkedHashMap(curBatchSize);
 
                             pending.put(e.getKey(), val);
 
@@ -1219,7 +1316,7 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
 
             // Process the remainder.
             if (!pending.isEmpty())
-                applyBatch(pending, true, null);
+                applyBatch(pending);
         }
 
         /**
@@ -1233,7 +1330,7 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
             boolean applied;
 
             while (!queue.isEmpty()) {
-                pending = U.newLinkedHashMap(batchSize);
+                pending = U.newLinkedHashMap(curBatchSize);
                 prevOperation = null;
                 boolean needNewBatch = false;
 
@@ -1266,7 +1363,7 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
                 }
 
                 // Process collected batch
-                applied = applyBatch(pending, true, this);
+                applied = applyBatch(pending);
 
                 if (applied) {
                     // Wake up awaiting writers
@@ -1289,6 +1386,46 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
             }
         }
 
+        /**
+         * Applies the batch collected by the flusher and adapts the batch size to the time it took.
+         *
+         * @param pending Batch.
+         * @return {@code True} if batch was successfully applied, {@code False} otherwise.
+         */
+        private boolean applyBatch(Map<K, StatefulValue<K, V>> pending) {
+            long start = System.nanoTime();
+
+            boolean applied = GridCacheWriteBehindStore.this.applyBatch(pending, true, this);
+
+            if (storeLatencyThreshold > 0)
+                adaptBatchSize(pending.size(), System.nanoTime() - start, applied);
+
+            return applied;
+        }
+
+        /**
+         * Halves the batch size if the batch has failed or is slower than the threshold, the smaller batches hold
+         * the locks of the store for a shorter time and lose less work on retries. Grows the batch size if a full
+         * batch is much faster than the threshold.
+         *
+         * @param size Batch size.
+         * @param time Batch time in nanoseconds.
+         * @param applied {@code True} if batch was successfully applied.
+         */
+        private void adaptBatchSize(int size, long time, boolean applied) {
+            int cur = curBatchSize;
+
+            if (!applied || time > storeLatencyThreshold)
+                curBatchSize = Math.max(1, cur / 2);
+            else if (size >= cur && cur < batchSize && time < storeLatencyThreshold / 2)
+                curBatchSize = Math.min(batchSize, cur + Math.max(1, batchSize / BATCH_SIZE_GROWTH_DIVISOR));
+
+            if (log.isDebugEnabled() && curBatchSize != cur) {
+                log.debug("Write-behind batch size changed [cache=" + cacheName + ", flusher=" + name() +
+                    ", batchSize=" + curBatchSize + ", storeTime=" + U.nanosToMillis(time) + "ms]");
+            }
+        }
+
         /**
          * Trying to add key and statefull value pairs into pending map.
          *
@@ -1322,7 +1459,7 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
 
             assert retryEntriesCnt.get() >= 0;
 
-            if (pending.size() == batchSize)
+            if (pending.size() >= curBatchSize)
                 return BatchingResult.NEW_BATCH;
 
             // We scan for the next operation and apply batch on operation change. Null means new batch.
@@ -1345,7 +1482,14 @@ public class GridCacheWriteBehindStore<K, V> implements CacheStore<K, V>, Lifecy
      * @return Write cache for the underlying store operations.
      */
     Map<K, StatefulValue<K, V>> writeCache() {
-        return writeCache;
+        Map<K, StatefulValue<K, V>> res = new HashMap<>();
+
+        for (Flusher f : flushThreads) {
+            if (f.writeCache != null)
+                res.putAll(f.writeCache);
+        }
+
+        return res;
     }
 
     /**
@@ -132,6 +132,7 @@ import static org.apache.ignite.IgniteSystemProperties.IGNITE_LONG_OPERATIONS_DU
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_MAX_COMPLETED_TX_COUNT;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_SLOW_TX_WARN_TIMEOUT;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_TX_DEADLOCK_DETECTION_MAX_ITERS;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_TX_LOCK_PIPELINING;
 import static org.apache.ignite.configuration.TransactionConfiguration.TX_AWARE_QUERIES_SUPPORTED_MODES;
 import static org.apache.ignite.events.EventType.EVT_NODE_FAILED;
 import static org.apache.ignite.events.EventType.EVT_NODE_JOINED;
@@ -176,6 +177,9 @@ public class IgniteTxManager extends GridCacheSharedManagerAdapter {
     /** @see IgniteSystemProperties#IGNITE_TX_DEADLOCK_DETECTION_MAX_ITERS */
     public static final int DFLT_TX_DEADLOCK_DETECTION_MAX_ITERS = 1000;
 
+    /** @see IgniteSystemProperties#IGNITE_TX_LOCK_PIPELINING */
+    public static final boolean DFLT_TX_LOCK_PIPELINING = false;
+
     /** @see IgniteSystemProperties#IGNITE_DEFERRED_ONE_PHASE_COMMIT_ACK_REQUEST_TIMEOUT */
     public static final int DFLT_DEFERRED_ONE_PHASE_COMMIT_ACK_REQUEST_TIMEOUT = 500;
 
@@ -223,6 +227,10 @@ public class IgniteTxManager extends GridCacheSharedManagerAdapter {
     final int deadlockMaxIters =
         IgniteSystemProperties.getInteger(IGNITE_TX_DEADLOCK_DETECTION_MAX_ITERS, DFLT_TX_DEADLOCK_DETECTION_MAX_ITERS);
 
+    /** Pipelined lock acquisition of pessimistic transactions. */
+    private final boolean lockPipelining =
+        IgniteSystemProperties.getBoolean(IGNITE_TX_LOCK_PIPELINING, DFLT_TX_LOCK_PIPELINING);
+
     /** Committing transactions. */
     private final ThreadLocal<IgniteInternalTx> threadCtx = new ThreadLocal<>();
 
@@ -2395,6 +2403,14 @@ public class IgniteTxManager extends GridCacheSharedManagerAdapter {
         return deadlockMaxIters > 0;
     }
 
+    /**
+     * @return {@code True} if pessimistic transactions acquire locks with one request per primary node.
+     * @see IgniteSystemProperties#IGNITE_TX_LOCK_PIPELINING
+     */
+    public boolean lockPipelining() {
+        return lockPipelining;
+    }
+
     /**
      * Performs deadlock detection for given keys.
      *
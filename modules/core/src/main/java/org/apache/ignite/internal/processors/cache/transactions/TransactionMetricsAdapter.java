@@ -67,6 +67,15 @@ public class TransactionMetricsAdapter implements TransactionMetrics {
     public static final long[] METRIC_TIME_BUCKETS =
         new long[] { 1, 2, 4, 8, 16, 25, 50, 75, 100, 250, 500, 750, 1000, 3000, 5000, 10000, 25000, 60000};
 
+    /** Metric name for total lock round trips on node. */
+    public static final String METRIC_TOTAL_LOCK_ROUND_TRIPS = "totalNodeLockRoundTrips";
+
+    /** Metric name for lock round trips histogram on node. */
+    public static final String METRIC_LOCK_ROUND_TRIPS_HISTOGRAM = "nodeLockRoundTripsHistogram";
+
+    /** Histogram buckets for metrics of lock round trips. */
+    public static final long[] METRIC_LOCK_ROUND_TRIPS_BUCKETS = new long[] {0, 1, 2, 4, 8, 16, 32, 64, 128};
+
     /** Grid kernal context. */
     private final GridKernalContext gridKernalCtx;
 
@@ -97,6 +106,12 @@ public class TransactionMetricsAdapter implements TransactionMetrics {
     /** Holds the reference to metric for user time histogram on node. */
     private HistogramMetricImpl txUserTimeHistogram;
 
+    /** Holds the reference to metric for total lock round trips on node. */
+    private LongAdderMetric totalTxLockRoundTrips;
+
+    /** Holds the reference to metric for lock round trips histogram on node. */
+    private HistogramMetricImpl txLockRoundTripsHistogram;
+
     /**
      * @param ctx Kernal context.
      */
@@ -124,6 +139,15 @@ public class TransactionMetricsAdapter implements TransactionMetrics {
             METRIC_TIME_BUCKETS,
             "Transactions user times on node represented as histogram."
         );
+
+        totalTxLockRoundTrips = mreg.longAdderMetric(METRIC_TOTAL_LOCK_ROUND_TRIPS,
+            "Total network round trips spent by transactions on acquiring locks on remote primary nodes.");
+
+        txLockRoundTripsHistogram = mreg.histogram(
+            METRIC_LOCK_ROUND_TRIPS_HISTOGRAM,
+            METRIC_LOCK_ROUND_TRIPS_BUCKETS,
+            "Transactions lock round trips on node represented as histogram."
+        );
     }
 
     /** Callback invoked when {@link IgniteTxManager} started. */
@@ -238,8 +262,9 @@ public class TransactionMetricsAdapter implements TransactionMetrics {
      *
      * @param systemTime Transaction system time.
      * @param userTime Transaction user time.
+     * @param lockRoundTrips Network round trips spent on acquiring locks on remote primary nodes.
      */
-    public void onNearTxComplete(long systemTime, long userTime) {
+    public void onNearTxComplete(long systemTime, long userTime, int lockRoundTrips) {
         if (systemTime >= 0) {
             totalTxSystemTime.add(systemTime);
 
@@ -251,6 +276,10 @@ public class TransactionMetricsAdapter implements TransactionMetrics {
 
             txUserTimeHistogram.value(userTime);
         }
+
+        totalTxLockRoundTrips.add(lockRoundTrips);
+
+        txLockRoundTripsHistogram.value(lockRoundTrips);
     }
 
     /**
@@ -1046,15 +1046,20 @@ public final class DataStructuresProcessor extends GridProcessorAdapter implemen
         if (cfg != null) {
             if (cap <= 0)
                 cap = Integer.MAX_VALUE;
+
+            A.ensure(cfg.getShards() > 0, "shards > 0");
+            A.ensure(cfg.getShards() == 1 || cap == Integer.MAX_VALUE, "Sharded queue must be unbounded.");
         }
 
         final int cap0 = cap;
 
+        final int shards = cfg != null ? cfg.getShards() : 1;
+
         final boolean create = cfg != null;
 
         return getCollection(new IgniteClosureX<GridCacheContext, IgniteQueue<T>>() {
             @Override public IgniteQueue<T> applyx(GridCacheContext ctx) throws IgniteCheckedException {
-                return ctx.dataStructures().queue(name, cap0, isCollocated(cfg), create);
+                return ctx.dataStructures().queue(name, cap0, isCollocated(cfg), shards, create);
             }
         }, cfg, name, grpName, QUEUE, create, false);
     }
@@ -1202,24 +1207,44 @@ public final class DataStructuresProcessor extends GridProcessorAdapter implemen
 
         CIX1<GridCacheQueueHeader> afterRmv = new CIX1<GridCacheQueueHeader>() {
             @Override public void applyx(GridCacheQueueHeader hdr) throws IgniteCheckedException {
-                hdr = (GridCacheQueueHeader)cctx.cache().withNoRetries().getAndRemove(new GridCacheQueueHeaderKey(name));
-
-                if (hdr == null || hdr.empty())
-                    return;
-
-                GridCacheQueueAdapter.removeKeys(cctx.cache(),
-                    hdr.id(),
-                    name,
-                    hdr.collocated(),
-                    hdr.head(),
-                    hdr.tail(),
-                    0);
+                hdr = removeQueueData(name, cctx);
+
+                if (hdr != null && hdr.shards() > 1) {
+                    for (int i = 0; i < hdr.shards(); i++)
+                        removeQueueData(GridCacheShardedQueueImpl.shardName(name, i), cctx);
+                }
             }
         };
 
         removeDataStructure(null, name, cctx.group().name(), QUEUE, afterRmv);
     }
 
+    /**
+     * Removes the header and the items of a queue.
+     *
+     * @param name Queue name.
+     * @param cctx Queue cache context.
+     * @return Removed header or {@code null} if the queue does not exist.
+     * @throws IgniteCheckedException If failed.
+     */
+    @Nullable private GridCacheQueueHeader removeQueueData(String name, GridCacheContext cctx)
+        throws IgniteCheckedException {
+        GridCacheQueueHeader hdr =
+            (GridCacheQueueHeader)cctx.cache().withNoRetries().getAndRemove(new GridCacheQueueHeaderKey(name));
+
+        if (hdr != null && !hdr.empty()) {
+            GridCacheQueueAdapter.removeKeys(cctx.cache(),
+                hdr.id(),
+                name,
+                hdr.collocated(),
+                hdr.head(),
+                hdr.tail(),
+                0);
+        }
+
+        return hdr;
+    }
+
     /**
      * @param c Closure creating collection.
      * @param cfg Configuration.
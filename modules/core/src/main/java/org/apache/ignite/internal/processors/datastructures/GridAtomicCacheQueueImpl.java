@@ -17,8 +17,10 @@
 
 package org.apache.ignite.internal.processors.datastructures;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import javax.cache.processor.EntryProcessor;
 import org.apache.ignite.IgniteCheckedException;
@@ -74,7 +76,6 @@ public class GridAtomicCacheQueueImpl<T> extends GridCacheQueueAdapter<T> {
     }
 
     /** {@inheritDoc} */
-    @SuppressWarnings("unchecked")
     @Nullable @Override public T poll() throws IgniteException {
         try {
             while (true) {
@@ -85,29 +86,84 @@ public class GridAtomicCacheQueueImpl<T> extends GridCacheQueueAdapter<T> {
 
                 checkRemoved(idx);
 
-                QueueItemKey key = itemKey(idx);
-
-                T data = (T)cache.getAndRemove(key);
+                T data = getAndRemoveItem(idx);
 
                 if (data != null)
                     return data;
+            }
+        }
+        catch (IgniteCheckedException e) {
+            throw U.convertException(e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @SuppressWarnings("unchecked")
+    @Override protected int drainBatch(Collection<? super T> c, int max) throws IgniteCheckedException {
+        long[] idxs = (long[])cache.invoke(queueKey, new DrainProcessor(id, max)).get();
+
+        if (idxs == null)
+            return 0;
+
+        checkRemoved(idxs[0]);
+
+        List<QueueItemKey> keys = new ArrayList<>(idxs.length);
+
+        for (long idx : idxs)
+            keys.add(itemKey(idx));
+
+        Map<QueueItemKey, T> items = cache.getAll(keys);
+
+        cache.removeAll(items.keySet());
 
-                long stop = U.currentTimeMillis() + RETRY_TIMEOUT;
+        int cnt = 0;
 
-                while (U.currentTimeMillis() < stop) {
-                    data = (T)cache.getAndRemove(key);
+        for (int i = 0; i < idxs.length; i++) {
+            T item = items.get(keys.get(i));
 
-                    if (data != null)
-                        return data;
-                }
+            // The item may be not put yet by the offering node.
+            if (item == null)
+                item = getAndRemoveItem(idxs[i]);
 
-                U.warn(log, "Failed to get item due to poll timeout [queue=" + queueName + ", idx=" + idx + "]. " +
-                    "Poll timeout can be redefined by 'IGNITE_ATOMIC_CACHE_QUEUE_RETRY_TIMEOUT' system property.");
+            if (item != null) {
+                c.add(item);
+
+                cnt++;
             }
         }
-        catch (IgniteCheckedException e) {
-            throw U.convertException(e);
+
+        return cnt;
+    }
+
+    /**
+     * Removes the item with the given index, the item is awaited if it is not put yet.
+     *
+     * @param idx Item index.
+     * @return Removed item or {@code null} if the item has not been put within the retry timeout.
+     * @throws IgniteCheckedException If failed.
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable private T getAndRemoveItem(long idx) throws IgniteCheckedException {
+        QueueItemKey key = itemKey(idx);
+
+        T data = (T)cache.getAndRemove(key);
+
+        if (data != null)
+            return data;
+
+        long stop = U.currentTimeMillis() + RETRY_TIMEOUT;
+
+        while (U.currentTimeMillis() < stop) {
+            data = (T)cache.getAndRemove(key);
+
+            if (data != null)
+                return data;
         }
+
+        U.warn(log, "Failed to get item due to poll timeout [queue=" + queueName + ", idx=" + idx + "]. " +
+            "Poll timeout can be redefined by 'IGNITE_ATOMIC_CACHE_QUEUE_RETRY_TIMEOUT' system property.");
+
+        return null;
     }
 
     /** {@inheritDoc} */
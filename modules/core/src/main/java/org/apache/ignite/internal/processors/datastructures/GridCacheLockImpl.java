@@ -45,10 +45,14 @@ import org.apache.ignite.IgniteCondition;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.IgniteInterruptedException;
 import org.apache.ignite.IgniteLock;
+import org.apache.ignite.IgniteSystemProperties;
+import org.apache.ignite.internal.IgniteInterruptedCheckedException;
 import org.apache.ignite.internal.IgnitionEx;
 import org.apache.ignite.internal.processors.cache.IgniteInternalCache;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxLocal;
 import org.apache.ignite.internal.processors.cluster.IgniteChangeGlobalStateSupport;
+import org.apache.ignite.internal.processors.timeout.GridTimeoutObject;
+import org.apache.ignite.internal.processors.timeout.GridTimeoutObjectAdapter;
 import org.apache.ignite.internal.util.typedef.X;
 import org.apache.ignite.internal.util.typedef.internal.CU;
 import org.apache.ignite.internal.util.typedef.internal.S;
@@ -57,6 +61,7 @@ import org.apache.ignite.transactions.TransactionRollbackException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_REENTRANT_LOCK_LEASE_TIMEOUT;
 import static org.apache.ignite.internal.processors.cache.GridCacheUtils.retryTopologySafe;
 import static org.apache.ignite.transactions.TransactionConcurrency.PESSIMISTIC;
 import static org.apache.ignite.transactions.TransactionIsolation.REPEATABLE_READ;
@@ -66,6 +71,9 @@ import static org.apache.ignite.transactions.TransactionIsolation.REPEATABLE_REA
  */
 public final class GridCacheLockImpl extends AtomicDataStructureProxy<GridCacheLockState>
     implements GridCacheLockEx, IgniteChangeGlobalStateSupport, Externalizable {
+    /** @see IgniteSystemProperties#IGNITE_REENTRANT_LOCK_LEASE_TIMEOUT */
+    public static final long DFLT_REENTRANT_LOCK_LEASE_TIMEOUT = 0;
+
     /** */
     private static final long serialVersionUID = 0L;
 
@@ -137,6 +145,27 @@ public final class GridCacheLockImpl extends AtomicDataStructureProxy<GridCacheL
         /** Threads that are waiting on this lock. */
         private Set<Long> waitingThreads;
 
+        /** Lease timeout in milliseconds, {@code 0} if the lock is not leased. */
+        private final long leaseTimeout;
+
+        /** Mutex guarding the transitions of the lease. */
+        private final Object leaseMux = new Object();
+
+        /** {@code True} if this node keeps owning the lock after it is released locally. */
+        private volatile boolean leased;
+
+        /** {@code True} if the lease is requested by another node or expired, so the lock is to be released. */
+        private volatile boolean leaseRevoked;
+
+        /** {@code True} if another node requested the lease of the owner node. */
+        private volatile boolean leaseRequested;
+
+        /** Counter of the global state updates to await a lease release on. Guarded by {@link #leaseMux}. */
+        private long leaseUpdCnt;
+
+        /** Lease expiration. Guarded by {@link #leaseMux}. */
+        @Nullable private GridTimeoutObject leaseTimeoutObj;
+
         /**
          * @param state State.
          */
@@ -158,6 +187,12 @@ public final class GridCacheLockImpl extends AtomicDataStructureProxy<GridCacheL
             fair = state.isFair();
 
             waitingThreads = new ConcurrentSkipListSet<>();
+
+            // A lease may not violate the order of a fair lock or outlive a node owning a lock that is not failover safe.
+            leaseTimeout = !fair && failoverSafe ?
+                IgniteSystemProperties.getLong(IGNITE_REENTRANT_LOCK_LEASE_TIMEOUT, DFLT_REENTRANT_LOCK_LEASE_TIMEOUT) : 0;
+
+            leaseRequested = state.isLeaseRequested();
         }
 
         /**
@@ -373,6 +408,13 @@ public final class GridCacheLockImpl extends AtomicDataStructureProxy<GridCacheL
 
             final Thread cur = Thread.currentThread();
 
+            if (leased) {
+                synchronized (leaseMux) {
+                    if (leased)
+                        return tryAcquireLeased(acquires, cur);
+                }
+            }
+
             boolean failed = false;
 
             int c = getState();
@@ -413,6 +455,8 @@ public final class GridCacheLockImpl extends AtomicDataStructureProxy<GridCacheL
 
                 return true;
             }
+            else if (leaseTimeout > 0 && !leaseRequested && !thisNode.equals(currentOwnerNode))
+                requestLease();
 
             if (fair && !isQueued(cur))
                 synchronizeQueue(false, cur);
@@ -420,6 +464,248 @@ public final class GridCacheLockImpl extends AtomicDataStructureProxy<GridCacheL
             return false;
         }
 
+        /**
+         * Acquires the lock leased by this node without updating the global state.
+         *
+         * @param acquires Number of permits to acquire.
+         * @param cur Current thread.
+         * @return {@code True} if succeeded, false otherwise.
+         */
+        private boolean tryAcquireLeased(int acquires, Thread cur) {
+            assert Thread.holdsLock(leaseMux);
+
+            int c = getState();
+
+            if (c == 0) {
+                // The lock is being released to another node.
+                if (leaseRevoked)
+                    return false;
+
+                setState(acquires);
+
+                setCurrentOwnerThread(cur.getId());
+
+                setExclusiveOwnerThread(cur);
+
+                return true;
+            }
+
+            if (isHeldExclusively()) {
+                int nextc = c + acquires;
+
+                if (nextc < 0) // overflow
+                    throw new Error("Maximum lock count exceeded.");
+
+                setState(nextc);
+
+                return true;
+            }
+
+            return false;
+        }
+
+        /**
+         * Keeps the lock owned by this node after it is released locally, so the next acquire on this node does not
+         * update the global state.
+         *
+         * @return {@code True} if the lease is kept, {@code false} if the lock should be released globally.
+         */
+        private boolean keepLease() {
+            if (leaseTimeout == 0)
+                return false;
+
+            synchronized (leaseMux) {
+                // Conditions are processed by the global state.
+                if (leaseRevoked || lastCondition != null || !outgoingSignals.isEmpty()) {
+                    leased = false;
+
+                    if (leaseTimeoutObj != null) {
+                        ctx.kernalContext().timeout().removeTimeoutObject(leaseTimeoutObj);
+
+                        leaseTimeoutObj = null;
+                    }
+
+                    return false;
+                }
+
+                if (!leased) {
+                    leased = true;
+
+                    leaseTimeoutObj = new GridTimeoutObjectAdapter(leaseTimeout) {
+                        @Override public void onTimeout() {
+                            revokeLease();
+                        }
+                    };
+
+                    ctx.kernalContext().timeout().addTimeoutObject(leaseTimeoutObj);
+                }
+
+                setCurrentOwnerThread(LOCK_FREE);
+
+                setExclusiveOwnerThread(null);
+
+                setState(0);
+
+                return true;
+            }
+        }
+
+        /**
+         * Revokes the lease of this node, the lock is released globally as soon as it is not held locally.
+         */
+        private void revokeLease() {
+            if (leaseTimeout == 0)
+                return;
+
+            synchronized (leaseMux) {
+                if (leaseRevoked)
+                    return;
+
+                leaseRevoked = true;
+
+                // Otherwise the lock is released globally by the local owner.
+                if (!leased || getState() != 0)
+                    return;
+            }
+
+            ctx.kernalContext().closure().runLocalSafe(this::releaseLease, true);
+        }
+
+        /**
+         * Releases the lock leased by this node globally if it is not held locally.
+         */
+        private void releaseLease() {
+            Thread cur = Thread.currentThread();
+
+            synchronized (leaseMux) {
+                if (!leased || getState() != 0)
+                    return;
+
+                setState(1);
+
+                setCurrentOwnerThread(cur.getId());
+
+                setExclusiveOwnerThread(cur);
+            }
+
+            // The lease is revoked, so the lock is released globally and the local waiters are notified.
+            release(1);
+        }
+
+        /**
+         * Releases the leases of the lock before it is removed. The lease of this node is released at once, the lease
+         * of another node is requested and awaited till its expiration at most.
+         *
+         * @throws IgniteCheckedException If failed.
+         */
+        private void releaseLeases() throws IgniteCheckedException {
+            if (leaseTimeout == 0)
+                return;
+
+            synchronized (leaseMux) {
+                leaseRevoked = true;
+            }
+
+            releaseLease();
+
+            long deadline = U.currentTimeMillis() + leaseTimeout;
+
+            while (true) {
+                long updCnt;
+
+                synchronized (leaseMux) {
+                    updCnt = leaseUpdCnt;
+                }
+
+                GridCacheLockState val = cacheView.get(key);
+
+                if (val == null || val.get() == 0 || thisNode.equals(val.getId()))
+                    return;
+
+                if (!val.isLeaseRequested())
+                    requestLease();
+
+                synchronized (leaseMux) {
+                    long remaining;
+
+                    while (leaseUpdCnt == updCnt && (remaining = deadline - U.currentTimeMillis()) > 0) {
+                        try {
+                            leaseMux.wait(remaining);
+                        }
+                        catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+
+                            throw new IgniteInterruptedCheckedException(e);
+                        }
+                    }
+
+                    if (leaseUpdCnt == updCnt)
+                        return;
+                }
+            }
+        }
+
+        /**
+         * Processes the lease flags of the global state.
+         *
+         * @param state Global state.
+         */
+        private void onLeaseUpdate(GridCacheLockState state) {
+            leaseRequested = state.isLeaseRequested();
+
+            synchronized (leaseMux) {
+                leaseUpdCnt++;
+
+                leaseMux.notifyAll();
+            }
+
+            if (leaseRequested && thisNode.equals(state.getId()))
+                revokeLease();
+        }
+
+        /**
+         * Requests the owner node to release the lock as soon as it is not held by the owner, that is needed if the lock
+         * is leased by the owner. The request is best effort, the lease is revoked on expiration anyway.
+         */
+        private void requestLease() {
+            try {
+                retryTopologySafe(new Callable<Void>() {
+                    @Override public Void call() throws Exception {
+                        try (GridNearTxLocal tx = CU.txStartInternal(ctx, cacheView, PESSIMISTIC, REPEATABLE_READ)) {
+                            GridCacheLockState val = cacheView.get(key);
+
+                            if (val == null)
+                                throw new IgniteCheckedException("Failed to find reentrant lock with given name: " + name);
+
+                            UUID owner = val.getId();
+
+                            if (owner == null || thisNode.equals(owner))
+                                return null;
+
+                            if (!val.isLeaseRequested()) {
+                                val.setLeaseRequested(true);
+
+                                // Only the owner processes the request.
+                                val.setChanged(false);
+
+                                cacheView.put(key, val);
+
+                                tx.commit();
+                            }
+
+                            leaseRequested = true;
+
+                            return null;
+                        }
+                    }
+                });
+            }
+            catch (Exception e) {
+                if (!interruptAll && !Thread.currentThread().isInterrupted())
+                    U.warn(log, "Failed to request the lease of reentrant lock [name=" + name + ", err=" + e + ']');
+            }
+        }
+
         /**
          * Performs lock.
          */
@@ -458,10 +744,12 @@ public final class GridCacheLockImpl extends AtomicDataStructureProxy<GridCacheL
             if (c == 0) {
                 free = true;
 
-                setGlobalState(0, processAwait(), processSignal());
+                if (!keepLease()) {
+                    setGlobalState(0, processAwait(), processSignal());
 
-                while (isHeldExclusively() && !interruptAll)
-                    Thread.yield();
+                    while (isHeldExclusively() && !interruptAll)
+                        Thread.yield();
+                }
             }
             else
                 setState(c);
@@ -502,7 +790,7 @@ public final class GridCacheLockImpl extends AtomicDataStructureProxy<GridCacheL
 
         /** */
         final boolean isLocked() throws IgniteCheckedException {
-            return getState() != 0 || cacheView.get(key).get() != 0;
+            return getState() != 0 || !leased && cacheView.get(key).get() != 0;
         }
 
         /**
@@ -510,6 +798,9 @@ public final class GridCacheLockImpl extends AtomicDataStructureProxy<GridCacheL
          */
         boolean compareAndSetGlobalState(final int expVal, final int newVal,
             final Thread newThread, final boolean bargingProhibited) {
+            // Requests of the lease granted by this acquire are processed after the global state is updated.
+            leaseRevoked = false;
+
             try {
                 return retryTopologySafe(new Callable<Boolean>() {
                         @Override public Boolean call() throws Exception {
@@ -534,6 +825,8 @@ public final class GridCacheLockImpl extends AtomicDataStructureProxy<GridCacheL
 
                                         val.setSignals(null);
 
+                                        val.setLeaseRequested(false);
+
                                         // This node is already in queue, except in cases where this is the only node
                                         // or this is a call to tryLock(), in which case barging is ok.
                                         // Queue is only updated if this is fair lock.
@@ -714,6 +1007,8 @@ public final class GridCacheLockImpl extends AtomicDataStructureProxy<GridCacheL
 
                                 val.setChanged(true);
 
+                                val.setLeaseRequested(false);
+
                                 // If this lock is fair, remove this node from queue.
                                 if (val.isFair() && newVal == 0) {
                                     UUID rmvdNode = val.getNodes().removeFirst();
@@ -1099,6 +1394,8 @@ public final class GridCacheLockImpl extends AtomicDataStructureProxy<GridCacheL
         updateLock.lock();
 
         try {
+            sync.onLeaseUpdate(val);
+
             // If this update is a result of unsuccessful acquire in fair mode, no local update should be done.
             if (!val.isChanged())
                 return;
@@ -1497,6 +1794,9 @@ public final class GridCacheLockImpl extends AtomicDataStructureProxy<GridCacheL
             try {
                 boolean force = sync != null && (sync.isBroken() && !sync.failoverSafe);
 
+                if (sync != null && !force)
+                    sync.releaseLeases();
+
                 ctx.kernalContext().dataStructures().removeReentrantLock(name, ctx.group().name(), force);
             }
             catch (IgniteCheckedException e) {
@@ -72,6 +72,9 @@ public final class GridCacheLockState extends VolatileAtomicDataStructureValue i
      */
     private boolean changed;
 
+    /** Flag indicating that another node requested the lock leased by the owner node. */
+    private boolean leaseRequested;
+
     /**
      * Constructor.
      *
@@ -238,6 +241,20 @@ public final class GridCacheLockState extends VolatileAtomicDataStructureValue i
         this.changed = changed;
     }
 
+    /**
+     * @return Lease requested flag.
+     */
+    public boolean isLeaseRequested() {
+        return leaseRequested;
+    }
+
+    /**
+     * @param leaseRequested Lease requested flag.
+     */
+    public void setLeaseRequested(boolean leaseRequested) {
+        this.leaseRequested = leaseRequested;
+    }
+
     /** {@inheritDoc} */
     @Override public Object clone() throws CloneNotSupportedException {
         return super.clone();
@@ -256,6 +273,8 @@ public final class GridCacheLockState extends VolatileAtomicDataStructureValue i
 
         out.writeBoolean(changed);
 
+        out.writeBoolean(leaseRequested);
+
         out.writeBoolean(conditionMap != null);
 
         if (conditionMap != null) {
@@ -309,6 +328,8 @@ public final class GridCacheLockState extends VolatileAtomicDataStructureValue i
 
         changed = in.readBoolean();
 
+        leaseRequested = in.readBoolean();
+
         if (in.readBoolean()) {
             int size = in.readInt();
 
@@ -48,6 +48,7 @@ import org.apache.ignite.internal.util.typedef.internal.S;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgniteBiTuple;
 import org.apache.ignite.lang.IgniteCallable;
+import org.apache.ignite.lang.IgniteInClosure;
 import org.apache.ignite.lang.IgniteRunnable;
 import org.apache.ignite.lang.IgniteUuid;
 import org.jetbrains.annotations.Nullable;
@@ -64,6 +65,9 @@ public abstract class GridCacheQueueAdapter<T> extends AbstractCollection<T> imp
     /** */
     private static final int DFLT_CLEAR_BATCH_SIZE = 100;
 
+    /** Maximum number of items polled with a single header update by {@link #drainTo(Collection, int)}. */
+    private static final int DRAIN_BATCH_SIZE = 1_000;
+
     /** Logger. */
     protected final IgniteLogger log;
 
@@ -102,6 +106,10 @@ public abstract class GridCacheQueueAdapter<T> extends AbstractCollection<T> imp
     /** Access to affinityRun() and affinityCall() functions. */
     private final IgniteCompute compute;
 
+    /** Listener of the header updates. */
+    @GridToStringExclude
+    @Nullable private volatile IgniteInClosure<GridCacheQueueHeader> hdrLsnr;
+
     /**
      * @param queueName Queue name.
      * @param hdr Queue hdr.
@@ -389,18 +397,25 @@ public abstract class GridCacheQueueAdapter<T> extends AbstractCollection<T> imp
 
     /** {@inheritDoc} */
     @Override public int drainTo(Collection<? super T> c, int maxElements) {
-        int max = Math.min(maxElements, size());
+        A.notNull(c, "c");
 
-        for (int i = 0; i < max; i++) {
-            T el = poll();
+        try {
+            int cnt = 0;
 
-            if (el == null)
-                return i;
+            while (cnt < maxElements) {
+                int polled = drainBatch(c, Math.min(maxElements - cnt, DRAIN_BATCH_SIZE));
 
-            c.add(el);
-        }
+                if (polled == 0)
+                    break;
 
-        return max;
+                cnt += polled;
+            }
+
+            return cnt;
+        }
+        catch (IgniteCheckedException e) {
+            throw U.convertException(e);
+        }
     }
 
     /** {@inheritDoc} */
@@ -546,6 +561,18 @@ public abstract class GridCacheQueueAdapter<T> extends AbstractCollection<T> imp
             if (!hdr.full())
                 writeSem.release(hdr.capacity() - hdr.size());
         }
+
+        IgniteInClosure<GridCacheQueueHeader> lsnr = hdrLsnr;
+
+        if (lsnr != null)
+            lsnr.apply(hdr);
+    }
+
+    /**
+     * @param lsnr Listener of the header updates.
+     */
+    void listenHeader(IgniteInClosure<GridCacheQueueHeader> lsnr) {
+        hdrLsnr = lsnr;
     }
 
     /**
@@ -578,6 +605,16 @@ public abstract class GridCacheQueueAdapter<T> extends AbstractCollection<T> imp
      */
     protected abstract void removeItem(long rmvIdx) throws IgniteCheckedException;
 
+    /**
+     * Polls a batch of items with a single header update.
+     *
+     * @param c Collection to add the polled items to.
+     * @param max Maximum number of items to poll.
+     * @return Number of polled items, {@code 0} if the queue is empty.
+     * @throws IgniteCheckedException If failed.
+     */
+    protected abstract int drainBatch(Collection<? super T> c, int max) throws IgniteCheckedException;
+
     /**
      * @param idx Item index.
      * @return Item key.
@@ -860,6 +897,84 @@ public abstract class GridCacheQueueAdapter<T> extends AbstractCollection<T> imp
         }
     }
 
+    /**
+     */
+    protected static class DrainProcessor implements
+        EntryProcessor<GridCacheQueueHeaderKey, GridCacheQueueHeader, long[]>, Externalizable {
+        /** */
+        private static final long serialVersionUID = 0L;
+
+        /** */
+        private IgniteUuid id;
+
+        /** */
+        private int max;
+
+        /**
+         * Required by {@link Externalizable}.
+         */
+        public DrainProcessor() {
+            // No-op.
+        }
+
+        /**
+         * @param id Queue unique ID.
+         * @param max Maximum number of items to poll.
+         */
+        public DrainProcessor(IgniteUuid id, int max) {
+            this.id = id;
+            this.max = max;
+        }
+
+        /** {@inheritDoc} */
+        @Override public long[] process(MutableEntry<GridCacheQueueHeaderKey, GridCacheQueueHeader> e,
+            Object... args) {
+            GridCacheQueueHeader hdr = e.getValue();
+
+            boolean rmvd = queueRemoved(hdr, id);
+
+            if (rmvd || hdr.empty())
+                return rmvd ? new long[] {QUEUE_REMOVED_IDX} : null;
+
+            Set<Long> rmvdIdxs = hdr.removedIndexes() == null ? null : new HashSet<>(hdr.removedIndexes());
+
+            long[] idxs = new long[Math.min(max, hdr.size())];
+
+            long next = hdr.head();
+
+            for (int i = 0; i < idxs.length; next++) {
+                if (rmvdIdxs == null || !rmvdIdxs.remove(next))
+                    idxs[i++] = next;
+            }
+
+            while (rmvdIdxs != null && next != hdr.tail() && rmvdIdxs.remove(next))
+                next++;
+
+            GridCacheQueueHeader newHdr = new GridCacheQueueHeader(hdr.id(),
+                hdr.capacity(),
+                hdr.collocated(),
+                next,
+                hdr.tail(),
+                F.isEmpty(rmvdIdxs) ? null : rmvdIdxs);
+
+            e.setValue(newHdr);
+
+            return idxs.length == 0 ? null : idxs;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void writeExternal(ObjectOutput out) throws IOException {
+            U.writeIgniteUuid(out, id);
+            out.writeInt(max);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+            id = U.readIgniteUuid(in);
+            max = in.readInt();
+        }
+    }
+
     /**
      */
     protected static class AddProcessor implements
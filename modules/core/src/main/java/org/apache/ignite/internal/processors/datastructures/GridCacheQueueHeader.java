@@ -53,6 +53,9 @@ public class GridCacheQueueHeader implements GridCacheInternal, Externalizable {
     /** */
     private boolean collocated;
 
+    /** Number of shards, greater than {@code 1} only for the header of a sharded queue that is never updated. */
+    private int shards = 1;
+
     /** */
     @GridToStringInclude
     private Set<Long> rmvIdxs;
@@ -85,6 +88,20 @@ public class GridCacheQueueHeader implements GridCacheInternal, Externalizable {
         this.rmvIdxs = rmvIdxs;
     }
 
+    /**
+     * Creates the header of a sharded queue, the items are kept in the shards.
+     *
+     * @param id Queue unique ID.
+     * @param cap Capacity.
+     * @param collocated Collocation flag.
+     * @param shards Number of shards.
+     */
+    public GridCacheQueueHeader(IgniteUuid id, int cap, boolean collocated, int shards) {
+        this(id, cap, collocated, 0, 0, null);
+
+        this.shards = shards;
+    }
+
     /**
      * @return Queue unique ID.
      */
@@ -106,6 +123,13 @@ public class GridCacheQueueHeader implements GridCacheInternal, Externalizable {
         return collocated;
     }
 
+    /**
+     * @return Number of shards.
+     */
+    public int shards() {
+        return shards;
+    }
+
     /**
      * @return Head index.
      */
@@ -166,6 +190,7 @@ public class GridCacheQueueHeader implements GridCacheInternal, Externalizable {
         U.writeIgniteUuid(out, id);
         out.writeInt(cap);
         out.writeBoolean(collocated);
+        out.writeInt(shards);
         out.writeLong(head);
         out.writeLong(tail);
         out.writeBoolean(rmvIdxs != null);
@@ -183,6 +208,7 @@ public class GridCacheQueueHeader implements GridCacheInternal, Externalizable {
         id = U.readIgniteUuid(in);
         cap = in.readInt();
         collocated = in.readBoolean();
+        shards = in.readInt();
         head = in.readLong();
         tail = in.readLong();
 
@@ -0,0 +1,409 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.datastructures;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.IgniteInterruptedException;
+import org.apache.ignite.configuration.CollectionConfiguration;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
+import org.apache.ignite.internal.util.typedef.internal.A;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.lang.IgniteCallable;
+import org.apache.ignite.lang.IgniteRunnable;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * {@link org.apache.ignite.IgniteQueue} implementation spreading items across several shards, every shard is a queue
+ * with a header of its own. A thread offers items to the same shard, so the items offered by a thread are polled in
+ * the order they were offered. A thread polls its own shard first and then the other shards, so the order of items
+ * offered by different threads is not guaranteed.
+ *
+ * @see CollectionConfiguration#setShards(int)
+ */
+public class GridCacheShardedQueueImpl<T> extends GridCacheQueueAdapter<T> {
+    /** Suffix of the shard names. */
+    private static final String SHARD_SUFFIX = "#shard-";
+
+    /** Shards. */
+    private final List<GridCacheQueueProxy<T>> shards;
+
+    /** Sizes of the shards known from the header updates. */
+    @GridToStringExclude
+    private final AtomicIntegerArray shardSizes;
+
+    /** Read blocking operations semaphore. */
+    @GridToStringExclude
+    private final Semaphore readSem;
+
+    /** Counter assigning shards to threads. */
+    @GridToStringExclude
+    private final AtomicInteger shardCntr;
+
+    /** Shard of the current thread. */
+    @GridToStringExclude
+    private final ThreadLocal<Integer> threadShard;
+
+    /**
+     * @param queueName Queue name.
+     * @param hdr Queue header.
+     * @param cctx Cache context.
+     * @param shards Shards.
+     */
+    public GridCacheShardedQueueImpl(
+        String queueName,
+        GridCacheQueueHeader hdr,
+        GridCacheContext<?, ?> cctx,
+        List<GridCacheQueueProxy<T>> shards
+    ) {
+        super(queueName, hdr, cctx);
+
+        assert shards.size() == hdr.shards() : shards.size();
+
+        this.shards = shards;
+
+        shardSizes = new AtomicIntegerArray(shards.size());
+        readSem = new Semaphore(0, true);
+
+        // Nodes start from different shards to spread the threads of all the nodes.
+        shardCntr = new AtomicInteger(ThreadLocalRandom.current().nextInt(shards.size()));
+        threadShard = ThreadLocal.withInitial(() -> Math.abs(shardCntr.getAndIncrement() % shards.size()));
+
+        for (int i = 0; i < shards.size(); i++) {
+            int shard = i;
+
+            shards.get(i).delegate().listenHeader(shardHdr -> onShardHeaderChanged(shard, shardHdr));
+        }
+    }
+
+    /**
+     * @param queueName Queue name.
+     * @param shard Shard index.
+     * @return Shard name.
+     */
+    public static String shardName(String queueName, int shard) {
+        return queueName + SHARD_SUFFIX + shard;
+    }
+
+    /**
+     * @return Shard of the current thread.
+     */
+    private GridCacheQueueAdapter<T> threadShard() {
+        return shards.get(threadShard.get()).delegate();
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean offer(T item) throws IgniteException {
+        A.notNull(item, "item");
+
+        checkShardsRemoved();
+
+        return threadShard().offer(item);
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean addAll(Collection<? extends T> items) {
+        A.notNull(items, "items");
+
+        checkShardsRemoved();
+
+        // A single header update of the shard for all the items.
+        return threadShard().addAll(items);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void put(T item) throws IgniteException {
+        A.notNull(item, "item");
+
+        boolean offer = offer(item);
+
+        assert offer;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean offer(T item, long timeout, TimeUnit unit) throws IgniteException {
+        A.ensure(timeout >= 0, "Timeout cannot be negative: " + timeout);
+
+        return offer(item);
+    }
+
+    /** {@inheritDoc} */
+    @Nullable @Override public T poll() throws IgniteException {
+        checkShardsRemoved();
+
+        int start = threadShard.get();
+
+        // Shards known to be non-empty are polled first.
+        for (int pass = 0; pass < 2; pass++) {
+            for (int i = 0; i < shards.size(); i++) {
+                int shard = (start + i) % shards.size();
+
+                if ((pass == 0) != (shardSizes.get(shard) > 0))
+                    continue;
+
+                T item = shards.get(shard).delegate().poll();
+
+                if (item != null)
+                    return item;
+            }
+        }
+
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Nullable @Override public T take() throws IgniteException {
+        while (true) {
+            T item = poll();
+
+            if (item != null)
+                return item;
+
+            try {
+                readSem.acquire();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+                throw new IgniteInterruptedException("Queue take interrupted.", e);
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Nullable @Override public T poll(long timeout, TimeUnit unit) throws IgniteException {
+        A.ensure(timeout >= 0, "Timeout cannot be negative: " + timeout);
+
+        long end = U.currentTimeMillis() + MILLISECONDS.convert(timeout, unit);
+
+        while (true) {
+            T item = poll();
+
+            if (item != null)
+                return item;
+
+            long remaining = end - U.currentTimeMillis();
+
+            try {
+                if (remaining <= 0 || !readSem.tryAcquire(remaining, MILLISECONDS))
+                    return null;
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+                throw new IgniteInterruptedException("Queue poll interrupted.", e);
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override protected int drainBatch(Collection<? super T> c, int max) {
+        checkShardsRemoved();
+
+        int start = threadShard.get();
+
+        int cnt = 0;
+
+        for (int i = 0; i < shards.size() && cnt < max; i++)
+            cnt += shards.get((start + i) % shards.size()).delegate().drainTo(c, max - cnt);
+
+        return cnt;
+    }
+
+    /** {@inheritDoc} */
+    @Nullable @Override public T peek() throws IgniteException {
+        checkShardsRemoved();
+
+        for (GridCacheQueueProxy<T> shard : shards) {
+            T item = shard.delegate().peek();
+
+            if (item != null)
+                return item;
+        }
+
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int size() {
+        checkShardsRemoved();
+
+        long size = 0;
+
+        for (GridCacheQueueProxy<T> shard : shards)
+            size += shard.delegate().size();
+
+        return (int)Math.min(size, Integer.MAX_VALUE);
+    }
+
+    /** {@inheritDoc} */
+    @Override public Iterator<T> iterator() {
+        checkShardsRemoved();
+
+        return new ShardsIterator();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void clear(int batchSize) throws IgniteException {
+        checkShardsRemoved();
+
+        for (GridCacheQueueProxy<T> shard : shards)
+            shard.delegate().clear(batchSize);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void removeItem(long rmvIdx) {
+        // Items are removed by the iterators of the shards.
+        throw new UnsupportedOperationException();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void affinityRun(IgniteRunnable job) {
+        throw new IgniteException("Failed to execute affinityRun() for sharded queue: " + name() +
+            ". This operation is not supported for sharded queues since items are kept on different nodes.");
+    }
+
+    /** {@inheritDoc} */
+    @Override public <R> R affinityCall(IgniteCallable<R> job) {
+        throw new IgniteException("Failed to execute affinityCall() for sharded queue: " + name() +
+            ". This operation is not supported for sharded queues since items are kept on different nodes.");
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onRemoved(boolean throw0) {
+        releaseSemaphore();
+
+        super.onRemoved(throw0);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onClientDisconnected() {
+        releaseSemaphore();
+
+        super.onClientDisconnected();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onKernalStop() {
+        releaseSemaphore();
+
+        super.onKernalStop();
+    }
+
+    /**
+     * Lets all blocked threads to proceed.
+     */
+    private void releaseSemaphore() {
+        readSem.drainPermits();
+        readSem.release(1_000_000);
+    }
+
+    /**
+     * Checks whether the queue or any of its shards was removed.
+     */
+    private void checkShardsRemoved() {
+        if (removed())
+            onRemoved(true);
+
+        for (GridCacheQueueProxy<T> shard : shards) {
+            if (shard.delegate().removed())
+                onRemoved(true);
+        }
+    }
+
+    /**
+     * @param shard Shard index.
+     * @param hdr Shard header.
+     */
+    private void onShardHeaderChanged(int shard, GridCacheQueueHeader hdr) {
+        shardSizes.set(shard, hdr.size());
+
+        int size = 0;
+
+        for (int i = 0; i < shardSizes.length(); i++)
+            size += shardSizes.get(i);
+
+        readSem.drainPermits();
+
+        if (size > 0)
+            readSem.release(size);
+    }
+
+    /**
+     * Iterates over the items of all the shards.
+     */
+    private class ShardsIterator implements Iterator<T> {
+        /** Index of the shard of the current iterator. */
+        private int shard;
+
+        /** Iterator of the current shard. */
+        private Iterator<T> it = shards.get(0).delegate().iterator();
+
+        /** Iterator that returned the last item. */
+        @Nullable private Iterator<T> lastIt;
+
+        /** {@inheritDoc} */
+        @Override public boolean hasNext() {
+            while (!it.hasNext()) {
+                if (++shard == shards.size())
+                    return false;
+
+                it = shards.get(shard).delegate().iterator();
+            }
+
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override public T next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            lastIt = it;
+
+            return it.next();
+        }
+
+        /** {@inheritDoc} */
+        @Override public void remove() {
+            if (lastIt == null)
+                throw new IllegalStateException();
+
+            lastIt.remove();
+
+            lastIt = null;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(GridCacheShardedQueueImpl.class, this, "super", super.toString());
+    }
+}
@@ -17,8 +17,11 @@
 
 package org.apache.ignite.internal.processors.datastructures;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import org.apache.ignite.IgniteCheckedException;
@@ -133,6 +136,58 @@ public class GridTransactionalCacheQueueImpl<T> extends GridCacheQueueAdapter<T>
         }
     }
 
+    /** {@inheritDoc} */
+    @SuppressWarnings("unchecked")
+    @Override protected int drainBatch(final Collection<? super T> c, final int max) throws IgniteCheckedException {
+        try {
+            List<T> items = retryTopologySafe(new Callable<List<T>>() {
+                @Override public List<T> call() throws Exception {
+                    try (GridNearTxLocal tx = cache.txStartEx(PESSIMISTIC, REPEATABLE_READ)) {
+                        long[] idxs = (long[])cache.invoke(queueKey, new DrainProcessor(id, max)).get();
+
+                        if (idxs == null)
+                            return Collections.emptyList();
+
+                        checkRemoved(idxs[0]);
+
+                        List<QueueItemKey> keys = new ArrayList<>(idxs.length);
+
+                        for (long idx : idxs)
+                            keys.add(itemKey(idx));
+
+                        Map<QueueItemKey, T> vals = cache.getAll(keys);
+
+                        cache.removeAll(vals.keySet());
+
+                        tx.commit();
+
+                        List<T> res = new ArrayList<>(vals.size());
+
+                        // Items are missing only if data was lost.
+                        for (QueueItemKey key : keys) {
+                            T val = vals.get(key);
+
+                            if (val != null)
+                                res.add(val);
+                        }
+
+                        return res;
+                    }
+                }
+            });
+
+            c.addAll(items);
+
+            return items.size();
+        }
+        catch (RuntimeException | IgniteCheckedException e) {
+            throw e;
+        }
+        catch (Exception e) {
+            throw new IgniteCheckedException(e);
+        }
+    }
+
     /** {@inheritDoc} */
     @SuppressWarnings("unchecked")
     @Override public boolean addAll(final Collection<? extends T> items) {
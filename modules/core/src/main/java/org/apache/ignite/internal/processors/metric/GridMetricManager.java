@@ -136,6 +136,18 @@ public class GridMetricManager extends GridManagerAdapter<MetricExporterSpi> imp
     /** Histogram of blocking PME durations metric name. */
     public static final String PME_OPS_BLOCKED_DURATION_HISTOGRAM = "CacheOperationsBlockedDurationHistogram";
 
+    /** Number of PME full messages sent with complete partition maps metric name. */
+    public static final String PME_FULL_MSGS = "FullMessagesSent";
+
+    /** Number of PME full messages sent with partition maps relative to the previous ones metric name. */
+    public static final String PME_DELTA_FULL_MSGS = "DeltaFullMessagesSent";
+
+    /** Size of the last PME full message sent with complete partition maps metric name. */
+    public static final String PME_FULL_MSG_SIZE = "FullMessagePartitionsSize";
+
+    /** Size of the last PME full message sent with partition maps relative to the previous ones metric name. */
+    public static final String PME_DELTA_FULL_MSG_SIZE = "DeltaFullMessagePartitionsSize";
+
     /** Whether cluster is in fully rebalanced state metric name. */
     public static final String REBALANCED = "Rebalanced";
 
@@ -7745,7 +7745,7 @@ public abstract class IgniteUtils extends CommonUtils {
     }
 
     /**
-     * Sets the received/sent bytes and per-session queue-size metric consumers on the given NIO server builder,
+     * Sets the received/sent bytes, per-session queue-size and messages per write metric consumers on the given NIO server builder,
      * creating the underlying metrics in the provided registry.
      *
      * @param builder NIO server builder.
@@ -7763,7 +7763,11 @@ public abstract class IgniteUtils extends CommonUtils {
                 GridNioServer.OUTBOUND_MESSAGES_QUEUE_SIZE_METRIC_DESC)::add)
             .maxMessagesQueueSizeMetric(mreg.maxValueMetric(
                 GridNioServer.MAX_MESSAGES_QUEUE_SIZE_METRIC_NAME,
-                GridNioServer.MAX_MESSAGES_QUEUE_SIZE_METRIC_DESC, 60_000, 5)::update);
+                GridNioServer.MAX_MESSAGES_QUEUE_SIZE_METRIC_DESC, 60_000, 5)::update)
+            .messagesPerWriteMetric(mreg.histogram(
+                GridNioServer.MESSAGES_PER_WRITE_METRIC_NAME,
+                new long[] {1, 2, 4, 8, 16, 32, 64, 128},
+                GridNioServer.MESSAGES_PER_WRITE_METRIC_DESC)::value);
     }
 
     /**
@@ -18,7 +18,6 @@
 package org.apache.ignite.internal.util;
 
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.internal.util.typedef.T2;
@@ -28,7 +27,7 @@ import org.jetbrains.annotations.Nullable;
 import static org.apache.ignite.internal.util.IgniteUtils.nl;
 
 /** ReentrantReadWriteLock adapter with readLock tracking. */
-public class ReentrantReadWriteLockWithTracking implements ReadWriteLock {
+public class ReentrantReadWriteLockWithTracking implements TrackingReadWriteLock {
     /** Lock hold message. */
     public static final String LOCK_HOLD_MESSAGE = "ReadLock held the lock more than ";
 
@@ -72,40 +71,23 @@ public class ReentrantReadWriteLockWithTracking implements ReadWriteLock {
         return writeLock;
     }
 
-    /** */
-    public long lockWaitThreshold() {
+    /** {@inheritDoc} */
+    @Override public long lockWaitThreshold() {
         return readLockThreshold;
     }
 
-    /**
-     * Queries if the write lock is held by the current thread.
-     *
-     * @return {@code true} if the current thread holds the write lock and
-     *         {@code false} otherwise
-     */
-    public boolean isWriteLockedByCurrentThread() {
+    /** {@inheritDoc} */
+    @Override public boolean isWriteLockedByCurrentThread() {
         return delegate.isWriteLockedByCurrentThread();
     }
 
-    /**
-     * Queries the number of reentrant read holds on this lock by the
-     * current thread.  A reader thread has a hold on a lock for
-     * each lock action that is not matched by an unlock action.
-     *
-     * @return the number of holds on the read lock by the current thread,
-     *         or zero if the read lock is not held by the current thread
-     */
-    public int getReadHoldCount() {
+    /** {@inheritDoc} */
+    @Override public int getReadHoldCount() {
         return delegate.getReadHoldCount();
     }
 
-    /**
-     * Queries the number of read locks held for this lock. This
-     * method is designed for use in monitoring system state, not for
-     * synchronization control.
-     * @return the number of read locks held
-     */
-    public int getReadLockCount() {
+    /** {@inheritDoc} */
+    @Override public int getReadLockCount() {
         return delegate.getReadLockCount();
     }
 
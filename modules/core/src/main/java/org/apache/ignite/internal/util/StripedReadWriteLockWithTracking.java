@@ -0,0 +1,437 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.internal.util.IgniteUtils.nl;
+import static org.apache.ignite.internal.util.ReentrantReadWriteLockWithTracking.LOCK_HOLD_MESSAGE;
+
+/**
+ * Read write lock with striped reader indicator, optimized for frequent short read locks and rare write locks.
+ * <p>
+ * Each thread is assigned to a stripe, a reader increments the counter of its stripe only, so readers on different
+ * stripes do not contend on a shared cache line. A writer announces itself with a volatile flag and waits until
+ * the counters of all stripes drop to zero. Readers that observe the flag back off and wait for the writer on
+ * a gate lock. Reentrant read locks are counted in a thread local and do not touch the stripe.
+ * <p>
+ * Read lock holders are reported like {@link ReentrantReadWriteLockWithTracking} does, if a logger is provided.
+ */
+public class StripedReadWriteLockWithTracking implements TrackingReadWriteLock {
+    /** Stripe counter padding in longs, counters of adjacent stripes reside in different cache lines. */
+    private static final int PAD = 16;
+
+    /** Number of spins of a writer waiting for the readers before parking. */
+    private static final int SPINS = 128;
+
+    /** Park time of a writer waiting for the readers. */
+    private static final long PARK_NANOS = 10_000;
+
+    /** Stripe index generator. */
+    private static final AtomicInteger IDX_GEN = new AtomicInteger();
+
+    /** Number of threads holding the read lock, per stripe. */
+    private final AtomicLongArray readers;
+
+    /** Stripe index mask. */
+    private final int mask;
+
+    /** Gate held by the writer, readers wait for the writer on it. */
+    private final ReentrantReadWriteLock gate = new ReentrantReadWriteLock();
+
+    /** Write lock is held or being acquired. */
+    private volatile boolean writer;
+
+    /** Read lock holds of the current thread. */
+    private final ThreadLocal<ReadHolder> holder;
+
+    /** Logger to report the read lock holders, {@code null} if tracking is disabled. */
+    @Nullable private final IgniteLogger log;
+
+    /** Read lock hold time threshold. */
+    private final long readLockThreshold;
+
+    /** Read lock. */
+    private final Lock readLock = new ReadLock();
+
+    /** Write lock. */
+    private final Lock writeLock = new WriteLock();
+
+    /**
+     * @param concurrencyLvl Number of stripes, rounded up to the power of two.
+     */
+    public StripedReadWriteLockWithTracking(int concurrencyLvl) {
+        this(concurrencyLvl, null, 0);
+    }
+
+    /**
+     * @param concurrencyLvl Number of stripes, rounded up to the power of two.
+     * @param log Logger to report the read lock holders, {@code null} to disable tracking.
+     * @param readLockThreshold Read lock hold time threshold.
+     */
+    public StripedReadWriteLockWithTracking(int concurrencyLvl, @Nullable IgniteLogger log, long readLockThreshold) {
+        assert concurrencyLvl > 0 : concurrencyLvl;
+
+        int stripes = U.ceilPow2(concurrencyLvl);
+
+        readers = new AtomicLongArray(stripes * PAD);
+        mask = stripes - 1;
+
+        holder = ThreadLocal.withInitial(() -> new ReadHolder((IDX_GEN.getAndIncrement() & mask) * PAD));
+
+        this.log = log;
+        this.readLockThreshold = readLockThreshold;
+    }
+
+    /** {@inheritDoc} */
+    @NotNull @Override public Lock readLock() {
+        return readLock;
+    }
+
+    /** {@inheritDoc} */
+    @NotNull @Override public Lock writeLock() {
+        return writeLock;
+    }
+
+    /** {@inheritDoc} */
+    @Override public long lockWaitThreshold() {
+        return readLockThreshold;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean isWriteLockedByCurrentThread() {
+        return gate.isWriteLockedByCurrentThread();
+    }
+
+    /** {@inheritDoc} */
+    @Override public int getReadHoldCount() {
+        return holder.get().cnt;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int getReadLockCount() {
+        long cnt = 0;
+
+        for (int i = 0; i <= mask; i++)
+            cnt += readers.get(i * PAD);
+
+        return (int)cnt;
+    }
+
+    /**
+     * Waits until all readers release the lock.
+     *
+     * @param timed Whether to wait until the deadline only.
+     * @param deadline Deadline in nanoseconds.
+     * @param interruptibly Whether to wait interruptibly.
+     * @return {@code True} if there are no readers, {@code false} if the deadline is reached.
+     * @throws InterruptedException If interrupted.
+     */
+    private boolean awaitReaders(boolean timed, long deadline, boolean interruptibly) throws InterruptedException {
+        for (int i = 0; i <= mask; i++) {
+            int spins = 0;
+
+            while (readers.get(i * PAD) != 0) {
+                if (interruptibly && Thread.interrupted())
+                    throw new InterruptedException();
+
+                if (timed && deadline - System.nanoTime() <= 0)
+                    return false;
+
+                if (++spins < SPINS)
+                    Thread.onSpinWait();
+                else
+                    LockSupport.parkNanos(PARK_NANOS);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Read lock holds of a thread.
+     */
+    private static class ReadHolder {
+        /** Stripe counter index. */
+        private final int idx;
+
+        /** Hold count. */
+        private int cnt;
+
+        /** Timestamp of the first hold. */
+        private long ts;
+
+        /**
+         * @param idx Stripe counter index.
+         */
+        private ReadHolder(int idx) {
+            this.idx = idx;
+        }
+    }
+
+    /**
+     * Read lock.
+     */
+    private class ReadLock implements Lock {
+        /** {@inheritDoc} */
+        @Override public void lock() {
+            ReadHolder h = holder.get();
+
+            if (!tryReenter(h)) {
+                while (!tryAcquire(h)) {
+                    // Wait for the writer.
+                    gate.readLock().lock();
+                    gate.readLock().unlock();
+                }
+            }
+
+            onAcquired(h);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void lockInterruptibly() throws InterruptedException {
+            ReadHolder h = holder.get();
+
+            if (Thread.interrupted())
+                throw new InterruptedException();
+
+            if (!tryReenter(h)) {
+                while (!tryAcquire(h)) {
+                    gate.readLock().lockInterruptibly();
+                    gate.readLock().unlock();
+                }
+            }
+
+            onAcquired(h);
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean tryLock() {
+            ReadHolder h = holder.get();
+
+            if (!tryReenter(h) && !tryAcquire(h))
+                return false;
+
+            onAcquired(h);
+
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean tryLock(long time, @NotNull TimeUnit unit) throws InterruptedException {
+            ReadHolder h = holder.get();
+
+            if (Thread.interrupted())
+                throw new InterruptedException();
+
+            if (!tryReenter(h)) {
+                long deadline = System.nanoTime() + unit.toNanos(time);
+
+                while (!tryAcquire(h)) {
+                    if (!gate.readLock().tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS))
+                        return false;
+
+                    gate.readLock().unlock();
+                }
+            }
+
+            onAcquired(h);
+
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void unlock() {
+            ReadHolder h = holder.get();
+
+            if (h.cnt == 0)
+                throw new IllegalMonitorStateException("Read lock is not held by the current thread.");
+
+            if (--h.cnt > 0)
+                return;
+
+            readers.decrementAndGet(h.idx);
+
+            if (log != null) {
+                long holdTime = U.currentTimeMillis() - h.ts;
+
+                if (holdTime > readLockThreshold) {
+                    GridStringBuilder sb = new GridStringBuilder();
+
+                    sb.a(LOCK_HOLD_MESSAGE + holdTime + " ms." + nl());
+
+                    U.printStackTrace(Thread.currentThread().getId(), sb);
+
+                    U.warn(log, sb.toString());
+                }
+            }
+        }
+
+        /** {@inheritDoc} */
+        @NotNull @Override public Condition newCondition() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * @param h Read holder.
+         * @return {@code True} if the lock is already held by the current thread.
+         */
+        private boolean tryReenter(ReadHolder h) {
+            if (h.cnt > 0)
+                return true;
+
+            // Downgrade, the writer does not wait for itself.
+            if (gate.isWriteLockedByCurrentThread()) {
+                readers.incrementAndGet(h.idx);
+
+                return true;
+            }
+
+            return false;
+        }
+
+        /**
+         * Tries to acquire the lock for the first time. If failed, the caller should wait for the writer on the gate.
+         *
+         * @param h Read holder.
+         * @return {@code True} if the lock is acquired.
+         */
+        private boolean tryAcquire(ReadHolder h) {
+            readers.incrementAndGet(h.idx);
+
+            if (!writer)
+                return true;
+
+            readers.decrementAndGet(h.idx);
+
+            return false;
+        }
+
+        /**
+         * @param h Read holder.
+         */
+        private void onAcquired(ReadHolder h) {
+            if (h.cnt++ == 0 && log != null)
+                h.ts = U.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Write lock.
+     */
+    private class WriteLock implements Lock {
+        /** {@inheritDoc} */
+        @Override public void lock() {
+            gate.writeLock().lock();
+
+            try {
+                acquire(false, 0, false);
+            }
+            catch (InterruptedException ignore) {
+                assert false : "Should never happen";
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override public void lockInterruptibly() throws InterruptedException {
+            gate.writeLock().lockInterruptibly();
+
+            acquire(false, 0, true);
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean tryLock() {
+            if (!gate.writeLock().tryLock())
+                return false;
+
+            try {
+                return acquire(true, System.nanoTime(), false);
+            }
+            catch (InterruptedException ignore) {
+                assert false : "Should never happen";
+
+                return false;
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean tryLock(long time, @NotNull TimeUnit unit) throws InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(time);
+
+            if (!gate.writeLock().tryLock(time, unit))
+                return false;
+
+            return acquire(true, deadline, true);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void unlock() {
+            if (gate.getWriteHoldCount() == 1)
+                writer = false;
+
+            gate.writeLock().unlock();
+        }
+
+        /** {@inheritDoc} */
+        @NotNull @Override public Condition newCondition() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Waits for the readers with the gate write lock held. Releases the gate if failed.
+         *
+         * @param timed Whether to wait until the deadline only.
+         * @param deadline Deadline in nanoseconds.
+         * @param interruptibly Whether to wait interruptibly.
+         * @return {@code True} if the write lock is acquired.
+         * @throws InterruptedException If interrupted.
+         */
+        private boolean acquire(boolean timed, long deadline, boolean interruptibly) throws InterruptedException {
+            // Reentrant write lock, the readers are already drained.
+            if (gate.getWriteHoldCount() > 1)
+                return true;
+
+            writer = true;
+
+            boolean res = false;
+
+            try {
+                res = awaitReaders(timed, deadline, interruptibly);
+
+                return res;
+            }
+            finally {
+                if (!res) {
+                    writer = false;
+
+                    gate.writeLock().unlock();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util;
+
+import java.util.concurrent.locks.ReadWriteLock;
+
+/**
+ * Reentrant read write lock which can report read lock holders exceeding the hold time threshold.
+ */
+public interface TrackingReadWriteLock extends ReadWriteLock {
+    /**
+     * @return Read lock hold time threshold to report holders after.
+     */
+    public long lockWaitThreshold();
+
+    /**
+     * Queries if the write lock is held by the current thread.
+     *
+     * @return {@code true} if the current thread holds the write lock and
+     *         {@code false} otherwise
+     */
+    public boolean isWriteLockedByCurrentThread();
+
+    /**
+     * Queries the number of reentrant read holds on this lock by the current thread.
+     *
+     * @return the number of holds on the read lock by the current thread,
+     *         or zero if the read lock is not held by the current thread
+     */
+    public int getReadHoldCount();
+
+    /**
+     * Queries the number of read locks held for this lock. This method is designed for use in monitoring system state,
+     * not for synchronization control.
+     *
+     * @return the number of read locks held
+     */
+    public int getReadLockCount();
+}
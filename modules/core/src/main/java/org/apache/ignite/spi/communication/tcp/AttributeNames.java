@@ -44,6 +44,9 @@ public class AttributeNames {
     /** */
     private final String forceClientServerConnections;
 
+    /** Unix domain socket path. */
+    private final String udsPath;
+
     /**
      * @param pairedConn Paired connection.
      * @param addrs Addresses.
@@ -51,6 +54,7 @@ public class AttributeNames {
      * @param extAttrs Externalizable attributes.
      * @param port Port.
      * @param forceClientServerConnections Force client server connections.
+     * @param udsPath Unix domain socket path.
      */
     public AttributeNames(
         String pairedConn,
@@ -58,13 +62,15 @@ public class AttributeNames {
         String hostNames,
         String extAttrs,
         String port,
-        String forceClientServerConnections) {
+        String forceClientServerConnections,
+        String udsPath) {
         this.pairedConn = pairedConn;
         this.addrs = addrs;
         this.hostNames = hostNames;
         this.extAttrs = extAttrs;
         this.port = port;
         this.forceClientServerConnections = forceClientServerConnections;
+        this.udsPath = udsPath;
     }
 
     /**
@@ -108,4 +114,11 @@ public class AttributeNames {
     public String getForceClientServerConnections() {
         return forceClientServerConnections;
     }
+
+    /**
+     * @return Unix domain socket path.
+     */
+    public String unixDomainSocketPath() {
+        return udsPath;
+    }
 }
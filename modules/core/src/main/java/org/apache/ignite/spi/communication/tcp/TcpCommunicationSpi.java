@@ -20,6 +20,7 @@ package org.apache.ignite.spi.communication.tcp;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.nio.channels.Channel;
+import java.nio.file.Paths;
 import java.util.BitSet;
 import java.util.Collection;
 import java.util.List;
@@ -141,6 +142,9 @@ import static org.apache.ignite.spi.communication.tcp.internal.TcpConnectionInde
  * <li>Direct or heap buffer allocation for sending (see {@link #setDirectSendBuffer(boolean)})</li>
  * <li>Count of selectors and selector threads for NIO server (see {@link #setSelectorsCount(int)})</li>
  * <li>Selector thread busy-loop iterations (see {@link #setSelectorSpins(long)}</li>
+ * <li>Maximum delay of a write to batch the messages (see {@link #setMessageBatchDelay(long)})</li>
+ * <li>Size of a batch written without delay (see {@link #setMessageBatchSize(int)})</li>
+ * <li>Directory of unix domain socket files for co-located nodes (see {@link #setUnixDomainSocketDirectory(String)})</li>
  * <li>{@code TCP_NODELAY} socket option for sockets (see {@link #setTcpNoDelay(boolean)})</li>
  * <li>Filter reachable addresses (see {@link #setFilterReachableAddresses(boolean)} </li>
  * <li>Message queue limit (see {@link #setMessageQueueLimit(int)})</li>
@@ -211,6 +215,9 @@ public class TcpCommunicationSpi extends TcpCommunicationConfigInitializer {
     /** Attr paired connection. */
     public static final String ATTR_PAIRED_CONN = "comm.tcp.pairedConnection";
 
+    /** Node attribute that is mapped to node unix domain socket path (value is <tt>comm.tcp.uds.path</tt>). */
+    public static final String ATTR_UDS_PATH = "comm.tcp.uds.path";
+
     /** Default port which node sets listener to (value is <tt>47100</tt>). */
     public static final int DFLT_PORT = 47100;
 
@@ -252,6 +259,12 @@ public class TcpCommunicationSpi extends TcpCommunicationConfigInitializer {
     /** Default value for {@code TCP_NODELAY} socket option (value is <tt>true</tt>). */
     public static final boolean DFLT_TCP_NODELAY = true;
 
+    /** Default maximum delay of a write to batch the messages (value is <tt>0</tt>, micro-batching is disabled). */
+    public static final long DFLT_MSG_BATCH_DELAY = 0;
+
+    /** Default number of serialized bytes that are written without waiting for more messages. */
+    public static final int DFLT_MSG_BATCH_SIZE = GridNioServer.DFLT_MSG_BATCH_SIZE;
+
     /** Default value for {@code FILTER_REACHABLE_ADDRESSES} socket option (value is <tt>false</tt>). */
     public static final boolean DFLT_FILTER_REACHABLE_ADDRESSES = false;
 
@@ -575,7 +588,8 @@ public class TcpCommunicationSpi extends TcpCommunicationConfigInitializer {
             createSpiAttributeName(ATTR_HOST_NAMES),
             createSpiAttributeName(ATTR_EXT_ADDRS),
             createSpiAttributeName(ATTR_PORT),
-            createSpiAttributeName(ATTR_FORCE_CLIENT_SERVER_CONNECTIONS));
+            createSpiAttributeName(ATTR_FORCE_CLIENT_SERVER_CONNECTIONS),
+            createSpiAttributeName(ATTR_UDS_PATH));
 
         boolean client = Boolean.TRUE.equals(ignite().configuration().isClientMode());
 
@@ -596,6 +610,13 @@ public class TcpCommunicationSpi extends TcpCommunicationConfigInitializer {
             throw new IgniteSpiException("Failed to initialize local address: " + cfg.localAddress(), e);
         }
 
+        if (cfg.unixDomainSocketDirectory() != null) {
+            UUID locNodeId = ((IgniteEx)ignite).context().localNodeId();
+
+            cfg.unixDomainSocketPath(
+                Paths.get(cfg.unixDomainSocketDirectory(), "ignite-comm-" + locNodeId + ".sock").toString());
+        }
+
         if (cfg.connectionsPerNode() > 1)
             connPlc = new RoundRobinConnectionPolicy(cfg.connectionsPerNode());
         else
@@ -728,6 +749,7 @@ public class TcpCommunicationSpi extends TcpCommunicationConfigInitializer {
             log.debug(configInfo("sockRcvBuf", cfg.socketReceiveBuffer()));
             log.debug(configInfo("msgQueueLimit", cfg.messageQueueLimit()));
             log.debug(configInfo("connectionsPerNode", cfg.connectionsPerNode()));
+            log.debug(configInfo("udsDir", cfg.unixDomainSocketDirectory()));
 
             if (failureDetectionTimeoutEnabled()) {
                 log.debug(configInfo("connTimeout", cfg.connectionTimeout()));
@@ -216,6 +216,30 @@ public interface TcpCommunicationSpiMBean extends IgniteSpiManagementMBean {
     @MXBeanDescription("Selector thread busy-loop iterations.")
     public long getSelectorSpins();
 
+    /**
+     * Gets maximum delay of a write to batch the messages in microseconds.
+     *
+     * @return Maximum delay of a write to batch the messages in microseconds.
+     */
+    @MXBeanDescription("Maximum delay of a write to batch the messages in microseconds.")
+    public long getMessageBatchDelay();
+
+    /**
+     * Gets number of serialized bytes that are written without waiting for more messages.
+     *
+     * @return Number of serialized bytes that are written without waiting for more messages.
+     */
+    @MXBeanDescription("Number of serialized bytes that are written without waiting for more messages.")
+    public int getMessageBatchSize();
+
+    /**
+     * Gets directory of the unix domain socket files.
+     *
+     * @return Directory of the unix domain socket files, {@code null} if unix domain sockets are disabled.
+     */
+    @MXBeanDescription("Directory of the unix domain socket files.")
+    public String getUnixDomainSocketDirectory();
+
     /**
      * Gets value for {@code TCP_NODELAY} socket option.
      *
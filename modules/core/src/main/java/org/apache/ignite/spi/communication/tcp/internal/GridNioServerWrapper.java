@@ -22,9 +22,13 @@ import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
 import java.nio.ByteOrder;
 import java.nio.channels.Channel;
 import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -80,6 +84,7 @@ import org.apache.ignite.internal.util.nio.GridSelectorNioSessionImpl;
 import org.apache.ignite.internal.util.nio.GridTcpNioCommunicationClient;
 import org.apache.ignite.internal.util.nio.ssl.GridNioSslFilter;
 import org.apache.ignite.internal.util.nio.ssl.GridSslMeta;
+import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.X;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.internal.worker.WorkersRegistry;
@@ -105,6 +110,7 @@ import org.apache.ignite.spi.communication.tcp.messages.RecoveryLastReceivedMess
 import org.apache.ignite.spi.discovery.IgniteDiscoveryThread;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_MACS;
 import static org.apache.ignite.internal.thread.pool.IgniteScheduledThreadPoolExecutor.newSingleThreadScheduledExecutor;
 import static org.apache.ignite.internal.util.nio.GridNioSessionMetaKey.SSL_META;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMMUNICATION_METRICS_GROUP_NAME;
@@ -216,6 +222,10 @@ public class GridNioServerWrapper {
     private final int msgQueueWarningSize = IgniteSystemProperties.getInteger(
         IgniteSystemProperties.IGNITE_TCP_COMM_MSG_QUEUE_WARN_SIZE, 0);
 
+    /** Number of buffers flushed with a single gathering write. */
+    private final int gatheringWriteBufs = IgniteSystemProperties.getInteger(
+        IgniteSystemProperties.IGNITE_TCP_COMM_GATHERING_WRITE_BUFFERS, 0);
+
     /** NIO server. */
     private GridNioServer<Message> nioSrv;
 
@@ -391,9 +401,21 @@ public class GridNioServerWrapper {
         Set<InetSocketAddress> failedAddrsSet = new HashSet<>();
         int skippedAddrs = 0;
 
-        for (InetSocketAddress addr : addrs) {
-            if (addr.isUnresolved()) {
-                failedAddrsSet.add(addr);
+        List<SocketAddress> connAddrs = new ArrayList<>(addrs.size() + 1);
+
+        UnixDomainSocketAddress udsAddr = unixDomainSocketAddress(node);
+
+        // Co-located node is connected over unix domain socket first, TCP addresses are used if it fails.
+        if (udsAddr != null)
+            connAddrs.add(udsAddr);
+
+        connAddrs.addAll(addrs);
+
+        for (SocketAddress addr : connAddrs) {
+            boolean uds = addr instanceof UnixDomainSocketAddress;
+
+            if (!uds && ((InetSocketAddress)addr).isUnresolved()) {
+                failedAddrsSet.add((InetSocketAddress)addr);
 
                 continue;
             }
@@ -408,7 +430,7 @@ public class GridNioServerWrapper {
                 if (stopping)
                     throw new IgniteSpiException("Node is stopping.");
 
-                if (isLocalNodeAddress(addr)) {
+                if (!uds && isLocalNodeAddress((InetSocketAddress)addr)) {
                     if (log.isDebugEnabled())
                         log.debug("Skipping local address [addr=" + addr +
                             ", locAddrs=" + node.attribute(attrs.addresses()) +
@@ -427,18 +449,21 @@ public class GridNioServerWrapper {
                     if (nodeGetter.apply(node.id()) == null)
                         throw new ClusterTopologyCheckedException("Failed to send message (node left topology): " + node);
 
-                    SocketChannel ch = socketChannelFactory.get();
+                    SocketChannel ch = uds ?
+                        SocketChannel.open(StandardProtocolFamily.UNIX) : socketChannelFactory.get();
 
                     ch.configureBlocking(true);
 
-                    ch.socket().setTcpNoDelay(cfg.tcpNoDelay());
-                    ch.socket().setKeepAlive(true);
+                    if (!uds) {
+                        ch.socket().setTcpNoDelay(cfg.tcpNoDelay());
+                        ch.socket().setKeepAlive(true);
 
-                    if (cfg.socketReceiveBuffer() > 0)
-                        ch.socket().setReceiveBufferSize(cfg.socketReceiveBuffer());
+                        if (cfg.socketReceiveBuffer() > 0)
+                            ch.socket().setReceiveBufferSize(cfg.socketReceiveBuffer());
 
-                    if (cfg.socketSendBuffer() > 0)
-                        ch.socket().setSendBufferSize(cfg.socketSendBuffer());
+                        if (cfg.socketSendBuffer() > 0)
+                            ch.socket().setSendBufferSize(cfg.socketSendBuffer());
+                    }
 
                     ConnectionKey connKey = new ConnectionKey(node.id(), connIdx, -1);
 
@@ -470,7 +495,11 @@ public class GridNioServerWrapper {
                     try {
                         timeout = connTimeoutStgy.nextTimeout();
 
-                        ch.socket().connect(addr, (int)timeout);
+                        // Connection to the local unix domain socket either succeeds or fails immediately.
+                        if (uds)
+                            ch.connect(addr);
+                        else
+                            ch.socket().connect(addr, (int)timeout);
 
                         if (nodeGetter.apply(node.id()) == null)
                             throw new ClusterTopologyCheckedException("Failed to send message (node left topology): " + node);
@@ -551,6 +580,12 @@ public class GridNioServerWrapper {
                         ses = null;
                     }
 
+                    if (uds) {
+                        onUnixDomainSocketFailure(node, addr, e);
+
+                        break;
+                    }
+
                     eRegistrySupplier.get().onException(
                         "Handshake timed out (will retry with increased timeout) [connTimeoutStrategy=" + connTimeoutStgy +
                         ", addr=" + addr + ']', e);
@@ -591,6 +626,12 @@ public class GridNioServerWrapper {
                         ses = null;
                     }
 
+                    if (uds) {
+                        onUnixDomainSocketFailure(node, addr, e);
+
+                        break;
+                    }
+
                     eRegistrySupplier.get().onException("Client creation failed [addr=" + addr + ", err=" + e + ']', e);
 
                     if (log.isDebugEnabled())
@@ -622,7 +663,7 @@ public class GridNioServerWrapper {
 
                     // Inverse communication protocol works only for client nodes.
                     if (node.isClient() && isNodeUnreachableException(e))
-                        failedAddrsSet.add(addr);
+                        failedAddrsSet.add((InetSocketAddress)addr);
 
                     if (isRecoverableException(e))
                         U.sleep(DFLT_RECONNECT_DELAY);
@@ -674,6 +715,40 @@ public class GridNioServerWrapper {
         return ses;
     }
 
+    /**
+     * @param node Remote node.
+     * @return Unix domain socket address of the remote node if it runs on the same host, {@code null} if the nodes
+     *      have to connect over TCP.
+     */
+    @Nullable private UnixDomainSocketAddress unixDomainSocketAddress(ClusterNode node) {
+        if (cfg.unixDomainSocketDirectory() == null)
+            return null;
+
+        String rmtPath = node.attribute(attrs.unixDomainSocketPath());
+
+        if (rmtPath == null)
+            return null;
+
+        ClusterNode locNode = locNodeSupplier.get();
+
+        // Nodes are considered co-located if they report the same non-empty MAC addresses.
+        if (locNode == null || F.isEmpty((String)locNode.attribute(ATTR_MACS)) || !U.sameMacs(locNode, node))
+            return null;
+
+        return UnixDomainSocketAddress.of(rmtPath);
+    }
+
+    /**
+     * @param node Remote node.
+     * @param addr Unix domain socket address.
+     * @param e Error.
+     */
+    private void onUnixDomainSocketFailure(ClusterNode node, SocketAddress addr, Exception e) {
+        if (log.isDebugEnabled())
+            log.debug("Failed to connect over unix domain socket, will connect over TCP [node=" + node.id() +
+                ", addr=" + addr + ", err=" + e + ']');
+    }
+
     /**
      * Checks if exception indicates that client is unreachable.
      *
@@ -930,6 +1005,8 @@ public class GridNioServerWrapper {
                 MetricRegistryImpl mreg = metricMgr != null ?
                     metricMgr.registry(COMMUNICATION_METRICS_GROUP_NAME) : null;
 
+                Path udsPath = cfg.unixDomainSocketPath() == null ? null : Paths.get(cfg.unixDomainSocketPath());
+
                 GridNioServer.Builder<Message> builder = GridNioServer.<Message>builder()
                     .address(cfg.localHost())
                     .port(port)
@@ -947,6 +1024,10 @@ public class GridNioServerWrapper {
                     .directMode(true)
                     .writeTimeout(cfg.socketWriteTimeout())
                     .selectorSpins(cfg.selectorSpins())
+                    .gatheringWriteBuffers(gatheringWriteBufs)
+                    .messageBatchDelay(cfg.messageBatchDelay())
+                    .messageBatchSize(cfg.messageBatchSize())
+                    .unixDomainSocketPath(udsPath)
                     .filters(filtersArr)
                     .writerFactory(writerFactory)
                     .skipRecoveryPredicate(skipRecoveryPred)
@@ -975,6 +1056,9 @@ public class GridNioServerWrapper {
                         ", locHost=" + cfg.localHost() +
                         ", selectorsCnt=" + cfg.selectorsCount() +
                         ", selectorSpins=" + srvr.selectorSpins() +
+                        ", gatheringWriteBufs=" + gatheringWriteBufs +
+                        ", msgBatchDelay=" + cfg.messageBatchDelay() +
+                        ", udsPath=" + srvr.unixDomainSocketPath() +
                         ", pairedConn=" + cfg.usePairedConnections() + ']');
                 }
 
@@ -29,6 +29,7 @@ import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.configuration.AddressResolver;
 import org.apache.ignite.configuration.IgniteConfiguration;
 import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.IgniteNodeAttributes;
 import org.apache.ignite.internal.processors.tracing.NoopTracing;
 import org.apache.ignite.internal.processors.tracing.Tracing;
 import org.apache.ignite.internal.util.typedef.F;
@@ -55,6 +56,7 @@ import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.ATTR_F
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.ATTR_HOST_NAMES;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.ATTR_PAIRED_CONN;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.ATTR_PORT;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.ATTR_UDS_PATH;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DISABLED_CLIENT_PORT;
 import static org.apache.ignite.spi.communication.tcp.internal.GridNioServerWrapper.MAX_CONN_PER_NODE;
 
@@ -550,6 +552,86 @@ public abstract class TcpCommunicationConfigInitializer extends IgniteSpiAdapter
         return (TcpCommunicationSpi)this;
     }
 
+    /**
+     * See {@link #setMessageBatchDelay(long)}.
+     *
+     * @return Maximum delay of a write to batch the messages in microseconds.
+     */
+    public long getMessageBatchDelay() {
+        return cfg.messageBatchDelay();
+    }
+
+    /**
+     * Sets the maximum delay of a write to batch the serialized messages of a connection with the messages queued
+     * next, so that they are sent with a single socket write. The delay grows with the average number of messages
+     * per write of the connection up to the given value, so the latency of a connection sending messages one by one
+     * is not affected. A write is not delayed once the batch reaches {@link #setMessageBatchSize(int)} bytes.
+     * <p>
+     * If not provided, default value is {@link TcpCommunicationSpi#DFLT_MSG_BATCH_DELAY} (micro-batching is disabled).
+     *
+     * @param msgBatchDelay Maximum delay in microseconds.
+     * @return {@code this} for chaining.
+     */
+    @IgniteSpiConfiguration(optional = true)
+    public TcpCommunicationSpi setMessageBatchDelay(long msgBatchDelay) {
+        cfg.messageBatchDelay(msgBatchDelay);
+
+        return (TcpCommunicationSpi)this;
+    }
+
+    /**
+     * See {@link #setMessageBatchSize(int)}.
+     *
+     * @return Number of serialized bytes that are written without waiting for more messages.
+     */
+    public int getMessageBatchSize() {
+        return cfg.messageBatchSize();
+    }
+
+    /**
+     * Sets the number of serialized bytes of a connection that are written without waiting for more messages
+     * when the micro-batching is enabled with {@link #setMessageBatchDelay(long)}.
+     * <p>
+     * If not provided, default value is {@link TcpCommunicationSpi#DFLT_MSG_BATCH_SIZE}.
+     *
+     * @param msgBatchSize Batch size in bytes.
+     * @return {@code this} for chaining.
+     */
+    @IgniteSpiConfiguration(optional = true)
+    public TcpCommunicationSpi setMessageBatchSize(int msgBatchSize) {
+        cfg.messageBatchSize(msgBatchSize);
+
+        return (TcpCommunicationSpi)this;
+    }
+
+    /**
+     * See {@link #setUnixDomainSocketDirectory(String)}.
+     *
+     * @return Directory of the unix domain socket files, {@code null} if unix domain sockets are disabled.
+     */
+    public String getUnixDomainSocketDirectory() {
+        return cfg.unixDomainSocketDirectory();
+    }
+
+    /**
+     * Sets the directory where the node creates the unix domain socket file it listens on in addition to the TCP
+     * port. A node connects to the remote node over the unix domain socket instead of TCP if both nodes have it
+     * enabled and report the same MAC addresses (see {@link IgniteNodeAttributes#ATTR_MACS_OVERRIDE}), so the
+     * directory has to be shared by the nodes co-located on a host. The node falls back to TCP if the connection
+     * over the unix domain socket fails.
+     * <p>
+     * If not provided, unix domain sockets are disabled.
+     *
+     * @param udsDir Directory of the unix domain socket files.
+     * @return {@code this} for chaining.
+     */
+    @IgniteSpiConfiguration(optional = true)
+    public TcpCommunicationSpi setUnixDomainSocketDirectory(String udsDir) {
+        cfg.unixDomainSocketDirectory(udsDir);
+
+        return (TcpCommunicationSpi)this;
+    }
+
     /** */
     public void setConnectionRequestor(ConnectionRequestor connectionRequestor) {
         cfg.connectionRequestor(connectionRequestor);
@@ -796,6 +878,8 @@ public abstract class TcpCommunicationConfigInitializer extends IgniteSpiAdapter
         assertParameter(cfg.socketSendBuffer() >= 0, "sockSndBuf >= 0");
         assertParameter(cfg.messageQueueLimit() >= 0, "msgQueueLimit >= 0");
         assertParameter(cfg.selectorsCount() > 0, "selectorsCnt > 0");
+        assertParameter(cfg.messageBatchDelay() >= 0, "msgBatchDelay >= 0");
+        assertParameter(cfg.messageBatchSize() > 0, "msgBatchSize > 0");
         assertParameter(cfg.connectionsPerNode() > 0, "connectionsPerNode > 0");
         assertParameter(cfg.connectionsPerNode() <= MAX_CONN_PER_NODE, "connectionsPerNode <= 1024");
 
@@ -841,6 +925,9 @@ public abstract class TcpCommunicationConfigInitializer extends IgniteSpiAdapter
             res.put(createSpiAttributeName(ATTR_PAIRED_CONN), cfg.usePairedConnections());
             res.put(createSpiAttributeName(ATTR_FORCE_CLIENT_SERVER_CONNECTIONS), cfg.forceClientToSrvConnections());
 
+            if (cfg.unixDomainSocketPath() != null && cfg.boundTcpPort() != -1)
+                res.put(createSpiAttributeName(ATTR_UDS_PATH), cfg.unixDomainSocketPath());
+
             return res;
         }
         catch (IOException | IgniteCheckedException e) {
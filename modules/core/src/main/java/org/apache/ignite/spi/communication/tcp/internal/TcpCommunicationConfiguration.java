@@ -33,6 +33,8 @@ import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_C
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_FILTER_REACHABLE_ADDRESSES;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_IDLE_CONN_TIMEOUT;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_MAX_CONN_TIMEOUT;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_MSG_BATCH_DELAY;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_MSG_BATCH_SIZE;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_MSG_QUEUE_LIMIT;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_PORT;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_PORT_RANGE;
@@ -121,6 +123,12 @@ public class TcpCommunicationConfiguration implements Serializable {
     /** Bound port. */
     private int boundTcpPort = -1;
 
+    /** Directory of the unix domain socket files, {@code null} if unix domain sockets are disabled. */
+    private String udsDir;
+
+    /** Unix domain socket path the local node listens on, {@code null} if none. */
+    private volatile String udsPath;
+
     /** Count of selectors to use in TCP server. */
     private int selectorsCnt = DFLT_SELECTORS_CNT;
 
@@ -145,6 +153,12 @@ public class TcpCommunicationConfiguration implements Serializable {
      */
     private long selectorSpins = IgniteSystemProperties.getLong(IGNITE_SELECTOR_SPINS, DFLT_SELECTOR_SPINS);
 
+    /** Maximum delay of a write to batch the messages in microseconds. */
+    private long msgBatchDelay = DFLT_MSG_BATCH_DELAY;
+
+    /** Number of serialized bytes that are written without waiting for more messages. */
+    private int msgBatchSize = DFLT_MSG_BATCH_SIZE;
+
     /**
      *
      */
@@ -445,6 +459,34 @@ public class TcpCommunicationConfiguration implements Serializable {
         this.boundTcpPort = boundTcpPort;
     }
 
+    /**
+     * @return Directory of the unix domain socket files, {@code null} if unix domain sockets are disabled.
+     */
+    public String unixDomainSocketDirectory() {
+        return udsDir;
+    }
+
+    /**
+     * @param udsDir Directory of the unix domain socket files, {@code null} to disable unix domain sockets.
+     */
+    public void unixDomainSocketDirectory(String udsDir) {
+        this.udsDir = udsDir;
+    }
+
+    /**
+     * @return Unix domain socket path the local node listens on, {@code null} if none.
+     */
+    public String unixDomainSocketPath() {
+        return udsPath;
+    }
+
+    /**
+     * @param udsPath Unix domain socket path the local node listens on.
+     */
+    public void unixDomainSocketPath(String udsPath) {
+        this.udsPath = udsPath;
+    }
+
     /**
      * @return Count of selectors to use in TCP server.
      */
@@ -489,6 +531,34 @@ public class TcpCommunicationConfiguration implements Serializable {
         this.selectorSpins = selectorSpins;
     }
 
+    /**
+     * @return Maximum delay of a write to batch the messages in microseconds.
+     */
+    public long messageBatchDelay() {
+        return msgBatchDelay;
+    }
+
+    /**
+     * @param msgBatchDelay Maximum delay of a write to batch the messages in microseconds.
+     */
+    public void messageBatchDelay(long msgBatchDelay) {
+        this.msgBatchDelay = msgBatchDelay;
+    }
+
+    /**
+     * @return Number of serialized bytes that are written without waiting for more messages.
+     */
+    public int messageBatchSize() {
+        return msgBatchSize;
+    }
+
+    /**
+     * @param msgBatchSize Number of serialized bytes that are written without waiting for more messages.
+     */
+    public void messageBatchSize(int msgBatchSize) {
+        this.msgBatchSize = msgBatchSize;
+    }
+
     /**
      * @return Slow client queue limit.
      */
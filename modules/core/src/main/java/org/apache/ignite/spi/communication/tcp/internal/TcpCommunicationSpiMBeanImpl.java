@@ -135,6 +135,21 @@ public class TcpCommunicationSpiMBeanImpl extends IgniteSpiMBeanAdapter implemen
         return cfg.selectorSpins();
     }
 
+    /** {@inheritDoc} */
+    @Override public long getMessageBatchDelay() {
+        return cfg.messageBatchDelay();
+    }
+
+    /** {@inheritDoc} */
+    @Override public int getMessageBatchSize() {
+        return cfg.messageBatchSize();
+    }
+
+    /** {@inheritDoc} */
+    @Override public String getUnixDomainSocketDirectory() {
+        return cfg.unixDomainSocketDirectory();
+    }
+
     /** {@inheritDoc} */
     @Override public boolean isTcpNoDelay() {
         return cfg.tcpNoDelay();
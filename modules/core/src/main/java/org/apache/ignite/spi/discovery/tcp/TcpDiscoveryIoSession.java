@@ -49,12 +49,9 @@ import org.jetbrains.annotations.Nullable;
  * Handles I/O operations between discovery nodes in the cluster. This class encapsulates the socket connection used
  * by the {@link TcpDiscoverySpi} to exchange discovery protocol messages between nodes.
  * <p>
- * Currently, there are two modes for message serialization:
- * <ul>
- *     <li>Using {@link MessageSerializer} for messages implementing the {@link Message} interface.</li>
- *     <li>Deprecated: Using {@link JdkMarshaller} for messages that have not yet been refactored.</li>
- * </ul>
- * A leading byte is used to distinguish between the modes. The byte will be removed in future.
+ * All the discovery messages implement the {@link Message} interface and are serialized with the generated
+ * {@link MessageSerializer}. Only the values which have no direct representation, like node attributes of custom
+ * types, are serialized with {@link JdkMarshaller} inside the messages.
  */
 public class TcpDiscoveryIoSession {
     /** Default size of buffer used for buffering socket in/out. */
@@ -83,7 +83,7 @@ public class TcpDiscoveryNode extends GridMetadataAwareAdapter implements Ignite
     @GridToStringExclude
     private Map<String, Object> attrs;
 
-    /** Serialized {@link #attrs}. */
+    /** Serialized {@link #attrs} which are not written directly. */
     @Order(2)
     byte[] attrsBytes;
 
@@ -158,6 +158,26 @@ public class TcpDiscoveryNode extends GridMetadataAwareAdapter implements Ignite
     @Order(10)
     UUID clientRouterNodeId;
 
+    /** Attributes with {@link String} values, written directly. */
+    @Order(11)
+    Map<String, String> strAttrs;
+
+    /** Attributes with {@link Boolean} values, written directly. */
+    @Order(12)
+    Map<String, Boolean> boolAttrs;
+
+    /** Attributes with {@link Integer} values, written directly. */
+    @Order(13)
+    Map<String, Integer> intAttrs;
+
+    /** Attributes with {@link Long} values, written directly. */
+    @Order(14)
+    Map<String, Long> longAttrs;
+
+    /** Attributes which {@link #attrsBytes} and the directly written attributes are prepared for. */
+    @GridToStringExclude
+    private transient volatile Map<String, Object> marshalledAttrs;
+
     /** */
     @GridToStringExclude
     private transient volatile InetSocketAddress lastSuccessfulAddr;
@@ -221,8 +241,14 @@ public class TcpDiscoveryNode extends GridMetadataAwareAdapter implements Ignite
 
     /** {@inheritDoc} */
     @Override public void prepareMarshal(Marshaller marsh) throws IgniteCheckedException {
-        if (attrs != null)
-            attrsBytes = U.marshal(marsh, attrs);
+        Map<String, Object> attrs0 = attrs;
+
+        // The same node is sent many times within topology snapshots, the attributes are immutable.
+        if (attrs0 != null && attrs0 != marshalledAttrs) {
+            marshalAttributes(attrs0, marsh);
+
+            marshalledAttrs = attrs0;
+        }
 
         if (consistentId != null)
             consistentIdBytes = U.marshal(marsh, consistentId);
@@ -232,8 +258,8 @@ public class TcpDiscoveryNode extends GridMetadataAwareAdapter implements Ignite
 
     /** {@inheritDoc} */
     @Override public void finishUnmarshal(Marshaller marsh, ClassLoader clsLdr) throws IgniteCheckedException {
-        if (attrsBytes != null)
-            attrs = U.unmarshal(marsh, attrsBytes, clsLdr);
+        if (attrsBytes != null || strAttrs != null || boolAttrs != null || intAttrs != null || longAttrs != null)
+            attrs = unmarshalAttributes(marsh, clsLdr);
 
         if (consistentIdBytes != null)
             consistentId = U.unmarshal(marsh, consistentIdBytes, clsLdr);
@@ -242,10 +268,77 @@ public class TcpDiscoveryNode extends GridMetadataAwareAdapter implements Ignite
             metrics = new ClusterMetricsSnapshot(metricsMsg);
 
         attrsBytes = null;
+        strAttrs = null;
+        boolAttrs = null;
+        intAttrs = null;
+        longAttrs = null;
         consistentIdBytes = null;
         metricsMsg = null;
     }
 
+    /**
+     * Writes the attributes of the most common types directly, the rest ones are serialized with the marshaller.
+     *
+     * @param attrs Attributes.
+     * @param marsh Marshaller.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void marshalAttributes(Map<String, Object> attrs, Marshaller marsh) throws IgniteCheckedException {
+        Map<String, String> strAttrs0 = new HashMap<>();
+        Map<String, Boolean> boolAttrs0 = new HashMap<>();
+        Map<String, Integer> intAttrs0 = new HashMap<>();
+        Map<String, Long> longAttrs0 = new HashMap<>();
+        Map<String, Object> otherAttrs = new HashMap<>();
+
+        for (Map.Entry<String, Object> e : attrs.entrySet()) {
+            Object val = e.getValue();
+
+            if (val instanceof String)
+                strAttrs0.put(e.getKey(), (String)val);
+            else if (val instanceof Boolean)
+                boolAttrs0.put(e.getKey(), (Boolean)val);
+            else if (val instanceof Integer)
+                intAttrs0.put(e.getKey(), (Integer)val);
+            else if (val instanceof Long)
+                longAttrs0.put(e.getKey(), (Long)val);
+            else
+                otherAttrs.put(e.getKey(), val);
+        }
+
+        attrsBytes = otherAttrs.isEmpty() ? null : U.marshal(marsh, otherAttrs);
+        strAttrs = strAttrs0.isEmpty() ? null : strAttrs0;
+        boolAttrs = boolAttrs0.isEmpty() ? null : boolAttrs0;
+        intAttrs = intAttrs0.isEmpty() ? null : intAttrs0;
+        longAttrs = longAttrs0.isEmpty() ? null : longAttrs0;
+    }
+
+    /**
+     * @param marsh Marshaller.
+     * @param clsLdr Class loader.
+     * @return Attributes.
+     * @throws IgniteCheckedException If failed.
+     */
+    private Map<String, Object> unmarshalAttributes(Marshaller marsh, ClassLoader clsLdr) throws IgniteCheckedException {
+        Map<String, Object> attrs0 = new HashMap<>();
+
+        if (attrsBytes != null)
+            attrs0.putAll(U.<Map<String, Object>>unmarshal(marsh, attrsBytes, clsLdr));
+
+        if (strAttrs != null)
+            attrs0.putAll(strAttrs);
+
+        if (boolAttrs != null)
+            attrs0.putAll(boolAttrs);
+
+        if (intAttrs != null)
+            attrs0.putAll(intAttrs);
+
+        if (longAttrs != null)
+            attrs0.putAll(longAttrs);
+
+        return Collections.unmodifiableMap(attrs0);
+    }
+
     /**
      * @return Last successfully connected address.
      */
@@ -17,10 +17,16 @@
 
 package org.apache.ignite.spi.discovery.tcp.messages;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
 import org.apache.ignite.internal.Order;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
 import org.apache.ignite.internal.util.tostring.GridToStringInclude;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.S;
@@ -58,14 +64,23 @@ public class TcpDiscoveryNodeAddedMessage extends TcpDiscoveryAbstractTraceableM
     @GridToStringInclude
     private transient Collection<TcpDiscoveryNode> clientTop;
 
-    /** Topology snapshots history. */
+    /** Topology snapshots history. Written as {@link #histNodes} and {@link #histSnapshots}. */
+    private Map<Long, Collection<TcpDiscoveryNode>> topHist;
+
+    /** Distinct nodes of the topology snapshots history, each of them is written once. */
+    @GridToStringExclude
     @Order(4)
-    Map<Long, Collection<TcpDiscoveryNode>> topHist;
+    @Nullable List<TcpDiscoveryNode> histNodes;
 
     /** Start time of the first grid node. */
     @Order(5)
     long gridStartTime;
 
+    /** Topology snapshots history as indexes of {@link #histNodes} by topology version. */
+    @GridToStringExclude
+    @Order(6)
+    @Nullable Map<Long, int[]> histSnapshots;
+
     /** Constructor for {@link MessageFactory}. */
     public TcpDiscoveryNodeAddedMessage() {
         // No-op.
@@ -106,6 +121,8 @@ public class TcpDiscoveryNodeAddedMessage extends TcpDiscoveryAbstractTraceableM
         top = msg.top;
         clientTop = msg.clientTop;
         topHist = msg.topHist;
+        histNodes = msg.histNodes;
+        histSnapshots = msg.histSnapshots;
         dataPacket = msg.dataPacket;
         gridStartTime = msg.gridStartTime;
     }
@@ -173,6 +190,23 @@ public class TcpDiscoveryNodeAddedMessage extends TcpDiscoveryAbstractTraceableM
      * @return Map with topology snapshots history.
      */
     public Map<Long, Collection<TcpDiscoveryNode>> topologyHistory() {
+        if (topHist == null && histSnapshots != null) {
+            Map<Long, Collection<TcpDiscoveryNode>> hist = new TreeMap<>();
+
+            for (Map.Entry<Long, int[]> e : histSnapshots.entrySet()) {
+                int[] idxs = e.getValue();
+
+                List<TcpDiscoveryNode> snapshot = new ArrayList<>(idxs.length);
+
+                for (int idx : idxs)
+                    snapshot.add(histNodes.get(idx));
+
+                hist.put(e.getKey(), snapshot);
+            }
+
+            topHist = hist;
+        }
+
         return topHist;
     }
 
@@ -183,6 +217,41 @@ public class TcpDiscoveryNodeAddedMessage extends TcpDiscoveryAbstractTraceableM
      */
     public void topologyHistory(@Nullable Map<Long, Collection<TcpDiscoveryNode>> topHist) {
         this.topHist = topHist;
+
+        if (topHist == null) {
+            histNodes = null;
+            histSnapshots = null;
+
+            return;
+        }
+
+        // Most of the nodes are the same in all the snapshots.
+        Map<TcpDiscoveryNode, Integer> nodeIdxs = new IdentityHashMap<>();
+        List<TcpDiscoveryNode> nodes = new ArrayList<>();
+        Map<Long, int[]> snapshots = new HashMap<>(topHist.size());
+
+        for (Map.Entry<Long, Collection<TcpDiscoveryNode>> e : topHist.entrySet()) {
+            int[] idxs = new int[e.getValue().size()];
+            int i = 0;
+
+            for (TcpDiscoveryNode node : e.getValue()) {
+                Integer idx = nodeIdxs.get(node);
+
+                if (idx == null) {
+                    idx = nodes.size();
+
+                    nodeIdxs.put(node, idx);
+                    nodes.add(node);
+                }
+
+                idxs[i++] = idx;
+            }
+
+            snapshots.put(e.getKey(), idxs);
+        }
+
+        histNodes = nodes;
+        histSnapshots = snapshots;
     }
 
     /** @return {@link DiscoveryDataPacket} carried by this message. */
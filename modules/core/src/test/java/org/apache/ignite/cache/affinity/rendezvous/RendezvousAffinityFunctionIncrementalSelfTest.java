@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.cache.affinity.rendezvous;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.apache.ignite.cache.affinity.AbstractAffinityFunctionSelfTest;
+import org.apache.ignite.cache.affinity.AffinityFunction;
+import org.apache.ignite.cluster.ClusterNode;
+import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
+import org.apache.ignite.internal.processors.affinity.GridAffinityFunctionContextImpl;
+import org.apache.ignite.testframework.GridTestNode;
+import org.junit.Test;
+
+/**
+ * Tests for {@link RendezvousAffinityFunction} with the incremental assignment.
+ */
+public class RendezvousAffinityFunctionIncrementalSelfTest extends AbstractAffinityFunctionSelfTest {
+    /** */
+    private static final int PARTS = 1024;
+
+    /** {@inheritDoc} */
+    @Override protected AffinityFunction affinityFunction() {
+        return new RendezvousAffinityFunction(false, PARTS).setIncrementalAssignment(true);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSameAsFullAssignment() throws Exception {
+        for (int backups = 0; backups < 4; backups++)
+            checkSameAsFullAssignment(backups);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testFullAssignmentWithBackupFilter() throws Exception {
+        RendezvousAffinityFunction aff = new RendezvousAffinityFunction(false, PARTS)
+            .setIncrementalAssignment(true)
+            .setAffinityBackupFilter((node, assigned) -> node.order() % 2 != assigned.get(0).order() % 2);
+
+        RendezvousAffinityFunction full = new RendezvousAffinityFunction(false, PARTS)
+            .setAffinityBackupFilter(aff.getAffinityBackupFilter());
+
+        List<ClusterNode> nodes = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            nodes.add(node(i));
+
+            assertEquals(assign(full, nodes, 1, i), assign(aff, nodes, 1, i));
+        }
+    }
+
+    /**
+     * Changes the topology randomly and compares the incremental assignment with the full one.
+     *
+     * @param backups Number of backups.
+     */
+    private void checkSameAsFullAssignment(int backups) {
+        RendezvousAffinityFunction aff = (RendezvousAffinityFunction)affinityFunction();
+        RendezvousAffinityFunction full = new RendezvousAffinityFunction(false, PARTS);
+
+        long seed = System.currentTimeMillis();
+
+        info("Seed: " + seed + ", backups=" + backups);
+
+        Random rnd = new Random(seed);
+
+        List<ClusterNode> nodes = new ArrayList<>();
+
+        int order = 0;
+
+        for (int i = 0; i < 5; i++)
+            nodes.add(node(order++));
+
+        for (int i = 0; i < 100; i++) {
+            int evts = 1 + rnd.nextInt(3);
+
+            // Several joins and leaves at once as in the merged exchanges.
+            for (int e = 0; e < evts; e++) {
+                if (nodes.size() > 1 && rnd.nextBoolean())
+                    nodes.remove(rnd.nextInt(nodes.size()));
+                else
+                    nodes.add(node(order++));
+            }
+
+            List<List<ClusterNode>> expected = assign(full, nodes, backups, i);
+            List<List<ClusterNode>> actual = assign(aff, nodes, backups, i);
+
+            assertEquals("Assignment differs [iter=" + i + ", nodes=" + nodes.size() + ']', expected, actual);
+        }
+    }
+
+    /**
+     * @param aff Affinity function.
+     * @param nodes Topology.
+     * @param backups Number of backups.
+     * @param ver Topology version.
+     * @return Assignment.
+     */
+    private static List<List<ClusterNode>> assign(
+        AffinityFunction aff,
+        List<ClusterNode> nodes,
+        int backups,
+        int ver
+    ) {
+        return aff.assignPartitions(new GridAffinityFunctionContextImpl(new ArrayList<>(nodes), null, null,
+            new AffinityTopologyVersion(ver), backups));
+    }
+
+    /**
+     * @param order Node order.
+     * @return Node.
+     */
+    private static ClusterNode node(int order) {
+        GridTestNode node = new GridTestNode(UUID.randomUUID());
+
+        node.order(order);
+
+        return node;
+    }
+}
@@ -243,6 +243,48 @@ public class GridCacheBalancingStoreSelfTest extends GridCommonAbstractTest {
         }, threads, "load-thread");
     }
 
+    /**
+     * Checks that concurrent single-key loads are de-duplicated and batched into bounded {@code loadAll} calls.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testConcurrentBatchLoad() throws Exception {
+        int threads = 16;
+        int rounds = 5;
+        int threshold = 4;
+
+        // Every key is loaded by two threads.
+        int keysPerRound = threads / 2;
+
+        CyclicBarrier beforeBarrier = new CyclicBarrier(threads);
+
+        AtomicInteger threadIdx = new AtomicInteger();
+
+        ConcurrentVerifyStore store = new ConcurrentVerifyStore(rounds * keysPerRound);
+
+        CacheStoreBalancingWrapper<Integer, Integer> wrapper =
+            new CacheStoreBalancingWrapper<>(store, threshold, 100_000);
+
+        GridTestUtils.runMultiThreaded(() -> {
+            int idx = threadIdx.getAndIncrement();
+
+            for (int i = 0; i < rounds; i++) {
+                beforeBarrier.await();
+
+                int key = i * keysPerRound + idx / 2;
+
+                assertEquals((Integer)key, wrapper.batchLoad(key));
+            }
+
+            return null;
+        }, threads, "load-thread");
+
+        assertEquals(0, store.loadCnt.get());
+        assertTrue("Too many batches: " + store.loadAllCnt.get(), store.loadAllCnt.get() < rounds * keysPerRound);
+        assertTrue("Too big batch: " + store.maxLoadAllSize.get(), store.maxLoadAllSize.get() <= threshold);
+    }
+
     /**
      *
      */
@@ -339,6 +381,15 @@ public class GridCacheBalancingStoreSelfTest extends GridCommonAbstractTest {
         /** Cnts. */
         private final AtomicInteger[] cnts;
 
+        /** Count of load calls. */
+        private final AtomicInteger loadCnt = new AtomicInteger();
+
+        /** Count of loadAll calls. */
+        private final AtomicInteger loadAllCnt = new AtomicInteger();
+
+        /** Maximum count of keys of a loadAll call. */
+        private final AtomicInteger maxLoadAllSize = new AtomicInteger();
+
         /**
          */
         private ConcurrentVerifyStore(int keys) {
@@ -350,6 +401,8 @@ public class GridCacheBalancingStoreSelfTest extends GridCommonAbstractTest {
 
         /** {@inheritDoc} */
         @Override public Integer load(Integer key) {
+            loadCnt.incrementAndGet();
+
             try {
                 U.sleep(500);
             }
@@ -384,6 +437,10 @@ public class GridCacheBalancingStoreSelfTest extends GridCommonAbstractTest {
                 loaded.put(key, key);
             }
 
+            loadAllCnt.incrementAndGet();
+
+            maxLoadAllSize.accumulateAndGet(loaded.size(), Math::max);
+
             return loaded;
         }
 
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.cdc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.cdc.CdcManager;
+import org.apache.ignite.internal.cdc.IgniteNodeActiveCdcManager;
+import org.apache.ignite.internal.pagemem.wal.WALIterator;
+import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.processors.metric.MetricRegistryImpl;
+import org.apache.ignite.plugin.AbstractTestPluginProvider;
+import org.apache.ignite.plugin.PluginContext;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.jetbrains.annotations.Nullable;
+import org.junit.Test;
+
+import static org.apache.ignite.cdc.AbstractCdcTest.ChangeEventType.UPDATE;
+import static org.apache.ignite.cluster.ClusterState.ACTIVE;
+import static org.apache.ignite.internal.cdc.IgniteNodeActiveCdcManager.ACTIVE_MARKER_FILE_NAME;
+import static org.apache.ignite.internal.cdc.IgniteNodeActiveCdcManager.CDC_MANAGER_METRICS;
+import static org.apache.ignite.internal.cdc.IgniteNodeActiveCdcManager.COMMITTED_RECS_CNT;
+import static org.apache.ignite.internal.cdc.IgniteNodeActiveCdcManager.DFLT_MAX_PENDING_BYTES;
+import static org.apache.ignite.internal.processors.cache.GridCacheUtils.cacheId;
+import static org.apache.ignite.testframework.GridTestUtils.waitForCondition;
+
+/** */
+public class IgniteNodeActiveCdcManagerTest extends AbstractCdcTest {
+    /** */
+    private static final int KEYS_CNT = 1_000;
+
+    /** */
+    private static volatile CdcConsumer cnsmr;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        cfg.setDataStorageConfiguration(new DataStorageConfiguration()
+            .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                .setPersistenceEnabled(true)
+                .setCdcEnabled(true)));
+
+        cfg.setPluginProviders(new InProcessCdcPluginProvider());
+
+        cfg.setCacheConfiguration(new CacheConfiguration<Integer, User>(DEFAULT_CACHE_NAME));
+
+        return cfg;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** */
+    @Test
+    public void testConsumeEvents() throws Exception {
+        UserCdcConsumer userCnsmr = new UserCdcConsumer();
+
+        cnsmr = userCnsmr;
+
+        IgniteEx ign = startGrid(0);
+
+        ign.cluster().state(ACTIVE);
+
+        assertTrue(cdcManager(ign).enabled());
+        assertTrue(Files.exists(marker(ign)));
+
+        awaitPartitionMapExchange();
+
+        IntStream.range(0, KEYS_CNT).forEach(i -> ign.cache(DEFAULT_CACHE_NAME).put(i, createUser(i)));
+
+        List<Integer> exp = IntStream.range(0, KEYS_CNT).boxed().collect(Collectors.toList());
+
+        assertTrue(waitForCondition(() -> exp.equals(userCnsmr.data(UPDATE, cacheId(DEFAULT_CACHE_NAME))), getTestTimeout()));
+
+        MetricRegistryImpl mreg = ign.context().metric().registry(CDC_MANAGER_METRICS);
+
+        assertTrue(waitForCondition(() -> mreg.<LongMetric>findMetric(COMMITTED_RECS_CNT).value() > 0, getTestTimeout()));
+
+        assertTrue(hasRecord(ign, WALRecord.RecordType.CDC_MANAGER_RECORD));
+        assertFalse(hasRecord(ign, WALRecord.RecordType.CDC_MANAGER_STOP_RECORD));
+
+        Path marker = marker(ign);
+
+        stopGrid(0);
+
+        assertFalse(Files.exists(marker));
+        assertTrue(userCnsmr.stopped());
+    }
+
+    /** */
+    @Test
+    public void testSwitchToCdcMainOnFailure() throws Exception {
+        cnsmr = new UserCdcConsumer() {
+            @Override public boolean onEvents(Iterator<CdcEvent> evts) {
+                throw new RuntimeException("Test failure.");
+            }
+        };
+
+        IgniteEx ign = startGrid(0);
+
+        ign.cluster().state(ACTIVE);
+
+        ign.cache(DEFAULT_CACHE_NAME).put(0, createUser(0));
+
+        assertTrue(waitForCondition(() -> !cdcManager(ign).enabled(), getTestTimeout()));
+        assertTrue(waitForCondition(() -> hasRecord(ign, WALRecord.RecordType.CDC_MANAGER_STOP_RECORD), getTestTimeout()));
+
+        // Marker is kept so the next node start doesn't capture events, CdcMain handles them instead.
+        assertTrue(Files.exists(marker(ign)));
+
+        stopGrid(0);
+
+        cnsmr = new UserCdcConsumer();
+
+        IgniteEx ign0 = startGrid(0);
+
+        ign0.cluster().state(ACTIVE);
+
+        assertFalse(cdcManager(ign0).enabled());
+    }
+
+    /** */
+    private static IgniteNodeActiveCdcManager cdcManager(IgniteEx ign) {
+        return (IgniteNodeActiveCdcManager)ign.context().cache().context().cdc();
+    }
+
+    /** */
+    private static Path marker(IgniteEx ign) {
+        return ign.context().pdsFolderResolver().fileTree().cdcState().resolve(ACTIVE_MARKER_FILE_NAME);
+    }
+
+    /** */
+    private static boolean hasRecord(IgniteEx ign, WALRecord.RecordType type) {
+        try (WALIterator it = ign.context().cache().context().wal(true).replay(null)) {
+            while (it.hasNext()) {
+                if (it.next().get2().type() == type)
+                    return true;
+            }
+
+            return false;
+        }
+        catch (Exception e) {
+            return false;
+        }
+    }
+
+    /** */
+    private static class InProcessCdcPluginProvider extends AbstractTestPluginProvider {
+        /** {@inheritDoc} */
+        @Override public String name() {
+            return "InProcessCdcPluginProvider";
+        }
+
+        /** {@inheritDoc} */
+        @Override public <T> @Nullable T createComponent(PluginContext ctx, Class<T> cls) {
+            if (CdcManager.class.equals(cls))
+                return (T)new IgniteNodeActiveCdcManager(cnsmr, DFLT_MAX_PENDING_BYTES, false);
+
+            return null;
+        }
+    }
+}
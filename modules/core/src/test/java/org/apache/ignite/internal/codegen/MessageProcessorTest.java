@@ -125,6 +125,20 @@ public class MessageProcessorTest {
         assertThat(compilation).failed();
     }
 
+    /** */
+    @Test
+    public void testPooledMessage() {
+        Compilation compilation = compile("TestPooledMessage.java");
+
+        assertThat(compilation).succeeded();
+
+        assertEquals(1, compilation.generatedSourceFiles().size());
+
+        assertThat(compilation)
+            .generatedSourceFile("org.apache.ignite.internal.TestPooledMessageSerializer")
+            .hasSourceEquivalentTo(javaFile("TestPooledMessageSerializer.java"));
+    }
+
     /** */
     @Test
     public void testInheritedMessages() {
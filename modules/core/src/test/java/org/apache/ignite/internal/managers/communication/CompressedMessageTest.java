@@ -120,9 +120,10 @@ public class CompressedMessageTest {
 
         writer.setBuffer(buf);
 
-        // Emulate a corrupted stream or an incompatible peer: dataSize > 0, non-final chunk, then the null-array
+        // Emulate a corrupted stream or an incompatible peer: dataSize > 0, codec, non-final chunk, then the null-array
         // marker (-1), which CompressedMessageSerializer.writeTo() never produces at the chunk position.
         writer.writeInt(100);
+        writer.writeByte(CompressedMessageCodecType.DEFLATE.id());
         writer.writeBoolean(false);
         writer.writeByteArray(null);
 
@@ -161,6 +162,43 @@ public class CompressedMessageTest {
             "Invalid compressed message data size");
     }
 
+    /** Read must fail fast on an unknown codec from the wire. */
+    @Test
+    public void testReadFailsOnUnknownCodec() {
+        DirectMessageWriter writer = new DirectMessageWriter(MSG_FACTORY);
+
+        ByteBuffer buf = ByteBuffer.allocate(16);
+
+        writer.setBuffer(buf);
+
+        writer.writeInt(100);
+        writer.writeByte((byte)42);
+
+        buf.flip();
+
+        DirectMessageReader reader = new DirectMessageReader(MSG_FACTORY, null);
+
+        reader.setBuffer(buf);
+
+        GridTestUtils.assertThrows(null,
+            () -> new CompressedMessageSerializer().readFrom(new CompressedMessage(), reader),
+            IgniteException.class,
+            "Unknown compressed message codec");
+    }
+
+    /** Uncompress must fail when the codec of the message is not available on the node. */
+    @Test
+    public void testDecompressFailsOnUnavailableCodec() {
+        CompressedMessage rcvd = new CompressedMessage();
+
+        rcvd.dataSize = 100;
+        rcvd.codec = CompressedMessageCodecType.ZSTD.id();
+        rcvd.finalChunk = true;
+
+        GridTestUtils.assertThrows(null, () -> CompressedMessageCodecs.DFLT.decompress(rcvd), IgniteException.class,
+            "Compressed message codec is not available");
+    }
+
     /** Uncompress must fail when dataSize > 0 but no chunks were received. */
     @Test
     public void testUncompressFailsWithoutChunks() {
@@ -169,7 +207,7 @@ public class CompressedMessageTest {
         rcvd.dataSize = 100;
         rcvd.finalChunk = true;
 
-        GridTestUtils.assertThrows(null, rcvd::uncompressed, IgniteException.class, "truncated");
+        GridTestUtils.assertThrows(null, () -> rcvd.uncompressed(), IgniteException.class, "truncated");
     }
 
     /** Uncompress must fail when the stream inflates to more bytes than the size header claims. */
@@ -185,7 +223,7 @@ public class CompressedMessageTest {
         rcvd.chunks = sent.chunks;
         rcvd.finalChunk = true;
 
-        GridTestUtils.assertThrows(null, rcvd::uncompressed, IgniteException.class, "longer than expected");
+        GridTestUtils.assertThrows(null, () -> rcvd.uncompressed(), IgniteException.class, "longer than expected");
     }
 
     /** Same as {@link #testUncompressFailsOnUnderstatedDataSize()}, but with a multi-chunk compressed stream. */
@@ -205,7 +243,7 @@ public class CompressedMessageTest {
         rcvd.chunks = sent.chunks;
         rcvd.finalChunk = true;
 
-        GridTestUtils.assertThrows(null, rcvd::uncompressed, IgniteException.class, "longer than expected");
+        GridTestUtils.assertThrows(null, () -> rcvd.uncompressed(), IgniteException.class, "longer than expected");
     }
 
     /** A complete envelope whose payload doesn't deserialize fully must fail instead of hanging as a partial read. */
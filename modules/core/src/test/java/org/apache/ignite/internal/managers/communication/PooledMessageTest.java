@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.managers.communication;
+
+import java.nio.ByteBuffer;
+import org.apache.ignite.internal.CoreMessagesProvider;
+import org.apache.ignite.internal.direct.DirectMessageReader;
+import org.apache.ignite.internal.direct.DirectMessageWriter;
+import org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridDhtAtomicDeferredUpdateResponse;
+import org.apache.ignite.internal.util.GridLongList;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.plugin.extensions.communication.Message;
+import org.apache.ignite.plugin.extensions.communication.MessageFactory;
+import org.apache.ignite.plugin.extensions.communication.MessageFactoryProvider;
+import org.junit.Test;
+
+import static org.apache.ignite.marshaller.Marshallers.jdk;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/** Test for the messages reused with {@link MessagePool}. */
+public class PooledMessageTest {
+    /** */
+    private final MessageFactory msgFactory = new IgniteMessageFactoryImpl(new MessageFactoryProvider[]{
+        new CoreMessagesProvider(jdk(), jdk(), U.gridClassLoader())});
+
+    /** */
+    @Test
+    public void testReadReusesReleasedMessage() {
+        MessagePool<GridDhtAtomicDeferredUpdateResponse> pool = pool();
+
+        GridDhtAtomicDeferredUpdateResponse msg = read(write(response(1, 10)), Integer.MAX_VALUE);
+
+        assertResponseEquals(response(1, 10), msg);
+
+        GridLongList futIds = msg.futureIds();
+        long[] arr = futIds.array();
+
+        pool.release(msg);
+
+        assertEquals(1, pool.size());
+
+        GridDhtAtomicDeferredUpdateResponse msg0 = read(write(response(2, 5)), Integer.MAX_VALUE);
+
+        assertSame(msg, msg0);
+        assertSame(futIds, msg0.futureIds());
+        assertSame(arr, msg0.futureIds().array());
+        assertResponseEquals(response(2, 5), msg0);
+        assertEquals(0, pool.size());
+    }
+
+    /** */
+    @Test
+    public void testReusedListGrows() {
+        MessagePool<GridDhtAtomicDeferredUpdateResponse> pool = pool();
+
+        GridDhtAtomicDeferredUpdateResponse msg = read(write(response(1, 5)), Integer.MAX_VALUE);
+
+        GridLongList futIds = msg.futureIds();
+
+        pool.release(msg);
+
+        GridDhtAtomicDeferredUpdateResponse msg0 = read(write(response(2, 500)), Integer.MAX_VALUE);
+
+        assertSame(msg, msg0);
+        assertSame(futIds, msg0.futureIds());
+        assertResponseEquals(response(2, 500), msg0);
+    }
+
+    /** */
+    @Test
+    public void testPartialRead() {
+        MessagePool<GridDhtAtomicDeferredUpdateResponse> pool = pool();
+
+        GridDhtAtomicDeferredUpdateResponse msg = read(write(response(1, 300)), Integer.MAX_VALUE);
+
+        pool.release(msg);
+
+        GridDhtAtomicDeferredUpdateResponse msg0 = read(write(response(2, 200)), 7);
+
+        assertSame(msg, msg0);
+        assertResponseEquals(response(2, 200), msg0);
+    }
+
+    /** */
+    @Test
+    public void testNotPooledMessageIsNotReused() {
+        Message msg = msgFactory.create(new GridIoMessage().directType());
+
+        assertNotSame(msg, msgFactory.create(msg.directType()));
+        assertFalse(msgFactory.serializer(msg.directType()) instanceof PooledMessageSerializer);
+    }
+
+    /**
+     * @return Pool of the deferred update responses.
+     */
+    private MessagePool<GridDhtAtomicDeferredUpdateResponse> pool() {
+        short type = new GridDhtAtomicDeferredUpdateResponse().directType();
+
+        return ((PooledMessageSerializer<GridDhtAtomicDeferredUpdateResponse>)msgFactory.serializer(type)).pool();
+    }
+
+    /**
+     * @param cacheId Cache ID.
+     * @param cnt Number of future IDs.
+     * @return Response.
+     */
+    private static GridDhtAtomicDeferredUpdateResponse response(int cacheId, int cnt) {
+        GridLongList futIds = new GridLongList();
+
+        for (int i = 0; i < cnt; i++)
+            futIds.add(cacheId * 1_000_000L + i);
+
+        return new GridDhtAtomicDeferredUpdateResponse(cacheId, futIds);
+    }
+
+    /**
+     * @param msg Message.
+     * @return Serialized message.
+     */
+    private byte[] write(Message msg) {
+        DirectMessageWriter writer = new DirectMessageWriter(msgFactory);
+
+        ByteBuffer buf = ByteBuffer.allocate(64 * 1024);
+
+        writer.setBuffer(buf);
+
+        assertTrue(writer.writeMessage(msg, false));
+
+        buf.flip();
+
+        byte[] bytes = new byte[buf.remaining()];
+
+        buf.get(bytes);
+
+        return bytes;
+    }
+
+    /**
+     * @param bytes Serialized message.
+     * @param chunkSize Size of the chunks the message is received by.
+     * @return Read message.
+     */
+    private GridDhtAtomicDeferredUpdateResponse read(byte[] bytes, int chunkSize) {
+        DirectMessageReader reader = new DirectMessageReader(msgFactory, null);
+
+        Message msg = null;
+
+        for (int off = 0; msg == null; off += chunkSize) {
+            assertTrue(off < bytes.length);
+
+            int len = Math.min(chunkSize, bytes.length - off);
+
+            ByteBuffer buf = ByteBuffer.allocate(len);
+
+            buf.put(bytes, off, len).flip();
+
+            reader.setBuffer(buf);
+
+            msg = reader.readMessage(false);
+        }
+
+        return (GridDhtAtomicDeferredUpdateResponse)msg;
+    }
+
+    /**
+     * @param exp Expected message.
+     * @param msg Actual message.
+     */
+    private static void assertResponseEquals(GridDhtAtomicDeferredUpdateResponse exp,
+        GridDhtAtomicDeferredUpdateResponse msg) {
+        assertEquals(exp.cacheId(), msg.cacheId());
+        assertEquals(exp.futureIds(), msg.futureIds());
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.TestRecordingCommunicationSpi;
+import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
+import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.CacheGroupPartitionsDelta;
+import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.CachePartitionFullCountersMap;
+import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionFullMap;
+import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionMap;
+import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionsFullMessage;
+import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
+import org.apache.ignite.internal.util.GridPartitionStateMap;
+import org.apache.ignite.internal.util.typedef.G;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_EXCHANGE_DELTA_PARTITION_MAPS;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.MOVING;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.OWNING;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.RENTING;
+import static org.apache.ignite.internal.processors.metric.GridMetricManager.PME_DELTA_FULL_MSGS;
+import static org.apache.ignite.internal.processors.metric.GridMetricManager.PME_FULL_MSGS;
+import static org.apache.ignite.internal.processors.metric.GridMetricManager.PME_METRICS;
+
+/**
+ * Checks full messages with partition maps written relative to the previous full messages.
+ */
+public class CacheExchangeDeltaPartitionMapsTest extends GridCommonAbstractTest {
+    /** */
+    private static final String CACHE1 = "cache1";
+
+    /** */
+    private static final String CACHE2 = "cache2";
+
+    /** Cache with the same affinity as {@link #CACHE1}, its partition maps are written as duplicated data. */
+    private static final String CACHE3 = "cache3";
+
+    /** */
+    private static final int KEYS_CNT = 1_000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        TestRecordingCommunicationSpi commSpi = new TestRecordingCommunicationSpi();
+
+        commSpi.record((node, msg) -> msg instanceof GridDhtPartitionsFullMessage &&
+            ((GridDhtPartitionsFullMessage)msg).exchangeId() != null);
+
+        return cfg.setCommunicationSpi(commSpi).setCacheConfiguration(
+            cacheConfiguration(CACHE1, 64, 1),
+            cacheConfiguration(CACHE2, 128, 2),
+            cacheConfiguration(CACHE3, 64, 1));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testDeltaFullMessages() throws Exception {
+        startGrids(3);
+
+        awaitPartitionMapExchange();
+
+        loadData();
+
+        startGrid(3);
+        startClientGrid(4);
+
+        awaitPartitionMapExchange();
+
+        stopGrid(2);
+
+        awaitPartitionMapExchange(true, true, null);
+
+        checkPartitionMaps();
+
+        assertTrue(deltaMessagesSent(grid(0)) > 0);
+        assertTrue(recordedDeltaMessages(grid(0)) > 0);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCoordinatorChange() throws Exception {
+        startGrids(4);
+
+        awaitPartitionMapExchange();
+
+        loadData();
+
+        stopGrid(0);
+
+        awaitPartitionMapExchange();
+
+        startGrid(0);
+
+        awaitPartitionMapExchange(true, true, null);
+
+        checkPartitionMaps();
+
+        assertTrue(deltaMessagesSent(grid(1)) > 0);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_EXCHANGE_DELTA_PARTITION_MAPS, value = "false")
+    public void testDisabled() throws Exception {
+        startGrids(3);
+
+        awaitPartitionMapExchange();
+
+        loadData();
+
+        startGrid(3);
+
+        awaitPartitionMapExchange(true, true, null);
+
+        checkPartitionMaps();
+
+        LongAdderMetric fullMsgs = grid(0).context().metric().registry(PME_METRICS).findMetric(PME_FULL_MSGS);
+
+        assertTrue(fullMsgs.value() > 0);
+        assertEquals(0, deltaMessagesSent(grid(0)));
+        assertEquals(0, recordedDeltaMessages(grid(0)));
+    }
+
+    /**
+     * Checks partition maps and update counters restored from the changes relative to the base ones.
+     */
+    @Test
+    public void testDeltaRoundTrip() {
+        UUID node1 = UUID.randomUUID();
+        UUID node2 = UUID.randomUUID();
+        UUID node3 = UUID.randomUUID();
+        UUID node4 = UUID.randomUUID();
+
+        AffinityTopologyVersion topVer = new AffinityTopologyVersion(3, 0);
+        AffinityTopologyVersion nextTopVer = new AffinityTopologyVersion(4, 0);
+
+        GridDhtPartitionFullMap base = new GridDhtPartitionFullMap(node1, 1, 1);
+
+        base.put(node1, partitionMap(node1, 1, topVer, OWNING, OWNING, MOVING, null));
+        base.put(node2, partitionMap(node2, 1, topVer, OWNING, null, OWNING, OWNING));
+        base.put(node3, partitionMap(node3, 1, topVer, null, OWNING, OWNING, OWNING));
+
+        GridDhtPartitionFullMap map = new GridDhtPartitionFullMap(node1, 1, 2);
+
+        // Unchanged, changed, added nodes, the third node is removed.
+        map.put(node1, partitionMap(node1, 1, topVer, OWNING, OWNING, MOVING, null));
+        map.put(node2, partitionMap(node2, 2, nextTopVer, OWNING, RENTING, null, OWNING));
+        map.put(node4, partitionMap(node4, 1, nextTopVer, MOVING, MOVING, null, MOVING));
+
+        CachePartitionFullCountersMap baseCntrs = new CachePartitionFullCountersMap(4);
+        CachePartitionFullCountersMap cntrs = new CachePartitionFullCountersMap(4);
+
+        for (int p = 0; p < 4; p++) {
+            baseCntrs.updateCounter(p, p * 10);
+            cntrs.updateCounter(p, p * 10);
+        }
+
+        cntrs.initialUpdateCounter(1, 5);
+        cntrs.updateCounter(3, 100);
+
+        CacheGroupPartitionsDelta delta = CacheGroupPartitionsDelta.create(base, baseCntrs, map, cntrs);
+
+        assertNotNull(delta);
+
+        // A changed state and a removed partition of the second node, the added node and two update counters.
+        assertEquals(2 + 3 + 2, delta.size());
+
+        GridDhtPartitionFullMap res = delta.partitionMap(base);
+
+        assertEquals(map.keySet(), res.keySet());
+        assertEquals(map.updateSequence(), res.updateSequence());
+
+        for (Map.Entry<UUID, GridDhtPartitionMap> e : map.entrySet()) {
+            GridDhtPartitionMap partMap = res.get(e.getKey());
+
+            assertEquals(e.getValue().map(), partMap.map());
+            assertEquals(e.getValue().updateSequence(), partMap.updateSequence());
+            assertEquals(e.getValue().topologyVersion(), partMap.topologyVersion());
+            assertEquals(e.getValue().hasMovingPartitions(), partMap.hasMovingPartitions());
+        }
+
+        CachePartitionFullCountersMap resCntrs = delta.updateCounters(baseCntrs);
+
+        assertTrue(Arrays.equals(cntrs.initialUpdateCounters(), resCntrs.initialUpdateCounters()));
+        assertTrue(Arrays.equals(cntrs.updateCounters(), resCntrs.updateCounters()));
+
+        // Counters of another number of partitions cannot be written relative to the base ones.
+        assertNull(CacheGroupPartitionsDelta.create(base, baseCntrs, map, new CachePartitionFullCountersMap(8)));
+    }
+
+    /**
+     * Checks that the partition maps of all server nodes are the same.
+     */
+    private void checkPartitionMaps() {
+        List<Ignite> srvs = G.allGrids().stream()
+            .filter(ignite -> !ignite.configuration().isClientMode())
+            .collect(Collectors.toList());
+
+        for (String cacheName : new String[] {CACHE1, CACHE2, CACHE3}) {
+            GridDhtPartitionFullMap expMap = partitionMap(srvs.get(0), cacheName);
+
+            for (Ignite ignite : srvs) {
+                GridDhtPartitionFullMap map = partitionMap(ignite, cacheName);
+
+                assertEquals(expMap.keySet(), map.keySet());
+
+                for (Map.Entry<UUID, GridDhtPartitionMap> e : expMap.entrySet())
+                    assertEquals(e.getValue().map(), map.get(e.getKey()).map());
+            }
+        }
+    }
+
+    /**
+     * @param nodeId Node ID.
+     * @param updSeq Update sequence.
+     * @param topVer Topology version.
+     * @param states Partition states by partition numbers, {@code null} for the absent partitions.
+     * @return Partition map.
+     */
+    private static GridDhtPartitionMap partitionMap(
+        UUID nodeId,
+        long updSeq,
+        AffinityTopologyVersion topVer,
+        GridDhtPartitionState... states
+    ) {
+        GridPartitionStateMap map = new GridPartitionStateMap();
+
+        for (int p = 0; p < states.length; p++) {
+            if (states[p] != null)
+                map.put(p, states[p]);
+        }
+
+        return new GridDhtPartitionMap(nodeId, updSeq, topVer, map, false);
+    }
+
+    /**
+     * @param ignite Node.
+     * @param cacheName Cache name.
+     * @return Partition map of the cache.
+     */
+    private static GridDhtPartitionFullMap partitionMap(Ignite ignite, String cacheName) {
+        return ((IgniteEx)ignite).cachex(cacheName).context().topology().partitionMap(true);
+    }
+
+    /** */
+    private void loadData() {
+        for (String cacheName : new String[] {CACHE1, CACHE2, CACHE3}) {
+            IgniteCache<Integer, Integer> cache = grid(0).cache(cacheName);
+
+            for (int i = 0; i < KEYS_CNT; i++)
+                cache.put(i, i);
+        }
+    }
+
+    /**
+     * @param ignite Node.
+     * @return Number of full messages sent with partition maps relative to the previous ones.
+     */
+    private static long deltaMessagesSent(IgniteEx ignite) {
+        LongAdderMetric deltaMsgs = ignite.context().metric().registry(PME_METRICS).findMetric(PME_DELTA_FULL_MSGS);
+
+        return deltaMsgs.value();
+    }
+
+    /**
+     * @param ignite Node.
+     * @return Number of recorded full messages written relative to the previous ones.
+     */
+    private static long recordedDeltaMessages(IgniteEx ignite) {
+        return TestRecordingCommunicationSpi.spi(ignite).recordedMessages(false).stream()
+            .filter(msg -> ((GridDhtPartitionsFullMessage)msg).deltaEncoded())
+            .count();
+    }
+
+    /**
+     * @param name Cache name.
+     * @param parts Number of partitions.
+     * @param backups Number of backups.
+     * @return Cache configuration.
+     */
+    private static CacheConfiguration<Integer, Integer> cacheConfiguration(String name, int parts, int backups) {
+        return new CacheConfiguration<Integer, Integer>(name)
+            .setBackups(backups)
+            .setAffinity(new RendezvousAffinityFunction(false, parts));
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.CachePartitionFullCountersMap;
+import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionFullMap;
+import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionTopology;
+import org.apache.ignite.internal.util.typedef.G;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.testframework.ListeningTestLogger;
+import org.apache.ignite.testframework.LogListener;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+/**
+ * Checks the exchange with the cache groups processed in parallel on the coordinator.
+ */
+public class CacheExchangeParallelGroupsTest extends GridCommonAbstractTest {
+    /** */
+    private static final int GRPS_CNT = 8;
+
+    /** */
+    private static final int KEYS_CNT = 500;
+
+    /** */
+    private ListeningTestLogger testLog;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        if (testLog != null)
+            cfg.setGridLogger(testLog);
+
+        CacheConfiguration<?, ?>[] ccfgs = new CacheConfiguration[GRPS_CNT];
+
+        for (int i = 0; i < GRPS_CNT; i++) {
+            ccfgs[i] = new CacheConfiguration<>(cacheName(i))
+                .setGroupName("grp" + i)
+                .setBackups(1)
+                .setAffinity(new RendezvousAffinityFunction(false, 32 + i));
+        }
+
+        return cfg.setCacheConfiguration(ccfgs);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        testLog = null;
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCoordinatorStagesTimings() throws Exception {
+        testLog = new ListeningTestLogger(log);
+
+        LogListener timingsLsnr = LogListener.matches(s -> s.startsWith("Exchange timings") &&
+            s.contains("stage=\"Collect update counters\"") &&
+            s.contains("stage=\"Create affinity messages\"") &&
+            s.contains("stage=\"Apply update counters\"") &&
+            s.contains("stage=\"Full message creation\"")).build();
+
+        LogListener locTimingsLsnr = LogListener.matches(s -> s.startsWith("Exchange longest local stages") &&
+            s.contains("stage=\"Collect update counters [grpId=")).build();
+
+        testLog.registerListener(timingsLsnr);
+        testLog.registerListener(locTimingsLsnr);
+
+        startGrids(2);
+
+        loadData(grid(0));
+
+        startGrid(2);
+
+        awaitPartitionMapExchange(true, true, null);
+
+        assertTrue(timingsLsnr.check(getTestTimeout()));
+        assertTrue(locTimingsLsnr.check(getTestTimeout()));
+
+        checkPartitionsState();
+        checkData();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testConcurrentJoins() throws Exception {
+        startGrids(2);
+
+        loadData(grid(0));
+
+        startGridsMultiThreaded(2, 3);
+
+        awaitPartitionMapExchange(true, true, null);
+
+        checkPartitionsState();
+        checkData();
+
+        stopGrid(1);
+
+        awaitPartitionMapExchange(true, true, null);
+
+        checkPartitionsState();
+        checkData();
+    }
+
+    /**
+     * @param ignite Node.
+     */
+    private void loadData(Ignite ignite) {
+        for (int i = 0; i < GRPS_CNT; i++) {
+            IgniteCache<Integer, Integer> cache = ignite.cache(cacheName(i));
+
+            for (int k = 0; k < KEYS_CNT; k++)
+                cache.put(k, k + i);
+        }
+    }
+
+    /**
+     * Checks the data is available on all nodes.
+     */
+    private void checkData() {
+        for (Ignite ignite : G.allGrids()) {
+            for (int i = 0; i < GRPS_CNT; i++) {
+                IgniteCache<Integer, Integer> cache = ignite.cache(cacheName(i));
+
+                for (int k = 0; k < KEYS_CNT; k++)
+                    assertEquals(k + i, (int)cache.get(k));
+            }
+        }
+    }
+
+    /**
+     * Checks the partition maps and the update counters are the same on all nodes.
+     */
+    private void checkPartitionsState() {
+        List<Ignite> nodes = new ArrayList<>(G.allGrids());
+
+        for (int i = 0; i < GRPS_CNT; i++) {
+            int grpId = CU.cacheId("grp" + i);
+
+            GridDhtPartitionTopology top0 = ((IgniteEx)nodes.get(0)).context().cache().cacheGroup(grpId).topology();
+
+            GridDhtPartitionFullMap map0 = top0.partitionMap(true);
+            CachePartitionFullCountersMap cntrs0 = top0.fullUpdateCounters();
+
+            for (int n = 1; n < nodes.size(); n++) {
+                GridDhtPartitionTopology top = ((IgniteEx)nodes.get(n)).context().cache().cacheGroup(grpId).topology();
+
+                assertTrue("Partition maps differ [grp=" + grpId + ", node=" + nodes.get(n).name() + ']',
+                    map0.partitionStateEquals(top.partitionMap(true)));
+
+                CachePartitionFullCountersMap cntrs = top.fullUpdateCounters();
+
+                assertTrue(Arrays.equals(cntrs0.updateCounters(), cntrs.updateCounters()));
+            }
+        }
+    }
+
+    /**
+     * @param idx Cache index.
+     * @return Cache name.
+     */
+    private static String cacheName(int idx) {
+        return "cache" + idx;
+    }
+}
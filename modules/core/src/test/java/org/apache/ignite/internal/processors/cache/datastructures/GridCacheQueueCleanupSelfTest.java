@@ -106,7 +106,7 @@ public class GridCacheQueueCleanupSelfTest extends IgniteCollectionAbstractTest
 
         stopGrid(killGridName);
 
-        assertNull(((IgniteKernal)grid).cache(DEFAULT_CACHE_NAME).dataStructures().queue(QUEUE_NAME1, 0, false, false));
+        assertNull(((IgniteKernal)grid).cache(DEFAULT_CACHE_NAME).dataStructures().queue(QUEUE_NAME1, 0, false, 1, false));
 
         final AtomicBoolean stop = new AtomicBoolean(false);
 
@@ -153,7 +153,7 @@ public class GridCacheQueueCleanupSelfTest extends IgniteCollectionAbstractTest
         startGrid(killGridName);
 
         // Create queue again.
-        queue = ((IgniteKernal)grid).cache(DEFAULT_CACHE_NAME).dataStructures().queue(QUEUE_NAME1, 0, false, true);
+        queue = ((IgniteKernal)grid).cache(DEFAULT_CACHE_NAME).dataStructures().queue(QUEUE_NAME1, 0, false, 1, true);
         */
 
         assertEquals(0, queue.size());
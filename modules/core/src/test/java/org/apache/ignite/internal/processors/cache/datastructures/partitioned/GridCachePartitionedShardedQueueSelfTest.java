@@ -0,0 +1,299 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.datastructures.partitioned;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.IgniteQueue;
+import org.apache.ignite.cache.CacheAtomicityMode;
+import org.apache.ignite.cache.CacheMode;
+import org.apache.ignite.cluster.ClusterNode;
+import org.apache.ignite.configuration.CollectionConfiguration;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.datastructures.IgniteCollectionAbstractTest;
+import org.apache.ignite.internal.processors.datastructures.GridCacheQueueHeaderKey;
+import org.apache.ignite.internal.processors.datastructures.GridCacheShardedQueueImpl;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.junit.Test;
+
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
+import static org.apache.ignite.cache.CacheMode.PARTITIONED;
+
+/**
+ * Sharded queue tests with partitioned cache.
+ */
+public class GridCachePartitionedShardedQueueSelfTest extends IgniteCollectionAbstractTest {
+    /** */
+    private static final int SHARDS = 8;
+
+    /** */
+    private static final int PRODUCERS = 4;
+
+    /** */
+    private static final int ITEMS_PER_PRODUCER = 500;
+
+    /** {@inheritDoc} */
+    @Override protected int gridCount() {
+        return 3;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected CacheMode collectionCacheMode() {
+        return PARTITIONED;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected CacheAtomicityMode collectionCacheAtomicityMode() {
+        return TRANSACTIONAL;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected CollectionConfiguration collectionConfiguration() {
+        return super.collectionConfiguration().setShards(SHARDS);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testShardsSpreadAcrossNodes() throws Exception {
+        IgniteQueue<Integer> queue = grid(0).queue("spread", 0, config(false));
+
+        GridCacheContext cctx = cctx(queue);
+
+        Set<ClusterNode> primaries = new HashSet<>();
+
+        for (int i = 0; i < SHARDS; i++) {
+            GridCacheQueueHeaderKey key = new GridCacheQueueHeaderKey(GridCacheShardedQueueImpl.shardName("spread", i));
+
+            primaries.add(grid(0).affinity(cctx.name()).mapKeyToNode(key));
+        }
+
+        assertTrue(primaries.size() > 1);
+
+        queue.close();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testProducerOrder() throws Exception {
+        IgniteQueue<Integer> queue = grid(0).queue("order", 0, config(false));
+
+        AtomicInteger producerIdx = new AtomicInteger();
+
+        GridTestUtils.runMultiThreaded(() -> {
+            int producer = producerIdx.getAndIncrement();
+
+            IgniteQueue<Integer> q = grid(producer % gridCount()).queue("order", 0, null);
+
+            for (int i = 0; i < ITEMS_PER_PRODUCER; ) {
+                if (i % 3 == 0)
+                    q.offer(item(producer, i++));
+                else {
+                    List<Integer> batch = new ArrayList<>();
+
+                    for (int j = 0; j < 10 && i < ITEMS_PER_PRODUCER; j++)
+                        batch.add(item(producer, i++));
+
+                    assertTrue(q.addAll(batch));
+                }
+            }
+        }, PRODUCERS, "producer");
+
+        assertEquals(PRODUCERS * ITEMS_PER_PRODUCER, queue.size());
+
+        List<Integer> items = new ArrayList<>();
+
+        assertEquals(PRODUCERS * ITEMS_PER_PRODUCER, grid(1).<Integer>queue("order", 0, null).drainTo(items));
+
+        assertTrue(queue.isEmpty());
+
+        int[] next = new int[PRODUCERS];
+
+        for (Integer item : items) {
+            int producer = item / ITEMS_PER_PRODUCER;
+
+            assertEquals("Unexpected item order [producer=" + producer + ']', next[producer]++,
+                item % ITEMS_PER_PRODUCER);
+        }
+
+        queue.close();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testConcurrentProducersConsumers() throws Exception {
+        IgniteQueue<Integer> queue = grid(0).queue("concurrent", 0, config(false));
+
+        Collection<Integer> polled = new ConcurrentLinkedQueue<>();
+
+        AtomicInteger producerIdx = new AtomicInteger();
+
+        IgniteInternalFuture<?> consumers = GridTestUtils.runMultiThreadedAsync(() -> {
+            IgniteQueue<Integer> q = grid(1).queue("concurrent", 0, null);
+
+            while (polled.size() < PRODUCERS * ITEMS_PER_PRODUCER) {
+                List<Integer> batch = new ArrayList<>();
+
+                if (q.drainTo(batch, 16) == 0) {
+                    Integer item = q.poll(100, TimeUnit.MILLISECONDS);
+
+                    if (item != null)
+                        polled.add(item);
+                }
+                else
+                    polled.addAll(batch);
+            }
+        }, 2, "consumer");
+
+        GridTestUtils.runMultiThreaded(() -> {
+            int producer = producerIdx.getAndIncrement();
+
+            IgniteQueue<Integer> q = grid(producer % gridCount()).queue("concurrent", 0, null);
+
+            for (int i = 0; i < ITEMS_PER_PRODUCER; i++)
+                q.put(item(producer, i));
+        }, PRODUCERS, "producer");
+
+        consumers.get(getTestTimeout());
+
+        assertEquals(PRODUCERS * ITEMS_PER_PRODUCER, polled.size());
+        assertEquals(PRODUCERS * ITEMS_PER_PRODUCER, new HashSet<>(polled).size());
+
+        assertNull(queue.poll());
+
+        queue.close();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testTake() throws Exception {
+        IgniteQueue<Integer> queue = grid(0).queue("take", 0, config(false));
+
+        IgniteInternalFuture<Integer> fut = GridTestUtils.runAsync(() -> grid(1).<Integer>queue("take", 0, null).take());
+
+        U.sleep(500);
+
+        assertFalse(fut.isDone());
+
+        queue.offer(1);
+
+        assertEquals(1, (int)fut.get(getTestTimeout()));
+
+        queue.close();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testIteratorRemove() throws Exception {
+        IgniteQueue<Integer> queue = grid(0).queue("iterator", 0, config(false));
+
+        AtomicInteger producerIdx = new AtomicInteger();
+
+        // Different threads fill different shards.
+        GridTestUtils.runMultiThreaded(() -> {
+            int producer = producerIdx.getAndIncrement();
+
+            for (int i = 0; i < 10; i++)
+                queue.offer(item(producer, i));
+        }, PRODUCERS, "producer");
+
+        Set<Integer> items = new HashSet<>();
+
+        for (Iterator<Integer> it = queue.iterator(); it.hasNext(); ) {
+            Integer item = it.next();
+
+            assertTrue(items.add(item));
+
+            if (item % 2 == 0)
+                it.remove();
+        }
+
+        assertEquals(PRODUCERS * 10, items.size());
+        assertEquals(PRODUCERS * 5, queue.size());
+
+        assertTrue(queue.contains(item(0, 1)));
+        assertFalse(queue.contains(item(0, 2)));
+
+        queue.clear();
+
+        assertTrue(queue.isEmpty());
+
+        queue.close();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testClose() throws Exception {
+        IgniteQueue<Integer> queue = grid(0).queue("close", 0, config(false));
+
+        queue.addAll(F.asList(1, 2, 3));
+
+        GridCacheContext cctx = cctx(queue);
+
+        queue.close();
+
+        assertNull(grid(1).queue("close", 0, null));
+
+        for (int i = 0; i < SHARDS; i++) {
+            GridCacheQueueHeaderKey key = new GridCacheQueueHeaderKey(GridCacheShardedQueueImpl.shardName("close", i));
+
+            assertNull(cctx.cache().get(key));
+        }
+
+        GridTestUtils.assertThrows(log, () -> queue.offer(4), IllegalStateException.class, null);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testBoundedNotSupported() throws Exception {
+        GridTestUtils.assertThrows(log, () -> grid(0).queue("bounded", 10, config(false)),
+            IllegalArgumentException.class, null);
+    }
+
+    /**
+     * @param producer Producer index.
+     * @param idx Item index.
+     * @return Item.
+     */
+    private static Integer item(int producer, int idx) {
+        return producer * ITEMS_PER_PRODUCER + idx;
+    }
+}
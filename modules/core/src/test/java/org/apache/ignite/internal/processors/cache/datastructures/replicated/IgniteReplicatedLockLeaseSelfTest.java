@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.datastructures.replicated;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLock;
+import org.apache.ignite.internal.processors.cache.IgniteInternalCache;
+import org.apache.ignite.internal.processors.datastructures.GridCacheInternalKey;
+import org.apache.ignite.internal.processors.datastructures.GridCacheLockState;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_REENTRANT_LOCK_LEASE_TIMEOUT;
+
+/**
+ * Checks reentrant locks leased by the owner node.
+ */
+@WithSystemProperty(key = IGNITE_REENTRANT_LOCK_LEASE_TIMEOUT, value = "3000")
+public class IgniteReplicatedLockLeaseSelfTest extends IgniteReplicatedLockSelfTest {
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testLeasedLockReacquiredLocally() throws Exception {
+        IgniteLock lock0 = grid(0).reentrantLock("lease", true, false, true);
+        IgniteLock lock1 = grid(1).reentrantLock("lease", true, false, true);
+
+        UUID nodeId0 = grid(0).localNode().id();
+
+        for (int i = 0; i < 100; i++) {
+            lock0.lock();
+
+            assertTrue(lock0.isHeldByCurrentThread());
+
+            lock0.unlock();
+
+            assertFalse(lock0.isHeldByCurrentThread());
+            assertFalse(lock0.isLocked());
+
+            // The lock is still owned by the node.
+            GridCacheLockState state = globalState(lock0);
+
+            assertEquals(nodeId0, state.getId());
+            assertEquals(1, state.get());
+        }
+
+        // Another node requests the lease.
+        assertTrue(lock1.tryLock(10, TimeUnit.SECONDS));
+
+        assertEquals(grid(1).localNode().id(), globalState(lock1).getId());
+
+        assertFalse(lock0.tryLock());
+
+        lock1.unlock();
+
+        assertTrue(lock0.tryLock(10, TimeUnit.SECONDS));
+
+        lock0.unlock();
+
+        lock0.close();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testLeaseExpires() throws Exception {
+        IgniteLock lock = grid(0).reentrantLock("expiring", true, false, true);
+
+        lock.lock();
+        lock.unlock();
+
+        assertEquals(grid(0).localNode().id(), globalState(lock).getId());
+
+        assertTrue(GridTestUtils.waitForCondition(() -> globalState(lock).getId() == null, 10_000));
+
+        lock.close();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testFairLockNotLeased() throws Exception {
+        IgniteLock lock = grid(0).reentrantLock("fair", true, true, true);
+
+        lock.lock();
+        lock.unlock();
+
+        assertNull(globalState(lock).getId());
+
+        lock.close();
+    }
+
+    /**
+     * @param lock Lock.
+     * @return Global state of the lock.
+     */
+    private static GridCacheLockState globalState(IgniteLock lock) {
+        IgniteInternalCache<GridCacheInternalKey, GridCacheLockState> cacheView =
+            GridTestUtils.getFieldValue(lock, "cacheView");
+
+        try {
+            return cacheView.get(GridTestUtils.<GridCacheInternalKey>getFieldValue(lock, "key"));
+        }
+        catch (IgniteCheckedException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
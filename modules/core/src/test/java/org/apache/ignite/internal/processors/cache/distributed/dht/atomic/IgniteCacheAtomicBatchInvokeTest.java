@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.dht.atomic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.cache.processor.EntryProcessorException;
+import javax.cache.processor.EntryProcessorResult;
+import javax.cache.processor.MutableEntry;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.CacheBatchEntryProcessor;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.cache.CacheAtomicityMode.ATOMIC;
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
+import static org.apache.ignite.cache.CacheWriteSynchronizationMode.FULL_SYNC;
+
+/**
+ * Checks {@link CacheBatchEntryProcessor} passed to invokeAll.
+ */
+public class IgniteCacheAtomicBatchInvokeTest extends GridCommonAbstractTest {
+    /** */
+    private static final String TX_CACHE = "tx";
+
+    /** */
+    private static final int KEYS_CNT = 200;
+
+    /** */
+    private static final AtomicInteger PROCESS_CNT = new AtomicInteger();
+
+    /** */
+    private static final AtomicInteger PROCESS_ALL_CNT = new AtomicInteger();
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setCacheConfiguration(
+                new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+                    .setAtomicityMode(ATOMIC)
+                    .setWriteSynchronizationMode(FULL_SYNC)
+                    .setBackups(1),
+                new CacheConfiguration<>(TX_CACHE)
+                    .setAtomicityMode(TRANSACTIONAL)
+                    .setWriteSynchronizationMode(FULL_SYNC));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGrids(2);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTestsStopped() throws Exception {
+        stopAllGrids();
+
+        super.afterTestsStopped();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        PROCESS_CNT.set(0);
+        PROCESS_ALL_CNT.set(0);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        grid(0).cache(DEFAULT_CACHE_NAME).clear();
+        grid(0).cache(TX_CACHE).clear();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testProcessAllCalledPerPartition() throws Exception {
+        IgniteCache<Integer, Integer> cache = grid(0).cache(DEFAULT_CACHE_NAME);
+
+        Set<Integer> keys = new TreeSet<>();
+        Set<Integer> parts = new TreeSet<>();
+
+        for (int key = 0; key < KEYS_CNT; key++) {
+            keys.add(key);
+            parts.add(grid(0).affinity(DEFAULT_CACHE_NAME).partition(key));
+
+            if (key % 2 == 0)
+                cache.put(key, key);
+        }
+
+        Map<Integer, EntryProcessorResult<Integer>> res = cache.invokeAll(keys, new IncrementProcessor(-1), 10);
+
+        assertEquals(0, PROCESS_CNT.get());
+        assertEquals(parts.size(), PROCESS_ALL_CNT.get());
+
+        // Null results are not returned.
+        assertEquals(KEYS_CNT / 2, res.size());
+
+        for (int key = 0; key < KEYS_CNT; key++) {
+            Integer old = key % 2 == 0 ? key : null;
+
+            if (old != null)
+                assertEquals(old, res.get(key).get());
+            else
+                assertNull(res.get(key));
+
+            int expVal = (old == null ? 0 : old) + 10;
+
+            for (int i = 0; i < 2; i++)
+                assertEquals((Integer)expVal, grid(i).<Integer, Integer>cache(DEFAULT_CACHE_NAME).localPeek(key));
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testProcessAllError() throws Exception {
+        IgniteCache<Integer, Integer> cache = grid(0).cache(DEFAULT_CACHE_NAME);
+
+        Set<Integer> keys = new TreeSet<>();
+
+        for (int key = 0; key < KEYS_CNT; key++) {
+            keys.add(key);
+
+            cache.put(key, key);
+        }
+
+        int failKey = 7;
+
+        int failPart = grid(0).affinity(DEFAULT_CACHE_NAME).partition(failKey);
+
+        Map<Integer, EntryProcessorResult<Integer>> res = cache.invokeAll(keys, new IncrementProcessor(failKey), 1);
+
+        for (int key = 0; key < KEYS_CNT; key++) {
+            if (grid(0).affinity(DEFAULT_CACHE_NAME).partition(key) == failPart) {
+                int key0 = key;
+
+                GridTestUtils.assertThrows(log, () -> res.get(key0).get(), EntryProcessorException.class, null);
+
+                assertEquals((Integer)key, cache.get(key));
+            }
+            else {
+                assertEquals((Integer)key, res.get(key).get());
+                assertEquals((Integer)(key + 1), cache.get(key));
+            }
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testTransactionalCacheProcessesEntries() throws Exception {
+        IgniteCache<Integer, Integer> cache = grid(0).cache(TX_CACHE);
+
+        Set<Integer> keys = new TreeSet<>();
+
+        for (int key = 0; key < KEYS_CNT; key++)
+            keys.add(key);
+
+        cache.invokeAll(keys, new IncrementProcessor(-1), 1);
+
+        assertEquals(0, PROCESS_ALL_CNT.get());
+        assertEquals(KEYS_CNT, PROCESS_CNT.get());
+
+        for (int key = 0; key < KEYS_CNT; key++)
+            assertEquals((Integer)1, cache.get(key));
+    }
+
+    /**
+     * Increments the values by the argument and returns the old values.
+     */
+    private static class IncrementProcessor implements CacheBatchEntryProcessor<Integer, Integer, Integer> {
+        /** */
+        private static final long serialVersionUID = 0L;
+
+        /** Key which fails the processing of its partition. */
+        private final int failKey;
+
+        /**
+         * @param failKey Key which fails the processing of its partition.
+         */
+        private IncrementProcessor(int failKey) {
+            this.failKey = failKey;
+        }
+
+        /** {@inheritDoc} */
+        @Override public Integer process(MutableEntry<Integer, Integer> e, Object... args) {
+            PROCESS_CNT.incrementAndGet();
+
+            return increment(e, (Integer)args[0]);
+        }
+
+        /** {@inheritDoc} */
+        @Override public List<Integer> processAll(List<MutableEntry<Integer, Integer>> entries, Object... args) {
+            PROCESS_ALL_CNT.incrementAndGet();
+
+            List<Integer> res = new ArrayList<>(entries.size());
+
+            Integer prev = null;
+
+            for (MutableEntry<Integer, Integer> e : entries) {
+                if (e.getKey() == failKey)
+                    throw new EntryProcessorException("Test error.");
+
+                assertTrue("Entries must be sorted by key", prev == null || prev < e.getKey());
+
+                prev = e.getKey();
+
+                res.add(increment(e, (Integer)args[0]));
+            }
+
+            return res;
+        }
+
+        /**
+         * @param e Entry.
+         * @param delta Delta.
+         * @return Old value.
+         */
+        private Integer increment(MutableEntry<Integer, Integer> e, int delta) {
+            Integer old = e.getValue();
+
+            e.setValue((old == null ? 0 : old) + delta);
+
+            return old;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.dht.atomic;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.GridCacheEntryEx;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CACHE_COMPACT_ENTRIES;
+import static org.apache.ignite.cache.CacheAtomicityMode.ATOMIC;
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
+import static org.apache.ignite.cache.CacheWriteSynchronizationMode.FULL_SYNC;
+
+/**
+ * Checks atomic caches with compact entries.
+ */
+@WithSystemProperty(key = IGNITE_CACHE_COMPACT_ENTRIES, value = "true")
+public class IgniteCacheAtomicCompactEntryTest extends GridCommonAbstractTest {
+    /** */
+    private static final String ONHEAP_CACHE = "onheap";
+
+    /** */
+    private static final String TX_CACHE = "tx";
+
+    /** */
+    private static final int KEYS_CNT = 1_000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setCacheConfiguration(
+                new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+                    .setAtomicityMode(ATOMIC)
+                    .setWriteSynchronizationMode(FULL_SYNC)
+                    .setBackups(1),
+                new CacheConfiguration<>(ONHEAP_CACHE)
+                    .setAtomicityMode(ATOMIC)
+                    .setOnheapCacheEnabled(true),
+                new CacheConfiguration<>(TX_CACHE)
+                    .setAtomicityMode(TRANSACTIONAL));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGrids(2);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTestsStopped() throws Exception {
+        stopAllGrids();
+
+        super.afterTestsStopped();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testEntryType() throws Exception {
+        IgniteEx ign = grid(0);
+
+        assertTrue(entry(ign, DEFAULT_CACHE_NAME) instanceof GridDhtAtomicCompactCacheEntry);
+        assertFalse(entry(ign, ONHEAP_CACHE) instanceof GridDhtAtomicCompactCacheEntry);
+        assertFalse(entry(ign, TX_CACHE) instanceof GridDhtAtomicCompactCacheEntry);
+    }
+
+    /**
+     * Entries with keys of the same lock stripe are updated concurrently in different orders.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testConcurrentUpdates() throws Exception {
+        IgniteCache<Integer, Integer> cache = grid(0).cache(DEFAULT_CACHE_NAME);
+
+        GridTestUtils.runMultiThreaded(() -> {
+            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+            for (int i = 0; i < 2_000; i++) {
+                int key = rnd.nextInt(KEYS_CNT);
+
+                switch (rnd.nextInt(4)) {
+                    case 0:
+                        cache.put(key, key);
+
+                        break;
+
+                    case 1:
+                        Map<Integer, Integer> batch = new TreeMap<>();
+
+                        for (int j = 0; j < 16; j++) {
+                            int k = rnd.nextInt(KEYS_CNT);
+
+                            batch.put(k, k);
+                        }
+
+                        // Unordered keys of the batch must not cause deadlocks.
+                        cache.putAll(rnd.nextBoolean() ? batch : ((TreeMap<Integer, Integer>)batch).descendingMap());
+
+                        break;
+
+                    case 2:
+                        cache.invoke(key, (e, args) -> {
+                            e.setValue(e.getKey());
+
+                            return null;
+                        });
+
+                        break;
+
+                    default:
+                        cache.remove(key);
+                }
+            }
+        }, 8, "update");
+
+        for (int key = 0; key < KEYS_CNT; key++) {
+            Integer val = cache.get(key);
+
+            assertTrue("Unexpected value [key=" + key + ", val=" + val + ']', val == null || val == key);
+
+            assertEquals(val, grid(1).cache(DEFAULT_CACHE_NAME).get(key));
+        }
+    }
+
+    /**
+     * @param ign Node.
+     * @param cacheName Cache name.
+     * @return Entry of the primary key of the node.
+     */
+    private GridCacheEntryEx entry(IgniteEx ign, String cacheName) {
+        GridCacheContext<Object, Object> cctx = ign.cachex(cacheName).context();
+
+        GridCacheEntryEx entry = cctx.cache().entryEx(primaryKey(ign.cache(cacheName)));
+
+        entry.touch();
+
+        return entry;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.dht.atomic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.TestRecordingCommunicationSpi;
+import org.apache.ignite.lang.IgniteFuture;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_ATOMIC_UPDATE_COALESCING_WINDOW;
+import static org.apache.ignite.cache.CacheAtomicityMode.ATOMIC;
+import static org.apache.ignite.cache.CacheWriteSynchronizationMode.FULL_SYNC;
+
+/**
+ * Checks coalescing of single-key asynchronous puts of atomic caches.
+ */
+@WithSystemProperty(key = IGNITE_ATOMIC_UPDATE_COALESCING_WINDOW, value = "1000")
+public class IgniteCacheAtomicUpdateCoalescingTest extends GridCommonAbstractTest {
+    /** */
+    private static final int KEYS_CNT = 10_000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setCommunicationSpi(new TestRecordingCommunicationSpi())
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+                .setAtomicityMode(ATOMIC)
+                .setWriteSynchronizationMode(FULL_SYNC)
+                .setBackups(1));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGrids(2);
+
+        startClientGrid(2);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTestsStopped() throws Exception {
+        stopAllGrids();
+
+        super.afterTestsStopped();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        grid(2).cache(DEFAULT_CACHE_NAME).clear();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testConcurrentPutsCoalesced() throws Exception {
+        IgniteEx client = grid(2);
+
+        IgniteCache<Integer, Integer> cache = client.cache(DEFAULT_CACHE_NAME);
+
+        TestRecordingCommunicationSpi spi = TestRecordingCommunicationSpi.spi(client);
+
+        spi.record(GridNearAtomicSingleUpdateRequest.class, GridNearAtomicFullUpdateRequest.class);
+
+        AtomicInteger keyGen = new AtomicInteger();
+
+        GridTestUtils.runMultiThreaded(() -> {
+            List<IgniteFuture<Void>> futs = new ArrayList<>();
+
+            for (int key = keyGen.getAndIncrement(); key < KEYS_CNT; key = keyGen.getAndIncrement())
+                futs.add(cache.putAsync(key, key));
+
+            for (IgniteFuture<Void> fut : futs)
+                fut.get();
+        }, 4, "put");
+
+        List<Object> msgs = spi.recordedMessages(true);
+
+        for (Object msg : msgs)
+            assertTrue("Unexpected message: " + msg, msg instanceof GridNearAtomicFullUpdateRequest);
+
+        assertTrue("Puts must be coalesced: " + msgs.size(), msgs.size() < KEYS_CNT / 10);
+
+        for (int key = 0; key < KEYS_CNT; key++)
+            assertEquals((Integer)key, grid(key % 2).cache(DEFAULT_CACHE_NAME).get(key));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPutsOfSameKeyOrdered() throws Exception {
+        IgniteCache<Integer, Integer> cache = grid(2).cache(DEFAULT_CACHE_NAME);
+
+        IgniteFuture<Void> last = null;
+
+        int cnt = 3 * 1000;
+
+        for (int i = 0; i < cnt; i++)
+            last = cache.putAsync(i % 3, i);
+
+        last.get();
+
+        for (int key = 0; key < 3; key++)
+            assertEquals((Integer)(cnt - 3 + key), cache.get(key));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPutsWithFlagsNotCoalesced() throws Exception {
+        IgniteEx client = grid(2);
+
+        IgniteCache<Integer, Integer> cache = client.<Integer, Integer>cache(DEFAULT_CACHE_NAME).withSkipStore();
+
+        TestRecordingCommunicationSpi spi = TestRecordingCommunicationSpi.spi(client);
+
+        spi.record(GridNearAtomicSingleUpdateRequest.class, GridNearAtomicFullUpdateRequest.class);
+
+        List<IgniteFuture<Void>> futs = new ArrayList<>();
+
+        for (int key = 0; key < 100; key++)
+            futs.add(cache.putAsync(key, key));
+
+        for (IgniteFuture<Void> fut : futs)
+            fut.get();
+
+        List<Object> msgs = spi.recordedMessages(true);
+
+        assertEquals(100, msgs.size());
+
+        for (Object msg : msgs)
+            assertTrue("Unexpected message: " + msg, msg instanceof GridNearAtomicSingleUpdateRequest);
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.file;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager;
+import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStorePool;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PDS_MAX_OPEN_PAGE_STORE_FILES;
+
+/**
+ * Checks that the number of open page store files is bounded and parked files are reopened transparently.
+ */
+@WithSystemProperty(key = IGNITE_PDS_MAX_OPEN_PAGE_STORE_FILES, value = "" + IgnitePdsMaxOpenPageStoreFilesTest.MAX_OPEN_FILES)
+public class IgnitePdsMaxOpenPageStoreFilesTest extends GridCommonAbstractTest {
+    /** */
+    static final int MAX_OPEN_FILES = 16;
+
+    /** */
+    private static final int CACHES_CNT = 4;
+
+    /** */
+    private static final int KEYS_CNT = 5_000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        CacheConfiguration<?, ?>[] ccfgs = new CacheConfiguration[CACHES_CNT];
+
+        for (int i = 0; i < CACHES_CNT; i++) {
+            ccfgs[i] = new CacheConfiguration<>(DEFAULT_CACHE_NAME + i)
+                .setAffinity(new RendezvousAffinityFunction(false, 32));
+        }
+
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                    .setPersistenceEnabled(true)))
+            .setCacheConfiguration(ccfgs);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        super.afterTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testOpenFilesBounded() throws Exception {
+        IgniteEx ign = startGrid(0);
+
+        ign.cluster().state(ClusterState.ACTIVE);
+
+        AtomicBoolean stop = new AtomicBoolean();
+
+        IgniteInternalFuture<?> cpFut = GridTestUtils.runAsync(() -> {
+            while (!stop.get())
+                forceCheckpoint(ign);
+
+            return null;
+        });
+
+        try {
+            GridTestUtils.runMultiThreaded(() -> {
+                ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+                for (int i = 0; i < KEYS_CNT; i++) {
+                    int key = rnd.nextInt(KEYS_CNT);
+
+                    ign.cache(DEFAULT_CACHE_NAME + rnd.nextInt(CACHES_CNT)).put(key, key);
+                }
+            }, 4, "put");
+        }
+        finally {
+            stop.set(true);
+        }
+
+        cpFut.get();
+
+        for (int c = 0; c < CACHES_CNT; c++) {
+            IgniteCache<Integer, Integer> cache = ign.cache(DEFAULT_CACHE_NAME + c);
+
+            for (int i = 0; i < KEYS_CNT; i++)
+                cache.put(i, i + c);
+        }
+
+        forceCheckpoint(ign);
+
+        FilePageStorePool pool = ((FilePageStoreManager)ign.context().cache().context().pageStore()).filePool();
+
+        assertNotNull(pool);
+        assertTrue("Files must be parked: " + pool, pool.parkedFiles() > 0);
+        assertTrue("Too many open files: " + pool, pool.openFiles() <= MAX_OPEN_FILES);
+
+        stopGrid(0);
+
+        IgniteEx restarted = startGrid(0);
+
+        restarted.cluster().state(ClusterState.ACTIVE);
+
+        for (int c = 0; c < CACHES_CNT; c++) {
+            IgniteCache<Integer, Integer> cache = restarted.cache(DEFAULT_CACHE_NAME + c);
+
+            for (int i = 0; i < KEYS_CNT; i++)
+                assertEquals((Integer)(i + c), cache.get(i));
+        }
+
+        pool = ((FilePageStoreManager)restarted.context().cache().context().pageStore()).filePool();
+
+        assertTrue("Too many open files: " + pool, pool.openFiles() <= MAX_OPEN_FILES);
+    }
+}
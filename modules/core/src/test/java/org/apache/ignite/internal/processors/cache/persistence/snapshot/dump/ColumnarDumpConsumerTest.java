@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.snapshot.dump;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.dump.ColumnarDumpConsumer;
+import org.apache.ignite.dump.ColumnarDumpFile;
+import org.apache.ignite.dump.DumpReader;
+import org.apache.ignite.dump.DumpReaderConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.dump.ColumnarDumpConsumer.KEY_COL;
+import static org.apache.ignite.dump.ColumnarDumpConsumer.VAL_COL;
+import static org.apache.ignite.dump.DumpReaderConfiguration.DFLT_TIMEOUT;
+
+/** */
+public class ColumnarDumpConsumerTest extends GridCommonAbstractTest {
+    /** */
+    private static final String DMP_NAME = "dump";
+
+    /** */
+    private static final String TYPE_NAME = "Account";
+
+    /** */
+    private static final int KEYS_CNT = 10_000;
+
+    /** */
+    private static final int ROW_GRP_SIZE = 100;
+
+    /** */
+    private static final int PARTS = 16;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        super.afterTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setCacheConfiguration(
+                new CacheConfiguration<>(DEFAULT_CACHE_NAME).setAffinity(new RendezvousAffinityFunction(false, PARTS)),
+                new CacheConfiguration<>("binary").setAffinity(new RendezvousAffinityFunction(false, PARTS))
+            );
+    }
+
+    /** */
+    @Test
+    public void testExport() throws Exception {
+        IgniteEx ign = startGrid(0);
+
+        IgniteCache<Integer, String> cache = ign.cache(DEFAULT_CACHE_NAME);
+        IgniteCache<Integer, BinaryObject> binCache = ign.cache("binary").withKeepBinary();
+
+        for (int i = 0; i < KEYS_CNT; i++) {
+            cache.put(i, "val-" + (i % 10));
+
+            binCache.put(i, ign.binary().builder(TYPE_NAME)
+                .setField("id", (long)i)
+                .setField("region", "region-" + (i % 3))
+                .setField("balance", i * 0.5d)
+                .setField("active", i % 2 == 0)
+                .setField("comment", i % 5 == 0 ? null : "comment-" + i, String.class)
+                .build());
+        }
+
+        ign.snapshot().createDump(DMP_NAME, null).get(getTestTimeout());
+
+        File out = new File(U.defaultWorkDirectory(), "columnar-export");
+
+        U.delete(out);
+
+        try {
+            new DumpReader(new DumpReaderConfiguration(
+                DMP_NAME,
+                null,
+                ign.configuration(),
+                new ColumnarDumpConsumer(out, ROW_GRP_SIZE),
+                4,
+                DFLT_TIMEOUT,
+                true,
+                true,
+                false,
+                null,
+                null,
+                false,
+                null
+            ), log).run();
+
+            List<ColumnarDumpFile> strFiles = read(new File(out, DEFAULT_CACHE_NAME));
+
+            Map<Object, Object> strVals = new HashMap<>();
+
+            for (ColumnarDumpFile f : strFiles) {
+                int keyIdx = f.columns().indexOf(KEY_COL);
+                int valIdx = f.columns().indexOf(VAL_COL);
+
+                f.rows().forEach(r -> strVals.put(r[keyIdx], r[valIdx]));
+            }
+
+            assertEquals(KEYS_CNT, strVals.size());
+
+            for (int i = 0; i < KEYS_CNT; i++)
+                assertEquals("val-" + (i % 10), strVals.get(i));
+
+            List<ColumnarDumpFile> binFiles = read(new File(new File(out, "binary"), TYPE_NAME));
+
+            assertEquals(PARTS, binFiles.size());
+
+            int rows = 0;
+
+            for (ColumnarDumpFile f : binFiles) {
+                assertTrue(f.columns().containsAll(List.of(KEY_COL, "id", "region", "balance", "active", "comment")));
+                assertTrue(f.rowGroups() >= f.rows().size() / ROW_GRP_SIZE);
+
+                int keyIdx = f.columns().indexOf(KEY_COL);
+
+                for (Object[] r : f.rows()) {
+                    int k = (Integer)r[keyIdx];
+
+                    assertEquals((long)k, r[f.columns().indexOf("id")]);
+                    assertEquals("region-" + (k % 3), r[f.columns().indexOf("region")]);
+                    assertEquals(k * 0.5d, r[f.columns().indexOf("balance")]);
+                    assertEquals(k % 2 == 0, r[f.columns().indexOf("active")]);
+                    assertEquals(k % 5 == 0 ? null : "comment-" + k, r[f.columns().indexOf("comment")]);
+
+                    rows++;
+                }
+            }
+
+            assertEquals(KEYS_CNT, rows);
+        }
+        finally {
+            U.delete(out);
+        }
+    }
+
+    /** */
+    private static List<ColumnarDumpFile> read(File dir) throws IOException {
+        List<ColumnarDumpFile> res = new ArrayList<>();
+
+        try (Stream<Path> files = Files.walk(dir.toPath())) {
+            for (Path p : files.filter(p -> p.toString().endsWith(ColumnarDumpFile.EXT))
+                .collect(Collectors.toList()))
+                res.add(ColumnarDumpFile.read(p.toFile()));
+        }
+
+        return res;
+    }
+}
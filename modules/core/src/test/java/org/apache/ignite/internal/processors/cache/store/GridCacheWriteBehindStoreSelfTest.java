@@ -29,9 +29,14 @@ import org.apache.ignite.internal.processors.cache.CacheEntryImpl;
 import org.apache.ignite.internal.processors.cache.GridCacheTestStore;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
 import org.jsr166.ConcurrentLinkedHashMap;
 import org.junit.Test;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_WRITE_BEHIND_STORE_LATENCY_THRESHOLD;
+
 /**
  * This class provides basic tests for {@link org.apache.ignite.internal.processors.cache.store.GridCacheWriteBehindStore}.
  */
@@ -468,6 +473,50 @@ public class GridCacheWriteBehindStoreSelfTest extends GridCacheWriteBehindStore
         assertTrue("Store map key set: " + underlyingMap.keySet(), F.eqOrdered(underlyingMap.keySet(), intList));
     }
 
+    /**
+     * Tests that the batches are shrunk when the underlying store is slow and grow back when it is fast again.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_WRITE_BEHIND_STORE_LATENCY_THRESHOLD, value = "50")
+    public void testBatchSizeAdaptsToStoreLatency() throws Exception {
+        initStore(1, false);
+
+        int batchSize = store.getWriteBehindStoreBatchSize();
+
+        int key = 0;
+
+        try {
+            delegate.setOperationDelay(100);
+
+            for (; key < CACHE_SIZE; key++)
+                store.write(new CacheEntryImpl<>(key, "val" + key));
+
+            assertTrue(GridTestUtils.waitForCondition(() -> store.getWriteBehindCurrentBatchSize() < batchSize,
+                getTestTimeout()));
+
+            assertTrue(store.getWriteBehindAverageStoreTime() >= MILLISECONDS.toNanos(100));
+
+            delegate.setOperationDelay(0);
+
+            for (int i = 0; i < 100 && store.getWriteBehindCurrentBatchSize() < batchSize; i++) {
+                for (int j = 0; j < CACHE_SIZE; j++, key++)
+                    store.write(new CacheEntryImpl<>(key, "val" + key));
+            }
+
+            assertEquals(batchSize, store.getWriteBehindCurrentBatchSize());
+        }
+        finally {
+            shutdownStore();
+        }
+
+        assertEquals(key, delegate.getMap().size());
+        assertTrue(store.getWriteBehindStoreBatchCount() > 0);
+        assertTrue(store.getWriteBehindAverageStoreBatchSize() > 1);
+        assertEquals(0, store.getWriteBehindBufferSize());
+    }
+
     /**
      * Test to verify the {@link GridCacheWriteBehindStore#resolveFlusherByKeyHash(int)}.
      */
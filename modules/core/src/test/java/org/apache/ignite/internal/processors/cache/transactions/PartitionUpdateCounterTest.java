@@ -21,7 +21,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.NavigableMap;
 import java.util.Queue;
 import java.util.Random;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -218,6 +217,58 @@ public class PartitionUpdateCounterTest extends GridCommonAbstractTest {
         }
     }
 
+    /**
+     * Applies the ranges in random order and checks the low water mark and the gaps after every update.
+     */
+    @Test
+    public void testRandomOrderUpdates() {
+        Random r = new Random();
+
+        int cnt = 2_000;
+
+        long[] deltas = new long[cnt];
+        List<long[]> ranges = new ArrayList<>(cnt);
+
+        long cntr = 0;
+
+        for (int i = 0; i < cnt; i++) {
+            deltas[i] = r.nextInt(5) + 1;
+
+            ranges.add(new long[] {cntr, deltas[i], i});
+
+            cntr += deltas[i];
+        }
+
+        // Keep most of the updates close to the low water mark, as under load.
+        for (int i = 0; i < cnt; i++)
+            Collections.swap(ranges, i, Math.min(cnt - 1, i + r.nextInt(64)));
+
+        PartitionUpdateCounter pc = new PartitionUpdateCounterTrackingImpl(null);
+
+        boolean[] applied = new boolean[cnt];
+
+        int next = 0;
+        long lwm = 0;
+
+        for (long[] range : ranges) {
+            assertTrue(pc.update(range[0], range[1]));
+            assertFalse(pc.update(range[0], range[1]));
+
+            applied[(int)range[2]] = true;
+
+            while (next < cnt && applied[next])
+                lwm += deltas[next++];
+
+            assertEquals(lwm, pc.get());
+
+            for (Iterator<long[]> it = pc.iterator(); it.hasNext(); )
+                assertTrue(it.next()[0] > lwm);
+        }
+
+        assertTrue(pc.sequential());
+        assertEquals(cntr, pc.get());
+    }
+
     /**
      *
      */
@@ -365,11 +416,13 @@ public class PartitionUpdateCounterTest extends GridCommonAbstractTest {
         PartitionUpdateCounter pc2 = new PartitionUpdateCounterTrackingImpl(null);
         pc2.init(0, bytes);
 
-        NavigableMap q0 = U.field(pc, "queue");
-        NavigableMap q1 = U.field(pc2, "queue");
+        Object q0 = U.field(pc, "queue");
+        Object q1 = U.field(pc2, "queue");
 
         assertEquals(q0, q1);
 
+        assertTrue(pc.comparableState().equals(pc2.comparableState()));
+
         long reserved = pc2.reserved();
         long highestApplied = U.invoke(PartitionUpdateCounterTrackingImpl.class, pc2, "highestAppliedCounter");
 
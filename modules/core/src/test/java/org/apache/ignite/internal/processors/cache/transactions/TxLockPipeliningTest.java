@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.transactions;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.Affinity;
+import org.apache.ignite.cluster.ClusterNode;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.NearCacheConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.TestRecordingCommunicationSpi;
+import org.apache.ignite.internal.processors.cache.distributed.near.GridNearLockRequest;
+import org.apache.ignite.internal.processors.cache.distributed.near.GridNearTxLocal;
+import org.apache.ignite.internal.util.typedef.X;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.apache.ignite.transactions.Transaction;
+import org.apache.ignite.transactions.TransactionTimeoutException;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_TX_LOCK_PIPELINING;
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
+import static org.apache.ignite.cache.CacheWriteSynchronizationMode.FULL_SYNC;
+import static org.apache.ignite.transactions.TransactionConcurrency.PESSIMISTIC;
+import static org.apache.ignite.transactions.TransactionIsolation.REPEATABLE_READ;
+
+/**
+ * Checks pipelined lock acquisition of pessimistic transactions.
+ */
+@WithSystemProperty(key = IGNITE_TX_LOCK_PIPELINING, value = "true")
+public class TxLockPipeliningTest extends GridCommonAbstractTest {
+    /** */
+    private static final String NEAR_CACHE = "near";
+
+    /** */
+    private static final int SRVS = 4;
+
+    /** */
+    private static final int KEYS_CNT = 100;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setCommunicationSpi(new TestRecordingCommunicationSpi())
+            .setCacheConfiguration(
+                new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+                    .setAtomicityMode(TRANSACTIONAL)
+                    .setWriteSynchronizationMode(FULL_SYNC)
+                    .setBackups(1),
+                new CacheConfiguration<>(NEAR_CACHE)
+                    .setAtomicityMode(TRANSACTIONAL)
+                    .setWriteSynchronizationMode(FULL_SYNC)
+                    .setNearConfiguration(new NearCacheConfiguration<>())
+                    .setBackups(1));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGrids(SRVS);
+
+        startClientGrid(SRVS);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTestsStopped() throws Exception {
+        stopAllGrids();
+
+        super.afterTestsStopped();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        grid(0).cache(DEFAULT_CACHE_NAME).clear();
+        grid(0).cache(NEAR_CACHE).clear();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testRequestsSentAtOnce() throws Exception {
+        checkLockRequests(DEFAULT_CACHE_NAME, 5_000, true);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testRequestsSentAtOnceNearCache() throws Exception {
+        checkLockRequests(NEAR_CACHE, 5_000, true);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testRequestsSentInNodeOrderWithoutTimeout() throws Exception {
+        checkLockRequests(DEFAULT_CACHE_NAME, 0, false);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testContention() throws Exception {
+        checkContention(DEFAULT_CACHE_NAME);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testContentionNearCache() throws Exception {
+        checkContention(NEAR_CACHE);
+    }
+
+    /**
+     * Locks the keys of all the primary nodes with a single operation.
+     *
+     * @param cacheName Cache name.
+     * @param timeout Transaction timeout.
+     * @param atOnce Whether the requests are expected to be sent at once.
+     * @throws Exception If failed.
+     */
+    private void checkLockRequests(String cacheName, long timeout, boolean atOnce) throws Exception {
+        IgniteEx client = grid(SRVS);
+
+        IgniteCache<Integer, Integer> cache = client.cache(cacheName);
+
+        Map<Integer, Integer> vals = new TreeMap<>();
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            vals.put(i, i);
+
+        Affinity<Integer> aff = client.affinity(cacheName);
+
+        Set<ClusterNode> primaries = new HashSet<>();
+
+        for (Integer key : vals.keySet())
+            primaries.add(aff.mapKeyToNode(key));
+
+        assertEquals(SRVS, primaries.size());
+
+        TestRecordingCommunicationSpi spi = TestRecordingCommunicationSpi.spi(client);
+
+        spi.record(GridNearLockRequest.class);
+
+        int roundTrips;
+
+        try (Transaction tx = client.transactions().txStart(PESSIMISTIC, REPEATABLE_READ, timeout, 0)) {
+            cache.putAll(vals);
+
+            GridNearTxLocal tx0 = ((TransactionProxyImpl<?, ?>)tx).tx();
+
+            roundTrips = tx0.lockRoundTrips();
+
+            tx.commit();
+        }
+
+        // One request per primary node.
+        assertEquals(SRVS, spi.recordedMessages(true).size());
+
+        // The first request of a client transaction is sent alone since it may remap the transaction.
+        assertEquals(atOnce ? 2 : SRVS, roundTrips);
+
+        for (int i = 0; i < SRVS; i++)
+            assertEquals(vals, grid(i).cache(cacheName).getAll(vals.keySet()));
+    }
+
+    /**
+     * Concurrent transactions increment the values of random sets of keys.
+     *
+     * @param cacheName Cache name.
+     * @throws Exception If failed.
+     */
+    private void checkContention(String cacheName) throws Exception {
+        int keysCnt = 20;
+
+        AtomicIntegerArray incs = new AtomicIntegerArray(keysCnt);
+
+        AtomicInteger threadIdx = new AtomicInteger();
+
+        GridTestUtils.runMultiThreaded(() -> {
+            IgniteEx ign = grid(threadIdx.getAndIncrement() % (SRVS + 1));
+
+            IgniteCache<Integer, Integer> cache = ign.cache(cacheName);
+
+            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+            for (int i = 0; i < 100; i++) {
+                Set<Integer> keys = new TreeSet<>();
+
+                for (int j = 0; j < 5; j++)
+                    keys.add(rnd.nextInt(keysCnt));
+
+                try (Transaction tx = ign.transactions().txStart(PESSIMISTIC, REPEATABLE_READ, 500, 0)) {
+                    Map<Integer, Integer> vals = cache.getAll(keys);
+
+                    Map<Integer, Integer> updated = new TreeMap<>();
+
+                    for (Integer key : keys)
+                        updated.put(key, vals.getOrDefault(key, 0) + 1);
+
+                    cache.putAll(updated);
+
+                    tx.commit();
+
+                    for (Integer key : keys)
+                        incs.incrementAndGet(key);
+                }
+                catch (Exception e) {
+                    // Transactions acquiring the locks of different nodes at once may deadlock till the timeout.
+                    if (!X.hasCause(e, TransactionTimeoutException.class))
+                        throw e;
+                }
+            }
+
+            return null;
+        }, 8, "tx");
+
+        for (int key = 0; key < keysCnt; key++) {
+            int exp = incs.get(key);
+
+            for (int i = 0; i <= SRVS; i++) {
+                Integer val = grid(i).<Integer, Integer>cache(cacheName).get(key);
+
+                assertEquals("Unexpected value [key=" + key + ", node=" + i + ']', exp, val == null ? 0 : val);
+            }
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.ListeningTestLogger;
+import org.apache.ignite.testframework.LogListener;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.util.ReentrantReadWriteLockWithTracking.LOCK_HOLD_MESSAGE;
+
+/**
+ * Tests for {@link StripedReadWriteLockWithTracking}.
+ */
+public class StripedReadWriteLockWithTrackingTest extends GridCommonAbstractTest {
+    /** */
+    private final StripedReadWriteLockWithTracking lock = new StripedReadWriteLockWithTracking(4);
+
+    /** Guarded by the lock, both values are changed by the writer and must be equal for the readers. */
+    private long val1;
+
+    /** */
+    private long val2;
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testExclusion() throws Exception {
+        AtomicBoolean stop = new AtomicBoolean();
+
+        AtomicLong reads = new AtomicLong();
+
+        IgniteInternalFuture<?> writerFut = GridTestUtils.runAsync(() -> {
+            while (!stop.get()) {
+                lock.writeLock().lock();
+
+                try {
+                    assertEquals(0, lock.getReadLockCount());
+
+                    val1++;
+
+                    Thread.yield();
+
+                    val2++;
+                }
+                finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        });
+
+        IgniteInternalFuture<?> readersFut = GridTestUtils.runMultiThreadedAsync(() -> {
+            for (int i = 0; i < 100_000; i++) {
+                lock.readLock().lock();
+
+                try {
+                    // Reentrant lock must not wait for the writer.
+                    lock.readLock().lock();
+
+                    try {
+                        assertEquals(val1, val2);
+                    }
+                    finally {
+                        lock.readLock().unlock();
+                    }
+                }
+                finally {
+                    lock.readLock().unlock();
+                }
+
+                reads.incrementAndGet();
+            }
+        }, 8, "reader");
+
+        try {
+            readersFut.get(getTestTimeout());
+        }
+        finally {
+            stop.set(true);
+        }
+
+        writerFut.get(getTestTimeout());
+
+        assertEquals(800_000, reads.get());
+        assertTrue(val1 > 0);
+        assertEquals(0, lock.getReadLockCount());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testTryLockTimeout() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        IgniteInternalFuture<?> readerFut = GridTestUtils.runAsync(() -> {
+            lock.readLock().lock();
+
+            try {
+                locked.countDown();
+
+                release.await();
+            }
+            finally {
+                lock.readLock().unlock();
+            }
+
+            return null;
+        });
+
+        locked.await();
+
+        assertFalse(lock.writeLock().tryLock());
+        assertFalse(lock.writeLock().tryLock(100, TimeUnit.MILLISECONDS));
+        assertFalse(lock.isWriteLockedByCurrentThread());
+
+        // Failed writer must not block the readers.
+        assertTrue(tryLockAsync(lock.readLock(), 1_000));
+
+        release.countDown();
+
+        readerFut.get(getTestTimeout());
+
+        assertTrue(lock.writeLock().tryLock(1, TimeUnit.SECONDS));
+
+        try {
+            assertTrue(lock.isWriteLockedByCurrentThread());
+
+            assertFalse(tryLockAsync(lock.readLock(), 100));
+
+            // Downgrade.
+            lock.readLock().lock();
+
+            assertEquals(1, lock.getReadHoldCount());
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+
+        assertFalse(tryLockAsync(lock.writeLock(), 100));
+
+        lock.readLock().unlock();
+
+        assertEquals(0, lock.getReadHoldCount());
+        assertEquals(0, lock.getReadLockCount());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testReadLockHoldersTracked() throws Exception {
+        ListeningTestLogger testLog = new ListeningTestLogger(log);
+
+        LogListener lsnr = LogListener.matches(LOCK_HOLD_MESSAGE).build();
+
+        testLog.registerListener(lsnr);
+
+        StripedReadWriteLockWithTracking tracked = new StripedReadWriteLockWithTracking(4, testLog, 100);
+
+        tracked.readLock().lock();
+
+        try {
+            tracked.readLock().lock();
+
+            tracked.readLock().unlock();
+
+            assertFalse(lsnr.check());
+
+            U.sleep(200);
+        }
+        finally {
+            tracked.readLock().unlock();
+        }
+
+        assertTrue(lsnr.check());
+    }
+
+    /**
+     * @param l Lock.
+     * @param timeout Timeout in milliseconds.
+     * @return {@code True} if the lock was acquired by another thread, the lock is released then.
+     * @throws Exception If failed.
+     */
+    private static boolean tryLockAsync(Lock l, long timeout) throws Exception {
+        return GridTestUtils.runAsync(() -> {
+            if (!l.tryLock(timeout, TimeUnit.MILLISECONDS))
+                return false;
+
+            l.unlock();
+
+            return true;
+        }).get();
+    }
+}
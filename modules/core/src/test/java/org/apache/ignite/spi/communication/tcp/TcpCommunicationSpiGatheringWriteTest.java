@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.spi.communication.tcp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.metric.impl.HistogramMetricImpl;
+import org.apache.ignite.internal.util.nio.GridNioServer;
+import org.apache.ignite.internal.util.nio.GridNioSession;
+import org.apache.ignite.internal.util.nio.GridSelectorNioSessionImpl;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.lang.IgniteFuture;
+import org.apache.ignite.spi.communication.tcp.internal.GridNioServerWrapper;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_TCP_COMM_GATHERING_WRITE_BUFFERS;
+import static org.apache.ignite.internal.util.nio.GridNioServer.MESSAGES_PER_WRITE_METRIC_NAME;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMMUNICATION_METRICS_GROUP_NAME;
+
+/**
+ * Checks that the queued messages are flushed with gathering writes.
+ */
+@WithSystemProperty(key = IGNITE_TCP_COMM_GATHERING_WRITE_BUFFERS, value = "4")
+public class TcpCommunicationSpiGatheringWriteTest extends GridCommonAbstractTest {
+    /** */
+    private static final int KEYS_CNT = 2_000;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGrids(2);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTestsStopped() throws Exception {
+        stopAllGrids();
+
+        super.afterTestsStopped();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testMessagesWritten() throws Exception {
+        IgniteEx srv0 = grid(0);
+
+        IgniteCache<Integer, byte[]> cache = srv0.getOrCreateCache(
+            new CacheConfiguration<Integer, byte[]>(DEFAULT_CACHE_NAME).setBackups(1));
+
+        List<IgniteFuture<Void>> futs = new ArrayList<>(KEYS_CNT);
+
+        // Bursts of small messages with some messages exceeding all the gathering write buffers.
+        for (int i = 0; i < KEYS_CNT; i++)
+            futs.add(cache.putAsync(i, value(i)));
+
+        for (IgniteFuture<Void> fut : futs)
+            fut.get(getTestTimeout());
+
+        IgniteCache<Integer, byte[]> cache1 = grid(1).cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            assertTrue("Unexpected value [key=" + i + ']', Arrays.equals(value(i), cache1.get(i)));
+
+        HistogramMetricImpl metric = srv0.context().metric().registry(COMMUNICATION_METRICS_GROUP_NAME)
+            .findMetric(MESSAGES_PER_WRITE_METRIC_NAME);
+
+        long[] writes = metric.value();
+
+        long batched = 0;
+
+        // The first bucket counts the writes of a single message.
+        for (int i = 1; i < writes.length; i++)
+            batched += writes[i];
+
+        assertTrue("Messages are not batched: " + Arrays.toString(writes), batched > 0);
+
+        GridNioServer<?> nioSrv = ((GridNioServerWrapper)U.field(srv0.configuration().getCommunicationSpi(),
+            "nioSrvWrapper")).nio();
+
+        long sesWrites = 0;
+        long sesMsgs = 0;
+
+        for (GridNioSession ses : nioSrv.sessions()) {
+            GridSelectorNioSessionImpl ses0 = (GridSelectorNioSessionImpl)ses;
+
+            if (ses0.writes() > 0)
+                assertNotNull(GridTestUtils.getFieldValue(ses0, "gatheringBufs"));
+
+            sesWrites += ses0.writes();
+            sesMsgs += ses0.messagesWritten();
+        }
+
+        assertTrue("Messages are not batched [writes=" + sesWrites + ", msgs=" + sesMsgs + ']', sesMsgs > sesWrites);
+    }
+
+    /**
+     * @param key Key.
+     * @return Value.
+     */
+    private static byte[] value(int key) {
+        byte[] val = new byte[key % 100 == 0 ? 200 * 1024 : 64];
+
+        Arrays.fill(val, (byte)key);
+
+        return val;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.spi.communication.tcp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.util.nio.GridNioServer;
+import org.apache.ignite.internal.util.nio.GridNioSession;
+import org.apache.ignite.internal.util.nio.GridSelectorNioSessionImpl;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.lang.IgniteFuture;
+import org.apache.ignite.spi.communication.tcp.internal.GridNioServerWrapper;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+/**
+ * Checks micro-batching of the written messages.
+ */
+public class TcpCommunicationSpiMessageBatchingTest extends GridCommonAbstractTest {
+    /** Maximum delay of a write in microseconds. */
+    private static final long BATCH_DELAY = 20_000;
+
+    /** */
+    private static final int KEYS_CNT = 2_000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        ((TcpCommunicationSpi)cfg.getCommunicationSpi()).setMessageBatchDelay(BATCH_DELAY);
+
+        return cfg.setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME).setBackups(1));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGrids(2);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTestsStopped() throws Exception {
+        stopAllGrids();
+
+        super.afterTestsStopped();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testBurst() throws Exception {
+        IgniteCache<Integer, byte[]> cache = grid(0).cache(DEFAULT_CACHE_NAME);
+
+        List<IgniteFuture<Void>> futs = new ArrayList<>(KEYS_CNT);
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            futs.add(cache.putAsync(i, value(i)));
+
+        for (IgniteFuture<Void> fut : futs)
+            fut.get(getTestTimeout());
+
+        IgniteCache<Integer, byte[]> cache1 = grid(1).cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            assertTrue("Unexpected value [key=" + i + ']', Arrays.equals(value(i), cache1.get(i)));
+
+        long writes = 0;
+        long msgs = 0;
+
+        for (GridNioSession ses : nioServer(grid(0)).sessions()) {
+            writes += ((GridSelectorNioSessionImpl)ses).writes();
+            msgs += ((GridSelectorNioSessionImpl)ses).messagesWritten();
+        }
+
+        assertTrue("Messages are not batched [writes=" + writes + ", msgs=" + msgs + ']', msgs > writes);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSequentialMessagesNotDelayed() throws Exception {
+        IgniteEx srv0 = grid(0);
+
+        IgniteCache<Integer, byte[]> cache = srv0.cache(DEFAULT_CACHE_NAME);
+
+        Integer key = primaryKey(grid(1).cache(DEFAULT_CACHE_NAME));
+
+        // Lets the sessions forget the messages sent at once before.
+        for (int i = 0; i < 100; i++)
+            cache.put(key, value(i));
+
+        int puts = 100;
+
+        long start = System.nanoTime();
+
+        for (int i = 0; i < puts; i++)
+            cache.put(key, value(i));
+
+        long dur = U.nanosToMillis(System.nanoTime() - start);
+
+        // Every put sends a request and waits for a response, so delayed writes would take several batch delays.
+        assertTrue("Writes are delayed [dur=" + dur + "ms]", dur < puts * BATCH_DELAY / 1000 / 2);
+    }
+
+    /**
+     * @param ignite Node.
+     * @return Communication NIO server.
+     */
+    private static GridNioServer<?> nioServer(IgniteEx ignite) {
+        return ((GridNioServerWrapper)U.field(ignite.configuration().getCommunicationSpi(), "nioSrvWrapper")).nio();
+    }
+
+    /**
+     * @param key Key.
+     * @return Value.
+     */
+    private static byte[] value(int key) {
+        byte[] val = new byte[key % 100 == 0 ? 200 * 1024 : 64];
+
+        Arrays.fill(val, (byte)key);
+
+        return val;
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.spi.communication.tcp;
+
+import java.io.File;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Map;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.util.nio.GridNioServer;
+import org.apache.ignite.internal.util.nio.GridNioSession;
+import org.apache.ignite.internal.util.nio.GridSelectorNioSessionImpl;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.spi.IgniteSpiException;
+import org.apache.ignite.spi.communication.tcp.internal.GridNioServerWrapper;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_MACS_OVERRIDE;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.ATTR_UDS_PATH;
+
+/**
+ * Checks communication of co-located nodes over unix domain sockets.
+ */
+public class TcpCommunicationSpiUnixDomainSocketTest extends GridCommonAbstractTest {
+    /** */
+    private static final int KEYS_CNT = 1_000;
+
+    /** Directory of the unix domain socket files. */
+    private Path udsDir;
+
+    /** MAC addresses override of the started node, {@code null} to use the real ones. */
+    private String macs;
+
+    /** If {@code true}, nodes advertise the socket files that do not exist. */
+    private boolean missingSockFile;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        TcpCommunicationSpi commSpi = missingSockFile ?
+            new MissingSocketFileCommunicationSpi() : (TcpCommunicationSpi)cfg.getCommunicationSpi();
+
+        cfg.setCommunicationSpi(commSpi.setUnixDomainSocketDirectory(udsDir.toString()));
+
+        if (macs != null)
+            cfg.setUserAttributes(Collections.singletonMap(ATTR_MACS_OVERRIDE, macs));
+
+        return cfg.setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME).setBackups(1));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        // Short path as the length of unix domain socket path is limited.
+        udsDir = Files.createTempDirectory("uds");
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        U.delete(new File(udsDir.toString()));
+
+        macs = null;
+        missingSockFile = false;
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCoLocatedNodes() throws Exception {
+        startGrids(2);
+
+        checkPutGet();
+
+        for (int i = 0; i < 2; i++) {
+            IgniteEx ignite = grid(i);
+
+            String path = ignite.localNode().attribute(
+                U.spiAttribute(ignite.configuration().getCommunicationSpi(), ATTR_UDS_PATH));
+
+            assertNotNull(path);
+            assertTrue(Files.exists(Paths.get(path)));
+
+            assertTrue("Expected unix domain socket sessions", unixDomainSessions(ignite) > 0);
+        }
+
+        stopGrid(1);
+
+        assertEquals(1, udsDir.toFile().list().length);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testDifferentHosts() throws Exception {
+        macs = "host0";
+
+        startGrid(0);
+
+        macs = "host1";
+
+        startGrid(1);
+
+        checkPutGet();
+
+        for (int i = 0; i < 2; i++)
+            assertEquals(0, unixDomainSessions(grid(i)));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testFallbackToTcp() throws Exception {
+        missingSockFile = true;
+
+        startGrids(2);
+
+        checkPutGet();
+
+        for (int i = 0; i < 2; i++)
+            assertEquals(0, unixDomainSessions(grid(i)));
+    }
+
+    /**
+     * Puts the keys on the first node and checks them on the second one.
+     */
+    private void checkPutGet() {
+        IgniteCache<Integer, Integer> cache = grid(0).cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            cache.put(i, i);
+
+        IgniteCache<Integer, Integer> cache1 = grid(1).cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            assertEquals(i, (int)cache1.localPeek(i));
+    }
+
+    /**
+     * @param ignite Node.
+     * @return Number of the communication sessions over unix domain sockets.
+     * @throws Exception If failed.
+     */
+    private static int unixDomainSessions(IgniteEx ignite) throws Exception {
+        GridNioServer<?> srv = ((GridNioServerWrapper)U.field(ignite.configuration().getCommunicationSpi(),
+            "nioSrvWrapper")).nio();
+
+        int cnt = 0;
+
+        for (GridNioSession ses : srv.sessions()) {
+            SocketChannel ch = (SocketChannel)((GridSelectorNioSessionImpl)ses).key().channel();
+
+            if (ch.getLocalAddress() instanceof UnixDomainSocketAddress)
+                cnt++;
+        }
+
+        return cnt;
+    }
+
+    /**
+     * Advertises the socket file that does not exist, as a node co-located in a different container would.
+     */
+    private static class MissingSocketFileCommunicationSpi extends TcpCommunicationSpi {
+        /** {@inheritDoc} */
+        @Override public Map<String, Object> getNodeAttributes() throws IgniteSpiException {
+            Map<String, Object> attrs = super.getNodeAttributes();
+
+            Path missing = Paths.get(getUnixDomainSocketDirectory(), "missing.sock");
+
+            attrs.put(createSpiAttributeName(ATTR_UDS_PATH), missing.toString());
+
+            return attrs;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.spi.discovery.tcp;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import org.apache.ignite.cache.CacheMetrics;
+import org.apache.ignite.cluster.ClusterMetrics;
+import org.apache.ignite.internal.ClusterMetricsSnapshot;
+import org.apache.ignite.internal.CoreMessagesProvider;
+import org.apache.ignite.internal.direct.DirectMessageReader;
+import org.apache.ignite.internal.direct.DirectMessageWriter;
+import org.apache.ignite.internal.managers.communication.IgniteMessageFactoryImpl;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.lang.IgniteProductVersion;
+import org.apache.ignite.plugin.extensions.communication.Message;
+import org.apache.ignite.plugin.extensions.communication.MessageFactory;
+import org.apache.ignite.plugin.extensions.communication.MessageFactoryProvider;
+import org.apache.ignite.spi.discovery.DiscoveryMetricsProvider;
+import org.apache.ignite.spi.discovery.tcp.internal.TcpDiscoveryNode;
+import org.apache.ignite.spi.discovery.tcp.messages.TcpDiscoveryNodeAddedMessage;
+import org.junit.Test;
+
+import static org.apache.ignite.marshaller.Marshallers.jdk;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/** Checks the direct serialization of {@link TcpDiscoveryNodeAddedMessage} and nodes it carries. */
+public class TcpDiscoveryNodeAddedMessageSerializationTest {
+    /** */
+    private static final MessageFactory MSG_FACTORY = new IgniteMessageFactoryImpl(new MessageFactoryProvider[]{
+        new CoreMessagesProvider(jdk(), jdk(), U.gridClassLoader())});
+
+    /** */
+    private static final DiscoveryMetricsProvider METRICS_PROVIDER = new DiscoveryMetricsProvider() {
+        @Override public ClusterMetrics metrics() {
+            return new ClusterMetricsSnapshot();
+        }
+
+        @Override public Map<Integer, CacheMetrics> cacheMetrics() {
+            return Collections.emptyMap();
+        }
+    };
+
+    /** */
+    @Test
+    public void testNodeAttributes() {
+        Map<String, Object> attrs = new HashMap<>();
+
+        attrs.put("str", "val");
+        attrs.put("bool", true);
+        attrs.put("int", 1);
+        attrs.put("long", 2L);
+        attrs.put("strArr", new String[] {"a", "b"});
+        attrs.put("null", null);
+
+        TcpDiscoveryNode node = node(0);
+
+        node.setAttributes(attrs);
+
+        TcpDiscoveryNode node0 = (TcpDiscoveryNode)writeRead(node);
+
+        assertEquals(node.id(), node0.id());
+        assertEquals(node.consistentId(), node0.consistentId());
+        assertEquals(attrs.size(), node0.getAttributes().size());
+        assertEquals("val", node0.attribute("str"));
+        assertEquals(Boolean.TRUE, node0.attribute("bool"));
+        assertEquals(1, (int)node0.attribute("int"));
+        assertEquals(2L, (long)node0.attribute("long"));
+        assertArrayEquals(new String[] {"a", "b"}, node0.attribute("strArr"));
+        assertTrue(node0.getAttributes().containsKey("null"));
+        assertNull(node0.attribute("null"));
+    }
+
+    /** */
+    @Test
+    public void testTopologyHistory() {
+        List<TcpDiscoveryNode> nodes = new ArrayList<>();
+
+        Map<Long, Collection<TcpDiscoveryNode>> hist = new TreeMap<>();
+
+        for (int i = 0; i < 10; i++) {
+            nodes.add(node(i));
+
+            hist.put(i + 1L, new ArrayList<>(nodes));
+        }
+
+        // Node left.
+        nodes.remove(3);
+
+        hist.put(11L, new ArrayList<>(nodes));
+
+        TcpDiscoveryNodeAddedMessage msg = new TcpDiscoveryNodeAddedMessage(UUID.randomUUID(), node(10), null, 1);
+
+        msg.topologyHistory(hist);
+
+        TcpDiscoveryNodeAddedMessage msg0 = (TcpDiscoveryNodeAddedMessage)writeRead(msg);
+
+        Map<Long, Collection<TcpDiscoveryNode>> hist0 = msg0.topologyHistory();
+
+        assertEquals(hist.keySet(), hist0.keySet());
+
+        Map<UUID, TcpDiscoveryNode> readNodes = new HashMap<>();
+
+        for (Map.Entry<Long, Collection<TcpDiscoveryNode>> e : hist.entrySet()) {
+            Collection<TcpDiscoveryNode> snapshot0 = hist0.get(e.getKey());
+
+            assertEquals(e.getValue().size(), snapshot0.size());
+
+            Iterator<TcpDiscoveryNode> it0 = snapshot0.iterator();
+
+            for (TcpDiscoveryNode node : e.getValue()) {
+                TcpDiscoveryNode node0 = it0.next();
+
+                assertEquals(node.id(), node0.id());
+                assertEquals("node-" + node.consistentId(), node0.attribute("name"));
+
+                // Each node is read once and shared by all the snapshots.
+                TcpDiscoveryNode prev = readNodes.putIfAbsent(node0.id(), node0);
+
+                if (prev != null)
+                    assertSame(prev, node0);
+            }
+        }
+
+        assertEquals(10, readNodes.size());
+    }
+
+    /**
+     * @param idx Node index.
+     * @return Node.
+     */
+    private static TcpDiscoveryNode node(int idx) {
+        TcpDiscoveryNode node = new TcpDiscoveryNode(UUID.randomUUID(), Collections.singletonList("127.0.0.1"),
+            Collections.singletonList("localhost"), 47500 + idx, METRICS_PROVIDER,
+            IgniteProductVersion.fromString("2.19.0"), String.valueOf(idx));
+
+        node.setAttributes(Collections.singletonMap("name", "node-" + idx));
+
+        return node;
+    }
+
+    /**
+     * @param msg Message.
+     * @return Message read from the serialized form.
+     */
+    private static Message writeRead(Message msg) {
+        DirectMessageWriter writer = new DirectMessageWriter(MSG_FACTORY);
+
+        ByteBuffer buf = ByteBuffer.allocate(1024 * 1024);
+
+        writer.setBuffer(buf);
+
+        assertTrue(writer.writeMessage(msg, false));
+
+        buf.flip();
+
+        DirectMessageReader reader = new DirectMessageReader(MSG_FACTORY, null);
+
+        reader.setBuffer(buf);
+
+        Message msg0 = reader.readMessage(false);
+
+        assertTrue(reader.isLastRead());
+
+        return msg0;
+    }
+}
@@ -41,6 +41,7 @@ import org.apache.ignite.internal.managers.communication.CompressedMessageTest;
 import org.apache.ignite.internal.managers.communication.DefaultEnumMapperTest;
 import org.apache.ignite.internal.managers.communication.ErrorMessageSelfTest;
 import org.apache.ignite.internal.managers.communication.MessageFactoryMarshallerInitializationTest;
+import org.apache.ignite.internal.managers.communication.PooledMessageTest;
 import org.apache.ignite.internal.processors.affinity.GridAffinityAssignmentV2Test;
 import org.apache.ignite.internal.processors.affinity.GridAffinityAssignmentV2TestNoOptimizations;
 import org.apache.ignite.internal.processors.affinity.GridAffinityProcessorRendezvousSelfTest;
@@ -157,6 +158,7 @@ import org.junit.runners.Suite;
     DefaultEnumMapperTest.class,
     IgniteDataTransferObjectProcessorTest.class,
     CompressedMessageTest.class,
+    PooledMessageTest.class,
     MessageFactoryMarshallerInitializationTest.class,
 
     LogEvictionResultsTest.class,
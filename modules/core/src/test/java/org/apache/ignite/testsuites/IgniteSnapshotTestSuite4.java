@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.BufferedFileIOTest;
+import org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.ColumnarDumpConsumerTest;
 import org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.IgniteCacheDumpDataStructuresTest;
 import org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.IgniteCacheDumpFilterTest;
 import org.apache.ignite.internal.processors.cache.persistence.snapshot.dump.IgniteCacheDumpSelf2Test;
@@ -52,5 +53,6 @@ public class IgniteSnapshotTestSuite4 {
         GridTestUtils.addTestIfNeeded(suite, IgniteCacheDumpFilterTest.class, ignoredTests);
         GridTestUtils.addTestIfNeeded(suite, BufferedFileIOTest.class, ignoredTests);
         GridTestUtils.addTestIfNeeded(suite, IgniteCacheDumpSeveralDiskTest.class, ignoredTests);
+        GridTestUtils.addTestIfNeeded(suite, ColumnarDumpConsumerTest.class, ignoredTests);
     }
 }
@@ -49,10 +49,14 @@ import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpiDropNodesTest;
 import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpiFaultyClientSslTest;
 import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpiFaultyClientTest;
 import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpiFreezingClientTest;
+import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpiGatheringWriteTest;
 import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpiInverseConnectionLoggingTest;
+import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpiMessageBatchingGatheringWriteTest;
+import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpiMessageBatchingTest;
 import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpiMultiJvmTest;
 import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpiNodeLeftLoggingTest;
 import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpiSkipMessageSendTest;
+import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpiUnixDomainSocketTest;
 import org.apache.ignite.spi.communication.tcp.TcpCommunicationStatisticsTest;
 import org.apache.ignite.spi.communication.tcp.TooManyOpenFilesTcpCommunicationSpiTest;
 import org.apache.ignite.spi.communication.tcp.internal.TcpCommunicationSpiHalfOpenedConnectionTest;
@@ -122,6 +126,11 @@ import org.junit.runners.Suite;
     ClientExceptionsUtilsTest.class,
 
     TcpCommunicationSpiSslVolatilePayloadTest.class,
+
+    TcpCommunicationSpiGatheringWriteTest.class,
+    TcpCommunicationSpiMessageBatchingTest.class,
+    TcpCommunicationSpiMessageBatchingGatheringWriteTest.class,
+    TcpCommunicationSpiUnixDomainSocketTest.class,
 })
 public class IgniteSpiCommunicationSelfTestSuite {
 }
@@ -38,6 +38,7 @@ import org.apache.ignite.spi.discovery.tcp.TcpDiscoveryDeadNodeAddressResolvingT
 import org.apache.ignite.spi.discovery.tcp.TcpDiscoveryIpFinderFailureTest;
 import org.apache.ignite.spi.discovery.tcp.TcpDiscoveryMetricsWarnLogTest;
 import org.apache.ignite.spi.discovery.tcp.TcpDiscoveryNetworkIssuesTest;
+import org.apache.ignite.spi.discovery.tcp.TcpDiscoveryNodeAddedMessageSerializationTest;
 import org.apache.ignite.spi.discovery.tcp.TcpDiscoveryNodeConfigConsistentIdSelfTest;
 import org.apache.ignite.spi.discovery.tcp.TcpDiscoveryNodeConsistentIdSelfTest;
 import org.apache.ignite.spi.discovery.tcp.TcpDiscoveryPendingMessageDeliveryMdcReversedTest;
@@ -69,6 +70,7 @@ import org.junit.runners.Suite;
     TcpDiscoverySpiFailureTimeoutSelfTest.class,
     TcpDiscoverySpiMBeanTest.class,
     TcpDiscoverySnapshotHistoryTest.class,
+    TcpDiscoveryNodeAddedMessageSerializationTest.class,
     ExponentialBackoffTimeoutStrategyTest.class,
     TcpClientDiscoverySpiSelfTest.class,
     LongClientConnectToClusterTest.class,
@@ -33,6 +33,7 @@ import org.apache.ignite.internal.util.IgniteDevOnlyLogTest;
 import org.apache.ignite.internal.util.IgniteExceptionRegistrySelfTest;
 import org.apache.ignite.internal.util.IgniteUtilsSelfTest;
 import org.apache.ignite.internal.util.IgniteUtilsUnitTest;
+import org.apache.ignite.internal.util.StripedReadWriteLockWithTrackingTest;
 import org.apache.ignite.internal.util.distributed.DistributedProcessClientAwaitTest;
 import org.apache.ignite.internal.util.distributed.DistributedProcessCoordinatorLeftTest;
 import org.apache.ignite.internal.util.distributed.DistributedProcessErrorHandlingTest;
@@ -85,6 +86,7 @@ import org.junit.runners.Suite;
     IgniteThreadPoolSizeTest.class,
     IgniteUtilsSelfTest.class,
     IgniteUtilsUnitTest.class,
+    StripedReadWriteLockWithTrackingTest.class,
     IgniteVersionUtilsSelfTest.class,
     GridSpinReadWriteLockSelfTest.class,
     GridQueueSelfTest.class,
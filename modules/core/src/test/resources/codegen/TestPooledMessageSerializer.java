@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal;
+
+import org.apache.ignite.internal.TestPooledMessage;
+import org.apache.ignite.internal.managers.communication.MessagePool;
+import org.apache.ignite.internal.managers.communication.PooledMessageSerializer;
+import org.apache.ignite.plugin.extensions.communication.MessageReader;
+import org.apache.ignite.plugin.extensions.communication.MessageWriter;
+
+/**
+ * This class is generated automatically.
+ *
+ * @see org.apache.ignite.internal.MessageProcessor
+ */
+public class TestPooledMessageSerializer implements PooledMessageSerializer<TestPooledMessage> {
+    /** */
+    private final MessagePool<TestPooledMessage> pool = new MessagePool<>(TestPooledMessage::new);
+
+    /** */
+    @Override public MessagePool<TestPooledMessage> pool() {
+        return pool;
+    }
+
+    /** */
+    @Override public boolean writeTo(TestPooledMessage msg, MessageWriter writer) {
+        if (!writer.isHeaderWritten()) {
+            if (!writer.writeHeader(msg.directType()))
+                return false;
+
+            writer.onHeaderWritten();
+        }
+
+        switch (writer.state()) {
+            case 0:
+                if (!writer.writeInt(msg.id))
+                    return false;
+
+                writer.incrementState();
+
+            case 1:
+                if (!writer.writeGridLongList(msg.ids))
+                    return false;
+
+                writer.incrementState();
+
+            case 2:
+                if (!writer.writeLongArray(msg.arr))
+                    return false;
+
+                writer.incrementState();
+        }
+
+        return true;
+    }
+
+    /** */
+    @Override public boolean readFrom(TestPooledMessage msg, MessageReader reader) {
+        switch (reader.state()) {
+            case 0:
+                msg.id = reader.readInt();
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+
+            case 1:
+                msg.ids = reader.readGridLongList(msg.ids);
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+
+            case 2:
+                msg.arr = reader.readLongArray();
+
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+        }
+
+        return true;
+    }
+}
@@ -21,13 +21,16 @@ import java.io.IOException;
 import java.lang.reflect.Field;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
-import java.net.Socket;
 import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.net.UnixDomainSocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.ClosedByInterruptException;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
@@ -35,6 +38,9 @@ import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.channels.spi.SelectorProvider;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -46,6 +52,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.LongConsumer;
 import org.apache.ignite.IgniteCheckedException;
@@ -121,6 +128,9 @@ public class GridNioServer<T> {
     /** Default send queue limit. */
     public static final int DFLT_SEND_QUEUE_LIMIT = 0;
 
+    /** Default number of serialized bytes that are written without waiting for more messages. */
+    public static final int DFLT_MSG_BATCH_SIZE = 16 * 1024;
+
     /** Time, which server will wait before retry operation. */
     private static final long ERR_WAIT_TIME = 2000;
 
@@ -159,6 +169,12 @@ public class GridNioServer<T> {
     /** */
     public static final String MAX_MESSAGES_QUEUE_SIZE_METRIC_DESC = "Maximum number of messages waiting to be sent";
 
+    /** */
+    public static final String MESSAGES_PER_WRITE_METRIC_NAME = "messagesPerWrite";
+
+    /** */
+    public static final String MESSAGES_PER_WRITE_METRIC_DESC = "Number of messages written per socket write call";
+
     /** */
     public static final String RECEIVED_BYTES_METRIC_NAME = "receivedBytes";
 
@@ -177,6 +193,12 @@ public class GridNioServer<T> {
     /** The name of the metric that provides the active TCP sessions count. */
     public static final String SESSIONS_CNT_METRIC_NAME = "ActiveSessionsCount";
 
+    /** Size of the pooled buffers of the gathering writes. */
+    private static final int GATHERING_WRITE_BUF_SIZE = 32 * 1024;
+
+    /** Average number of messages per write at which the micro-batching window reaches the maximum delay. */
+    private static final int MSG_BATCH_FULL_WINDOW_MSGS = 5;
+
     /** Defines how many times selector should do {@code selectNow()} before doing {@code select(long)}. */
     private final long selectorSpins;
 
@@ -238,6 +260,9 @@ public class GridNioServer<T> {
     /** Local address. */
     private final InetSocketAddress locAddr;
 
+    /** Unix domain socket path the server listens on in addition to {@link #locAddr}, {@code null} if disabled. */
+    @Nullable private final Path udsPath;
+
     /** Order. */
     private final ByteOrder order;
 
@@ -259,6 +284,18 @@ public class GridNioServer<T> {
     /** Per-session maximum outbound messages queue size metric. */
     @Nullable private final LongConsumer maxMessagesQueueSizeMetric;
 
+    /** Messages per socket write call metric. */
+    @Nullable private final LongConsumer msgsPerWriteMetric;
+
+    /** Number of buffers flushed with a single gathering write, {@code 0} if gathering writes are disabled. */
+    private final int gatheringWriteBufs;
+
+    /** Maximum delay of a write to batch the messages in nanoseconds, {@code 0} if micro-batching is disabled. */
+    private final long msgBatchDelayNanos;
+
+    /** Number of serialized bytes that are written without waiting for more messages. */
+    private final int msgBatchSize;
+
     /** Sessions. */
     private final GridConcurrentHashSet<GridSelectorNioSessionImpl> sessions = new GridConcurrentHashSet<>();
 
@@ -325,6 +362,14 @@ public class GridNioServer<T> {
      * @param sentBytesCntMetric Sent bytes count metric, or {@code null} if metrics disabled.
      * @param outboundMessagesQueueSizeMetric Per-session outbound messages queue size metric, or {@code null} if metrics disabled.
      * @param maxMessagesQueueSizeMetric Per-session maximum outbound messages queue size metric, or {@code null} if metrics disabled.
+     * @param msgsPerWriteMetric Messages per socket write call metric, or {@code null} if metrics disabled.
+     * @param gatheringWriteBufs Number of buffers flushed with a single gathering write in direct mode,
+     *      {@code 0} to disable gathering writes.
+     * @param msgBatchDelay Maximum delay of a write to batch the messages in microseconds in direct mode,
+     *      {@code 0} to disable micro-batching.
+     * @param msgBatchSize Number of serialized bytes that are written without waiting for more messages.
+     * @param udsPath Unix domain socket path to listen on in addition to the TCP port, {@code null} to disable.
+     *      Ignored if the port is not set.
      * @param filters Filters for this server.
      * @throws IgniteCheckedException If failed.
      */
@@ -354,6 +399,11 @@ public class GridNioServer<T> {
         @Nullable LongConsumer sentBytesCntMetric,
         @Nullable LongConsumer outboundMessagesQueueSizeMetric,
         @Nullable LongConsumer maxMessagesQueueSizeMetric,
+        @Nullable LongConsumer msgsPerWriteMetric,
+        int gatheringWriteBufs,
+        long msgBatchDelay,
+        int msgBatchSize,
+        @Nullable Path udsPath,
         SpanManager tracing,
         MessageFactory msgFactory,
         GridNioFilter... filters
@@ -370,6 +420,9 @@ public class GridNioServer<T> {
         A.ensure(sockRcvBuf >= 0, "sockRcvBuf");
         A.ensure(sockSndBuf >= 0, "sockSndBuf");
         A.ensure(sndQueueLimit >= 0, "sndQueueLimit");
+        A.ensure(gatheringWriteBufs >= 0, "gatheringWriteBufs");
+        A.ensure(msgBatchDelay >= 0, "msgBatchDelay");
+        A.ensure(msgBatchSize > 0, "msgBatchSize");
 
         this.log = log;
         this.directBuf = directBuf;
@@ -386,6 +439,11 @@ public class GridNioServer<T> {
         this.sentBytesCntMetric = sentBytesCntMetric;
         this.outboundMessagesQueueSizeMetric = outboundMessagesQueueSizeMetric;
         this.maxMessagesQueueSizeMetric = maxMessagesQueueSizeMetric;
+        this.msgsPerWriteMetric = msgsPerWriteMetric;
+        this.gatheringWriteBufs = gatheringWriteBufs;
+        this.msgBatchDelayNanos = TimeUnit.MICROSECONDS.toNanos(msgBatchDelay);
+        this.msgBatchSize = msgBatchSize;
+        this.udsPath = port != -1 ? udsPath : null;
         this.tracing = tracing == null ? new NoopSpanManager() : tracing;
         this.msgFactory = msgFactory;
 
@@ -530,6 +588,15 @@ public class GridNioServer<T> {
             CommonUtils.cancel(acceptWorker);
             CommonUtils.join(acceptWorker, log);
 
+            if (udsPath != null) {
+                try {
+                    Files.deleteIfExists(udsPath);
+                }
+                catch (IOException e) {
+                    CommonUtils.warn(log, "Failed to delete unix domain socket file: " + udsPath, e);
+                }
+            }
+
             CommonUtils.cancel(clientWorkers);
             CommonUtils.join(clientWorkers, log);
 
@@ -549,6 +616,13 @@ public class GridNioServer<T> {
         return locAddr;
     }
 
+    /**
+     * @return Unix domain socket path server listens on, {@code null} if disabled.
+     */
+    @Nullable public Path unixDomainSocketPath() {
+        return udsPath;
+    }
+
     /**
      * @return Message factory.
      */
@@ -1053,9 +1127,23 @@ public class GridNioServer<T> {
         this.idleTimeout = idleTimeout;
     }
 
+    /**
+     * Unix domain socket addresses are not exposed by sessions, loopback address with zero port is used instead.
+     *
+     * @param addr Channel address.
+     * @return Session address.
+     */
+    private static InetSocketAddress sessionAddress(SocketAddress addr) {
+        if (addr instanceof InetSocketAddress)
+            return (InetSocketAddress)addr;
+
+        return new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+    }
+
     /**
      * Creates selector and binds server socket to a given address and port. If address is null
-     * then will not bind any address and just creates a selector.
+     * then will not bind any address and just creates a selector. Server socket is also bound
+     * to the unix domain socket path if it is configured.
      *
      * @param addr Local address to listen on.
      * @return Created selector.
@@ -1065,6 +1153,7 @@ public class GridNioServer<T> {
         Selector selector = null;
 
         ServerSocketChannel srvrCh = null;
+        ServerSocketChannel udsSrvrCh = null;
 
         try {
             // Create a new selector
@@ -1085,11 +1174,25 @@ public class GridNioServer<T> {
                 // Register the server socket channel, indicating an interest in
                 // accepting new connections
                 srvrCh.register(selector, SelectionKey.OP_ACCEPT);
+
+                if (udsPath != null) {
+                    udsSrvrCh = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+
+                    udsSrvrCh.configureBlocking(false);
+
+                    // Socket file of the previous run prevents binding.
+                    Files.deleteIfExists(udsPath);
+
+                    udsSrvrCh.bind(UnixDomainSocketAddress.of(udsPath));
+
+                    udsSrvrCh.register(selector, SelectionKey.OP_ACCEPT);
+                }
             }
 
             return selector;
         }
         catch (Throwable e) {
+            CommonUtils.close(udsSrvrCh, log);
             CommonUtils.close(srvrCh, log);
             CommonUtils.close(selector, log);
 
@@ -1350,6 +1453,10 @@ public class GridNioServer<T> {
      * Client worker for direct mode.
      */
     private class DirectNioClientWorker extends AbstractNioClientWorker {
+        /** Pool of the gathering write buffers. */
+        @GridToStringExclude
+        private final Deque<ByteBuffer> writeBufPool = new ArrayDeque<>();
+
         /**
          * @param idx Index of this worker in server's array.
          * @param igniteInstanceName Ignite instance name.
@@ -1448,6 +1555,8 @@ public class GridNioServer<T> {
         @Override protected void processWrite(SelectionKey key) throws IOException {
             if (sslFilter != null)
                 processWriteSsl(key);
+            else if (gatheringWrites())
+                processWriteGathering(key);
             else
                 processWrite0(key);
         }
@@ -1742,6 +1851,8 @@ public class GridNioServer<T> {
 
             boolean finished = false;
 
+            int msgs = 0;
+
             if (req != null)
                 finished = writeToBuffer(ses, buf, req, writer);
 
@@ -1749,6 +1860,8 @@ public class GridNioServer<T> {
             while (finished) {
                 req.onMessageWritten();
 
+                msgs++;
+
                 req = systemMessage(ses);
 
                 if (req == null)
@@ -1760,6 +1873,11 @@ public class GridNioServer<T> {
                 finished = writeToBuffer(ses, buf, req, writer);
             }
 
+            ses.addBatchMessages(msgs);
+
+            if (req == null && holdBatch(ses, buf.position()))
+                return;
+
             buf.flip();
 
             assert buf.hasRemaining();
@@ -1775,6 +1893,7 @@ public class GridNioServer<T> {
 
                 ses.bytesSent(cnt);
                 onWrite(cnt);
+                onMessagesWritten(ses);
             }
             else {
                 // For test purposes only (skipWrite is set to true in tests only).
@@ -1795,6 +1914,213 @@ public class GridNioServer<T> {
                 buf.clear();
         }
 
+        /**
+         * Processes write-ready event on the key. Serializes as many queued messages as fit the free buffers of the
+         * session and flushes them with a single gathering write, a message not fitting a buffer continues in the
+         * next one. Buffers that are not fully written stay with the session till the next write.
+         *
+         * @param key Key that is ready to be written.
+         * @throws IOException If write failed.
+         */
+        private void processWriteGathering(SelectionKey key) throws IOException {
+            GatheringByteChannel sockCh = (GatheringByteChannel)key.channel();
+
+            GridSelectorNioSessionImpl ses = (GridSelectorNioSessionImpl)key.attachment();
+
+            ByteBuffer[] bufs = ses.gatheringBuffers();
+
+            if (bufs == null)
+                ses.gatheringBuffers(bufs = new ByteBuffer[gatheringWriteBufs]);
+
+            int bufsCnt = ses.gatheringBuffersCount();
+
+            SessionWriteRequest req = ses.removeMeta(NIO_OPERATION.ordinal());
+
+            if (req == null && bufsCnt < bufs.length) {
+                req = nextRequest(ses);
+
+                if (req == null && bufsCnt == 0) {
+                    stopPollingForWrite(key, ses);
+
+                    return;
+                }
+            }
+
+            MessageWriter writer = messageWriter(ses);
+
+            int msgs = 0;
+
+            // The messages are appended to the last buffer if it has room.
+            boolean append = bufsCnt > 0 && bufs[bufsCnt - 1].limit() < bufs[bufsCnt - 1].capacity();
+
+            while (req != null && (append || bufsCnt < bufs.length)) {
+                ByteBuffer buf;
+
+                if (append) {
+                    buf = bufs[bufsCnt - 1];
+
+                    buf.compact();
+
+                    append = false;
+                }
+                else
+                    bufs[bufsCnt++] = buf = pooledWriteBuffer();
+
+                while (writeToBuffer(ses, buf, req, writer)) {
+                    req.onMessageWritten();
+
+                    msgs++;
+
+                    req = nextRequest(ses);
+
+                    if (req == null)
+                        break;
+                }
+
+                buf.flip();
+            }
+
+            // Either partially serialized or not serialized at all since all the buffers are in use.
+            if (req != null)
+                ses.addMeta(NIO_OPERATION.ordinal(), req);
+
+            assert bufsCnt > 0;
+
+            ses.addBatchMessages(msgs);
+
+            if (req == null) {
+                int bytes = 0;
+
+                for (int i = 0; i < bufsCnt; i++)
+                    bytes += bufs[i].remaining();
+
+                if (holdBatch(ses, bytes)) {
+                    ses.gatheringBuffersCount(bufsCnt);
+
+                    return;
+                }
+            }
+
+            if (!skipWrite) {
+                int cnt = (int)sockCh.write(bufs, 0, bufsCnt);
+
+                if (log.isTraceEnabled())
+                    log.trace("Bytes sent [sockCh=" + sockCh + ", cnt=" + cnt + ", bufs=" + bufsCnt + ']');
+
+                if (sentBytesCntMetric != null)
+                    sentBytesCntMetric.accept(cnt);
+
+                ses.bytesSent(cnt);
+                onWrite(cnt);
+                onMessagesWritten(ses);
+            }
+            else {
+                // For test purposes only (skipWrite is set to true in tests only).
+                try {
+                    CommonUtils.sleep(50);
+                }
+                catch (IgniteInterruptedCheckedException e) {
+                    throw new IOException("Thread has been interrupted.", e);
+                }
+            }
+
+            int written = 0;
+
+            while (written < bufsCnt && !bufs[written].hasRemaining())
+                releaseWriteBuffer(bufs[written++]);
+
+            if (written > 0) {
+                System.arraycopy(bufs, written, bufs, 0, bufsCnt - written);
+
+                Arrays.fill(bufs, bufsCnt - written, bufsCnt, null);
+            }
+
+            ses.gatheringBuffersCount(bufsCnt - written);
+        }
+
+        /**
+         * @param ses Session.
+         * @return Next request to write or {@code null} if there are no requests.
+         */
+        @Nullable private SessionWriteRequest nextRequest(GridSelectorNioSessionImpl ses) {
+            SessionWriteRequest req = systemMessage(ses);
+
+            return req != null ? req : ses.pollFuture();
+        }
+
+        /**
+         * @return Buffer of the gathering writes.
+         */
+        private ByteBuffer pooledWriteBuffer() {
+            ByteBuffer buf = writeBufPool.pollLast();
+
+            if (buf == null) {
+                buf = directBuf ? ByteBuffer.allocateDirect(GATHERING_WRITE_BUF_SIZE) :
+                    ByteBuffer.allocate(GATHERING_WRITE_BUF_SIZE);
+
+                buf.order(order);
+            }
+            else
+                buf.clear();
+
+            return buf;
+        }
+
+        /**
+         * @param buf Fully written buffer of the gathering writes.
+         */
+        private void releaseWriteBuffer(ByteBuffer buf) {
+            if (writeBufPool.size() < gatheringWriteBufs)
+                writeBufPool.addLast(buf);
+            else if (directBuf)
+                GridUnsafe.cleanDirectBuffer(buf);
+        }
+
+        /**
+         * Checks whether the write of the serialized messages should be delayed to batch them with the messages
+         * queued next. The delay grows with the average number of messages per write of the session up to the
+         * configured maximum, so the writes of a session sending messages one by one are not delayed.
+         *
+         * @param ses Session.
+         * @param bytes Number of serialized bytes.
+         * @return {@code True} if the write should be delayed.
+         */
+        private boolean holdBatch(GridSelectorNioSessionImpl ses, int bytes) {
+            if (msgBatchDelayNanos == 0 || bytes >= msgBatchSize)
+                return false;
+
+            double avg = ses.averageBatchMessages();
+
+            if (avg <= 1)
+                return false;
+
+            long window = (long)(msgBatchDelayNanos * Math.min(1, (avg - 1) / (MSG_BATCH_FULL_WINDOW_MSGS - 1)));
+
+            long now = System.nanoTime();
+
+            long start = ses.batchStart();
+
+            if (start == 0) {
+                ses.batchStart(now);
+
+                return window > 0;
+            }
+
+            return now - start < window;
+        }
+
+        /**
+         * Called after a socket write call.
+         *
+         * @param ses Session.
+         */
+        private void onMessagesWritten(GridSelectorNioSessionImpl ses) {
+            int msgs = ses.onWrite();
+
+            if (msgsPerWriteMetric != null)
+                msgsPerWriteMetric.accept(msgs);
+        }
+
         /** */
         @Nullable private MessageWriter messageWriter(GridSelectorNioSessionImpl ses) throws IOException {
             if (writerFactory == null)
@@ -1868,6 +2194,13 @@ public class GridNioServer<T> {
         }
     }
 
+    /**
+     * @return {@code True} if queued messages are flushed with gathering writes.
+     */
+    private boolean gatheringWrites() {
+        return directMode && sslFilter == null && gatheringWriteBufs > 0;
+    }
+
     /**
      * Notifies SessionWriteRequests and it's messages when requests were actually written.
      *
@@ -2751,19 +3084,24 @@ public class GridNioServer<T> {
 
             assert sockCh != null;
 
-            Socket sock = sockCh.socket();
-
             try {
                 ByteBuffer writeBuf = null;
                 ByteBuffer readBuf = null;
 
                 if (directMode) {
-                    writeBuf = directBuf ? ByteBuffer.allocateDirect(sock.getSendBufferSize()) :
-                        ByteBuffer.allocate(sock.getSendBufferSize());
-                    readBuf = directBuf ? ByteBuffer.allocateDirect(sock.getReceiveBufferSize()) :
-                        ByteBuffer.allocate(sock.getReceiveBufferSize());
+                    // Gathering writes use the pooled buffers of the worker.
+                    if (!gatheringWrites()) {
+                        int sndBufSize = sockCh.getOption(StandardSocketOptions.SO_SNDBUF);
+
+                        writeBuf = directBuf ? ByteBuffer.allocateDirect(sndBufSize) : ByteBuffer.allocate(sndBufSize);
+
+                        writeBuf.order(order);
+                    }
+
+                    int rcvBufSize = sockCh.getOption(StandardSocketOptions.SO_RCVBUF);
+
+                    readBuf = directBuf ? ByteBuffer.allocateDirect(rcvBufSize) : ByteBuffer.allocate(rcvBufSize);
 
-                    writeBuf.order(order);
                     readBuf.order(order);
                 }
 
@@ -2771,8 +3109,8 @@ public class GridNioServer<T> {
                     log,
                     this,
                     filterChain,
-                    (InetSocketAddress)sockCh.getLocalAddress(),
-                    (InetSocketAddress)sockCh.getRemoteAddress(),
+                    sessionAddress(sockCh.getLocalAddress()),
+                    sessionAddress(sockCh.getRemoteAddress()),
                     fut.accepted(),
                     sndQueueLimit,
                     outboundMessagesQueueSizeMetric,
@@ -2843,7 +3181,7 @@ public class GridNioServer<T> {
             }
             catch (ClosedChannelException e) {
                 CommonUtils.warn(log, "Failed to register accepted socket channel to selector (channel was closed): "
-                    + sock.getRemoteSocketAddress(), e);
+                    + sockCh, e);
             }
             catch (IOException e) {
                 CommonUtils.error(log, "Failed to get socket addresses.", e);
@@ -2855,18 +3193,18 @@ public class GridNioServer<T> {
          */
         private void closeKey(SelectionKey key) {
             // Shutdown input and output so that remote client will see correct socket close.
-            Socket sock = ((SocketChannel)key.channel()).socket();
+            SocketChannel ch = (SocketChannel)key.channel();
 
             try {
                 try {
-                    sock.shutdownInput();
+                    ch.shutdownInput();
                 }
                 catch (IOException ignored) {
                     // No-op.
                 }
 
                 try {
-                    sock.shutdownOutput();
+                    ch.shutdownOutput();
                 }
                 catch (IOException ignored) {
                     // No-op.
@@ -2874,7 +3212,7 @@ public class GridNioServer<T> {
             }
             finally {
                 CommonUtils.close(key, log);
-                CommonUtils.close(sock, log);
+                CommonUtils.close(ch, log);
             }
         }
 
@@ -2922,6 +3260,11 @@ public class GridNioServer<T> {
 
                     if (ses.readBuffer() != null)
                         GridUnsafe.cleanDirectBuffer(ses.readBuffer());
+
+                    ByteBuffer[] gatheringBufs = ses.gatheringBuffers();
+
+                    for (int i = 0; i < ses.gatheringBuffersCount(); i++)
+                        GridUnsafe.cleanDirectBuffer(gatheringBufs[i]);
                 }
 
                 if (closeSock)
@@ -3232,17 +3575,21 @@ public class GridNioServer<T> {
                     SocketChannel sockCh = srvrCh.accept();
 
                     sockCh.configureBlocking(false);
-                    sockCh.socket().setTcpNoDelay(tcpNoDelay);
-                    sockCh.socket().setKeepAlive(true);
+
+                    // Unix domain sockets do not support TCP options.
+                    if (sockCh.getLocalAddress() instanceof InetSocketAddress) {
+                        sockCh.setOption(StandardSocketOptions.TCP_NODELAY, tcpNoDelay);
+                        sockCh.setOption(StandardSocketOptions.SO_KEEPALIVE, true);
+                    }
 
                     if (sockSndBuf > 0)
-                        sockCh.socket().setSendBufferSize(sockSndBuf);
+                        sockCh.setOption(StandardSocketOptions.SO_SNDBUF, sockSndBuf);
 
                     if (sockRcvBuf > 0)
-                        sockCh.socket().setReceiveBufferSize(sockRcvBuf);
+                        sockCh.setOption(StandardSocketOptions.SO_RCVBUF, sockRcvBuf);
 
                     if (log.isDebugEnabled())
-                        log.debug("Accepted new client connection: " + sockCh.socket().getRemoteSocketAddress());
+                        log.debug("Accepted new client connection: " + sockCh.getRemoteAddress());
 
                     addRegistrationRequest(sockCh);
                 }
@@ -3260,7 +3607,7 @@ public class GridNioServer<T> {
                 offerBalanced(new NioOperationFuture<>(sockCh, true, null), null);
             }
             catch (IgniteCheckedException e) {
-                CommonUtils.warn(log, "Incoming connection was rejected [addr=" + sockCh.socket().getRemoteSocketAddress() + ']', e);
+                CommonUtils.warn(log, "Incoming connection was rejected [ch=" + sockCh + ']', e);
 
                 CommonUtils.close(sockCh, log);
             }
@@ -3941,6 +4288,21 @@ public class GridNioServer<T> {
         /** Per-session maximum outbound messages queue size metric. */
         private LongConsumer maxMessagesQueueSizeMetric;
 
+        /** Messages per socket write call metric. */
+        private LongConsumer msgsPerWriteMetric;
+
+        /** Number of buffers flushed with a single gathering write. */
+        private int gatheringWriteBufs;
+
+        /** Maximum delay of a write to batch the messages in microseconds. */
+        private long msgBatchDelay;
+
+        /** Number of serialized bytes that are written without waiting for more messages. */
+        private int msgBatchSize = DFLT_MSG_BATCH_SIZE;
+
+        /** Unix domain socket path. */
+        private Path udsPath;
+
         /** Span manager */
         private SpanManager tracing;
 
@@ -3980,6 +4342,11 @@ public class GridNioServer<T> {
                 sentBytesCntMetric,
                 outboundMessagesQueueSizeMetric,
                 maxMessagesQueueSizeMetric,
+                msgsPerWriteMetric,
+                gatheringWriteBufs,
+                msgBatchDelay,
+                msgBatchSize,
+                udsPath,
                 tracing,
                 msgFactory,
                 filters != null ? Arrays.copyOf(filters, filters.length) : EMPTY_FILTERS
@@ -4287,6 +4654,63 @@ public class GridNioServer<T> {
             return this;
         }
 
+        /**
+         * @param msgsPerWriteMetric Messages per socket write call metric.
+         * @return This for chaining.
+         */
+        public Builder<T> messagesPerWriteMetric(LongConsumer msgsPerWriteMetric) {
+            this.msgsPerWriteMetric = msgsPerWriteMetric;
+
+            return this;
+        }
+
+        /**
+         * Sets the number of pooled buffers the queued messages of a session are serialized to and flushed with a
+         * single gathering write. Used in direct mode without SSL only.
+         *
+         * @param gatheringWriteBufs Number of buffers, {@code 0} to disable gathering writes.
+         * @return This for chaining.
+         */
+        public Builder<T> gatheringWriteBuffers(int gatheringWriteBufs) {
+            this.gatheringWriteBufs = gatheringWriteBufs;
+
+            return this;
+        }
+
+        /**
+         * Sets the maximum delay of a write in direct mode to batch the serialized messages with the messages queued
+         * next. The delay grows with the average number of messages per write of the session, so the writes of a
+         * session sending messages one by one are not delayed.
+         *
+         * @param msgBatchDelay Maximum delay in microseconds, {@code 0} to disable micro-batching.
+         * @return This for chaining.
+         */
+        public Builder<T> messageBatchDelay(long msgBatchDelay) {
+            this.msgBatchDelay = msgBatchDelay;
+
+            return this;
+        }
+
+        /**
+         * @param msgBatchSize Number of serialized bytes that are written without waiting for more messages.
+         * @return This for chaining.
+         */
+        public Builder<T> messageBatchSize(int msgBatchSize) {
+            this.msgBatchSize = msgBatchSize;
+
+            return this;
+        }
+
+        /**
+         * @param udsPath Unix domain socket path to listen on in addition to the TCP port, {@code null} to disable.
+         * @return This for chaining.
+         */
+        public Builder<T> unixDomainSocketPath(@Nullable Path udsPath) {
+            this.udsPath = udsPath;
+
+            return this;
+        }
+
         /**
          * @param msgFactory Message factory.
          * @return This for chaining.
@@ -65,6 +65,28 @@ public class GridSelectorNioSessionImpl extends GridNioSessionImpl implements Gr
     /** Read buffer. */
     private ByteBuffer readBuf;
 
+    /** Buffers of the gathering writes, the first {@link #gatheringBufsCnt} ones are not fully written yet. */
+    @GridToStringExclude
+    private ByteBuffer[] gatheringBufs;
+
+    /** Number of the gathering write buffers that are not fully written yet. */
+    private int gatheringBufsCnt;
+
+    /** Number of write system calls. */
+    private volatile long writes;
+
+    /** Number of messages written by the write system calls. */
+    private volatile long msgsWritten;
+
+    /** Number of messages serialized since the last write system call. */
+    private int batchMsgs;
+
+    /** Start of the write delayed by the micro-batching in nanoseconds, {@code 0} if the write is not delayed. */
+    private long batchStartNanos;
+
+    /** Moving average of the number of messages per write system call. */
+    private double avgBatchMsgs;
+
     /** Incoming recovery data. */
     private GridNioRecoveryDescriptor inRecovery;
 
@@ -195,6 +217,104 @@ public class GridSelectorNioSessionImpl extends GridNioSessionImpl implements Gr
         return writeBuf;
     }
 
+    /**
+     * @return Buffers of the gathering writes or {@code null} if gathering writes were not used by the session yet.
+     */
+    @Nullable ByteBuffer[] gatheringBuffers() {
+        return gatheringBufs;
+    }
+
+    /**
+     * @param gatheringBufs Buffers of the gathering writes.
+     */
+    void gatheringBuffers(ByteBuffer[] gatheringBufs) {
+        this.gatheringBufs = gatheringBufs;
+    }
+
+    /**
+     * @return Number of the gathering write buffers that are not fully written yet.
+     */
+    int gatheringBuffersCount() {
+        return gatheringBufsCnt;
+    }
+
+    /**
+     * @param gatheringBufsCnt Number of the gathering write buffers that are not fully written yet.
+     */
+    void gatheringBuffersCount(int gatheringBufsCnt) {
+        this.gatheringBufsCnt = gatheringBufsCnt;
+    }
+
+    /**
+     * @param msgs Number of serialized messages to be written by the next write system call.
+     */
+    void addBatchMessages(int msgs) {
+        batchMsgs += msgs;
+    }
+
+    /**
+     * @return Start of the write delayed by the micro-batching in nanoseconds, {@code 0} if the write is not delayed.
+     */
+    long batchStart() {
+        return batchStartNanos;
+    }
+
+    /**
+     * @param batchStartNanos Start of the write delayed by the micro-batching in nanoseconds.
+     */
+    void batchStart(long batchStartNanos) {
+        this.batchStartNanos = batchStartNanos;
+    }
+
+    /**
+     * @return Moving average of the number of messages per write system call.
+     */
+    double averageBatchMessages() {
+        return avgBatchMsgs;
+    }
+
+    /**
+     * Updates the counters of write system calls, called by the session worker only.
+     *
+     * @return Number of messages written by the write system call.
+     */
+    int onWrite() {
+        int msgs = batchMsgs;
+
+        writes++;
+        msgsWritten += msgs;
+
+        avgBatchMsgs += (msgs - avgBatchMsgs) / 8;
+
+        batchMsgs = 0;
+        batchStartNanos = 0;
+
+        return msgs;
+    }
+
+    /**
+     * @return Number of write system calls.
+     */
+    public long writes() {
+        return writes;
+    }
+
+    /**
+     * @return Number of messages written by the write system calls.
+     */
+    public long messagesWritten() {
+        return msgsWritten;
+    }
+
+    /**
+     * @return Average number of messages written per write system call.
+     */
+    public double messagesPerWrite() {
+        long writes0 = writes;
+
+        return writes0 == 0 ? 0 : (double)msgsWritten / writes0;
+    }
+
     /**
      * @return Read buffer.
      */
@@ -233,6 +233,16 @@ public interface MessageReader {
      */
     public GridLongList readGridLongList();
 
+    /**
+     * Reads {@link GridLongList} reusing the given list and its backing array when possible.
+     *
+     * @param reuse List to read the elements into, {@code null} to create a new one.
+     * @return Grid long list.
+     */
+    public default GridLongList readGridLongList(GridLongList reuse) {
+        return readGridLongList();
+    }
+
     /**
      * Reads array of objects.
      *